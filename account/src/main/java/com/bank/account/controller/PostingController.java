@@ -0,0 +1,35 @@
+package com.bank.account.controller;
+
+import com.bank.account.dto.PostingDto;
+import com.bank.account.dto.PostingResultDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.service.PostingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller для проводок по {@link AccountDetailsEntity}.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/posting")
+public class PostingController {
+
+    private final PostingService service;
+
+    /**
+     * @param postings список {@link PostingDto}
+     * @return {@link ResponseEntity} со списком {@link PostingResultDto} и HttpStatus OK
+     */
+    @PostMapping
+    public ResponseEntity<List<PostingResultDto>> post(@RequestBody List<PostingDto> postings) {
+        return new ResponseEntity<>(service.post(postings), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,55 @@
+package com.bank.account.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Набор блокировок по счетам: каждый id попадает в одну из stripes блокировок,
+ * поэтому проводки по разным счетам почти не мешают друг другу, а по одному счёту идут по очереди.
+ */
+@Component
+public class StripedLock {
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final ReentrantLock[] stripes;
+
+    public StripedLock(@Value("${account.posting.lock-stripes:1024}") int stripeCount) {
+        final int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Блокировки берутся в порядке возрастания номера, поэтому пересекающиеся наборы не дают взаимной блокировки.
+     *
+     * @param ids технические идентификаторы счетов
+     * @param action действие под блокировкой всех счетов
+     * @return результат action
+     */
+    public <T> T callLocked(Collection<Long> ids, Supplier<T> action) {
+        final int[] indexes = ids.stream().mapToInt(this::stripe).distinct().sorted().toArray();
+        int locked = 0;
+        try {
+            for (int index : indexes) {
+                stripes[index].lock();
+                locked++;
+            }
+            return action.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        }
+    }
+
+    private int stripe(Long id) {
+        return Long.hashCode(id * GOLDEN_RATIO) & (stripes.length - 1);
+    }
+}
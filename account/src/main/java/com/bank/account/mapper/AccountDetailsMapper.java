@@ -19,6 +19,7 @@ public interface AccountDetailsMapper {
      * @return {@link AccountDetailsEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     AccountDetailsEntity toEntity(AccountDetailsDto accountDetails);
 
     /**
@@ -33,6 +34,7 @@ public interface AccountDetailsMapper {
      * @return {@link AccountDetailsEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     AccountDetailsEntity mergeToEntity(AccountDetailsDto accountDetailsDto,
                                        @MappingTarget AccountDetailsEntity accountDetails);
 
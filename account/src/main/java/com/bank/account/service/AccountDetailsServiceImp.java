@@ -4,6 +4,8 @@ import com.bank.account.dto.AccountDetailsDto;
 import com.bank.account.entity.AccountDetailsEntity;
 import com.bank.account.mapper.AccountDetailsMapper;
 import com.bank.account.repository.AccountDetailsRepository;
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,12 +23,15 @@ public class AccountDetailsServiceImp implements AccountDetailsService {
     private final AccountDetailsRepository repository;
 
     private final AccountDetailsMapper mapper;
+    private final BulkReader bulkReader;
+    private final AuditWriter auditWriter;
 
     /**
      * @param id техничский идентификатор {@link AccountDetailsEntity}.
      * @return {@link AccountDetailsDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public AccountDetailsDto readById(Long id) {
         return mapper.toDto(repository.findById(id)
                 .orElseThrow(() -> returnEntityNotFoundException("AccountDetails с таким id не найдено"))
@@ -38,12 +43,10 @@ public class AccountDetailsServiceImp implements AccountDetailsService {
      * @return список {@link AccountDetailsDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public List<AccountDetailsDto> readAllById(List<Long> ids) {
-        final List<AccountDetailsEntity> accountDetailsList = repository.findAllById(ids);
-        if (ids.size() > accountDetailsList.size()) {
-            throw returnEntityNotFoundException("Одного или нескольких id из списка не найдено");
-        }
-        return mapper.toDtoList(accountDetailsList);
+        return bulkReader.readAll(ids, chunk -> mapper.toDtoList(repository.findAllById(chunk)),
+                AccountDetailsDto::getId, "Одного или нескольких id из списка не найдено");
     }
 
     /**
@@ -54,7 +57,9 @@ public class AccountDetailsServiceImp implements AccountDetailsService {
     @Transactional
     public AccountDetailsDto create(AccountDetailsDto accountDetailsDto) {
         final AccountDetailsEntity accountDetails = repository.save(mapper.toEntity(accountDetailsDto));
-        return mapper.toDto(accountDetails);
+        final AccountDetailsDto result = mapper.toDto(accountDetails);
+        auditWriter.created(AccountDetailsEntity.class, result);
+        return result;
     }
 
     /**
@@ -68,9 +73,12 @@ public class AccountDetailsServiceImp implements AccountDetailsService {
         final AccountDetailsEntity accountDetailsEntity = repository.findById(id)
                 .orElseThrow(() -> returnEntityNotFoundException("Не существующий id = " + id)
         );
+        final AccountDetailsDto before = mapper.toDto(accountDetailsEntity);
         final AccountDetailsEntity accountDetails = repository.save(mapper.mergeToEntity(accountDetailsDto,
                 accountDetailsEntity));
-        return mapper.toDto(accountDetails);
+        final AccountDetailsDto result = mapper.toDto(accountDetails);
+        auditWriter.updated(AccountDetailsEntity.class, before, result);
+        return result;
     }
 
     private EntityNotFoundException returnEntityNotFoundException(String massage) {
@@ -0,0 +1,19 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.PostingDto;
+import com.bank.account.dto.PostingResultDto;
+import com.bank.account.entity.AccountDetailsEntity;
+
+import java.util.List;
+
+/**
+ Service для проведения {@link PostingDto} по {@link AccountDetailsEntity}.
+ */
+public interface PostingService {
+
+    /**
+     * @param postings список {@link PostingDto}, проводятся по порядку
+     * @return список {@link PostingResultDto} в порядке запроса
+     */
+    List<PostingResultDto> post(List<PostingDto> postings);
+}
@@ -0,0 +1,173 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.dto.PostingDto;
+import com.bank.account.dto.PostingResultDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.lock.StripedLock;
+import com.bank.account.mapper.AccountDetailsMapper;
+import com.bank.account.repository.AccountDetailsRepository;
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.exception.ConflictException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Реализация {@link PostingService}.
+ * Пакет делится на части по batch-size, каждая часть проводится в одной транзакции под
+ * {@link StripedLock} затронутых счетов. Конфликт версий с другим экземпляром сервиса повторяется.
+ * Изменения остатков пишутся в аудит после коммита, по одной записи на счёт в части.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostingServiceImp implements PostingService {
+
+    private final AccountDetailsRepository repository;
+
+    private final StripedLock locks;
+
+    private final AccountDetailsMapper mapper;
+
+    private final AuditWriter auditWriter;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${account.posting.batch-size:100}")
+    private int batchSize;
+
+    @Value("${account.posting.max-retries:3}")
+    private int maxRetries;
+
+    /**
+     * @param postings список {@link PostingDto}, проводятся по порядку
+     * @return список {@link PostingResultDto} в порядке запроса
+     */
+    @Override
+    public List<PostingResultDto> post(List<PostingDto> postings) {
+        final List<PostingResultDto> results = new ArrayList<>(postings.size());
+        for (int from = 0; from < postings.size(); from += batchSize) {
+            final List<PostingDto> chunk = postings.subList(from, Math.min(from + batchSize, postings.size()));
+            results.addAll(postChunk(chunk, from));
+        }
+        return results;
+    }
+
+    private List<PostingResultDto> postChunk(List<PostingDto> chunk, int offset) {
+        final Set<Long> accountIds = new HashSet<>();
+        chunk.forEach(posting -> {
+            accountIds.add(posting.getDebitAccountId());
+            accountIds.add(posting.getCreditAccountId());
+        });
+        accountIds.remove(null);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return locks.callLocked(accountIds,
+                        () -> transactionTemplate.execute(status -> apply(chunk, offset, accountIds)));
+            } catch (OptimisticLockingFailureException exception) {
+                if (attempt >= maxRetries) {
+                    throw new ConflictException("Счета изменяются параллельно, проводки не выполнены",
+                            exception);
+                }
+                log.warn("Конфликт версий счетов, попытка {} из {}", attempt, maxRetries);
+            }
+        }
+    }
+
+    private List<PostingResultDto> apply(List<PostingDto> chunk, int offset, Set<Long> accountIds) {
+        final Map<Long, AccountDetailsEntity> accounts = repository.findAllById(accountIds).stream()
+                .collect(Collectors.toMap(AccountDetailsEntity::getId, Function.identity()));
+        final Map<Long, AccountDetailsDto> before = accounts.values().stream()
+                .collect(Collectors.toMap(AccountDetailsEntity::getId, mapper::toDto));
+        final List<PostingResultDto> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            final PostingDto posting = chunk.get(i);
+            final String error = check(posting, accounts);
+            if (error == null) {
+                move(accounts.get(posting.getDebitAccountId()), accounts.get(posting.getCreditAccountId()),
+                        posting.getAmount());
+            }
+            results.add(new PostingResultDto(offset + i, error == null, error));
+        }
+        checkBalanced(accounts, before);
+        repository.flush();
+        audit(accounts, before);
+        return results;
+    }
+
+    private String check(PostingDto posting, Map<Long, AccountDetailsEntity> accounts) {
+        final String error = checkPosting(posting);
+        return error == null ? checkAccounts(posting, accounts) : error;
+    }
+
+    /**
+     * Проводка без одной из сторон создавала бы или уничтожала деньги, поэтому обе стороны обязательны
+     */
+    private static String checkPosting(PostingDto posting) {
+        if (posting.getAmount() == null || posting.getAmount().signum() <= 0) {
+            return "Сумма проводки должна быть больше нуля";
+        }
+        if (posting.getDebitAccountId() == null || posting.getCreditAccountId() == null) {
+            return "Проводка должна содержать счёт списания и счёт зачисления";
+        }
+        if (posting.getDebitAccountId().equals(posting.getCreditAccountId())) {
+            return "Счета списания и зачисления совпадают";
+        }
+        return null;
+    }
+
+    private static String checkAccounts(PostingDto posting, Map<Long, AccountDetailsEntity> accounts) {
+        final AccountDetailsEntity debit = accounts.get(posting.getDebitAccountId());
+        if (debit == null || !accounts.containsKey(posting.getCreditAccountId())) {
+            return "Счёт проводки не найден";
+        }
+        if (!Boolean.TRUE.equals(debit.getNegativeBalance()) && debit.getMoney().compareTo(posting.getAmount()) < 0) {
+            return "Недостаточно средств на счёте id = " + debit.getId();
+        }
+        return null;
+    }
+
+    /**
+     * Сумма остатков затронутых счетов после проводок должна совпадать с суммой до них,
+     * иначе транзакция откатывается
+     */
+    private static void checkBalanced(Map<Long, AccountDetailsEntity> accounts, Map<Long, AccountDetailsDto> before) {
+        final BigDecimal total = accounts.values().stream()
+                .map(AccountDetailsEntity::getMoney)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        final BigDecimal totalBefore = before.values().stream()
+                .map(AccountDetailsDto::getMoney)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (total.compareTo(totalBefore) != 0) {
+            throw new IllegalStateException("Списания и зачисления проводок не сходятся на " +
+                    total.subtract(totalBefore));
+        }
+    }
+
+    private void audit(Map<Long, AccountDetailsEntity> accounts, Map<Long, AccountDetailsDto> before) {
+        before.forEach((id, snapshot) -> {
+            final AccountDetailsEntity account = accounts.get(id);
+            if (account.getMoney().compareTo(snapshot.getMoney()) != 0) {
+                auditWriter.updated(AccountDetailsEntity.class, snapshot, mapper.toDto(account));
+            }
+        });
+    }
+
+    private static void move(AccountDetailsEntity debit, AccountDetailsEntity credit, BigDecimal amount) {
+        debit.setMoney(debit.getMoney().subtract(amount));
+        credit.setMoney(credit.getMoney().add(amount));
+    }
+}
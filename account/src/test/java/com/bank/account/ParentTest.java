@@ -33,7 +33,7 @@ public abstract class ParentTest {
                                                             Long bankDetailsId, BigDecimal money,
                                                             Boolean negativeBalance, Long profileId) {
         return new AccountDetailsEntity(id, passportId, accountNumber, bankDetailsId,
-                money, negativeBalance, profileId);
+                money, negativeBalance, profileId, null);
     }
 
     protected static List<AccountDetailsEntity> getAccountDetailsList(AccountDetailsEntity ... accountDetails) {
@@ -5,6 +5,8 @@ import com.bank.account.dto.AccountDetailsDto;
 import com.bank.account.entity.AccountDetailsEntity;
 import com.bank.account.mapper.AccountDetailsMapperImpl;
 import com.bank.account.repository.AccountDetailsRepository;
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,12 +38,18 @@ public class AccountDetailsServiceImpTest extends ParentTest {
     @InjectMocks
     private AccountDetailsServiceImp service;
 
+    @Mock
+    private AuditWriter auditWriter;
+
     @Mock
     private AccountDetailsRepository repository;
 
     @Spy
     private AccountDetailsMapperImpl mapper;
 
+    @Spy
+    private BulkReader bulkReader = new BulkReader(100, 100);
+
     @BeforeAll
     static void init() {
         accountDetails = getAccountDetails(ONE, ONE, ONE, ONE, BIG_DECIMAL_THREE, Boolean.TRUE, ONE);
@@ -118,7 +126,7 @@ public class AccountDetailsServiceImpTest extends ParentTest {
                 () -> service.readAllById(List.of(ONE, TWO))
         );
 
-        assertEquals("Одного или нескольких id из списка не найдено", exception.getMessage());
+        assertEquals("Одного или нескольких id из списка не найдено, id = [1, 2]", exception.getMessage());
     }
 
     @Test
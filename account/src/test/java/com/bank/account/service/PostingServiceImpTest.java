@@ -0,0 +1,198 @@
+package com.bank.account.service;
+
+import com.bank.account.ParentTest;
+import com.bank.account.dto.PostingDto;
+import com.bank.account.dto.PostingResultDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.lock.StripedLock;
+import com.bank.account.mapper.AccountDetailsMapperImpl;
+import com.bank.account.repository.AccountDetailsRepository;
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.exception.ConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.stubbing.Answer;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class PostingServiceImpTest extends ParentTest {
+
+    private static final BigDecimal BIG_DECIMAL_TEN = BigDecimal.TEN;
+
+    private AccountDetailsEntity debit;
+
+    private AccountDetailsEntity credit;
+
+    @InjectMocks
+    private PostingServiceImp service;
+
+    @Mock
+    private AccountDetailsRepository repository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private StripedLock locks = new StripedLock(16);
+
+    @Spy
+    private AccountDetailsMapperImpl mapper;
+
+    @Mock
+    private AuditWriter auditWriter;
+
+    @BeforeEach
+    void init() {
+        debit = getAccountDetails(ONE, ONE, ONE, ONE, BIG_DECIMAL_TEN, Boolean.FALSE, ONE);
+        credit = getAccountDetails(TWO, TWO, TWO, TWO, BIG_DECIMAL_TEN, Boolean.FALSE, TWO);
+        ReflectionTestUtils.setField(service, "batchSize", 100);
+        ReflectionTestUtils.setField(service, "maxRetries", 3);
+    }
+
+    @Test
+    @DisplayName("проводка позитивный сценарий")
+    void postTest() {
+        doReturn(List.of(debit, credit)).when(repository).findAllById(any());
+        doAnswer(inTransaction()).when(transactionTemplate).execute(any());
+
+        final List<PostingResultDto> result = service.post(List.of(getPosting(ONE, TWO, BIG_DECIMAL_THREE)));
+
+        assertAll(() -> {
+            assertTrue(result.get(0).getSuccess());
+            assertEquals(BigDecimal.valueOf(7L), debit.getMoney());
+            assertEquals(BigDecimal.valueOf(13L), credit.getMoney());
+            verify(auditWriter, times(2)).updated(eq(AccountDetailsEntity.class), any(), any());
+        });
+    }
+
+    @Test
+    @DisplayName("проводка при недостатке средств без разрешённого минуса")
+    void postInsufficientTest() {
+        doReturn(List.of(debit, credit)).when(repository).findAllById(any());
+        doAnswer(inTransaction()).when(transactionTemplate).execute(any());
+
+        final List<PostingResultDto> result = service.post(List.of(
+                getPosting(ONE, TWO, BIG_DECIMAL_TEN), getPosting(ONE, TWO, BIG_DECIMAL_THREE)
+        ));
+
+        assertAll(() -> {
+            assertTrue(result.get(0).getSuccess());
+            assertFalse(result.get(1).getSuccess());
+            assertEquals("Недостаточно средств на счёте id = " + ONE, result.get(1).getError());
+            assertEquals(BigDecimal.ZERO, debit.getMoney());
+            assertEquals(BigDecimal.valueOf(20L), credit.getMoney());
+        });
+    }
+
+    @Test
+    @DisplayName("проводка в минус при разрешённом минусе")
+    void postNegativeBalanceTest() {
+        debit.setNegativeBalance(Boolean.TRUE);
+        doReturn(List.of(debit, credit)).when(repository).findAllById(any());
+        doAnswer(inTransaction()).when(transactionTemplate).execute(any());
+
+        final List<PostingResultDto> result = service.post(List.of(getPosting(ONE, TWO, BigDecimal.valueOf(15L))));
+
+        assertAll(() -> {
+            assertTrue(result.get(0).getSuccess());
+            assertEquals(BigDecimal.valueOf(-5L), debit.getMoney());
+            assertEquals(BigDecimal.valueOf(25L), credit.getMoney());
+        });
+    }
+
+    @Test
+    @DisplayName("проводка без одной из сторон отклоняется")
+    void postOneSidedNegativeTest() {
+        doReturn(List.of(debit, credit)).when(repository).findAllById(any());
+        doAnswer(inTransaction()).when(transactionTemplate).execute(any());
+
+        final List<PostingResultDto> result = service.post(List.of(
+                getPosting(ONE, null, BIG_DECIMAL_THREE), getPosting(null, TWO, BIG_DECIMAL_THREE)
+        ));
+
+        assertAll(() -> {
+            assertFalse(result.get(0).getSuccess());
+            assertFalse(result.get(1).getSuccess());
+            assertEquals("Проводка должна содержать счёт списания и счёт зачисления", result.get(0).getError());
+            assertEquals(BIG_DECIMAL_TEN, debit.getMoney());
+            assertEquals(BIG_DECIMAL_TEN, credit.getMoney());
+            verifyNoInteractions(auditWriter);
+        });
+    }
+
+    @Test
+    @DisplayName("проводка по несуществующему счёту")
+    void postNotFoundTest() {
+        doReturn(List.of(debit)).when(repository).findAllById(any());
+        doAnswer(inTransaction()).when(transactionTemplate).execute(any());
+
+        final List<PostingResultDto> result = service.post(List.of(getPosting(ONE, TWO, BIG_DECIMAL_THREE)));
+
+        assertAll(() -> {
+            assertFalse(result.get(0).getSuccess());
+            assertEquals("Счёт проводки не найден", result.get(0).getError());
+            assertEquals(BIG_DECIMAL_TEN, debit.getMoney());
+        });
+    }
+
+    @Test
+    @DisplayName("проводка повторяется при конфликте версий")
+    void postRetryTest() {
+        doReturn(List.of(debit, credit)).when(repository).findAllById(any());
+        doThrow(new ObjectOptimisticLockingFailureException(AccountDetailsEntity.class, ONE))
+                .doAnswer(inTransaction())
+                .when(transactionTemplate).execute(any());
+
+        final List<PostingResultDto> result = service.post(List.of(getPosting(ONE, TWO, BIG_DECIMAL_THREE)));
+
+        assertTrue(result.get(0).getSuccess());
+    }
+
+    @Test
+    @DisplayName("проводка не выполняется после исчерпания попыток")
+    void postRetryNegativeTest() {
+        doThrow(new ObjectOptimisticLockingFailureException(AccountDetailsEntity.class, ONE))
+                .when(transactionTemplate).execute(any());
+
+        final ConflictException exception = assertThrows(ConflictException.class,
+                () -> service.post(List.of(getPosting(ONE, TWO, BIG_DECIMAL_THREE)))
+        );
+
+        assertEquals("Счета изменяются параллельно, проводки не выполнены", exception.getMessage());
+    }
+
+    private static PostingDto getPosting(Long debitAccountId, Long creditAccountId, BigDecimal amount) {
+        return PostingDto.builder()
+                .debitAccountId(debitAccountId)
+                .creditAccountId(creditAccountId)
+                .amount(amount)
+                .build();
+    }
+
+    private static Answer<Object> inTransaction() {
+        return invocation -> invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null);
+    }
+}
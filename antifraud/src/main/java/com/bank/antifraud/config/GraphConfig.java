@@ -0,0 +1,29 @@
+package com.bank.antifraud.config;
+
+import com.bank.antifraud.graph.TransferGraph;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Граф переводов между счетами и его метрики antifraud.graph.edges, antifraud.graph.nodes и antifraud.graph.memory
+ */
+@Configuration
+public class GraphConfig {
+
+    @Value("${antifraud.graph.max-edges:4000000}")
+    private int maxEdges;
+
+    @Bean
+    public TransferGraph transferGraph(MeterRegistry registry) {
+        final TransferGraph graph = new TransferGraph(maxEdges);
+        Gauge.builder("antifraud.graph.edges", graph, TransferGraph::edges).register(registry);
+        Gauge.builder("antifraud.graph.nodes", graph, TransferGraph::nodes).register(registry);
+        Gauge.builder("antifraud.graph.memory", graph, TransferGraph::memoryBytes)
+                .baseUnit("bytes")
+                .register(registry);
+        return graph;
+    }
+}
@@ -0,0 +1,14 @@
+package com.bank.antifraud.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Конфигурация скоринга переводов
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ScoringProperties.class)
+public class ScoringConfig {
+}
@@ -0,0 +1,43 @@
+package com.bank.antifraud.config;
+
+import com.bank.antifraud.scoring.ScoringAction;
+import com.bank.antifraud.scoring.ScoringMetric;
+import com.bank.antifraud.scoring.VelocityKeyType;
+import com.bank.antifraud.scoring.VelocityWindow;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Правила скоринга переводов из antifraud.scoring.rules
+ */
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "antifraud.scoring")
+public class ScoringProperties {
+
+    List<Rule> rules = new ArrayList<>();
+
+    /**
+     * Правило срабатывает, когда значение metric по ключу key в окне window больше threshold.
+     * Для metric AMOUNT key и window не нужны.
+     */
+    @Getter
+    @Setter
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class Rule {
+        String name;
+        VelocityKeyType key;
+        VelocityWindow window;
+        ScoringMetric metric;
+        BigDecimal threshold;
+        ScoringAction action;
+    }
+}
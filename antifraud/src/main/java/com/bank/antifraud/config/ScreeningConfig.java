@@ -0,0 +1,39 @@
+package com.bank.antifraud.config;
+
+import com.bank.antifraud.scoring.TransferType;
+import com.bank.antifraud.screening.BlockedInstrumentIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Индекс заблокированных получателей и его метрики antifraud.screening.entries и antifraud.screening.memory
+ */
+@Configuration
+public class ScreeningConfig {
+
+    private static final String TYPE_TAG = "type";
+
+    @Value("${antifraud.screening.expected-entries:1000000}")
+    private long expectedEntries;
+
+    @Value("${antifraud.screening.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Bean
+    public BlockedInstrumentIndex blockedInstrumentIndex(MeterRegistry registry) {
+        final BlockedInstrumentIndex index = new BlockedInstrumentIndex(expectedEntries, falsePositiveRate);
+        for (TransferType type : TransferType.values()) {
+            Gauge.builder("antifraud.screening.entries", index, typed -> typed.size(type))
+                    .tag(TYPE_TAG, type.name())
+                    .register(registry);
+            Gauge.builder("antifraud.screening.memory", index, typed -> typed.memoryBytes(type))
+                    .tag(TYPE_TAG, type.name())
+                    .baseUnit("bytes")
+                    .register(registry);
+        }
+        return index;
+    }
+}
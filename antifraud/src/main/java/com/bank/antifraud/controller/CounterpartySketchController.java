@@ -0,0 +1,42 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.dto.CounterpartyCountDto;
+import com.bank.antifraud.service.CounterpartySketchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Контроллер для {@link CounterpartyCountDto}
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/counterparty")
+public class CounterpartySketchController {
+
+    private final CounterpartySketchService service;
+
+    /**
+     * Пример: /counterparty/count?accountDetailsId=1&amp;from=2026-10-01T00:00:00Z
+     *
+     * @param accountDetailsId технический идентификатор счёта отправителя
+     * @param from начало окна в ISO 8601
+     * @param to конец окна в ISO 8601, по умолчанию - текущий момент
+     * @return {@link ResponseEntity} c {@link CounterpartyCountDto} и {@link HttpStatus}
+     */
+    @GetMapping("/count")
+    public ResponseEntity<CounterpartyCountDto> count(
+            @RequestParam("accountDetailsId") Long accountDetailsId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(value = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to) {
+        return ResponseEntity.ok(service.count(accountDetailsId, from, to));
+    }
+}
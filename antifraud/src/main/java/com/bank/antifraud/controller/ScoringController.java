@@ -0,0 +1,35 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.dto.ScoringVerdictDto;
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.service.ScoringEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер скоринга переводов
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/scoring")
+public class ScoringController {
+
+    private final ScoringEventService service;
+
+    /**
+     * @param eventId идентификатор события outbox, повтор события получает вердикт первой доставки
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link ResponseEntity} c {@link ScoringVerdictDto} и {@link HttpStatus}
+     */
+    @PostMapping
+    public ResponseEntity<ScoringVerdictDto> score(@RequestHeader(value = "X-Event-Id", required = false)
+                                                   String eventId, @RequestBody TransferScoringDto transfer) {
+        return ResponseEntity.ok(service.score(eventId, transfer));
+    }
+}
@@ -0,0 +1,54 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.dto.ScoringRuleDto;
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import com.bank.antifraud.service.ScoringRuleService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер для {@link ScoringRuleDto}
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/scoring/rule")
+public class ScoringRuleController {
+
+    private final ScoringRuleService service;
+
+    /**
+     * @param rule {@link ScoringRuleDto}
+     * @return {@link ResponseEntity} c {@link ScoringRuleDto} и {@link HttpStatus}
+     */
+    @PostMapping
+    public ResponseEntity<ScoringRuleDto> create(@RequestBody ScoringRuleDto rule) {
+        return ResponseEntity.ok(service.create(rule));
+    }
+
+    /**
+     * @param id технический идентификатор {@link ScoringRuleEntity}
+     * @return {@link ResponseEntity} c {@link ScoringRuleDto} и {@link HttpStatus}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ScoringRuleDto> read(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(service.read(id));
+    }
+
+    /**
+     * @param id технический идентификатор {@link ScoringRuleEntity}
+     * @param rule {@link ScoringRuleDto}
+     * @return {@link ResponseEntity} c {@link ScoringRuleDto} и {@link HttpStatus}
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<ScoringRuleDto> update(@PathVariable("id") Long id, @RequestBody ScoringRuleDto rule) {
+        return ResponseEntity.ok(service.update(rule, id));
+    }
+}
@@ -0,0 +1,33 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.dto.ScreeningDto;
+import com.bank.antifraud.scoring.TransferType;
+import com.bank.antifraud.service.ScreeningService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер проверки получателя перевода перед его приёмом
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/screen")
+public class ScreeningController {
+
+    private final ScreeningService service;
+
+    /**
+     * @param transferType тип перевода
+     * @param number номер счёта, карты или телефона получателя
+     * @return {@link ResponseEntity} c {@link ScreeningDto} и {@link HttpStatus}
+     */
+    @GetMapping
+    public ResponseEntity<ScreeningDto> screen(@RequestParam TransferType transferType, @RequestParam Long number) {
+        return ResponseEntity.ok(service.screen(transferType, number));
+    }
+}
@@ -0,0 +1,43 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.dto.SuspiciousActivityDto;
+import com.bank.antifraud.dto.SuspiciousActivityFilterDto;
+import com.bank.antifraud.dto.SuspiciousActivityPageDto;
+import com.bank.antifraud.service.SuspiciousActivityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Контроллер общей выборки подозрительных и заблокированных переводов всех типов
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/suspicious/activity")
+public class SuspiciousActivityController {
+
+    private final SuspiciousActivityService service;
+
+    /**
+     * @param filter {@link SuspiciousActivityFilterDto} из параметров запроса
+     * @return {@link ResponseEntity} cо страницей {@link SuspiciousActivityDto}, HTTPStatus.OK.
+     */
+    @GetMapping("/query")
+    public ResponseEntity<SuspiciousActivityPageDto> query(SuspiciousActivityFilterDto filter) {
+        return new ResponseEntity<>(service.query(filter), HttpStatus.OK);
+    }
+
+    /**
+     * @param filter {@link SuspiciousActivityFilterDto} из параметров запроса, limit не учитывается
+     * @return {@link ResponseEntity} c выгрузкой {@link SuspiciousActivityDto} в NDJSON, HTTPStatus.OK.
+     */
+    @GetMapping(value = "/query/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream(SuspiciousActivityFilterDto filter) {
+        return new ResponseEntity<>(service.stream(filter), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,35 @@
+package com.bank.antifraud.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+
+/**
+ * Оценка количества разных получателей переводов счёта за окно [windowStart, windowEnd),
+ * границы окна выровнены по часам
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CounterpartyCountDto implements Serializable {
+
+    Long accountDetailsId;
+
+    OffsetDateTime windowStart;
+
+    OffsetDateTime windowEnd;
+
+    Long accountNumbers;
+
+    Long cardNumbers;
+
+    Long phoneNumbers;
+}
@@ -0,0 +1,31 @@
+package com.bank.antifraud.dto;
+
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.validation.constraints.NotNull;
+import java.io.Serializable;
+
+/**
+ * DTO для сущности {@link ScoringRuleEntity}
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ScoringRuleDto implements Serializable {
+
+    Long id;
+
+    @NotNull
+    String expression;
+
+    @NotNull
+    Boolean isEnabled;
+}
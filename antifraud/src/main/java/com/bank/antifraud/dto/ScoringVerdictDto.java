@@ -0,0 +1,32 @@
+package com.bank.antifraud.dto;
+
+import com.bank.antifraud.scoring.TransferType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * DTO вердикта скоринга, id - технический идентификатор записи в таблице подозрительных переводов transferType
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ScoringVerdictDto {
+
+    Long id;
+
+    TransferType transferType;
+
+    Boolean isBlocked;
+
+    Boolean isSuspicious;
+
+    String blockedReason;
+
+    String suspiciousReason;
+}
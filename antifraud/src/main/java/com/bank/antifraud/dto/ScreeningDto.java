@@ -0,0 +1,26 @@
+package com.bank.antifraud.dto;
+
+import com.bank.antifraud.scoring.TransferType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * DTO проверки получателя: number - номер счёта, карты или телефона в зависимости от transferType
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ScreeningDto {
+
+    TransferType transferType;
+
+    Long number;
+
+    Boolean isBlocked;
+}
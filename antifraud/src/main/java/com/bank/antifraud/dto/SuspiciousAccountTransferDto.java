@@ -36,4 +36,6 @@ public class SuspiciousAccountTransferDto implements Serializable {
 
     @NotNull
     String suspiciousReason;
+
+    Long accountNumber;
 }
@@ -0,0 +1,36 @@
+package com.bank.antifraud.dto;
+
+import com.bank.antifraud.scoring.TransferType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * DTO подозрительного перевода любого типа: transferId и number относятся к таблице transferType
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SuspiciousActivityDto {
+
+    TransferType transferType;
+
+    Long id;
+
+    Long transferId;
+
+    Boolean isBlocked;
+
+    Boolean isSuspicious;
+
+    String blockedReason;
+
+    String suspiciousReason;
+
+    Long number;
+}
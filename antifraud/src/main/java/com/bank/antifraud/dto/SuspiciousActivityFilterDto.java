@@ -0,0 +1,40 @@
+package com.bank.antifraud.dto;
+
+import com.bank.antifraud.scoring.TransferType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+/**
+ * Фильтр общей выборки подозрительных переводов. Пустые поля не ограничивают выборку.
+ * Если задан хотя бы один список id переводов, читаются только таблицы с заданными списками.
+ * afterId и afterType - курсор из предыдущей страницы.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SuspiciousActivityFilterDto {
+
+    Boolean isBlocked;
+
+    Boolean isSuspicious;
+
+    List<Long> accountTransferIds;
+
+    List<Long> cardTransferIds;
+
+    List<Long> phoneTransferIds;
+
+    Long afterId;
+
+    TransferType afterType;
+
+    Integer limit;
+}
@@ -0,0 +1,29 @@
+package com.bank.antifraud.dto;
+
+import com.bank.antifraud.scoring.TransferType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+/**
+ * Страница общей выборки подозрительных переводов.
+ * nextAfterId и nextAfterType передаются в следующий запрос как afterId и afterType, null - страниц больше нет.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SuspiciousActivityPageDto {
+
+    List<SuspiciousActivityDto> items;
+
+    Long nextAfterId;
+
+    TransferType nextAfterType;
+}
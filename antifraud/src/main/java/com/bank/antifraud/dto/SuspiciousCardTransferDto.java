@@ -36,4 +36,6 @@ public class SuspiciousCardTransferDto implements Serializable {
 
     @NotNull
     String suspiciousReason;
+
+    Long cardNumber;
 }
@@ -36,4 +36,6 @@ public class SuspiciousPhoneTransferDto implements Serializable {
 
     @NotNull
     String suspiciousReason;
+
+    Long phoneNumber;
 }
@@ -0,0 +1,40 @@
+package com.bank.antifraud.dto;
+
+import com.bank.antifraud.scoring.TransferType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.validation.constraints.NotNull;
+import java.math.BigDecimal;
+
+/**
+ * DTO перевода для скоринга.
+ * number - номер счёта, карты или телефона получателя в зависимости от transferType.
+ * senderNumber - номер счёта отправителя, по нему перевод между счетами попадает в граф переводов.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransferScoringDto {
+
+    @NotNull
+    Long transferId;
+
+    @NotNull
+    TransferType transferType;
+
+    Long accountDetailsId;
+
+    Long number;
+
+    @NotNull
+    BigDecimal amount;
+
+    Long senderNumber;
+}
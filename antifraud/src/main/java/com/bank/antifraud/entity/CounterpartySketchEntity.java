@@ -0,0 +1,55 @@
+package com.bank.antifraud.entity;
+
+import com.bank.antifraud.scoring.TransferType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+import java.time.OffsetDateTime;
+
+/**
+ * Entity для таблицы counterparty_sketch
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "counterparty_sketch", schema = "anti_fraud")
+public class CounterpartySketchEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    Long id;
+
+    @NotNull
+    @Column(name = "account_details_id")
+    Long accountDetailsId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "counterparty_type")
+    TransferType counterpartyType;
+
+    @NotNull
+    @Column(name = "bucket_start")
+    OffsetDateTime bucketStart;
+
+    @NotNull
+    @Column(name = "sketch")
+    byte[] sketch;
+}
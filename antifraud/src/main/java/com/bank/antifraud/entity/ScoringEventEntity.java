@@ -0,0 +1,37 @@
+package com.bank.antifraud.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.OffsetDateTime;
+
+/**
+ * Entity для таблицы scoring_event
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "scoring_event", schema = "anti_fraud")
+public class ScoringEventEntity {
+
+    @Id
+    @Column(name = "event_id", nullable = false)
+    String eventId;
+
+    @Column(name = "verdict")
+    String verdict;
+
+    @Column(name = "created_at", nullable = false)
+    OffsetDateTime createdAt;
+}
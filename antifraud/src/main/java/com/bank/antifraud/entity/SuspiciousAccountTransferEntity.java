@@ -50,4 +50,7 @@ public class SuspiciousAccountTransferEntity {
     @NotNull
     @Column(name = "suspicious_reason")
     String suspiciousReason;
+
+    @Column(name = "account_number")
+    Long accountNumber;
 }
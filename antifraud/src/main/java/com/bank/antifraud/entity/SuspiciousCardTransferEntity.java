@@ -50,4 +50,7 @@ public class SuspiciousCardTransferEntity {
     @NotNull
     @Column(name = "suspicious_reason")
     String suspiciousReason;
+
+    @Column(name = "card_number")
+    Long cardNumber;
 }
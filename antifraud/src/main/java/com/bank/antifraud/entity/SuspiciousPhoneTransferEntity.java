@@ -50,4 +50,7 @@ public class SuspiciousPhoneTransferEntity {
     @NotNull
     @Column(name = "suspicious_reason")
     String suspiciousReason;
+
+    @Column(name = "phone_number")
+    Long phoneNumber;
 }
@@ -0,0 +1,133 @@
+package com.bank.antifraud.graph;
+
+import com.bank.antifraud.dto.SuspiciousAccountTransferDto;
+import com.bank.antifraud.entity.SuspiciousAccountTransferEntity;
+import com.bank.antifraud.mapper.SuspiciousAccountTransferMapper;
+import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
+import com.bank.antifraud.service.SuspiciousAccountTransferService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Поиск схем дропов в {@link TransferGraph} по расписанию.
+ * Переводы найденных схем отмечаются подозрительными в suspicious_account_transfer: новая запись создаётся,
+ * к существующей добавляется причина, если её там ещё нет. Время поиска пишется в таймер antifraud.graph.detection.
+ */
+@Slf4j
+@Component
+public class MuleDetector implements DisposableBean {
+
+    static final String CYCLE_REASON = "Круговые переводы между счетами";
+    static final String FAN_OUT_REASON = "Веерные переводы на много счетов";
+
+    private static final String DELIMITER = ", ";
+    private static final int CHUNK_SIZE = 1000;
+
+    private final TransferGraph graph;
+    private final SuspiciousAccountTransferService service;
+    private final SuspiciousAccountTransferRepository repository;
+    private final SuspiciousAccountTransferMapper mapper;
+    private final TransactionTemplate transaction;
+    private final ForkJoinPool pool;
+    private final Timer timer;
+    private final long windowMs;
+    private final int maxCycleLength;
+    private final int fanOutThreshold;
+
+    public MuleDetector(TransferGraph graph, SuspiciousAccountTransferService service,
+                        SuspiciousAccountTransferRepository repository, SuspiciousAccountTransferMapper mapper,
+                        PlatformTransactionManager transactionManager, MeterRegistry registry,
+                        @Value("${antifraud.graph.window-ms:604800000}") long windowMs,
+                        @Value("${antifraud.graph.max-cycle-length:5}") int maxCycleLength,
+                        @Value("${antifraud.graph.fan-out:20}") int fanOutThreshold,
+                        @Value("${antifraud.graph.parallelism:0}") int parallelism) {
+        this.graph = graph;
+        this.service = service;
+        this.repository = repository;
+        this.mapper = mapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.timer = Timer.builder("antifraud.graph.detection").register(registry);
+        this.windowMs = windowMs;
+        this.maxCycleLength = maxCycleLength;
+        this.fanOutThreshold = fanOutThreshold;
+    }
+
+    /**
+     * Ищет схемы среди переводов за window-ms и отмечает их переводы
+     */
+    @Scheduled(initialDelayString = "${antifraud.graph.detection-delay-ms:300000}",
+            fixedDelayString = "${antifraud.graph.detection-delay-ms:300000}")
+    public void detect() {
+        final List<MuleHit> hits = timer.record(() -> graph.detect(System.currentTimeMillis() - windowMs,
+                maxCycleLength, fanOutThreshold, pool));
+        final Map<Long, Long> cycles = recipients(hits, MuleHitType.CYCLE);
+        final Map<Long, Long> fanOuts = recipients(hits, MuleHitType.FAN_OUT);
+        final Integer marked = transaction.execute(status -> mark(cycles, CYCLE_REASON) +
+                mark(fanOuts, FAN_OUT_REASON));
+        log.info("Найдено схем дропов: {}, отмечено переводов: {}", hits.size(), marked);
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+
+    /**
+     * @return номер счёта получателя по идентификатору перевода для схем одного типа
+     */
+    private static Map<Long, Long> recipients(List<MuleHit> hits, MuleHitType type) {
+        final Map<Long, Long> recipients = new LinkedHashMap<>();
+        for (MuleHit hit : hits.stream().filter(found -> found.getType() == type).toList()) {
+            for (int index = 0; index < hit.getTransferIds().length; index++) {
+                recipients.put(hit.getTransferIds()[index], hit.getRecipients()[index]);
+            }
+        }
+        return recipients;
+    }
+
+    private int mark(Map<Long, Long> transfers, String reason) {
+        final List<Long> ids = new ArrayList<>(transfers.keySet());
+        int marked = 0;
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            final List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            final Map<Long, SuspiciousAccountTransferEntity> existing = new HashMap<>(chunk.size() * 2);
+            repository.findAllByAccountTransferIdIn(chunk)
+                    .forEach(entity -> existing.put(entity.getAccountTransferId(), entity));
+            for (Long transferId : chunk) {
+                marked += mark(transferId, transfers.get(transferId), existing.get(transferId), reason) ? 1 : 0;
+            }
+        }
+        return marked;
+    }
+
+    private boolean mark(Long transferId, Long recipient, SuspiciousAccountTransferEntity existing, String reason) {
+        if (existing == null) {
+            service.create(new SuspiciousAccountTransferDto(null, transferId, false, true, null, reason, recipient));
+            return true;
+        }
+        final String reasons = existing.getSuspiciousReason();
+        if (reasons != null && reasons.contains(reason)) {
+            return false;
+        }
+        final SuspiciousAccountTransferDto transfer = mapper.toDto(existing);
+        transfer.setIsSuspicious(true);
+        transfer.setSuspiciousReason(reasons == null || reasons.isEmpty() ? reason : reasons + DELIMITER + reason);
+        service.update(transfer, existing.getId());
+        return true;
+    }
+}
@@ -0,0 +1,24 @@
+package com.bank.antifraud.graph;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Найденная схема: account - счёт, с которого начинается цепочка или идёт рассылка,
+ * transferIds и recipients - переводы схемы и номера счетов их получателей в одном порядке.
+ */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class MuleHit {
+
+    MuleHitType type;
+
+    long account;
+
+    long[] transferIds;
+
+    long[] recipients;
+}
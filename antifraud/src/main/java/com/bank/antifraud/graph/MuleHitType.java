@@ -0,0 +1,15 @@
+package com.bank.antifraud.graph;
+
+/**
+ * Схема, найденная в графе переводов {@link TransferGraph}
+ */
+public enum MuleHitType {
+    /**
+     * Деньги по цепочке переводов вернулись на исходный счёт
+     */
+    CYCLE,
+    /**
+     * Счёт разослал переводы на много разных счетов
+     */
+    FAN_OUT
+}
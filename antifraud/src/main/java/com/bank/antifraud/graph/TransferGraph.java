@@ -0,0 +1,358 @@
+package com.bank.antifraud.graph;
+
+import com.bank.common.collection.LongIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Граф последних переводов между счетами для поиска дропов: круговых цепочек и веерных рассылок.
+ * Вершины - номера счетов, рёбра - переводы. Всё хранится в примитивных массивах, без объекта на ребро:
+ * рёбра лежат в кольцевом буфере на maxEdges переводов (24 байта на ребро), у каждого ребра есть ссылка
+ * на предыдущее ребро того же отправителя, у вершины - на последнее. Новый перевод добавляется за O(1),
+ * при заполнении буфера затирает самый старый. Затёртое ребро узнаётся по отправителю и порядку записи,
+ * поэтому списки рёбер не чистятся. Счета из графа не удаляются, таблица вершин растёт с числом разных счетов.
+ * Поиск идёт по вершинам параллельно в {@link ForkJoinPool}, каждая часть вершин читается под блокировкой
+ * чтения, и добавление переводов ждёт не дольше одной части.
+ */
+public class TransferGraph {
+
+    private static final int NONE = -1;
+    private static final int MIN_EDGES = 1024;
+    private static final int MIN_NODES = 1024;
+    private static final int LEAF_NODES = 1024;
+    private static final int MIN_CYCLE_LENGTH = 3;
+    private static final int VISIT_BUDGET = 10_000;
+    private static final long MILLIS_IN_SECOND = 1000;
+
+    private final int maxEdges;
+    private final long baseSeconds = System.currentTimeMillis() / MILLIS_IN_SECOND;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap nodeIndex = new LongIntHashMap(MIN_NODES);
+
+    private long[] accounts = new long[MIN_NODES];
+    private int[] heads = new int[MIN_NODES];
+    private int nodes;
+
+    private int[] sources;
+    private int[] targets;
+    private int[] previous;
+    private int[] seconds;
+    private long[] transferIds;
+    private int edges;
+    private int cursor;
+
+    /**
+     * @param maxEdges сколько последних переводов хранится, массивы растут до этого размера по мере заполнения
+     */
+    public TransferGraph(int maxEdges) {
+        this.maxEdges = Math.max(maxEdges, 1);
+        final int initialEdges = Math.min(MIN_EDGES, this.maxEdges);
+        this.sources = new int[initialEdges];
+        this.targets = new int[initialEdges];
+        this.previous = new int[initialEdges];
+        this.seconds = new int[initialEdges];
+        this.transferIds = new long[initialEdges];
+    }
+
+    /**
+     * Перевод самому себе не добавляется
+     *
+     * @param sender номер счёта отправителя
+     * @param recipient номер счёта получателя
+     * @param transferId технический идентификатор перевода
+     * @param timeMs время перевода, переводы добавляются в порядке времени
+     */
+    public void add(long sender, long recipient, long transferId, long timeMs) {
+        if (sender == recipient) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            final int source = node(sender);
+            final int target = node(recipient);
+            if (cursor == sources.length && edges < maxEdges) {
+                growEdges();
+            }
+            final int slot = cursor;
+            sources[slot] = source;
+            targets[slot] = target;
+            seconds[slot] = (int) (timeMs / MILLIS_IN_SECOND - baseSeconds);
+            transferIds[slot] = transferId;
+            previous[slot] = heads[source];
+            heads[source] = slot;
+            cursor = cursor + 1 == maxEdges ? 0 : cursor + 1;
+            edges = Math.min(edges + 1, maxEdges);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Круговая цепочка - от 3 до maxCycleLength переводов, каждый следующий не раньше предыдущего,
+     * последний возвращается на первый счёт. Для каждого счёта сообщается не больше одной цепочки,
+     * перебор с одного счёта ограничен, чтобы счета с большим числом переводов не останавливали поиск.
+     * Веерная рассылка - переводы со счёта на fanOutThreshold и больше разных счетов.
+     *
+     * @param fromMs учитываются переводы не раньше этого времени
+     * @param maxCycleLength наибольшая длина круговой цепочки
+     * @param fanOutThreshold наименьшее число разных получателей веерной рассылки
+     * @param pool пул для параллельного поиска
+     * @return найденные схемы
+     */
+    public List<MuleHit> detect(long fromMs, int maxCycleLength, int fanOutThreshold, ForkJoinPool pool) {
+        final int nodeCount;
+        lock.readLock().lock();
+        try {
+            nodeCount = nodes;
+        } finally {
+            lock.readLock().unlock();
+        }
+        final Detection detection = new Detection((int) (fromMs / MILLIS_IN_SECOND - baseSeconds),
+                maxCycleLength, fanOutThreshold);
+        return pool.invoke(new DetectionTask(detection, 0, nodeCount));
+    }
+
+    /**
+     * @return количество хранимых переводов
+     */
+    public int edges() {
+        lock.readLock().lock();
+        try {
+            return edges;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return количество счетов
+     */
+    public int nodes() {
+        lock.readLock().lock();
+        try {
+            return nodes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return память массивов графа в байтах
+     */
+    public long memoryBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) sources.length * (Integer.BYTES * 4 + Long.BYTES) +
+                    (long) accounts.length * (Long.BYTES + Integer.BYTES) + nodeIndex.memoryBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int node(long account) {
+        final int existing = nodeIndex.getOrDefault(account, NONE);
+        if (existing != NONE) {
+            return existing;
+        }
+        if (nodes == accounts.length) {
+            accounts = Arrays.copyOf(accounts, nodes * 2);
+            heads = Arrays.copyOf(heads, nodes * 2);
+        }
+        accounts[nodes] = account;
+        heads[nodes] = NONE;
+        nodeIndex.put(account, nodes);
+        return nodes++;
+    }
+
+    private void growEdges() {
+        final int length = (int) Math.min((long) sources.length * 2, maxEdges);
+        sources = Arrays.copyOf(sources, length);
+        targets = Arrays.copyOf(targets, length);
+        previous = Arrays.copyOf(previous, length);
+        seconds = Arrays.copyOf(seconds, length);
+        transferIds = Arrays.copyOf(transferIds, length);
+    }
+
+    /**
+     * @return последнее ребро счёта или NONE, если его рёбра затёрты
+     */
+    private int first(int node) {
+        final int edge = heads[node];
+        return edge != NONE && sources[edge] == node ? edge : NONE;
+    }
+
+    /**
+     * Предыдущее ребро затёрто, если в ячейке ребро другого счёта или ребро новее текущего
+     *
+     * @return предыдущее ребро того же счёта или NONE
+     */
+    private int next(int edge) {
+        final int before = previous[edge];
+        return before != NONE && sources[before] == sources[edge] && age(before) > age(edge) ? before : NONE;
+    }
+
+    /**
+     * @return сколько рёбер записано после этого
+     */
+    private int age(int edge) {
+        return Math.floorMod(cursor - 1 - edge, edges);
+    }
+
+    private MuleHit fanOut(int node, Detection detection, Scratch scratch) {
+        int count = 0;
+        for (int edge = first(node); edge != NONE && seconds[edge] >= detection.fromSeconds; edge = next(edge)) {
+            if (count == scratch.edges.length) {
+                scratch.edges = Arrays.copyOf(scratch.edges, count * 2);
+            }
+            scratch.edges[count++] = edge;
+        }
+        if (count == 0 || count < detection.fanOutThreshold) {
+            return null;
+        }
+        final int[] recipients = new int[count];
+        for (int index = 0; index < count; index++) {
+            recipients[index] = targets[scratch.edges[index]];
+        }
+        Arrays.sort(recipients);
+        int distinct = 1;
+        for (int index = 1; index < count; index++) {
+            distinct += recipients[index] == recipients[index - 1] ? 0 : 1;
+        }
+        return distinct < detection.fanOutThreshold ? null :
+                hit(MuleHitType.FAN_OUT, node, scratch.edges, count);
+    }
+
+    private MuleHit cycle(int start, Detection detection, Scratch scratch) {
+        scratch.budget = VISIT_BUDGET;
+        final int length = search(start, start, 0, detection.fromSeconds, detection, scratch);
+        return length == 0 ? null : hit(MuleHitType.CYCLE, start, scratch.path, length);
+    }
+
+    /**
+     * Поиск в глубину только по счетам с индексом больше start: цепочка находится с её наименьшего счёта
+     *
+     * @return длина найденной цепочки или 0
+     */
+    private int search(int start, int node, int depth, int minSeconds, Detection detection, Scratch scratch) {
+        for (int edge = first(node); edge != NONE && seconds[edge] >= minSeconds; edge = next(edge)) {
+            if (--scratch.budget < 0) {
+                return 0;
+            }
+            final int target = targets[edge];
+            scratch.path[depth] = edge;
+            if (target == start && depth + 1 >= MIN_CYCLE_LENGTH) {
+                return depth + 1;
+            }
+            final boolean deeper = target > start && depth + 1 < detection.maxCycleLength &&
+                    !onPath(target, depth, scratch);
+            final int length = deeper ? search(start, target, depth + 1, seconds[edge], detection, scratch) : 0;
+            if (length > 0) {
+                return length;
+            }
+        }
+        return 0;
+    }
+
+    private boolean onPath(int node, int depth, Scratch scratch) {
+        for (int index = 0; index <= depth; index++) {
+            if (sources[scratch.path[index]] == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private MuleHit hit(MuleHitType type, int node, int[] hitEdges, int count) {
+        final long[] hitTransferIds = new long[count];
+        final long[] recipients = new long[count];
+        for (int index = 0; index < count; index++) {
+            hitTransferIds[index] = transferIds[hitEdges[index]];
+            recipients[index] = accounts[targets[hitEdges[index]]];
+        }
+        return new MuleHit(type, accounts[node], hitTransferIds, recipients);
+    }
+
+    /**
+     * Параметры поиска
+     */
+    private static final class Detection {
+        private final int fromSeconds;
+        private final int maxCycleLength;
+        private final int fanOutThreshold;
+
+        private Detection(int fromSeconds, int maxCycleLength, int fanOutThreshold) {
+            this.fromSeconds = fromSeconds;
+            this.maxCycleLength = maxCycleLength;
+            this.fanOutThreshold = fanOutThreshold;
+        }
+    }
+
+    /**
+     * Рабочие массивы одной части вершин
+     */
+    private static final class Scratch {
+        private final int[] path;
+        private int[] edges = new int[MIN_EDGES];
+        private int budget;
+
+        private Scratch(int maxCycleLength) {
+            this.path = new int[Math.max(maxCycleLength, 1)];
+        }
+    }
+
+    /**
+     * Поиск по вершинам [from, to): диапазон делится пополам до LEAF_NODES вершин
+     */
+    private final class DetectionTask extends RecursiveTask<List<MuleHit>> {
+
+        private final Detection detection;
+        private final int from;
+        private final int to;
+
+        private DetectionTask(Detection detection, int from, int to) {
+            this.detection = detection;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<MuleHit> compute() {
+            if (to - from <= LEAF_NODES) {
+                return leaf();
+            }
+            final int middle = (from + to) >>> 1;
+            final DetectionTask left = new DetectionTask(detection, from, middle);
+            left.fork();
+            final List<MuleHit> hits = new DetectionTask(detection, middle, to).compute();
+            hits.addAll(left.join());
+            return hits;
+        }
+
+        private List<MuleHit> leaf() {
+            final List<MuleHit> hits = new ArrayList<>();
+            final Scratch scratch = new Scratch(detection.maxCycleLength);
+            lock.readLock().lock();
+            try {
+                for (int node = from; node < to; node++) {
+                    addIfFound(hits, cycle(node, detection, scratch));
+                    addIfFound(hits, fanOut(node, detection, scratch));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            return hits;
+        }
+
+        private void addIfFound(List<MuleHit> hits, MuleHit hit) {
+            if (hit != null) {
+                hits.add(hit);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.bank.antifraud.mapper;
+
+import com.bank.antifraud.dto.ScoringRuleDto;
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+/**
+ * Mapper для {@link ScoringRuleEntity} и {@link ScoringRuleDto}
+ */
+@Mapper(componentModel = "spring")
+public interface ScoringRuleMapper {
+
+    /**
+     * @param rule {@link ScoringRuleDto}
+     * @return {@link ScoringRuleEntity}
+     */
+    @Mapping(target = "id", ignore = true)
+    ScoringRuleEntity toEntity(ScoringRuleDto rule);
+
+    /**
+     * @param rule {@link ScoringRuleEntity}
+     * @return {@link ScoringRuleDto}
+     */
+    ScoringRuleDto toDto(ScoringRuleEntity rule);
+
+    /**
+     * @param rule {@link ScoringRuleDto}
+     * @param entity {@link ScoringRuleEntity}
+     * @return {@link ScoringRuleEntity}
+     */
+    @Mapping(target = "id", ignore = true)
+    ScoringRuleEntity mergeToEntity(ScoringRuleDto rule, @MappingTarget ScoringRuleEntity entity);
+}
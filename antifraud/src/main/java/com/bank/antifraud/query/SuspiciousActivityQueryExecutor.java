@@ -0,0 +1,232 @@
+package com.bank.antifraud.query;
+
+import com.bank.antifraud.dto.SuspiciousActivityDto;
+import com.bank.antifraud.dto.SuspiciousActivityFilterDto;
+import com.bank.antifraud.dto.SuspiciousActivityPageDto;
+import com.bank.antifraud.scoring.TransferType;
+import com.bank.common.exception.ValidationException;
+import com.bank.common.observability.RequestStatistics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Общая выборка подозрительных и заблокированных переводов по счёту, карте и телефону.
+ * Три таблицы читаются параллельно в ограниченном пуле, каждая - не больше limit строк по индексу
+ * (is_blocked, is_suspicious, id). Результаты сливаются в порядке (id, transferType), первые limit строк
+ * образуют страницу, последняя строка - курсор следующей. Время всей выборки пишется в таймер
+ * antifraud.suspicious.activity.query с p95, время каждой таблицы - в antifraud.suspicious.activity.table.
+ */
+@Component
+public class SuspiciousActivityQueryExecutor implements DisposableBean {
+
+    private static final int DEFAULT_LIMIT = 100;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private static final String AFTER_ID = "afterId";
+    private static final Comparator<SuspiciousActivityDto> KEYSET_ORDER = Comparator
+            .comparing(SuspiciousActivityDto::getId)
+            .thenComparing(SuspiciousActivityDto::getTransferType);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final Timer queryTimer;
+    private final Map<TransferType, Timer> tableTimers = new EnumMap<>(TransferType.class);
+    private final int maxLimit;
+    private final int maxTransferIds;
+    private final ThreadPoolExecutor executor;
+
+    public SuspiciousActivityQueryExecutor(NamedParameterJdbcTemplate jdbcTemplate,
+                                           PlatformTransactionManager transactionManager,
+                                           ObjectMapper objectMapper, MeterRegistry registry,
+                                           @Value("${antifraud.activity.max-limit:1000}") int maxLimit,
+                                           @Value("${antifraud.activity.max-transfer-ids:1000}") int maxTransferIds,
+                                           @Value("${antifraud.activity.threads:6}") int threads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.queryTimer = Timer.builder("antifraud.suspicious.activity.query")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+        for (TransferType type : TransferType.values()) {
+            tableTimers.put(type, Timer.builder("antifraud.suspicious.activity.table")
+                    .tag("type", type.name())
+                    .publishPercentiles(0.95)
+                    .register(registry));
+        }
+        this.maxLimit = maxLimit;
+        this.maxTransferIds = maxTransferIds;
+        final AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 4), runnable -> {
+                    final Thread thread = new Thread(runnable, "suspicious-activity-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @param filter {@link SuspiciousActivityFilterDto}
+     * @return {@link SuspiciousActivityPageDto}
+     */
+    public SuspiciousActivityPageDto page(SuspiciousActivityFilterDto filter) {
+        final int limit = limit(filter.getLimit());
+        final Map<TransferType, List<Long>> transferIds = transferIds(filter);
+        return queryTimer.record(() -> fetch(filter, transferIds, limit));
+    }
+
+    /**
+     * Фильтр проверяется сразу, выборка идёт страницами по max-limit строк при записи ответа
+     *
+     * @param filter {@link SuspiciousActivityFilterDto}, limit не учитывается
+     * @return {@link StreamingResponseBody}, пишущий по одному дто на строку
+     */
+    public StreamingResponseBody stream(SuspiciousActivityFilterDto filter) {
+        final Map<TransferType, List<Long>> transferIds = transferIds(filter);
+        return out -> {
+            try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+                SuspiciousActivityPageDto page = queryTimer.record(() -> fetch(filter, transferIds, maxLimit));
+                writer.writeAll(page.getItems());
+                while (page.getNextAfterId() != null) {
+                    final SuspiciousActivityFilterDto next = new SuspiciousActivityFilterDto(filter.getIsBlocked(),
+                            filter.getIsSuspicious(), filter.getAccountTransferIds(), filter.getCardTransferIds(),
+                            filter.getPhoneTransferIds(), page.getNextAfterId(), page.getNextAfterType(), maxLimit);
+                    page = queryTimer.record(() -> fetch(next, transferIds, maxLimit));
+                    writer.writeAll(page.getItems());
+                }
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        };
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private SuspiciousActivityPageDto fetch(SuspiciousActivityFilterDto filter,
+                                            Map<TransferType, List<Long>> transferIds, int limit) {
+        final List<CompletableFuture<List<SuspiciousActivityDto>>> tables = new ArrayList<>();
+        for (TransferType type : TransferType.values()) {
+            if (transferIds.isEmpty() || transferIds.containsKey(type)) {
+                tables.add(CompletableFuture.supplyAsync(RequestStatistics.propagate(() -> tableTimers.get(type)
+                        .record(() -> query(type, filter, transferIds.get(type), limit))), executor));
+            }
+        }
+        final List<SuspiciousActivityDto> merged = new ArrayList<>();
+        try {
+            tables.forEach(table -> merged.addAll(table.join()));
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+        merged.sort(KEYSET_ORDER);
+        final List<SuspiciousActivityDto> items = merged.size() > limit ? merged.subList(0, limit) : merged;
+        if (items.size() < limit) {
+            return new SuspiciousActivityPageDto(items, null, null);
+        }
+        final SuspiciousActivityDto last = items.get(items.size() - 1);
+        return new SuspiciousActivityPageDto(new ArrayList<>(items), last.getId(), last.getTransferType());
+    }
+
+    /**
+     * Строки с id, равным курсору, уже отданы для типов до afterType включительно.
+     * Без afterType курсор считается пройденным во всех таблицах.
+     */
+    private List<SuspiciousActivityDto> query(TransferType type, SuspiciousActivityFilterDto filter,
+                                              List<Long> transferIds, int limit) {
+        final String prefix = type.name().toLowerCase(Locale.ROOT);
+        final MapSqlParameterSource params = new MapSqlParameterSource(AFTER_ID,
+                filter.getAfterId() == null ? 0L : filter.getAfterId());
+        final boolean sameIdIncluded = filter.getAfterId() != null && filter.getAfterType() != null &&
+                type.compareTo(filter.getAfterType()) > 0;
+        final StringBuilder sql = new StringBuilder("SELECT id, ").append(prefix)
+                .append("_transfer_id AS transfer_id, is_blocked, is_suspicious, blocked_reason, suspicious_reason, ")
+                .append(prefix).append("_number AS recipient_number FROM anti_fraud.suspicious_").append(prefix)
+                .append("_transfer WHERE id ").append(sameIdIncluded ? ">=" : ">").append(" :afterId");
+        if (filter.getIsBlocked() != null) {
+            sql.append(" AND is_blocked = :isBlocked");
+            params.addValue("isBlocked", filter.getIsBlocked());
+        }
+        if (filter.getIsSuspicious() != null) {
+            sql.append(" AND is_suspicious = :isSuspicious");
+            params.addValue("isSuspicious", filter.getIsSuspicious());
+        }
+        if (transferIds != null) {
+            sql.append(" AND ").append(prefix).append("_transfer_id IN (:transferIds)");
+            params.addValue("transferIds", transferIds);
+        }
+        sql.append(" ORDER BY id LIMIT :limit");
+        params.addValue("limit", limit);
+        return readOnlyTransaction.execute(status -> jdbcTemplate.query(sql.toString(), params, rowMapper(type)));
+    }
+
+    /**
+     * @return непустые списки id переводов по типу; пустая карта - выборка по всем таблицам
+     */
+    private Map<TransferType, List<Long>> transferIds(SuspiciousActivityFilterDto filter) {
+        final Map<TransferType, List<Long>> transferIds = new EnumMap<>(TransferType.class);
+        putIfPresent(transferIds, TransferType.ACCOUNT, filter.getAccountTransferIds());
+        putIfPresent(transferIds, TransferType.CARD, filter.getCardTransferIds());
+        putIfPresent(transferIds, TransferType.PHONE, filter.getPhoneTransferIds());
+        final int total = transferIds.values().stream().mapToInt(List::size).sum();
+        if (total > maxTransferIds) {
+            throw new ValidationException("За один запрос можно передать не больше " + maxTransferIds +
+                    " id переводов");
+        }
+        return transferIds;
+    }
+
+    private int limit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > maxLimit) {
+            throw new ValidationException("limit должен быть от 1 до " + maxLimit);
+        }
+        return limit;
+    }
+
+    private static void putIfPresent(Map<TransferType, List<Long>> transferIds, TransferType type, List<Long> ids) {
+        if (ids != null && !ids.isEmpty()) {
+            transferIds.put(type, ids);
+        }
+    }
+
+    private static RowMapper<SuspiciousActivityDto> rowMapper(TransferType type) {
+        return (rs, rowNum) -> new SuspiciousActivityDto(type, rs.getLong("id"), rs.getLong("transfer_id"),
+                rs.getBoolean("is_blocked"), rs.getBoolean("is_suspicious"), rs.getString("blocked_reason"),
+                rs.getString("suspicious_reason"), rs.getObject("recipient_number", Long.class));
+    }
+}
@@ -0,0 +1,52 @@
+package com.bank.antifraud.repository;
+
+import com.bank.antifraud.entity.CounterpartySketchEntity;
+import com.bank.antifraud.scoring.TransferType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Репозиторий для {@link CounterpartySketchEntity}
+ */
+@Repository
+public interface CounterpartySketchRepository extends JpaRepository<CounterpartySketchEntity, Long> {
+
+    /**
+     * Строка блокируется до конца транзакции, чтобы оценки разных экземпляров объединялись без потерь
+     *
+     * @param accountDetailsId технический идентификатор счёта отправителя
+     * @param counterpartyType тип получателя
+     * @param bucketStart начало часа
+     * @return оценка за час
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<CounterpartySketchEntity> findByAccountDetailsIdAndCounterpartyTypeAndBucketStart(
+            Long accountDetailsId, TransferType counterpartyType, OffsetDateTime bucketStart);
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта отправителя
+     * @param from начало первого часа
+     * @param to начало последнего часа
+     * @return оценки всех типов получателей за часы окна
+     */
+    List<CounterpartySketchEntity> findAllByAccountDetailsIdAndBucketStartBetween(Long accountDetailsId,
+                                                                                 OffsetDateTime from,
+                                                                                 OffsetDateTime to);
+
+    /**
+     * @param border оценки часов, начавшихся раньше этого момента, удаляются
+     * @return количество удалённых оценок
+     */
+    @Modifying
+    @Query("delete from CounterpartySketchEntity s where s.bucketStart < :border")
+    int deleteAllBucketsBefore(@Param("border") OffsetDateTime border);
+}
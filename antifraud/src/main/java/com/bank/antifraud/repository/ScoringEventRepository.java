@@ -0,0 +1,50 @@
+package com.bank.antifraud.repository;
+
+import com.bank.antifraud.entity.ScoringEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Репозиторий для {@link ScoringEventEntity}
+ */
+public interface ScoringEventRepository extends JpaRepository<ScoringEventEntity, String> {
+
+    /**
+     * @param eventId идентификатор события из X-Event-Id
+     * @param createdAt время получения события
+     * @return 1, если событие пришло впервые, 0, если оно уже обработано или обрабатывается
+     */
+    @Modifying
+    @Query(value = "INSERT INTO anti_fraud.scoring_event (event_id, created_at) VALUES (:eventId, :createdAt) " +
+            "ON CONFLICT (event_id) DO NOTHING", nativeQuery = true)
+    int reserve(@Param("eventId") String eventId, @Param("createdAt") OffsetDateTime createdAt);
+
+    /**
+     * @param eventId идентификатор события из X-Event-Id
+     * @param verdict вердикт скоринга в json
+     * @return количество обновлённых строк
+     */
+    @Modifying
+    @Query("update ScoringEventEntity e set e.verdict = :verdict where e.eventId = :eventId")
+    int complete(@Param("eventId") String eventId, @Param("verdict") String verdict);
+
+    /**
+     * @param eventId идентификатор события из X-Event-Id
+     * @return количество удалённых строк, 0, если вердикт уже сохранён
+     */
+    @Modifying
+    @Query("delete from ScoringEventEntity e where e.eventId = :eventId and e.verdict is null")
+    int deleteReservation(@Param("eventId") String eventId);
+
+    /**
+     * @param border события, полученные раньше этого момента, удаляются
+     * @return количество удалённых событий
+     */
+    @Modifying
+    @Query("delete from ScoringEventEntity e where e.createdAt < :border")
+    int deleteAllCreatedBefore(@Param("border") OffsetDateTime border);
+}
@@ -0,0 +1,19 @@
+package com.bank.antifraud.repository;
+
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Репозиторий для {@link ScoringRuleEntity}
+ */
+@Repository
+public interface ScoringRuleRepository extends JpaRepository<ScoringRuleEntity, Long> {
+
+    /**
+     * @return включённые правила в порядке id
+     */
+    List<ScoringRuleEntity> findAllByIsEnabledTrueOrderById();
+}
@@ -2,11 +2,40 @@ package com.bank.antifraud.repository;
 
 import com.bank.antifraud.entity.SuspiciousAccountTransferEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Репозиторий для {@link SuspiciousAccountTransferEntity}
  */
 @Repository
 public interface SuspiciousAccountTransferRepository extends JpaRepository<SuspiciousAccountTransferEntity, Long> {
+
+    /**
+     * @param accountNumber номер счёта получателя
+     * @return true, если есть заблокированный перевод на этот счёт
+     */
+    boolean existsByAccountNumberAndIsBlockedTrue(Long accountNumber);
+
+    /**
+     * Читается курсором внутри транзакции, без загрузки всей таблицы в память
+     *
+     * @return номера счетов получателей заблокированных переводов
+     */
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.FETCH_SIZE, value = "10000"))
+    @Query("select distinct t.accountNumber from SuspiciousAccountTransferEntity t " +
+            "where t.isBlocked = true and t.accountNumber is not null")
+    Stream<Long> streamBlockedAccountNumbers();
+
+    /**
+     * @param accountTransferIds технические идентификаторы переводов по номеру счёта
+     * @return записи антифрода по этим переводам
+     */
+    List<SuspiciousAccountTransferEntity> findAllByAccountTransferIdIn(Collection<Long> accountTransferIds);
 }
@@ -2,11 +2,32 @@ package com.bank.antifraud.repository;
 
 import com.bank.antifraud.entity.SuspiciousCardTransferEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.stream.Stream;
+
 /**
  * Репозиторий для {@link SuspiciousCardTransferEntity}
  */
 @Repository
 public interface SuspiciousCardTransferRepository extends JpaRepository<SuspiciousCardTransferEntity, Long> {
+
+    /**
+     * @param cardNumber номер карты получателя
+     * @return true, если есть заблокированный перевод на этот карту
+     */
+    boolean existsByCardNumberAndIsBlockedTrue(Long cardNumber);
+
+    /**
+     * Читается курсором внутри транзакции, без загрузки всей таблицы в память
+     *
+     * @return номера карт получателей заблокированных переводов
+     */
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.FETCH_SIZE, value = "10000"))
+    @Query("select distinct t.cardNumber from SuspiciousCardTransferEntity t " +
+            "where t.isBlocked = true and t.cardNumber is not null")
+    Stream<Long> streamBlockedCardNumbers();
 }
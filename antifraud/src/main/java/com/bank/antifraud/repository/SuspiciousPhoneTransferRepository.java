@@ -2,11 +2,32 @@ package com.bank.antifraud.repository;
 
 import com.bank.antifraud.entity.SuspiciousPhoneTransferEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.stream.Stream;
+
 /**
  * Репозиторий для {@link SuspiciousPhoneTransferEntity}
  */
 @Repository
 public interface SuspiciousPhoneTransferRepository extends JpaRepository<SuspiciousPhoneTransferEntity, Long> {
+
+    /**
+     * @param phoneNumber номер телефона получателя
+     * @return true, если есть заблокированный перевод на этот телефон
+     */
+    boolean existsByPhoneNumberAndIsBlockedTrue(Long phoneNumber);
+
+    /**
+     * Читается курсором внутри транзакции, без загрузки всей таблицы в память
+     *
+     * @return номера телефонов получателей заблокированных переводов
+     */
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.FETCH_SIZE, value = "10000"))
+    @Query("select distinct t.phoneNumber from SuspiciousPhoneTransferEntity t " +
+            "where t.isBlocked = true and t.phoneNumber is not null")
+    Stream<Long> streamBlockedPhoneNumbers();
 }
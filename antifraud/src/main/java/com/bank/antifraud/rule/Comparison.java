@@ -0,0 +1,35 @@
+package com.bank.antifraud.rule;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Оператор сравнения в правиле, применяется к результату compareTo значения с порогом
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Comparison {
+    GREATER(">"),
+    GREATER_OR_EQUAL(">="),
+    LESS("<"),
+    LESS_OR_EQUAL("<="),
+    EQUAL("=="),
+    NOT_EQUAL("!=");
+
+    private final String symbol;
+
+    /**
+     * @param compared результат compareTo значения с порогом
+     * @return выполняется ли сравнение
+     */
+    public boolean test(int compared) {
+        return switch (this) {
+            case GREATER -> compared > 0;
+            case GREATER_OR_EQUAL -> compared >= 0;
+            case LESS -> compared < 0;
+            case LESS_OR_EQUAL -> compared <= 0;
+            case EQUAL -> compared == 0;
+            case NOT_EQUAL -> compared != 0;
+        };
+    }
+}
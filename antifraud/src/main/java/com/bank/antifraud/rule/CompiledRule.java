@@ -0,0 +1,34 @@
+package com.bank.antifraud.rule;
+
+import com.bank.antifraud.scoring.ScoringAction;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Правило скоринга, готовое к проверке: source - исходный текст, reason - причина для blockedReason
+ * или suspiciousReason в зависимости от action
+ */
+@Getter
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CompiledRule {
+
+    String source;
+
+    ScoringAction action;
+
+    String reason;
+
+    @Getter(AccessLevel.NONE)
+    RulePredicate condition;
+
+    /**
+     * @param context {@link RuleContext} проверяемого перевода
+     * @return сработало ли правило
+     */
+    public boolean matches(RuleContext context) {
+        return condition.test(context);
+    }
+}
@@ -0,0 +1,248 @@
+package com.bank.antifraud.rule;
+
+import com.bank.antifraud.config.ScoringProperties;
+import com.bank.antifraud.scoring.ScoringAction;
+import com.bank.antifraud.scoring.ScoringMetric;
+import com.bank.antifraud.scoring.VelocityKeyType;
+import com.bank.antifraud.scoring.VelocityWindow;
+import com.bank.common.exception.ValidationException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Компиляция правил скоринга в замыкания {@link RulePredicate}: текст разбирается один раз при загрузке,
+ * проверка перевода - только вызовы лямбд без разбора и поиска по именам.
+ * Грамматика, ключевые слова без учёта регистра:
+ * <pre>
+ * rule       = or "->" ("block" | "suspicious") "причина в кавычках"
+ * or         = and {"or" and}
+ * and        = not {"and" not}
+ * not        = "not" not | "(" or ")" | comparison
+ * comparison = operand (">" | ">=" | "<" | "<=" | "==" | "!=") число
+ * operand    = "amount" | ("count" | "velocity" | "sum") "(" ключ "," окно ")"
+ * ключ       = sender | account | card | phone
+ * окно       = 1m | minute | 1h | hour | 1d | day
+ * </pre>
+ * Пример: {@code amount > 100000 and velocity(card, 1h) > 5 -> block "velocity"}.
+ * count и velocity - количество переводов ключа в окне, sum - их сумма в целых единицах, порог для них целый.
+ */
+public final class RuleCompiler {
+
+    private static final String ARROW = "->";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+    private static final String QUOTE = "\"";
+    private static final String COMPARISON_EXPECTED = "ожидается оператор сравнения";
+    private static final Pattern TOKEN = Pattern.compile("\\s*(->|>=|<=|==|!=|[<>(),]|\"[^\"]*\"|[\\p{L}0-9_.]+)");
+    private static final Map<String, Comparison> COMPARISONS = Arrays.stream(Comparison.values())
+            .collect(Collectors.toMap(Comparison::getSymbol, Function.identity()));
+    private static final Map<String, VelocityKeyType> KEYS = Arrays.stream(VelocityKeyType.values())
+            .collect(Collectors.toMap(key -> key.name().toLowerCase(Locale.ROOT), Function.identity()));
+    private static final Map<String, VelocityWindow> WINDOWS = Map.of(
+            "1m", VelocityWindow.MINUTE, "minute", VelocityWindow.MINUTE,
+            "1h", VelocityWindow.HOUR, "hour", VelocityWindow.HOUR,
+            "1d", VelocityWindow.DAY, "day", VelocityWindow.DAY);
+    private static final Map<String, ScoringAction> ACTIONS = Map.of(
+            "block", ScoringAction.BLOCK, "suspicious", ScoringAction.SUSPICIOUS);
+
+    private RuleCompiler() {
+    }
+
+    /**
+     * @param source текст правила
+     * @return {@link CompiledRule}
+     * @throws ValidationException если в тексте ошибка
+     */
+    public static CompiledRule compile(String source) {
+        if (source == null || source.isBlank()) {
+            throw new ValidationException("Текст правила не может быть пустым");
+        }
+        return new Parser(source, tokenize(source)).rule();
+    }
+
+    /**
+     * Правило из antifraud.scoring.rules: значение metric больше threshold
+     *
+     * @param rule {@link ScoringProperties.Rule}
+     * @return {@link CompiledRule}
+     */
+    public static CompiledRule compile(ScoringProperties.Rule rule) {
+        final BigDecimal threshold = rule.getThreshold();
+        if (rule.getMetric() == ScoringMetric.AMOUNT) {
+            return new CompiledRule(rule.getName(), rule.getAction(), rule.getName(),
+                    context -> context.getAmount().compareTo(threshold) > 0);
+        }
+        final VelocityKeyType key = rule.getKey();
+        final VelocityWindow window = rule.getWindow();
+        final long bound = threshold.setScale(0, RoundingMode.FLOOR).longValue();
+        final RulePredicate condition = rule.getMetric() == ScoringMetric.COUNT ?
+                context -> context.count(key, window) > bound :
+                context -> context.sum(key, window) > bound;
+        return new CompiledRule(rule.getName(), rule.getAction(), rule.getName(), condition);
+    }
+
+    private static List<String> tokenize(String source) {
+        final List<String> tokens = new ArrayList<>();
+        final Matcher matcher = TOKEN.matcher(source);
+        int position = 0;
+        while (position < source.length() && !source.substring(position).isBlank()) {
+            if (!matcher.region(position, source.length()).lookingAt()) {
+                throw error(source, "непонятный текст с позиции " + (position + 1));
+            }
+            final String token = matcher.group(1);
+            tokens.add(token.startsWith(QUOTE) ? token : token.toLowerCase(Locale.ROOT));
+            position = matcher.end();
+        }
+        return tokens;
+    }
+
+    private static ValidationException error(String source, String message) {
+        return new ValidationException("Ошибка в правиле «" + source + "»: " + message);
+    }
+
+    /**
+     * Разбор рекурсивным спуском, каждое правило грамматики сразу возвращает замыкание
+     */
+    private static final class Parser {
+
+        private final String source;
+        private final List<String> tokens;
+        private int position;
+
+        private Parser(String source, List<String> tokens) {
+            this.source = source;
+            this.tokens = tokens;
+        }
+
+        private CompiledRule rule() {
+            final RulePredicate condition = or();
+            expect(ARROW);
+            final ScoringAction action = lookup(ACTIONS, "после -> ожидается block или suspicious");
+            final String reason = next();
+            if (!reason.startsWith(QUOTE) || reason.length() < 3) {
+                throw error("ожидается непустая причина в кавычках");
+            }
+            if (position < tokens.size()) {
+                throw error("лишний текст после причины: " + tokens.get(position));
+            }
+            return new CompiledRule(source, action, reason.substring(1, reason.length() - 1), condition);
+        }
+
+        private RulePredicate or() {
+            RulePredicate result = and();
+            while (accept("or")) {
+                final RulePredicate left = result;
+                final RulePredicate right = and();
+                result = context -> left.test(context) || right.test(context);
+            }
+            return result;
+        }
+
+        private RulePredicate and() {
+            RulePredicate result = not();
+            while (accept("and")) {
+                final RulePredicate left = result;
+                final RulePredicate right = not();
+                result = context -> left.test(context) && right.test(context);
+            }
+            return result;
+        }
+
+        private RulePredicate not() {
+            if (accept("not")) {
+                final RulePredicate negated = not();
+                return context -> !negated.test(context);
+            }
+            if (accept(OPEN)) {
+                final RulePredicate grouped = or();
+                expect(CLOSE);
+                return grouped;
+            }
+            return comparison();
+        }
+
+        private RulePredicate comparison() {
+            final String operand = next();
+            if ("amount".equals(operand)) {
+                final Comparison comparison = lookup(COMPARISONS, COMPARISON_EXPECTED);
+                final BigDecimal threshold = number();
+                return context -> comparison.test(context.getAmount().compareTo(threshold));
+            }
+            final boolean sum = "sum".equals(operand);
+            if (!sum && !"count".equals(operand) && !"velocity".equals(operand)) {
+                throw error("ожидается amount, count, velocity или sum вместо " + operand);
+            }
+            expect(OPEN);
+            final VelocityKeyType key = lookup(KEYS, "ожидается ключ sender, account, card или phone");
+            expect(",");
+            final VelocityWindow window = lookup(WINDOWS, "ожидается окно 1m, 1h или 1d");
+            expect(CLOSE);
+            final Comparison comparison = lookup(COMPARISONS, COMPARISON_EXPECTED);
+            final long bound = wholeNumber();
+            return sum ?
+                    context -> comparison.test(Long.compare(context.sum(key, window), bound)) :
+                    context -> comparison.test(Long.compare(context.count(key, window), bound));
+        }
+
+        private BigDecimal number() {
+            final String token = next();
+            try {
+                return new BigDecimal(token);
+            } catch (NumberFormatException exception) {
+                throw error("ожидается число вместо " + token);
+            }
+        }
+
+        private long wholeNumber() {
+            final BigDecimal number = number();
+            try {
+                return number.longValueExact();
+            } catch (ArithmeticException exception) {
+                throw error("порог для count, velocity и sum должен быть целым: " + number);
+            }
+        }
+
+        private <T> T lookup(Map<String, T> values, String message) {
+            final T value = values.get(next());
+            if (value == null) {
+                throw error(message);
+            }
+            return value;
+        }
+
+        private boolean accept(String token) {
+            if (position < tokens.size() && tokens.get(position).equals(token)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(String token) {
+            if (!accept(token)) {
+                throw error("ожидается " + token);
+            }
+        }
+
+        private String next() {
+            if (position == tokens.size()) {
+                throw error("правило не закончено");
+            }
+            return tokens.get(position++);
+        }
+
+        private ValidationException error(String message) {
+            return RuleCompiler.error(source, message);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.bank.antifraud.rule;
+
+import com.bank.antifraud.scoring.VelocityCounter;
+import com.bank.antifraud.scoring.VelocityKeyType;
+import com.bank.antifraud.scoring.VelocityWindow;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Данные перевода для проверки правилами. Значения счётчиков считаются при первом обращении
+ * и запоминаются: сотни правил с одинаковым count(card, 1h) обходят корзины счётчика один раз.
+ * Ключ без счётчика, например карта у перевода по номеру телефона, даёт 0. Не потокобезопасен.
+ */
+public final class RuleContext {
+
+    private static final int WINDOWS = VelocityWindow.values().length;
+
+    private final BigDecimal amount;
+    private final Map<VelocityKeyType, VelocityCounter> counters;
+    private final long nowMs;
+    private final long[] values = new long[VelocityKeyType.values().length * WINDOWS * 2];
+    private long computed;
+
+    /**
+     * @param amount сумма перевода
+     * @param counters счётчики ключей перевода
+     * @param nowMs время перевода
+     */
+    public RuleContext(BigDecimal amount, Map<VelocityKeyType, VelocityCounter> counters, long nowMs) {
+        this.amount = amount;
+        this.counters = counters;
+        this.nowMs = nowMs;
+    }
+
+    /**
+     * @return сумма перевода
+     */
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    /**
+     * @param key {@link VelocityKeyType}
+     * @param window {@link VelocityWindow}
+     * @return количество переводов ключа в окне
+     */
+    public long count(VelocityKeyType key, VelocityWindow window) {
+        return velocity(key, window, false);
+    }
+
+    /**
+     * @param key {@link VelocityKeyType}
+     * @param window {@link VelocityWindow}
+     * @return сумма переводов ключа в окне в целых единицах
+     */
+    public long sum(VelocityKeyType key, VelocityWindow window) {
+        return velocity(key, window, true);
+    }
+
+    private long velocity(VelocityKeyType key, VelocityWindow window, boolean sum) {
+        final int slot = (key.ordinal() * WINDOWS + window.ordinal()) * 2 + (sum ? 1 : 0);
+        final long bit = 1L << slot;
+        if ((computed & bit) == 0) {
+            final VelocityCounter counter = counters.get(key);
+            if (counter != null) {
+                values[slot] = sum ? counter.sum(window, nowMs) : counter.count(window, nowMs);
+            }
+            computed |= bit;
+        }
+        return values[slot];
+    }
+}
@@ -0,0 +1,14 @@
+package com.bank.antifraud.rule;
+
+/**
+ * Скомпилированное условие правила
+ */
+@FunctionalInterface
+public interface RulePredicate {
+
+    /**
+     * @param context {@link RuleContext} проверяемого перевода
+     * @return выполняется ли условие
+     */
+    boolean test(RuleContext context);
+}
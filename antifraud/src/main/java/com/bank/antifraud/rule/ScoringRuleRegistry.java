@@ -0,0 +1,79 @@
+package com.bank.antifraud.rule;
+
+import com.bank.antifraud.config.ScoringProperties;
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import com.bank.antifraud.repository.ScoringRuleRepository;
+import com.bank.common.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Скомпилированные правила скоринга: сначала правила из antifraud.scoring.rules, затем включённые правила
+ * таблицы scoring_rule в порядке id. Таблица перечитывается по расписанию, правила перекомпилируются
+ * только если их тексты изменились, и заменяются целиком одной записью в volatile-поле:
+ * скоринг не ждёт перезагрузку и видит либо старый, либо новый набор. Правило с ошибкой пропускается.
+ */
+@Slf4j
+@Component
+public class ScoringRuleRegistry {
+
+    private final List<CompiledRule> propertyRules = new ArrayList<>();
+    private final ScoringRuleRepository repository;
+    private final TransactionTemplate readOnlyTransaction;
+    private Map<Long, String> expressions = Map.of();
+    private volatile List<CompiledRule> rules;
+
+    public ScoringRuleRegistry(ScoringProperties properties, ScoringRuleRepository repository,
+                               PlatformTransactionManager transactionManager) {
+        properties.getRules().forEach(rule -> propertyRules.add(RuleCompiler.compile(rule)));
+        this.repository = repository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rules = List.copyOf(propertyRules);
+    }
+
+    /**
+     * @return текущий набор правил, список не изменяется
+     */
+    public List<CompiledRule> rules() {
+        return rules;
+    }
+
+    /**
+     * Перечитывает включённые правила из scoring_rule
+     */
+    @Scheduled(fixedDelayString = "${antifraud.rules.reload-delay-ms:30000}")
+    public synchronized void reload() {
+        final Map<Long, String> loaded = readOnlyTransaction.execute(status -> {
+            final Map<Long, String> result = new LinkedHashMap<>();
+            for (ScoringRuleEntity rule : repository.findAllByIsEnabledTrueOrderById()) {
+                result.put(rule.getId(), rule.getExpression());
+            }
+            return result;
+        });
+        if (loaded == null || loaded.equals(expressions)) {
+            return;
+        }
+        final long startedAt = System.nanoTime();
+        final List<CompiledRule> compiled = new ArrayList<>(propertyRules);
+        loaded.forEach((id, expression) -> {
+            try {
+                compiled.add(RuleCompiler.compile(expression));
+            } catch (ValidationException exception) {
+                log.warn("Правило скоринга с id = {} пропущено: {}", id, exception.getMessage());
+            }
+        });
+        rules = List.copyOf(compiled);
+        expressions = loaded;
+        log.info("Правила скоринга перезагружены: {} правил за {} мкс", compiled.size(),
+                (System.nanoTime() - startedAt) / 1000);
+    }
+}
@@ -0,0 +1,9 @@
+package com.bank.antifraud.scoring;
+
+/**
+ * Результат срабатывания правила
+ */
+public enum ScoringAction {
+    SUSPICIOUS,
+    BLOCK
+}
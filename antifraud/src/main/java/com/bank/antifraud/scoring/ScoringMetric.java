@@ -0,0 +1,10 @@
+package com.bank.antifraud.scoring;
+
+/**
+ * Что сравнивает правило с порогом: количество или сумму переводов в окне, либо сумму текущего перевода
+ */
+public enum ScoringMetric {
+    COUNT,
+    SUM,
+    AMOUNT
+}
@@ -0,0 +1,17 @@
+package com.bank.antifraud.scoring;
+
+/**
+ * Тип перевода, определяет таблицу для вердикта и ключ получателя {@link VelocityKeyType}
+ */
+public enum TransferType {
+    ACCOUNT,
+    CARD,
+    PHONE;
+
+    /**
+     * @return {@link VelocityKeyType} получателя перевода
+     */
+    public VelocityKeyType targetKey() {
+        return VelocityKeyType.valueOf(name());
+    }
+}
@@ -0,0 +1,95 @@
+package com.bank.antifraud.scoring;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Количество и сумма переводов по одному ключу в окнах {@link VelocityWindow}.
+ * Каждая корзина - одно long: 16 бит номера периода, 16 бит количества и 32 бита суммы в целых единицах,
+ * поэтому запись - один CAS без блокировок. Количество и сумма в корзине насыщаются на максимуме.
+ * Занимает около 370 байт: 42 корзины по 8 байт и заголовки объектов.
+ */
+public class VelocityCounter {
+
+    private static final int TAG_SHIFT = 48;
+    private static final int COUNT_SHIFT = 32;
+    private static final long MASK_16 = 0xFFFFL;
+    private static final long MASK_32 = 0xFFFFFFFFL;
+    private static final VelocityWindow[] WINDOWS = VelocityWindow.values();
+
+    private final AtomicLongArray buckets = new AtomicLongArray(VelocityWindow.TOTAL_BUCKETS);
+
+    private volatile long lastSeenMs;
+
+    /**
+     * @param amount сумма перевода в целых единицах
+     * @param nowMs текущее время
+     */
+    public void add(long amount, long nowMs) {
+        final long clamped = Math.min(Math.max(amount, 0L), MASK_32);
+        for (VelocityWindow window : WINDOWS) {
+            final long period = nowMs / window.getBucketMs();
+            final int index = window.getOffset() + (int) (period % window.getBuckets());
+            final long tag = period & MASK_16;
+            long current;
+            long next;
+            do {
+                current = buckets.get(index);
+                next = tag(current) == tag ? increment(current, clamped) : pack(tag, 1L, clamped);
+            } while (!buckets.compareAndSet(index, current, next));
+        }
+        lastSeenMs = nowMs;
+    }
+
+    /**
+     * @param window {@link VelocityWindow}
+     * @param nowMs текущее время
+     * @return количество переводов в окне
+     */
+    public long count(VelocityWindow window, long nowMs) {
+        return aggregate(window, nowMs, true);
+    }
+
+    /**
+     * @param window {@link VelocityWindow}
+     * @param nowMs текущее время
+     * @return сумма переводов в окне в целых единицах
+     */
+    public long sum(VelocityWindow window, long nowMs) {
+        return aggregate(window, nowMs, false);
+    }
+
+    /**
+     * @return время последнего перевода по ключу
+     */
+    public long getLastSeenMs() {
+        return lastSeenMs;
+    }
+
+    private long aggregate(VelocityWindow window, long nowMs, boolean count) {
+        final long period = nowMs / window.getBucketMs();
+        final int size = window.getBuckets();
+        long total = 0;
+        for (int slot = 0; slot < size; slot++) {
+            final long slotPeriod = period - Math.floorMod(period - slot, size);
+            final long bucket = buckets.get(window.getOffset() + slot);
+            if (tag(bucket) == (slotPeriod & MASK_16)) {
+                total += count ? (bucket >>> COUNT_SHIFT) & MASK_16 : bucket & MASK_32;
+            }
+        }
+        return total;
+    }
+
+    private static long tag(long bucket) {
+        return bucket >>> TAG_SHIFT;
+    }
+
+    private static long increment(long bucket, long amount) {
+        final long count = Math.min(((bucket >>> COUNT_SHIFT) & MASK_16) + 1, MASK_16);
+        final long sum = Math.min((bucket & MASK_32) + amount, MASK_32);
+        return pack(tag(bucket), count, sum);
+    }
+
+    private static long pack(long tag, long count, long sum) {
+        return tag << TAG_SHIFT | count << COUNT_SHIFT | sum;
+    }
+}
@@ -0,0 +1,12 @@
+package com.bank.antifraud.scoring;
+
+/**
+ * По чему считаются счётчики {@link VelocityCounter}: отправитель (accountDetailsId)
+ * или получатель перевода по номеру счёта, карты или телефона.
+ */
+public enum VelocityKeyType {
+    SENDER,
+    ACCOUNT,
+    CARD,
+    PHONE
+}
@@ -0,0 +1,67 @@
+package com.bank.antifraud.scoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Хранилище {@link VelocityCounter} по {@link VelocityKeyType} и значению ключа.
+ * Ключи без переводов дольше суток и idle-ttl удаляются по расписанию.
+ */
+@Slf4j
+@Component
+public class VelocityStore {
+
+    private final Map<VelocityKeyType, Map<Long, VelocityCounter>> counters = new EnumMap<>(VelocityKeyType.class);
+    private final long idleTtlMs;
+
+    public VelocityStore(MeterRegistry registry,
+                         @Value("${antifraud.scoring.idle-ttl-ms:86400000}") long idleTtlMs) {
+        this.idleTtlMs = Math.max(idleTtlMs, VelocityWindow.DAY.getBucketMs() * VelocityWindow.DAY.getBuckets());
+        for (VelocityKeyType type : VelocityKeyType.values()) {
+            counters.put(type, new ConcurrentHashMap<>());
+        }
+        Gauge.builder("antifraud.velocity.keys", this, VelocityStore::size).register(registry);
+    }
+
+    /**
+     * @param type {@link VelocityKeyType}
+     * @param key значение ключа, при null перевод не учитывается
+     * @param amount сумма перевода в целых единицах
+     * @param nowMs текущее время
+     * @return {@link VelocityCounter} ключа или null, если ключа нет
+     */
+    public VelocityCounter record(VelocityKeyType type, Long key, long amount, long nowMs) {
+        if (key == null) {
+            return null;
+        }
+        final VelocityCounter counter = counters.get(type).computeIfAbsent(key, ignored -> new VelocityCounter());
+        counter.add(amount, nowMs);
+        return counter;
+    }
+
+    /**
+     * @return количество отслеживаемых ключей
+     */
+    public long size() {
+        return counters.values().stream().mapToLong(Map::size).sum();
+    }
+
+    /**
+     * Удаляет ключи без переводов дольше idle-ttl
+     */
+    @Scheduled(fixedDelayString = "${antifraud.scoring.eviction-delay-ms:600000}")
+    public void evictIdle() {
+        final long border = System.currentTimeMillis() - idleTtlMs;
+        final long before = size();
+        counters.values().forEach(map -> map.values().removeIf(counter -> counter.getLastSeenMs() < border));
+        log.info("Удалено неактивных ключей антифрода: {}", before - size());
+    }
+}
@@ -0,0 +1,25 @@
+package com.bank.antifraud.scoring;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Скользящие окна счётчиков {@link VelocityCounter}: окно из buckets корзин по bucketMs миллисекунд,
+ * offset - номер первой корзины окна в общем массиве.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum VelocityWindow {
+    MINUTE(10_000L, 6, 0),
+    HOUR(300_000L, 12, 6),
+    DAY(3_600_000L, 24, 18);
+
+    /**
+     * Общее количество корзин всех окон
+     */
+    public static final int TOTAL_BUCKETS = 42;
+
+    private final long bucketMs;
+    private final int buckets;
+    private final int offset;
+}
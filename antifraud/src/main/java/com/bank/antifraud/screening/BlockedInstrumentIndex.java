@@ -0,0 +1,186 @@
+package com.bank.antifraud.screening;
+
+import com.bank.antifraud.scoring.TransferType;
+import com.bank.common.collection.LongBloomFilter;
+import com.bank.common.collection.LongHashSet;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Номера счетов, карт и телефонов получателей заблокированных переводов.
+ * Для каждого типа перевода проверка идёт сначала по фильтру Блума без блокировок: большинство номеров
+ * не заблокированы, и ответ «нет» получается за несколько чтений памяти. Положительный ответ фильтра
+ * подтверждается точным множеством {@link LongHashSet} под блокировкой чтения.
+ * Снятая блокировка удаляется из точного множества, бит в фильтре остаётся до перезапуска
+ * и только увеличивает долю проверок точного множества.
+ * Изменения из create и update применяются после коммита транзакции, как у гео-индексов.
+ */
+public class BlockedInstrumentIndex {
+
+    private final Map<TransferType, Instruments> instruments = new EnumMap<>(TransferType.class);
+    private volatile boolean loaded;
+
+    /**
+     * @param expectedEntries ожидаемое количество номеров каждого типа, по нему считается размер фильтра
+     * @param falsePositiveRate доля ложных срабатываний фильтра
+     */
+    public BlockedInstrumentIndex(long expectedEntries, double falsePositiveRate) {
+        for (TransferType type : TransferType.values()) {
+            instruments.put(type, new Instruments(new LongBloomFilter(expectedEntries, falsePositiveRate)));
+        }
+    }
+
+    /**
+     * @param type тип перевода: счёт, карта или телефон получателя
+     * @param number номер получателя
+     * @return true, если на этот номер был заблокированный перевод
+     * @throws IllegalStateException пока индекс не заполнен при старте
+     */
+    public boolean isBlocked(TransferType type, long number) {
+        if (!loaded) {
+            throw new IllegalStateException("Индекс заблокированных получателей ещё загружается");
+        }
+        final Instruments typed = instruments.get(type);
+        if (!typed.filter.mightContain(number)) {
+            return false;
+        }
+        typed.lock.readLock().lock();
+        try {
+            return typed.exact.contains(number);
+        } finally {
+            typed.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Добавляет номер сразу, без ожидания транзакции; используется при заполнении индекса
+     *
+     * @param type тип перевода
+     * @param number номер получателя заблокированного перевода
+     */
+    public void add(TransferType type, long number) {
+        final Instruments typed = instruments.get(type);
+        typed.lock.writeLock().lock();
+        try {
+            typed.exact.add(number);
+        } finally {
+            typed.lock.writeLock().unlock();
+        }
+        typed.filter.add(number);
+    }
+
+    /**
+     * Отмечает индекс заполненным, после этого он отвечает на проверки
+     */
+    public void markLoaded() {
+        loaded = true;
+    }
+
+    /**
+     * @param type тип перевода
+     * @param number номер получателя сохранённого перевода
+     * @param blocked заблокирован ли перевод
+     */
+    public void created(TransferType type, Long number, Boolean blocked) {
+        if (number != null && Boolean.TRUE.equals(blocked)) {
+            afterCommit(() -> add(type, number));
+        }
+    }
+
+    /**
+     * Номер снимается с блокировки, только если на него не осталось других заблокированных переводов
+     *
+     * @param type тип перевода
+     * @param numberBefore номер получателя до изменения
+     * @param blockedBefore был ли перевод заблокирован
+     * @param number номер получателя после изменения
+     * @param blocked заблокирован ли перевод после изменения
+     * @param blockedInDatabase есть ли в базе заблокированный перевод на номер
+     */
+    public void updated(TransferType type, Long numberBefore, Boolean blockedBefore, Long number, Boolean blocked,
+                        Predicate<Long> blockedInDatabase) {
+        final boolean blockedAfter = number != null && Boolean.TRUE.equals(blocked);
+        final boolean released = numberBefore != null && Boolean.TRUE.equals(blockedBefore) &&
+                !(blockedAfter && numberBefore.equals(number)) && !blockedInDatabase.test(numberBefore);
+        if (released || blockedAfter) {
+            afterCommit(() -> {
+                if (released) {
+                    remove(type, numberBefore);
+                }
+                if (blockedAfter) {
+                    add(type, number);
+                }
+            });
+        }
+    }
+
+    /**
+     * @param type тип перевода
+     * @return количество заблокированных номеров
+     */
+    public int size(TransferType type) {
+        final Instruments typed = instruments.get(type);
+        typed.lock.readLock().lock();
+        try {
+            return typed.exact.size();
+        } finally {
+            typed.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param type тип перевода
+     * @return память фильтра и точного множества в байтах
+     */
+    public long memoryBytes(TransferType type) {
+        final Instruments typed = instruments.get(type);
+        typed.lock.readLock().lock();
+        try {
+            return typed.filter.memoryBytes() + typed.exact.memoryBytes();
+        } finally {
+            typed.lock.readLock().unlock();
+        }
+    }
+
+    private void remove(TransferType type, long number) {
+        final Instruments typed = instruments.get(type);
+        typed.lock.writeLock().lock();
+        try {
+            typed.exact.remove(number);
+        } finally {
+            typed.lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * Фильтр и точное множество номеров одного типа
+     */
+    private static final class Instruments {
+        private final LongBloomFilter filter;
+        private final LongHashSet exact = new LongHashSet();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private Instruments(LongBloomFilter filter) {
+            this.filter = filter;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.bank.antifraud.screening;
+
+import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
+import com.bank.antifraud.repository.SuspiciousCardTransferRepository;
+import com.bank.antifraud.repository.SuspiciousPhoneTransferRepository;
+import com.bank.antifraud.scoring.TransferType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * Заполняет {@link BlockedInstrumentIndex} при старте, читая номера заблокированных переводов курсором.
+ * Дальше индекс обновляется при создании и изменении подозрительных переводов.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlockedInstrumentLoader {
+
+    private static final long BYTES_PER_MB = 1024 * 1024;
+    private static final long MILLION = 1_000_000;
+
+    private final SuspiciousAccountTransferRepository accountTransferRepository;
+    private final SuspiciousCardTransferRepository cardTransferRepository;
+    private final SuspiciousPhoneTransferRepository phoneTransferRepository;
+    private final BlockedInstrumentIndex index;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        final long startedAt = System.currentTimeMillis();
+        load(TransferType.ACCOUNT, accountTransferRepository.streamBlockedAccountNumbers());
+        load(TransferType.CARD, cardTransferRepository.streamBlockedCardNumbers());
+        load(TransferType.PHONE, phoneTransferRepository.streamBlockedPhoneNumbers());
+        index.markLoaded();
+        log.info("Индекс заблокированных получателей заполнен за {} мс", System.currentTimeMillis() - startedAt);
+    }
+
+    private void load(TransferType type, Stream<Long> numbers) {
+        try (numbers) {
+            numbers.forEach(number -> index.add(type, number));
+        }
+        final int size = index.size(type);
+        final long memory = index.memoryBytes(type);
+        log.info("Заблокированных получателей {}: {}, память {} МБ, {} МБ на миллион", type, size,
+                memory / BYTES_PER_MB, size == 0 ? 0 : memory * MILLION / size / BYTES_PER_MB);
+    }
+}
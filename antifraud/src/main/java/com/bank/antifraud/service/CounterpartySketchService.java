@@ -0,0 +1,19 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.dto.CounterpartyCountDto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Сервис оценок количества разных получателей переводов счёта
+ */
+public interface CounterpartySketchService {
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта отправителя
+     * @param from начало окна
+     * @param to конец окна, по умолчанию - текущий момент
+     * @return {@link CounterpartyCountDto}
+     */
+    CounterpartyCountDto count(Long accountDetailsId, OffsetDateTime from, OffsetDateTime to);
+}
@@ -0,0 +1,17 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.dto.ScoringVerdictDto;
+import com.bank.antifraud.dto.TransferScoringDto;
+
+/**
+ * Скоринг событий о переводах с отбрасыванием повторной доставки
+ */
+public interface ScoringEventService {
+
+    /**
+     * @param eventId значение заголовка X-Event-Id, без него перевод просто проверяется
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link ScoringVerdictDto}, для повтора события - вердикт первой доставки
+     */
+    ScoringVerdictDto score(String eventId, TransferScoringDto transfer);
+}
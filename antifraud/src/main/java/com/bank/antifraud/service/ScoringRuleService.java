@@ -0,0 +1,29 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.dto.ScoringRuleDto;
+import com.bank.antifraud.entity.ScoringRuleEntity;
+
+/**
+ * Сервис для {@link ScoringRuleEntity}
+ */
+public interface ScoringRuleService {
+
+    /**
+     * @param rule {@link ScoringRuleDto}
+     * @return {@link ScoringRuleDto}
+     */
+    ScoringRuleDto create(ScoringRuleDto rule);
+
+    /**
+     * @param id технический идентификатор {@link ScoringRuleEntity}
+     * @return {@link ScoringRuleDto}
+     */
+    ScoringRuleDto read(Long id);
+
+    /**
+     * @param rule {@link ScoringRuleDto}
+     * @param id технический идентификатор {@link ScoringRuleEntity}
+     * @return {@link ScoringRuleDto}
+     */
+    ScoringRuleDto update(ScoringRuleDto rule, Long id);
+}
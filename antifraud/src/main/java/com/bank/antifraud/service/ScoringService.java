@@ -0,0 +1,16 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.dto.ScoringVerdictDto;
+import com.bank.antifraud.dto.TransferScoringDto;
+
+/**
+ * Сервис скоринга переводов
+ */
+public interface ScoringService {
+
+    /**
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link ScoringVerdictDto}
+     */
+    ScoringVerdictDto score(TransferScoringDto transfer);
+}
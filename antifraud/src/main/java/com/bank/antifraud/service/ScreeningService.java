@@ -0,0 +1,17 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.dto.ScreeningDto;
+import com.bank.antifraud.scoring.TransferType;
+
+/**
+ * Сервис проверки получателя перевода по заблокированным ранее номерам
+ */
+public interface ScreeningService {
+
+    /**
+     * @param transferType тип перевода
+     * @param number номер счёта, карты или телефона получателя
+     * @return {@link ScreeningDto}
+     */
+    ScreeningDto screen(TransferType transferType, Long number);
+}
@@ -0,0 +1,23 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.dto.SuspiciousActivityFilterDto;
+import com.bank.antifraud.dto.SuspiciousActivityPageDto;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Сервис общей выборки подозрительных переводов по счёту, карте и телефону
+ */
+public interface SuspiciousActivityService {
+
+    /**
+     * @param filter {@link SuspiciousActivityFilterDto}
+     * @return {@link SuspiciousActivityPageDto}
+     */
+    SuspiciousActivityPageDto query(SuspiciousActivityFilterDto filter);
+
+    /**
+     * @param filter {@link SuspiciousActivityFilterDto}, limit не учитывается
+     * @return {@link StreamingResponseBody} с выгрузкой в NDJSON
+     */
+    StreamingResponseBody stream(SuspiciousActivityFilterDto filter);
+}
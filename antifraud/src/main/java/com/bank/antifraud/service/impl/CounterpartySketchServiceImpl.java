@@ -0,0 +1,72 @@
+package com.bank.antifraud.service.impl;
+
+import com.bank.antifraud.dto.CounterpartyCountDto;
+import com.bank.antifraud.entity.CounterpartySketchEntity;
+import com.bank.antifraud.repository.CounterpartySketchRepository;
+import com.bank.antifraud.scoring.TransferType;
+import com.bank.antifraud.service.CounterpartySketchService;
+import com.bank.antifraud.sketch.CounterpartySketchStore;
+import com.bank.antifraud.sketch.HyperLogLog;
+import com.bank.common.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Реализация {@link CounterpartySketchService}.
+ * Окно расширяется до целых часов: часовые оценки из counterparty_sketch объединяются с ещё не записанными
+ * оценками {@link CounterpartySketchStore}, результат - оценка разных получателей за всё окно, а не сумма по часам.
+ */
+@Service
+public class CounterpartySketchServiceImpl implements CounterpartySketchService {
+
+    private final CounterpartySketchRepository repository;
+    private final CounterpartySketchStore store;
+    private final int maxWindowHours;
+
+    public CounterpartySketchServiceImpl(CounterpartySketchRepository repository, CounterpartySketchStore store,
+                                         @Value("${antifraud.sketch.max-window-hours:2160}") int maxWindowHours) {
+        this.repository = repository;
+        this.store = store;
+        this.maxWindowHours = maxWindowHours;
+    }
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта отправителя
+     * @param from начало окна
+     * @param to конец окна, по умолчанию - текущий момент
+     * @return {@link CounterpartyCountDto}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CounterpartyCountDto count(Long accountDetailsId, OffsetDateTime from, OffsetDateTime to) {
+        if (accountDetailsId == null || from == null) {
+            throw new ValidationException("Для оценки получателей нужны accountDetailsId и from");
+        }
+        final OffsetDateTime end = to == null ? OffsetDateTime.now() : to;
+        final long fromHour = CounterpartySketchStore.hour(from.toInstant().toEpochMilli());
+        final long toHour = CounterpartySketchStore.hour(end.toInstant().toEpochMilli() - 1);
+        if (toHour < fromHour || toHour - fromHour >= maxWindowHours) {
+            throw new ValidationException("Окно оценки должно быть от 1 до " + maxWindowHours + " часов");
+        }
+        final Map<TransferType, HyperLogLog> sketches = new EnumMap<>(TransferType.class);
+        for (TransferType type : TransferType.values()) {
+            sketches.put(type, new HyperLogLog(store.getPrecision()));
+        }
+        final List<CounterpartySketchEntity> buckets = repository.findAllByAccountDetailsIdAndBucketStartBetween(
+                accountDetailsId, CounterpartySketchStore.bucketStart(fromHour),
+                CounterpartySketchStore.bucketStart(toHour));
+        for (CounterpartySketchEntity bucket : buckets) {
+            sketches.get(bucket.getCounterpartyType()).merge(HyperLogLog.fromBytes(bucket.getSketch()));
+        }
+        store.mergePending(accountDetailsId, fromHour, toHour, sketches);
+        return new CounterpartyCountDto(accountDetailsId, CounterpartySketchStore.bucketStart(fromHour),
+                CounterpartySketchStore.bucketStart(toHour + 1), sketches.get(TransferType.ACCOUNT).estimate(),
+                sketches.get(TransferType.CARD).estimate(), sketches.get(TransferType.PHONE).estimate());
+    }
+}
@@ -0,0 +1,113 @@
+package com.bank.antifraud.service.impl;
+
+import com.bank.antifraud.dto.ScoringVerdictDto;
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.entity.ScoringEventEntity;
+import com.bank.antifraud.repository.ScoringEventRepository;
+import com.bank.antifraud.service.ScoringEventService;
+import com.bank.antifraud.service.ScoringService;
+import com.bank.common.exception.ConflictException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/**
+ * Реализация {@link ScoringEventService}.
+ * Событие занимается вставкой в scoring_event до скоринга, поэтому повтор после таймаута или с другого
+ * экземпляра не учитывается в счётчиках второй раз и не создаёт второй подозрительный перевод:
+ * он получает сохранённый вердикт или 409, пока первая доставка ещё проверяется.
+ * События старше event-retention-hours удаляются.
+ */
+@Slf4j
+@Service
+public class ScoringEventServiceImpl implements ScoringEventService {
+
+    private static final String IN_PROGRESS = "Событие с этим X-Event-Id ещё проверяется";
+
+    private final ScoringService scoringService;
+    private final ScoringEventRepository repository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transaction;
+    private final Duration retention;
+
+    public ScoringEventServiceImpl(ScoringService scoringService, ScoringEventRepository repository,
+                                   ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                                   @Value("${antifraud.scoring.event-retention-hours:168}") long retentionHours) {
+        this.scoringService = scoringService;
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /**
+     * @param eventId значение заголовка X-Event-Id, без него перевод просто проверяется
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link ScoringVerdictDto}, для повтора события - вердикт первой доставки
+     */
+    @Override
+    public ScoringVerdictDto score(String eventId, TransferScoringDto transfer) {
+        if (eventId == null || eventId.isBlank()) {
+            return scoringService.score(transfer);
+        }
+        final Integer reserved = transaction.execute(status -> repository.reserve(eventId, OffsetDateTime.now()));
+        if (reserved == null || reserved == 0) {
+            return stored(eventId);
+        }
+        try {
+            final ScoringVerdictDto verdict = scoringService.score(transfer);
+            final String json = objectMapper.writeValueAsString(verdict);
+            transaction.execute(status -> repository.complete(eventId, json));
+            return verdict;
+        } catch (JsonProcessingException exception) {
+            final IllegalStateException failure = new IllegalStateException("Вердикт не сериализуется", exception);
+            release(eventId, failure);
+            throw failure;
+        } catch (RuntimeException exception) {
+            release(eventId, exception);
+            throw exception;
+        }
+    }
+
+    /**
+     * Удаляет события старше event-retention-hours
+     */
+    @Scheduled(fixedDelayString = "${antifraud.scoring.event-cleanup-delay-ms:3600000}")
+    public void deleteExpired() {
+        final Integer deleted = transaction.execute(status ->
+                repository.deleteAllCreatedBefore(OffsetDateTime.now().minus(retention)));
+        log.info("Удалено обработанных событий скоринга: {}", deleted);
+    }
+
+    private ScoringVerdictDto stored(String eventId) {
+        final ScoringEventEntity stored = repository.findById(eventId).orElse(null);
+        if (stored == null || stored.getVerdict() == null) {
+            throw new ConflictException(IN_PROGRESS);
+        }
+        try {
+            return objectMapper.readValue(stored.getVerdict(), ScoringVerdictDto.class);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Сохранённый вердикт не читается", exception);
+        }
+    }
+
+    /**
+     * Освобождает событие после ошибки скоринга, ошибка освобождения не скрывает ошибку скоринга
+     */
+    private void release(String eventId, RuntimeException cause) {
+        try {
+            transaction.execute(status -> repository.deleteReservation(eventId));
+        } catch (RuntimeException exception) {
+            log.warn("Не удалось освободить событие {}: {}", eventId, exception.getMessage());
+            cause.addSuppressed(exception);
+        }
+    }
+}
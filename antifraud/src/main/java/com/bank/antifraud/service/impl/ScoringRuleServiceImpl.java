@@ -0,0 +1,80 @@
+package com.bank.antifraud.service.impl;
+
+import com.bank.antifraud.dto.ScoringRuleDto;
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import com.bank.antifraud.mapper.ScoringRuleMapper;
+import com.bank.antifraud.repository.ScoringRuleRepository;
+import com.bank.antifraud.rule.RuleCompiler;
+import com.bank.antifraud.rule.ScoringRuleRegistry;
+import com.bank.antifraud.service.ScoringRuleService;
+import com.bank.common.audit.AuditWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityNotFoundException;
+
+/**
+ * Реализация {@link ScoringRuleService}.
+ * Текст правила компилируется до сохранения, правило с ошибкой не попадает в таблицу.
+ * Скоринг подхватывает изменения при следующей перезагрузке {@link ScoringRuleRegistry}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScoringRuleServiceImpl implements ScoringRuleService {
+
+    private final ScoringRuleRepository repository;
+    private final ScoringRuleMapper mapper;
+    private final AuditWriter auditWriter;
+
+    /**
+     * @param rule {@link ScoringRuleDto}
+     * @return {@link ScoringRuleDto}
+     */
+    @Override
+    @Transactional
+    public ScoringRuleDto create(ScoringRuleDto rule) {
+        RuleCompiler.compile(rule.getExpression());
+        final ScoringRuleEntity scoringRule = repository.save(mapper.toEntity(rule));
+        final ScoringRuleDto result = mapper.toDto(scoringRule);
+        auditWriter.created(ScoringRuleEntity.class, result);
+        return result;
+    }
+
+    /**
+     * @param id технический идентификатор {@link ScoringRuleEntity}
+     * @return {@link ScoringRuleDto}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ScoringRuleDto read(Long id) {
+        return mapper.toDto(findById(id));
+    }
+
+    /**
+     * @param rule {@link ScoringRuleDto}
+     * @param id технический идентификатор {@link ScoringRuleEntity}
+     * @return {@link ScoringRuleDto}
+     */
+    @Override
+    @Transactional
+    public ScoringRuleDto update(ScoringRuleDto rule, Long id) {
+        RuleCompiler.compile(rule.getExpression());
+        final ScoringRuleEntity scoringRuleById = findById(id);
+        final ScoringRuleDto before = mapper.toDto(scoringRuleById);
+        final ScoringRuleEntity savedScoringRule = repository.save(mapper.mergeToEntity(rule, scoringRuleById));
+        final ScoringRuleDto result = mapper.toDto(savedScoringRule);
+        auditWriter.updated(ScoringRuleEntity.class, before, result);
+        return result;
+    }
+
+    /**
+     * @param id технический идентификатор {@link ScoringRuleEntity}
+     * @return {@link ScoringRuleEntity}
+     */
+    private ScoringRuleEntity findById(Long id) {
+        return repository.findById(id).orElseThrow(
+                () -> new EntityNotFoundException("ScoringRule с id = " + id + " не найден.")
+        );
+    }
+}
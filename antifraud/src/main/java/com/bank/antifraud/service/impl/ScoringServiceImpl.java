@@ -0,0 +1,123 @@
+package com.bank.antifraud.service.impl;
+
+import com.bank.antifraud.dto.ScoringVerdictDto;
+import com.bank.antifraud.dto.SuspiciousAccountTransferDto;
+import com.bank.antifraud.dto.SuspiciousCardTransferDto;
+import com.bank.antifraud.dto.SuspiciousPhoneTransferDto;
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.graph.TransferGraph;
+import com.bank.antifraud.rule.CompiledRule;
+import com.bank.antifraud.rule.RuleContext;
+import com.bank.antifraud.rule.ScoringRuleRegistry;
+import com.bank.antifraud.scoring.ScoringAction;
+import com.bank.antifraud.scoring.TransferType;
+import com.bank.antifraud.scoring.VelocityCounter;
+import com.bank.antifraud.scoring.VelocityKeyType;
+import com.bank.antifraud.scoring.VelocityStore;
+import com.bank.antifraud.service.ScoringService;
+import com.bank.antifraud.service.SuspiciousAccountTransferService;
+import com.bank.antifraud.service.SuspiciousCardTransferService;
+import com.bank.antifraud.service.SuspiciousPhoneTransferService;
+import com.bank.antifraud.sketch.CounterpartySketchStore;
+import com.bank.common.exception.ValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Реализация {@link ScoringService}.
+ * Перевод учитывается в счётчиках отправителя и получателя, затем проверяется скомпилированными правилами
+ * {@link ScoringRuleRegistry}, причины сработавших правил попадают в blockedReason и suspiciousReason.
+ * Вердикт сохраняется в таблицу подозрительных переводов своего типа, только если сработало хотя бы одно правило.
+ * Перевод между счетами с известным счётом отправителя добавляется в {@link TransferGraph} для поиска схем дропов,
+ * получатель перевода - в оценку разных получателей счёта отправителя {@link CounterpartySketchStore}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScoringServiceImpl implements ScoringService {
+
+    private static final String DELIMITER = ", ";
+
+    private final VelocityStore store;
+    private final ScoringRuleRegistry registry;
+    private final SuspiciousAccountTransferService accountTransferService;
+    private final SuspiciousCardTransferService cardTransferService;
+    private final SuspiciousPhoneTransferService phoneTransferService;
+    private final TransferGraph graph;
+    private final CounterpartySketchStore sketches;
+
+    /**
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link ScoringVerdictDto}, id пустой, если перевод не подозрительный
+     */
+    @Override
+    public ScoringVerdictDto score(TransferScoringDto transfer) {
+        if (transfer.getAmount() == null || transfer.getTransferType() == null || transfer.getTransferId() == null) {
+            throw new ValidationException("Перевод для скоринга должен содержать transferId, transferType и amount");
+        }
+        final long nowMs = System.currentTimeMillis();
+        final long amount = transfer.getAmount().setScale(0, RoundingMode.CEILING).longValue();
+        final Map<VelocityKeyType, VelocityCounter> counters = new EnumMap<>(VelocityKeyType.class);
+        putIfPresent(counters, VelocityKeyType.SENDER,
+                store.record(VelocityKeyType.SENDER, transfer.getAccountDetailsId(), amount, nowMs));
+        final VelocityKeyType target = transfer.getTransferType().targetKey();
+        putIfPresent(counters, target, store.record(target, transfer.getNumber(), amount, nowMs));
+        addToGraph(transfer, nowMs);
+        addToSketches(transfer, nowMs);
+
+        final StringJoiner blocked = new StringJoiner(DELIMITER);
+        final StringJoiner suspicious = new StringJoiner(DELIMITER);
+        final RuleContext context = new RuleContext(transfer.getAmount(), counters, nowMs);
+        for (CompiledRule rule : registry.rules()) {
+            if (rule.matches(context)) {
+                (rule.getAction() == ScoringAction.BLOCK ? blocked : suspicious).add(rule.getReason());
+            }
+        }
+        final ScoringVerdictDto verdict = new ScoringVerdictDto(null, transfer.getTransferType(),
+                blocked.length() > 0, blocked.length() > 0 || suspicious.length() > 0,
+                blocked.length() > 0 ? blocked.toString() : null, suspicious.toString());
+        if (verdict.getIsSuspicious()) {
+            verdict.setId(save(transfer, verdict));
+        }
+        return verdict;
+    }
+
+    private void addToGraph(TransferScoringDto transfer, long nowMs) {
+        if (transfer.getTransferType() == TransferType.ACCOUNT && transfer.getSenderNumber() != null &&
+                transfer.getNumber() != null) {
+            graph.add(transfer.getSenderNumber(), transfer.getNumber(), transfer.getTransferId(), nowMs);
+        }
+    }
+
+    private void addToSketches(TransferScoringDto transfer, long nowMs) {
+        if (transfer.getAccountDetailsId() != null && transfer.getNumber() != null) {
+            sketches.record(transfer.getAccountDetailsId(), transfer.getTransferType(), transfer.getNumber(), nowMs);
+        }
+    }
+
+    private Long save(TransferScoringDto transfer, ScoringVerdictDto verdict) {
+        final Long transferId = transfer.getTransferId();
+        return switch (verdict.getTransferType()) {
+            case ACCOUNT -> accountTransferService.create(new SuspiciousAccountTransferDto(null, transferId,
+                    verdict.getIsBlocked(), verdict.getIsSuspicious(), verdict.getBlockedReason(),
+                    verdict.getSuspiciousReason(), transfer.getNumber())).getId();
+            case CARD -> cardTransferService.create(new SuspiciousCardTransferDto(null, transferId,
+                    verdict.getIsBlocked(), verdict.getIsSuspicious(), verdict.getBlockedReason(),
+                    verdict.getSuspiciousReason(), transfer.getNumber())).getId();
+            case PHONE -> phoneTransferService.create(new SuspiciousPhoneTransferDto(null, transferId,
+                    verdict.getIsBlocked(), verdict.getIsSuspicious(), verdict.getBlockedReason(),
+                    verdict.getSuspiciousReason(), transfer.getNumber())).getId();
+        };
+    }
+
+    private static void putIfPresent(Map<VelocityKeyType, VelocityCounter> counters, VelocityKeyType type,
+                                     VelocityCounter counter) {
+        if (counter != null) {
+            counters.put(type, counter);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.bank.antifraud.service.impl;
+
+import com.bank.antifraud.dto.ScreeningDto;
+import com.bank.antifraud.scoring.TransferType;
+import com.bank.antifraud.screening.BlockedInstrumentIndex;
+import com.bank.antifraud.service.ScreeningService;
+import com.bank.common.exception.ValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Реализация {@link ScreeningService}, отвечает по {@link BlockedInstrumentIndex} без запросов в базу
+ */
+@Service
+@RequiredArgsConstructor
+public class ScreeningServiceImpl implements ScreeningService {
+
+    private final BlockedInstrumentIndex index;
+
+    /**
+     * @param transferType тип перевода
+     * @param number номер счёта, карты или телефона получателя
+     * @return {@link ScreeningDto}
+     */
+    @Override
+    public ScreeningDto screen(TransferType transferType, Long number) {
+        if (transferType == null || number == null) {
+            throw new ValidationException("Для проверки нужны transferType и number");
+        }
+        return new ScreeningDto(transferType, number, index.isBlocked(transferType, number));
+    }
+}
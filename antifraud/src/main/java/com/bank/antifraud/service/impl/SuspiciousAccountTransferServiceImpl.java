@@ -4,8 +4,11 @@ import com.bank.antifraud.dto.SuspiciousAccountTransferDto;
 import com.bank.antifraud.entity.SuspiciousAccountTransferEntity;
 import com.bank.antifraud.mapper.SuspiciousAccountTransferMapper;
 import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
+import com.bank.antifraud.scoring.TransferType;
+import com.bank.antifraud.screening.BlockedInstrumentIndex;
 import com.bank.antifraud.service.SuspiciousAccountTransferService;
-import com.bank.antifraud.util.ListSizeValidator;
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,7 +25,9 @@ public class SuspiciousAccountTransferServiceImpl implements SuspiciousAccountTr
 
     private final SuspiciousAccountTransferRepository repository;
     private final SuspiciousAccountTransferMapper mapper;
-    private final ListSizeValidator listSizeValidator;
+    private final AuditWriter auditWriter;
+    private final BulkReader bulkReader;
+    private final BlockedInstrumentIndex index;
 
     /**
      * @param transfer {@link SuspiciousAccountTransferDto}
@@ -34,7 +39,10 @@ public class SuspiciousAccountTransferServiceImpl implements SuspiciousAccountTr
         final SuspiciousAccountTransferEntity suspiciousAccountTransfer = repository.save(
                 mapper.toEntity(transfer)
         );
-        return mapper.toDto(suspiciousAccountTransfer);
+        final SuspiciousAccountTransferDto result = mapper.toDto(suspiciousAccountTransfer);
+        auditWriter.created(SuspiciousAccountTransferEntity.class, result);
+        index.created(TransferType.ACCOUNT, result.getAccountNumber(), result.getIsBlocked());
+        return result;
     }
 
     /**
@@ -42,6 +50,7 @@ public class SuspiciousAccountTransferServiceImpl implements SuspiciousAccountTr
      * @return {@link SuspiciousAccountTransferDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public SuspiciousAccountTransferDto read(Long id) {
         final SuspiciousAccountTransferEntity suspiciousAccountTransfer = findById(id);
         return mapper.toDto(suspiciousAccountTransfer);
@@ -52,12 +61,10 @@ public class SuspiciousAccountTransferServiceImpl implements SuspiciousAccountTr
      * @return {@link SuspiciousAccountTransferDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public List<SuspiciousAccountTransferDto> readAll(List<Long> ids) {
-        final List<SuspiciousAccountTransferEntity> suspiciousAccountTransfers = repository.findAllById(ids);
-        listSizeValidator.throwIfDifferent(ids, suspiciousAccountTransfers,
-                () -> new EntityNotFoundException("Количество найденных и запрошенных записей не совпадает.")
-        );
-        return mapper.toListDto(suspiciousAccountTransfers);
+        return bulkReader.readAll(ids, chunk -> mapper.toListDto(repository.findAllById(chunk)),
+                SuspiciousAccountTransferDto::getId, "SuspiciousAccountTransfer не найдены");
     }
 
     /**
@@ -69,10 +76,15 @@ public class SuspiciousAccountTransferServiceImpl implements SuspiciousAccountTr
     @Transactional
     public SuspiciousAccountTransferDto update(SuspiciousAccountTransferDto transfer, Long id) {
         final SuspiciousAccountTransferEntity suspiciousAccountTransferById = findById(id);
+        final SuspiciousAccountTransferDto before = mapper.toDto(suspiciousAccountTransferById);
         final SuspiciousAccountTransferEntity savedSuspiciousAccountTransfer = repository.save(
                 mapper.mergeToEntity(transfer, suspiciousAccountTransferById)
         );
-        return mapper.toDto(savedSuspiciousAccountTransfer);
+        final SuspiciousAccountTransferDto result = mapper.toDto(savedSuspiciousAccountTransfer);
+        auditWriter.updated(SuspiciousAccountTransferEntity.class, before, result);
+        index.updated(TransferType.ACCOUNT, before.getAccountNumber(), before.getIsBlocked(), result.getAccountNumber(),
+                result.getIsBlocked(), repository::existsByAccountNumberAndIsBlockedTrue);
+        return result;
     }
 
     /**
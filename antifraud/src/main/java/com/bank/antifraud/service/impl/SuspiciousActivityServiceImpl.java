@@ -0,0 +1,37 @@
+package com.bank.antifraud.service.impl;
+
+import com.bank.antifraud.dto.SuspiciousActivityFilterDto;
+import com.bank.antifraud.dto.SuspiciousActivityPageDto;
+import com.bank.antifraud.query.SuspiciousActivityQueryExecutor;
+import com.bank.antifraud.service.SuspiciousActivityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Реализация {@link SuspiciousActivityService}
+ */
+@Service
+@RequiredArgsConstructor
+public class SuspiciousActivityServiceImpl implements SuspiciousActivityService {
+
+    private final SuspiciousActivityQueryExecutor queryExecutor;
+
+    /**
+     * @param filter {@link SuspiciousActivityFilterDto}
+     * @return {@link SuspiciousActivityPageDto}
+     */
+    @Override
+    public SuspiciousActivityPageDto query(SuspiciousActivityFilterDto filter) {
+        return queryExecutor.page(filter);
+    }
+
+    /**
+     * @param filter {@link SuspiciousActivityFilterDto}, limit не учитывается
+     * @return {@link StreamingResponseBody} с выгрузкой в NDJSON
+     */
+    @Override
+    public StreamingResponseBody stream(SuspiciousActivityFilterDto filter) {
+        return queryExecutor.stream(filter);
+    }
+}
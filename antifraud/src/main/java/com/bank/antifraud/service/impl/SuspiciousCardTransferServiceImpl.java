@@ -4,8 +4,11 @@ import com.bank.antifraud.dto.SuspiciousCardTransferDto;
 import com.bank.antifraud.entity.SuspiciousCardTransferEntity;
 import com.bank.antifraud.mapper.SuspiciousCardTransferMapper;
 import com.bank.antifraud.repository.SuspiciousCardTransferRepository;
+import com.bank.antifraud.scoring.TransferType;
+import com.bank.antifraud.screening.BlockedInstrumentIndex;
 import com.bank.antifraud.service.SuspiciousCardTransferService;
-import com.bank.antifraud.util.ListSizeValidator;
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,7 +25,9 @@ public class SuspiciousCardTransferServiceImpl implements SuspiciousCardTransfer
 
     private final SuspiciousCardTransferRepository repository;
     private final SuspiciousCardTransferMapper mapper;
-    private final ListSizeValidator listSizeValidator;
+    private final AuditWriter auditWriter;
+    private final BulkReader bulkReader;
+    private final BlockedInstrumentIndex index;
 
 
     /**
@@ -35,7 +40,10 @@ public class SuspiciousCardTransferServiceImpl implements SuspiciousCardTransfer
         final SuspiciousCardTransferEntity suspiciousCardTransfer = repository.save(
                 mapper.toEntity(transfer)
         );
-        return mapper.toDto(suspiciousCardTransfer);
+        final SuspiciousCardTransferDto result = mapper.toDto(suspiciousCardTransfer);
+        auditWriter.created(SuspiciousCardTransferEntity.class, result);
+        index.created(TransferType.CARD, result.getCardNumber(), result.getIsBlocked());
+        return result;
     }
 
     /**
@@ -43,6 +51,7 @@ public class SuspiciousCardTransferServiceImpl implements SuspiciousCardTransfer
      * @return {@link SuspiciousCardTransferDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public SuspiciousCardTransferDto read(Long id) {
         final SuspiciousCardTransferEntity suspiciousCardTransfer = findById(id);
         return mapper.toDto(suspiciousCardTransfer);
@@ -53,12 +62,10 @@ public class SuspiciousCardTransferServiceImpl implements SuspiciousCardTransfer
      * @return {@link SuspiciousCardTransferDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public List<SuspiciousCardTransferDto> readAll(List<Long> ids) {
-        final List<SuspiciousCardTransferEntity> suspiciousCardTransfers = repository.findAllById(ids);
-        listSizeValidator.throwIfDifferent(ids, suspiciousCardTransfers,
-                () -> new EntityNotFoundException("Количество найденных и запрошенных записей не совпадает.")
-        );
-        return mapper.toListDto(suspiciousCardTransfers);
+        return bulkReader.readAll(ids, chunk -> mapper.toListDto(repository.findAllById(chunk)),
+                SuspiciousCardTransferDto::getId, "SuspiciousCardTransfer не найдены");
     }
 
     /**
@@ -70,10 +77,15 @@ public class SuspiciousCardTransferServiceImpl implements SuspiciousCardTransfer
     @Transactional
     public SuspiciousCardTransferDto update(SuspiciousCardTransferDto transfer, Long id) {
         final SuspiciousCardTransferEntity suspiciousCardTransferById = findById(id);
+        final SuspiciousCardTransferDto before = mapper.toDto(suspiciousCardTransferById);
         final SuspiciousCardTransferEntity savedSuspiciousCardTransfer = repository.save(
                 mapper.mergeToEntity(transfer, suspiciousCardTransferById)
         );
-        return mapper.toDto(savedSuspiciousCardTransfer);
+        final SuspiciousCardTransferDto result = mapper.toDto(savedSuspiciousCardTransfer);
+        auditWriter.updated(SuspiciousCardTransferEntity.class, before, result);
+        index.updated(TransferType.CARD, before.getCardNumber(), before.getIsBlocked(), result.getCardNumber(),
+                result.getIsBlocked(), repository::existsByCardNumberAndIsBlockedTrue);
+        return result;
     }
 
     /**
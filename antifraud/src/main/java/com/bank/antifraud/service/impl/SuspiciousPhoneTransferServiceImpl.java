@@ -4,8 +4,11 @@ import com.bank.antifraud.dto.SuspiciousPhoneTransferDto;
 import com.bank.antifraud.entity.SuspiciousPhoneTransferEntity;
 import com.bank.antifraud.mapper.SuspiciousPhoneTransferMapper;
 import com.bank.antifraud.repository.SuspiciousPhoneTransferRepository;
+import com.bank.antifraud.scoring.TransferType;
+import com.bank.antifraud.screening.BlockedInstrumentIndex;
 import com.bank.antifraud.service.SuspiciousPhoneTransferService;
-import com.bank.antifraud.util.ListSizeValidator;
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,7 +25,9 @@ public class SuspiciousPhoneTransferServiceImpl implements SuspiciousPhoneTransf
 
     private final SuspiciousPhoneTransferRepository repository;
     private final SuspiciousPhoneTransferMapper mapper;
-    private final ListSizeValidator listSizeValidator;
+    private final AuditWriter auditWriter;
+    private final BulkReader bulkReader;
+    private final BlockedInstrumentIndex index;
 
 
     /**
@@ -35,7 +40,10 @@ public class SuspiciousPhoneTransferServiceImpl implements SuspiciousPhoneTransf
         final SuspiciousPhoneTransferEntity suspiciousPhoneTransfer = repository.save(
                 mapper.toEntity(transfer)
         );
-        return mapper.toDto(suspiciousPhoneTransfer);
+        final SuspiciousPhoneTransferDto result = mapper.toDto(suspiciousPhoneTransfer);
+        auditWriter.created(SuspiciousPhoneTransferEntity.class, result);
+        index.created(TransferType.PHONE, result.getPhoneNumber(), result.getIsBlocked());
+        return result;
     }
 
     /**
@@ -43,6 +51,7 @@ public class SuspiciousPhoneTransferServiceImpl implements SuspiciousPhoneTransf
      * @return {@link SuspiciousPhoneTransferDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public SuspiciousPhoneTransferDto read(Long id) {
         final SuspiciousPhoneTransferEntity suspiciousPhoneTransfer = findById(id);
         return mapper.toDto(suspiciousPhoneTransfer);
@@ -53,12 +62,10 @@ public class SuspiciousPhoneTransferServiceImpl implements SuspiciousPhoneTransf
      * @return {@link SuspiciousPhoneTransferDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public List<SuspiciousPhoneTransferDto> readAll(List<Long> ids) {
-        final List<SuspiciousPhoneTransferEntity> suspiciousPhoneTransfers = repository.findAllById(ids);
-        listSizeValidator.throwIfDifferent(ids, suspiciousPhoneTransfers,
-                () -> new EntityNotFoundException("Количество найденных и запрошенных записей не совпадает.")
-        );
-        return mapper.toListDto(suspiciousPhoneTransfers);
+        return bulkReader.readAll(ids, chunk -> mapper.toListDto(repository.findAllById(chunk)),
+                SuspiciousPhoneTransferDto::getId, "SuspiciousPhoneTransfer не найдены");
     }
 
     /**
@@ -70,10 +77,15 @@ public class SuspiciousPhoneTransferServiceImpl implements SuspiciousPhoneTransf
     @Transactional
     public SuspiciousPhoneTransferDto update(SuspiciousPhoneTransferDto transfer, Long id) {
         final SuspiciousPhoneTransferEntity suspiciousPhoneTransferById = findById(id);
+        final SuspiciousPhoneTransferDto before = mapper.toDto(suspiciousPhoneTransferById);
         final SuspiciousPhoneTransferEntity savedSuspiciousPhoneTransfer = repository.save(
                 mapper.mergeToEntity(transfer, suspiciousPhoneTransferById)
         );
-        return mapper.toDto(savedSuspiciousPhoneTransfer);
+        final SuspiciousPhoneTransferDto result = mapper.toDto(savedSuspiciousPhoneTransfer);
+        auditWriter.updated(SuspiciousPhoneTransferEntity.class, before, result);
+        index.updated(TransferType.PHONE, before.getPhoneNumber(), before.getIsBlocked(), result.getPhoneNumber(),
+                result.getIsBlocked(), repository::existsByPhoneNumberAndIsBlockedTrue);
+        return result;
     }
 
     /**
@@ -0,0 +1,221 @@
+package com.bank.antifraud.sketch;
+
+import com.bank.antifraud.entity.CounterpartySketchEntity;
+import com.bank.antifraud.repository.CounterpartySketchRepository;
+import com.bank.antifraud.scoring.TransferType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Часовые оценки {@link HyperLogLog} разных получателей переводов отправителя accountDetailsId: отдельно
+ * номера счетов, карт и телефонов. Переводы копятся в памяти и по расписанию дописываются в counterparty_sketch:
+ * строка часа блокируется и объединяется с накопленной оценкой, поэтому несколько экземпляров пишут
+ * в одну строку без потерь. Если два экземпляра одновременно создают строку одного часа, часть одного из них
+ * не запишется и повторится в следующий раз: объединение - максимум по регистрам, и повтор не искажает оценку.
+ * Оценки старше retention-days удаляются. Количество и память незаписанных оценок - в antifraud.sketch.pending
+ * и antifraud.sketch.pending.memory.
+ */
+@Slf4j
+@Component
+public class CounterpartySketchStore implements DisposableBean {
+
+    private static final long HOUR_MS = 3_600_000L;
+    private static final long DAY_MS = 86_400_000L;
+    private static final Comparator<SketchKey> KEY_ORDER = Comparator.comparingLong(SketchKey::accountDetailsId)
+            .thenComparingLong(SketchKey::hour)
+            .thenComparing(SketchKey::type);
+
+    private final Map<SketchKey, HyperLogLog> pending = new ConcurrentHashMap<>();
+    private final CounterpartySketchRepository repository;
+    private final TransactionTemplate transaction;
+    private final int precision;
+    private final int chunkSize;
+    private final long retentionMs;
+
+    /**
+     * @param precision точность оценок, у всех экземпляров и строк таблицы должна быть одинаковой
+     */
+    public CounterpartySketchStore(CounterpartySketchRepository repository,
+                                   PlatformTransactionManager transactionManager, MeterRegistry registry,
+                                   @Value("${antifraud.sketch.precision:12}") int precision,
+                                   @Value("${antifraud.sketch.flush-chunk-size:500}") int chunkSize,
+                                   @Value("${antifraud.sketch.retention-days:90}") long retentionDays) {
+        this.repository = repository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.precision = new HyperLogLog(precision).getPrecision();
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.retentionMs = retentionDays * DAY_MS;
+        Gauge.builder("antifraud.sketch.pending", this, CounterpartySketchStore::pendingSize).register(registry);
+        Gauge.builder("antifraud.sketch.pending.memory", this, CounterpartySketchStore::pendingMemoryBytes)
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * @param accountDetailsId технический идентификатор счёта отправителя
+     * @param type тип получателя
+     * @param counterparty номер счёта, карты или телефона получателя
+     * @param nowMs время перевода
+     */
+    public void record(long accountDetailsId, TransferType type, long counterparty, long nowMs) {
+        pending.compute(new SketchKey(accountDetailsId, type, hour(nowMs)), (key, sketch) -> {
+            final HyperLogLog target = sketch == null ? new HyperLogLog(precision) : sketch;
+            target.add(counterparty);
+            return target;
+        });
+    }
+
+    /**
+     * Добавляет к оценкам ещё не записанные в таблицу часы [fromHour, toHour]
+     *
+     * @param accountDetailsId технический идентификатор счёта отправителя
+     * @param fromHour первый час окна, часы считаются от начала эпохи
+     * @param toHour последний час окна
+     * @param sketches оценки окна по типам получателей
+     */
+    public void mergePending(long accountDetailsId, long fromHour, long toHour,
+                             Map<TransferType, HyperLogLog> sketches) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        sketches.forEach((type, sketch) -> {
+            for (long hour = fromHour; hour <= toHour; hour++) {
+                pending.computeIfPresent(new SketchKey(accountDetailsId, type, hour), (key, bucket) -> {
+                    sketch.merge(bucket);
+                    return bucket;
+                });
+            }
+        });
+    }
+
+    /**
+     * Дописывает накопленные оценки в таблицу частями по flush-chunk-size, каждая часть - одна транзакция.
+     * Строки блокируются в порядке (accountDetailsId, час, тип), чтобы экземпляры не ждали друг друга по кругу.
+     * Часть, которую не удалось записать, возвращается в память до следующего раза.
+     */
+    @Scheduled(initialDelayString = "${antifraud.sketch.flush-delay-ms:60000}",
+            fixedDelayString = "${antifraud.sketch.flush-delay-ms:60000}")
+    public void flush() {
+        final List<SketchKey> keys = new ArrayList<>(pending.keySet());
+        keys.sort(KEY_ORDER);
+        int written = 0;
+        for (int from = 0; from < keys.size(); from += chunkSize) {
+            final Map<SketchKey, HyperLogLog> chunk = new LinkedHashMap<>();
+            for (SketchKey key : keys.subList(from, Math.min(from + chunkSize, keys.size()))) {
+                final HyperLogLog sketch = pending.remove(key);
+                if (sketch != null) {
+                    chunk.put(key, sketch);
+                }
+            }
+            written += write(chunk);
+        }
+        if (written > 0) {
+            log.info("Записано часовых оценок получателей: {}", written);
+        }
+    }
+
+    /**
+     * Удаляет оценки старше retention-days
+     */
+    @Scheduled(fixedDelayString = "${antifraud.sketch.cleanup-delay-ms:3600000}")
+    public void cleanup() {
+        final Integer deleted = transaction.execute(status -> repository.deleteAllBucketsBefore(
+                bucketStart(hour(System.currentTimeMillis() - retentionMs))));
+        log.info("Удалено устаревших оценок получателей: {}", deleted);
+    }
+
+    /**
+     * @return точность оценок
+     */
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * @return количество оценок, ещё не записанных в таблицу
+     */
+    public int pendingSize() {
+        return pending.size();
+    }
+
+    /**
+     * @return память регистров оценок, ещё не записанных в таблицу, в байтах
+     */
+    public long pendingMemoryBytes() {
+        return pending.values().stream().mapToLong(HyperLogLog::memoryBytes).sum();
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    /**
+     * @param timeMs время
+     * @return номер часа от начала эпохи
+     */
+    public static long hour(long timeMs) {
+        return Math.floorDiv(timeMs, HOUR_MS);
+    }
+
+    /**
+     * @param hour номер часа от начала эпохи
+     * @return начало часа в UTC
+     */
+    public static OffsetDateTime bucketStart(long hour) {
+        return Instant.ofEpochMilli(hour * HOUR_MS).atOffset(ZoneOffset.UTC);
+    }
+
+    private int write(Map<SketchKey, HyperLogLog> chunk) {
+        try {
+            transaction.executeWithoutResult(status -> chunk.forEach(this::save));
+            return chunk.size();
+        } catch (RuntimeException exception) {
+            log.warn("Оценки получателей не записаны, повтор при следующей записи: {}", exception.getMessage());
+            chunk.forEach((key, sketch) -> pending.merge(key, sketch, (current, restored) -> {
+                current.merge(restored);
+                return current;
+            }));
+            return 0;
+        }
+    }
+
+    private void save(SketchKey key, HyperLogLog sketch) {
+        final OffsetDateTime start = bucketStart(key.hour());
+        final Optional<CounterpartySketchEntity> stored = repository
+                .findByAccountDetailsIdAndCounterpartyTypeAndBucketStart(key.accountDetailsId(), key.type(), start);
+        if (stored.isEmpty()) {
+            repository.save(new CounterpartySketchEntity(null, key.accountDetailsId(), key.type(), start,
+                    sketch.toBytes()));
+            return;
+        }
+        final HyperLogLog merged = HyperLogLog.fromBytes(stored.get().getSketch());
+        merged.merge(sketch);
+        stored.get().setSketch(merged.toBytes());
+        repository.save(stored.get());
+    }
+
+    /**
+     * Оценка одного часа одного типа получателей счёта
+     */
+    private record SketchKey(long accountDetailsId, TransferType type, long hour) {
+    }
+}
@@ -0,0 +1,305 @@
+package com.bank.antifraud.sketch;
+
+import java.util.Arrays;
+
+/**
+ * Оценка количества разных long (HyperLogLog): 2^precision регистров, стандартная ошибка 1.04 / sqrt(2^precision),
+ * около 1.6% при precision 12. Пока заполнено меньше четверти регистров, хранятся только ненулевые
+ * регистры в отсортированном массиве (4 байта на регистр в памяти, 3 байта в {@link #toBytes()}), затем
+ * массив заменяется плотным на байт в регистре. Малые количества оцениваются по числу пустых регистров
+ * и почти точны. Объединение оценок - максимум по регистрам, поэтому часовые оценки складываются
+ * в оценку любого окна без повторного счёта. Не потокобезопасна.
+ */
+public class HyperLogLog {
+
+    /**
+     * Наименьшая точность
+     */
+    public static final int MIN_PRECISION = 4;
+
+    /**
+     * Наибольшая точность, номер регистра помещается в два байта
+     */
+    public static final int MAX_PRECISION = 16;
+
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+    private static final long MIX_FIRST = 0xBF58476D1CE4E5B9L;
+    private static final long MIX_SECOND = 0x94D049BB133111EBL;
+    private static final byte SPARSE = 0;
+    private static final byte DENSE = 1;
+    private static final int HEADER_BYTES = 2;
+    private static final int SPARSE_ENTRY_BYTES = 3;
+    private static final int RANK_BITS = 8;
+    private static final int RANK_MASK = 0xFF;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int MIN_SPARSE = 4;
+    private static final double LINEAR_COUNTING_LIMIT = 2.5;
+
+    private final int precision;
+    private final int registers;
+    private byte[] dense;
+    private int[] sparse = new int[MIN_SPARSE];
+    private int sparseSize;
+
+    /**
+     * @param precision число бит хеша для номера регистра, от 4 до 16
+     */
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Точность HyperLogLog должна быть от " + MIN_PRECISION + " до " +
+                    MAX_PRECISION + ": " + precision);
+        }
+        this.precision = precision;
+        this.registers = 1 << precision;
+    }
+
+    /**
+     * @param bytes оценка из {@link #toBytes()}
+     * @return восстановленная оценка
+     * @throws IllegalArgumentException если массив повреждён
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER_BYTES) {
+            throw new IllegalArgumentException("Пустая оценка HyperLogLog");
+        }
+        final HyperLogLog sketch = new HyperLogLog(bytes[0]);
+        final int body = bytes.length - HEADER_BYTES;
+        if (bytes[1] == DENSE && body == sketch.registers) {
+            sketch.dense = Arrays.copyOfRange(bytes, HEADER_BYTES, bytes.length);
+            return sketch;
+        }
+        if (bytes[1] != SPARSE || body % SPARSE_ENTRY_BYTES != 0) {
+            throw new IllegalArgumentException("Повреждённая оценка HyperLogLog длиной " + bytes.length);
+        }
+        sketch.readSparse(bytes, body / SPARSE_ENTRY_BYTES);
+        return sketch;
+    }
+
+    /**
+     * Читает регистры разреженной оценки, номера регистров должны строго возрастать
+     */
+    private void readSparse(byte[] bytes, int entries) {
+        if (entries * Integer.BYTES > registers) {
+            throw new IllegalArgumentException("Слишком много регистров в разреженной оценке HyperLogLog: " + entries);
+        }
+        sparse = new int[Math.max(MIN_SPARSE, entries)];
+        int previous = -1;
+        for (int entry = 0; entry < entries; entry++) {
+            final int offset = HEADER_BYTES + entry * SPARSE_ENTRY_BYTES;
+            final int index = (bytes[offset] & BYTE_MASK) << Byte.SIZE | bytes[offset + 1] & BYTE_MASK;
+            if (index <= previous || index >= registers) {
+                throw new IllegalArgumentException("Повреждённая оценка HyperLogLog: регистр " + index);
+            }
+            sparse[entry] = index << RANK_BITS | bytes[offset + 2] & RANK_MASK;
+            previous = index;
+        }
+        sparseSize = entries;
+    }
+
+    /**
+     * @param value значение, одинаковые значения учитываются один раз
+     */
+    public void add(long value) {
+        final long hash = mix(value);
+        final int index = (int) (hash >>> (Long.SIZE - precision));
+        final int rank = Long.numberOfLeadingZeros(hash << precision | 1L << (precision - 1)) + 1;
+        update(index, rank);
+    }
+
+    /**
+     * @param other оценка с той же точностью, не изменяется
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Нельзя объединить HyperLogLog с точностью " + precision + " и " +
+                    other.precision);
+        }
+        if (dense == null && (other.dense != null || (sparseSize + other.sparseSize) * Integer.BYTES > registers)) {
+            toDense();
+        }
+        if (dense == null) {
+            mergeSparse(other);
+            return;
+        }
+        if (other.dense == null) {
+            for (int entry = 0; entry < other.sparseSize; entry++) {
+                final int index = other.sparse[entry] >>> RANK_BITS;
+                dense[index] = (byte) Math.max(dense[index], other.sparse[entry] & RANK_MASK);
+            }
+            return;
+        }
+        for (int index = 0; index < registers; index++) {
+            if (other.dense[index] > dense[index]) {
+                dense[index] = other.dense[index];
+            }
+        }
+    }
+
+    /**
+     * @return оценка количества разных добавленных значений
+     */
+    public long estimate() {
+        int zeros = registers;
+        double sum = 0;
+        if (dense == null) {
+            zeros -= sparseSize;
+            for (int entry = 0; entry < sparseSize; entry++) {
+                sum += Math.scalb(1.0, -(sparse[entry] & RANK_MASK));
+            }
+        } else {
+            for (byte rank : dense) {
+                zeros -= rank == 0 ? 0 : 1;
+                sum += rank == 0 ? 0 : Math.scalb(1.0, -rank);
+            }
+        }
+        sum += zeros;
+        final double raw = alpha() * registers * registers / sum;
+        if (raw <= LINEAR_COUNTING_LIMIT * registers && zeros > 0) {
+            return Math.round(registers * Math.log((double) registers / zeros));
+        }
+        return Math.round(raw);
+    }
+
+    /**
+     * @return точность
+     */
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Можно вызывать из другого потока во время добавления, тогда размер приблизительный
+     *
+     * @return размер массива регистров в байтах
+     */
+    public long memoryBytes() {
+        final byte[] denseRegisters = dense;
+        if (denseRegisters != null) {
+            return denseRegisters.length;
+        }
+        final int[] sparseRegisters = sparse;
+        return sparseRegisters == null ? registers : (long) sparseRegisters.length * Integer.BYTES;
+    }
+
+    /**
+     * Формат: байт точности, байт вида (0 - разреженный, 1 - плотный), затем для разреженного по 3 байта
+     * на ненулевой регистр (номер и значение), для плотного - байт на каждый регистр
+     *
+     * @return компактное представление для хранения
+     */
+    public byte[] toBytes() {
+        if (dense != null) {
+            final byte[] bytes = new byte[HEADER_BYTES + registers];
+            bytes[0] = (byte) precision;
+            bytes[1] = DENSE;
+            System.arraycopy(dense, 0, bytes, HEADER_BYTES, registers);
+            return bytes;
+        }
+        final byte[] bytes = new byte[HEADER_BYTES + sparseSize * SPARSE_ENTRY_BYTES];
+        bytes[0] = (byte) precision;
+        bytes[1] = SPARSE;
+        for (int entry = 0; entry < sparseSize; entry++) {
+            final int offset = HEADER_BYTES + entry * SPARSE_ENTRY_BYTES;
+            final int index = sparse[entry] >>> RANK_BITS;
+            bytes[offset] = (byte) (index >>> Byte.SIZE);
+            bytes[offset + 1] = (byte) index;
+            bytes[offset + 2] = (byte) (sparse[entry] & RANK_MASK);
+        }
+        return bytes;
+    }
+
+    private void update(int index, int rank) {
+        if (dense != null) {
+            if (rank > dense[index]) {
+                dense[index] = (byte) rank;
+            }
+            return;
+        }
+        final int position = find(index);
+        if (position >= 0) {
+            sparse[position] = index << RANK_BITS | Math.max(rank, sparse[position] & RANK_MASK);
+            return;
+        }
+        if ((sparseSize + 1) * Integer.BYTES > registers) {
+            toDense();
+            dense[index] = (byte) rank;
+            return;
+        }
+        final int insertion = -position - 1;
+        if (sparseSize == sparse.length) {
+            sparse = Arrays.copyOf(sparse, sparseSize * 2);
+        }
+        System.arraycopy(sparse, insertion, sparse, insertion + 1, sparseSize - insertion);
+        sparse[insertion] = index << RANK_BITS | rank;
+        sparseSize++;
+    }
+
+    /**
+     * Слияние двух отсортированных разреженных массивов за один проход
+     */
+    private void mergeSparse(HyperLogLog other) {
+        final int[] merged = new int[Math.max(MIN_SPARSE, sparseSize + other.sparseSize)];
+        int size = 0;
+        int mine = 0;
+        int theirs = 0;
+        while (mine < sparseSize || theirs < other.sparseSize) {
+            final int left = mine < sparseSize ? sparse[mine] >>> RANK_BITS : Integer.MAX_VALUE;
+            final int right = theirs < other.sparseSize ? other.sparse[theirs] >>> RANK_BITS : Integer.MAX_VALUE;
+            if (left == right) {
+                merged[size++] = Math.max(sparse[mine++], other.sparse[theirs++]);
+            } else if (left < right) {
+                merged[size++] = sparse[mine++];
+            } else {
+                merged[size++] = other.sparse[theirs++];
+            }
+        }
+        sparse = merged;
+        sparseSize = size;
+    }
+
+    /**
+     * @return позиция регистра в разреженном массиве или -(позиция вставки) - 1
+     */
+    private int find(int index) {
+        int low = 0;
+        int high = sparseSize - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int found = sparse[middle] >>> RANK_BITS;
+            if (found == index) {
+                return middle;
+            }
+            if (found < index) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return -low - 1;
+    }
+
+    private void toDense() {
+        dense = new byte[registers];
+        for (int entry = 0; entry < sparseSize; entry++) {
+            dense[sparse[entry] >>> RANK_BITS] = (byte) (sparse[entry] & RANK_MASK);
+        }
+        sparse = null;
+        sparseSize = 0;
+    }
+
+    private double alpha() {
+        return switch (precision) {
+            case MIN_PRECISION -> 0.673;
+            case MIN_PRECISION + 1 -> 0.697;
+            case MIN_PRECISION + 2 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / registers);
+        };
+    }
+
+    private static long mix(long value) {
+        long hash = value + GOLDEN;
+        hash = (hash ^ (hash >>> 30)) * MIX_FIRST;
+        hash = (hash ^ (hash >>> 27)) * MIX_SECOND;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,96 @@
+package com.bank.antifraud.graph;
+
+import com.bank.antifraud.ParentTest;
+import com.bank.antifraud.dto.SuspiciousAccountTransferDto;
+import com.bank.antifraud.entity.SuspiciousAccountTransferEntity;
+import com.bank.antifraud.mapper.SuspiciousAccountTransferMapperImpl;
+import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
+import com.bank.antifraud.service.SuspiciousAccountTransferService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+class MuleDetectorTest extends ParentTest {
+
+    private static final long ACCOUNT = 40817810000000001L;
+    private static final long RECIPIENT = 40817810000000002L;
+    private static final long NEW_TRANSFER = 10L;
+    private static final long MARKED_TRANSFER = 11L;
+    private static final long SCORED_TRANSFER = 12L;
+    private static final String LARGE_AMOUNT = "Крупная сумма";
+
+    @Mock
+    private TransferGraph graph;
+
+    @Mock
+    private SuspiciousAccountTransferService service;
+
+    @Mock
+    private SuspiciousAccountTransferRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MuleDetector detector;
+
+    @BeforeEach
+    void init() {
+        detector = new MuleDetector(graph, service, repository, new SuspiciousAccountTransferMapperImpl(),
+                transactionManager, new SimpleMeterRegistry(), 1L, 4, 3, 1);
+    }
+
+    @AfterEach
+    void close() {
+        detector.destroy();
+    }
+
+    @Test
+    @DisplayName("переводы схемы отмечаются: новые создаются, к существующим добавляется причина один раз")
+    void detectMarksTransfersTest() {
+        final long[] transferIds = {NEW_TRANSFER, MARKED_TRANSFER, SCORED_TRANSFER};
+        final long[] recipients = {RECIPIENT, RECIPIENT, RECIPIENT};
+        doReturn(List.of(new MuleHit(MuleHitType.CYCLE, ACCOUNT, transferIds, recipients)))
+                .when(graph).detect(anyLong(), anyInt(), anyInt(), any());
+        doReturn(List.of(
+                new SuspiciousAccountTransferEntity(ONE, MARKED_TRANSFER, false, true, null,
+                        MuleDetector.CYCLE_REASON, RECIPIENT),
+                new SuspiciousAccountTransferEntity(TWO, SCORED_TRANSFER, false, true, null,
+                        LARGE_AMOUNT, RECIPIENT)
+        )).when(repository).findAllByAccountTransferIdIn(any());
+
+        detector.detect();
+
+        final ArgumentCaptor<SuspiciousAccountTransferDto> created =
+                ArgumentCaptor.forClass(SuspiciousAccountTransferDto.class);
+        final ArgumentCaptor<SuspiciousAccountTransferDto> updated =
+                ArgumentCaptor.forClass(SuspiciousAccountTransferDto.class);
+        verify(service).create(created.capture());
+        verify(service).update(updated.capture(), eq(TWO));
+        assertAll(() -> {
+            assertEquals(NEW_TRANSFER, created.getValue().getAccountTransferId());
+            assertEquals(RECIPIENT, created.getValue().getAccountNumber());
+            assertTrue(created.getValue().getIsSuspicious());
+            assertFalse(created.getValue().getIsBlocked());
+            assertEquals(MuleDetector.CYCLE_REASON, created.getValue().getSuspiciousReason());
+            assertEquals(LARGE_AMOUNT + ", " + MuleDetector.CYCLE_REASON, updated.getValue().getSuspiciousReason());
+        });
+    }
+}
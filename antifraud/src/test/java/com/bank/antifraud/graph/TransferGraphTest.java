@@ -0,0 +1,119 @@
+package com.bank.antifraud.graph;
+
+import com.bank.antifraud.ParentTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransferGraphTest extends ParentTest {
+
+    private static final long FIRST = 40817810000000001L;
+    private static final long SECOND = 40817810000000002L;
+    private static final long THIRD = 40817810000000003L;
+    private static final long FOURTH = 40817810000000004L;
+    private static final long NOW_MS = 1_800_000_000_000L;
+    private static final long MINUTE_MS = 60_000L;
+    private static final int MAX_CYCLE_LENGTH = 4;
+    private static final int FAN_OUT = 3;
+
+    private ForkJoinPool pool;
+    private TransferGraph graph;
+
+    @BeforeEach
+    void init() {
+        pool = new ForkJoinPool(2);
+        graph = new TransferGraph(100);
+    }
+
+    @AfterEach
+    void close() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("круговая цепочка из трёх переводов находится один раз")
+    void cycleTest() {
+        graph.add(FIRST, SECOND, 1L, NOW_MS);
+        graph.add(SECOND, THIRD, 2L, NOW_MS + MINUTE_MS);
+        graph.add(THIRD, FIRST, 3L, NOW_MS + 2 * MINUTE_MS);
+
+        final List<MuleHit> hits = detect();
+
+        assertAll(() -> {
+            assertEquals(1, hits.size());
+            assertEquals(MuleHitType.CYCLE, hits.get(0).getType());
+            assertEquals(FIRST, hits.get(0).getAccount());
+            assertArrayEquals(new long[]{1L, 2L, 3L}, hits.get(0).getTransferIds());
+            assertArrayEquals(new long[]{SECOND, THIRD, FIRST}, hits.get(0).getRecipients());
+        });
+    }
+
+    @Test
+    @DisplayName("встречные переводы двух счетов и цепочка не по порядку времени не считаются круговыми")
+    void noCycleTest() {
+        graph.add(FIRST, SECOND, 1L, NOW_MS);
+        graph.add(SECOND, FIRST, 2L, NOW_MS + MINUTE_MS);
+        graph.add(THIRD, FOURTH, 3L, NOW_MS + MINUTE_MS);
+        graph.add(FOURTH, SECOND, 4L, NOW_MS + 2 * MINUTE_MS);
+        graph.add(SECOND, THIRD, 5L, NOW_MS + 3 * MINUTE_MS);
+
+        assertTrue(detect().isEmpty());
+    }
+
+    @Test
+    @DisplayName("веерная рассылка считается по разным получателям")
+    void fanOutTest() {
+        graph.add(FIRST, SECOND, 1L, NOW_MS);
+        graph.add(FIRST, SECOND, 2L, NOW_MS);
+        graph.add(FIRST, THIRD, 3L, NOW_MS);
+        assertTrue(detect().isEmpty());
+
+        graph.add(FIRST, FOURTH, 4L, NOW_MS);
+        final List<MuleHit> hits = detect();
+
+        assertAll(() -> {
+            assertEquals(1, hits.size());
+            assertEquals(MuleHitType.FAN_OUT, hits.get(0).getType());
+            assertArrayEquals(new long[]{4L, 3L, 2L, 1L}, hits.get(0).getTransferIds());
+        });
+    }
+
+    @Test
+    @DisplayName("переводы раньше начала окна не учитываются")
+    void windowTest() {
+        graph.add(FIRST, SECOND, 1L, NOW_MS - 2 * MINUTE_MS);
+        graph.add(SECOND, THIRD, 2L, NOW_MS);
+        graph.add(THIRD, FIRST, 3L, NOW_MS);
+
+        assertTrue(graph.detect(NOW_MS - MINUTE_MS, MAX_CYCLE_LENGTH, FAN_OUT, pool).isEmpty());
+    }
+
+    @Test
+    @DisplayName("при заполнении буфера затираются самые старые переводы")
+    void overwriteTest() {
+        final TransferGraph small = new TransferGraph(3);
+        small.add(FIRST, SECOND, 1L, NOW_MS);
+        small.add(SECOND, THIRD, 2L, NOW_MS);
+        small.add(THIRD, FIRST, 3L, NOW_MS);
+        small.add(THIRD, FOURTH, 4L, NOW_MS);
+
+        assertAll(() -> {
+            assertEquals(3, small.edges());
+            assertEquals(4, small.nodes());
+            assertTrue(small.detect(0, MAX_CYCLE_LENGTH, FAN_OUT, pool).isEmpty());
+        });
+    }
+
+    private List<MuleHit> detect() {
+        return graph.detect(NOW_MS - MINUTE_MS, MAX_CYCLE_LENGTH, FAN_OUT, pool);
+    }
+}
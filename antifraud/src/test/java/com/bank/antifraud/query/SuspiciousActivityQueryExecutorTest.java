@@ -0,0 +1,165 @@
+package com.bank.antifraud.query;
+
+import com.bank.antifraud.ParentTest;
+import com.bank.antifraud.dto.SuspiciousActivityDto;
+import com.bank.antifraud.dto.SuspiciousActivityFilterDto;
+import com.bank.antifraud.dto.SuspiciousActivityPageDto;
+import com.bank.antifraud.scoring.TransferType;
+import com.bank.common.exception.ValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class SuspiciousActivityQueryExecutorTest extends ParentTest {
+
+    private static final int MAX_LIMIT = 10;
+    private static final int MAX_TRANSFER_IDS = 5;
+    private static final String TABLE_PREFIX = "FROM anti_fraud.suspicious_";
+    private static final Map<TransferType, List<Long>> TABLE_IDS = Map.of(
+            TransferType.ACCOUNT, List.of(1L, 4L),
+            TransferType.CARD, List.of(2L, 4L),
+            TransferType.PHONE, List.of(3L));
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SuspiciousActivityQueryExecutor executor;
+
+    @BeforeEach
+    void init() {
+        executor = new SuspiciousActivityQueryExecutor(jdbcTemplate, transactionManager, new ObjectMapper(),
+                new SimpleMeterRegistry(), MAX_LIMIT, MAX_TRANSFER_IDS, 2);
+    }
+
+    @AfterEach
+    void close() {
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("строки трёх таблиц сливаются по id и типу, курсор - последняя строка страницы")
+    void pageMergesTablesTest() {
+        stubTables();
+
+        final SuspiciousActivityPageDto page = executor.page(filter(3, null, null, null));
+
+        assertAll(() -> {
+            assertEquals(List.of(1L, 2L, 3L), page.getItems().stream().map(SuspiciousActivityDto::getId).toList());
+            assertEquals(List.of(TransferType.ACCOUNT, TransferType.CARD, TransferType.PHONE),
+                    page.getItems().stream().map(SuspiciousActivityDto::getTransferType).toList());
+            assertEquals(3L, page.getNextAfterId());
+            assertEquals(TransferType.PHONE, page.getNextAfterType());
+        });
+    }
+
+    @Test
+    @DisplayName("неполная страница последняя")
+    void lastPageTest() {
+        stubTables();
+
+        final SuspiciousActivityPageDto page = executor.page(filter(MAX_LIMIT, null, null, null));
+
+        assertAll(() -> {
+            assertEquals(5, page.getItems().size());
+            assertNull(page.getNextAfterId());
+            assertNull(page.getNextAfterType());
+        });
+    }
+
+    @Test
+    @DisplayName("строки с id курсора пропускаются только в таблицах до его типа включительно")
+    void cursorIncludesSameIdOfNextTypesTest() {
+        stubTables();
+
+        executor.page(filter(2, 4L, TransferType.CARD, null));
+
+        final List<String> sql = capturedSql(3);
+        assertAll(() -> {
+            assertTrue(sqlFor(sql, "account").contains("id > :afterId"));
+            assertTrue(sqlFor(sql, "card").contains("id > :afterId"));
+            assertTrue(sqlFor(sql, "phone").contains("id >= :afterId"));
+        });
+    }
+
+    @Test
+    @DisplayName("при заданных id переводов читаются только таблицы с этими id")
+    void transferIdsLimitTablesTest() {
+        stubTables();
+
+        executor.page(filter(MAX_LIMIT, null, null, List.of(2L, 4L)));
+
+        final List<String> sql = capturedSql(1);
+        assertTrue(sql.get(0).contains("card_transfer_id IN (:transferIds)"));
+    }
+
+    @Test
+    @DisplayName("limit вне допустимого диапазона и лишние id переводов отклоняются")
+    void validationTest() {
+        final List<Long> transferIds = LongStream.rangeClosed(1, MAX_TRANSFER_IDS + 1).boxed().toList();
+
+        assertAll(() -> {
+            assertThrows(ValidationException.class, () -> executor.page(filter(0, null, null, null)));
+            assertThrows(ValidationException.class, () -> executor.page(filter(MAX_LIMIT + 1, null, null, null)));
+            assertThrows(ValidationException.class, () -> executor.stream(filter(1, null, null, transferIds)));
+        });
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private void stubTables() {
+        doAnswer(invocation -> {
+            final String sql = invocation.getArgument(0);
+            final int from = sql.indexOf(TABLE_PREFIX) + TABLE_PREFIX.length();
+            final TransferType type = TransferType.valueOf(sql.substring(from, sql.indexOf("_transfer WHERE"))
+                    .toUpperCase());
+            return TABLE_IDS.get(type).stream()
+                    .map(id -> new SuspiciousActivityDto(type, id, id, true, true, null, "", null))
+                    .toList();
+        }).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+    }
+
+    private List<String> capturedSql(int tables) {
+        final ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(tables)).query(sql.capture(), any(SqlParameterSource.class), any(RowMapper.class));
+        return sql.getAllValues();
+    }
+
+    private static String sqlFor(List<String> sql, String table) {
+        return sql.stream()
+                .filter(query -> query.contains(TABLE_PREFIX + table + "_transfer "))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static SuspiciousActivityFilterDto filter(int limit, Long afterId, TransferType afterType,
+                                                      List<Long> cardTransferIds) {
+        return new SuspiciousActivityFilterDto(null, null, null, cardTransferIds, null, afterId, afterType, limit);
+    }
+}
@@ -0,0 +1,102 @@
+package com.bank.antifraud.rule;
+
+import com.bank.antifraud.ParentTest;
+import com.bank.antifraud.scoring.ScoringAction;
+import com.bank.antifraud.scoring.VelocityCounter;
+import com.bank.antifraud.scoring.VelocityKeyType;
+import com.bank.common.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RuleCompilerTest extends ParentTest {
+
+    private static final long NOW_MS = 1_800_000_000_000L;
+    private static final long TRANSFER_AMOUNT = 1000L;
+    private static final int CARD_TRANSFERS = 6;
+
+    private final Map<VelocityKeyType, VelocityCounter> counters = new EnumMap<>(VelocityKeyType.class);
+
+    @BeforeEach
+    void init() {
+        final VelocityCounter card = new VelocityCounter();
+        for (int index = 0; index < CARD_TRANSFERS; index++) {
+            card.add(TRANSFER_AMOUNT, NOW_MS - index);
+        }
+        counters.put(VelocityKeyType.CARD, card);
+    }
+
+    @Test
+    @DisplayName("правило из примера: крупная сумма и частые переводы на карту")
+    void compileExampleTest() {
+        final CompiledRule rule = RuleCompiler.compile(
+                "amount > 100000 and velocity(card, 1h) > 5 -> block \"velocity\"");
+
+        assertAll(() -> {
+            assertEquals(ScoringAction.BLOCK, rule.getAction());
+            assertEquals("velocity", rule.getReason());
+            assertTrue(rule.matches(context(BigDecimal.valueOf(150000L))));
+            assertFalse(rule.matches(context(BigDecimal.valueOf(100000L))));
+        });
+    }
+
+    @Test
+    @DisplayName("and связывает сильнее or, not и скобки, ключевые слова без учёта регистра")
+    void compilePrecedenceTest() {
+        final CompiledRule rule = RuleCompiler.compile(
+                "amount < 10 OR amount > 500 AND count(card, 1h) > 100 -> suspicious \"приоритет\"");
+        final CompiledRule negated = RuleCompiler.compile(
+                "not (sum(card, day) <= 6000) or count(phone, 1m) != 0 -> suspicious \"отрицание\"");
+
+        assertAll(() -> {
+            assertEquals(ScoringAction.SUSPICIOUS, rule.getAction());
+            assertTrue(rule.matches(context(BigDecimal.ONE)));
+            assertFalse(rule.matches(context(BigDecimal.valueOf(TRANSFER_AMOUNT))));
+            assertFalse(negated.matches(context(BigDecimal.ONE)));
+        });
+    }
+
+    @Test
+    @DisplayName("ключ без счётчика даёт 0")
+    void compileMissingCounterTest() {
+        final CompiledRule rule = RuleCompiler.compile("count(sender, 1d) > 0 -> suspicious \"отправитель\"");
+
+        assertFalse(rule.matches(context(BigDecimal.ONE)));
+    }
+
+    @Test
+    @DisplayName("ошибки в тексте правила")
+    void compileNegativeTest() {
+        final List<String> sources = List.of(
+                "",
+                "amount > 100",
+                "amount > 100 -> block",
+                "amount > 100 -> allow \"x\"",
+                "amount >> 100 -> block \"x\"",
+                "count(iban, 1h) > 5 -> block \"x\"",
+                "count(card, 2h) > 5 -> block \"x\"",
+                "count(card, 1h) > 5.5 -> block \"x\"",
+                "(amount > 100 -> block \"x\"",
+                "amount > 100 -> block \"x\" extra",
+                "amount > 100 & count(card, 1h) > 1 -> block \"x\"");
+
+        assertAll(sources.stream().map(source -> (Executable) () ->
+                assertThrows(ValidationException.class, () -> RuleCompiler.compile(source), source)));
+    }
+
+    private RuleContext context(BigDecimal amount) {
+        return new RuleContext(amount, counters, NOW_MS);
+    }
+}
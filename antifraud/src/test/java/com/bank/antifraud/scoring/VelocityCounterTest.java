@@ -0,0 +1,46 @@
+package com.bank.antifraud.scoring;
+
+import com.bank.antifraud.ParentTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VelocityCounterTest extends ParentTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long MINUTE = 60_000L;
+    private static final long AMOUNT = 100L;
+
+    @Test
+    @DisplayName("количество и сумма во всех окнах")
+    void addTest() {
+        final VelocityCounter counter = new VelocityCounter();
+
+        counter.add(AMOUNT, NOW);
+        counter.add(AMOUNT, NOW + 1);
+
+        assertAll(() -> {
+            assertEquals(TWO, counter.count(VelocityWindow.MINUTE, NOW + 1));
+            assertEquals(TWO, counter.count(VelocityWindow.DAY, NOW + 1));
+            assertEquals(2 * AMOUNT, counter.sum(VelocityWindow.HOUR, NOW + 1));
+            assertEquals(NOW + 1, counter.getLastSeenMs());
+        });
+    }
+
+    @Test
+    @DisplayName("переводы выходят из окна по истечении времени")
+    void slidingTest() {
+        final VelocityCounter counter = new VelocityCounter();
+
+        counter.add(AMOUNT, NOW);
+        counter.add(AMOUNT, NOW + 2 * MINUTE);
+
+        assertAll(() -> {
+            assertEquals(ONE, counter.count(VelocityWindow.MINUTE, NOW + 2 * MINUTE));
+            assertEquals(TWO, counter.count(VelocityWindow.HOUR, NOW + 2 * MINUTE));
+            assertEquals(0L, counter.count(VelocityWindow.HOUR, NOW + 3 * 60 * MINUTE));
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.bank.antifraud.screening;
+
+import com.bank.antifraud.ParentTest;
+import com.bank.antifraud.scoring.TransferType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockedInstrumentIndexTest extends ParentTest {
+
+    private static final long CARD = 4276000000000001L;
+    private static final long OTHER_CARD = 4276000000000002L;
+    private static final long PHONE = 79000000001L;
+    private static final int ENTRIES = 100_000;
+
+    private BlockedInstrumentIndex index;
+
+    @BeforeEach
+    void init() {
+        index = new BlockedInstrumentIndex(ENTRIES, 0.01);
+        index.markLoaded();
+    }
+
+    @Test
+    @DisplayName("до заполнения индекс не отвечает на проверки")
+    void notLoadedTest() {
+        final BlockedInstrumentIndex loading = new BlockedInstrumentIndex(ENTRIES, 0.01);
+
+        assertThrows(IllegalStateException.class, () -> loading.isBlocked(TransferType.CARD, CARD));
+    }
+
+    @Test
+    @DisplayName("заблокированный номер находится только для своего типа перевода")
+    void createdBlockedTest() {
+        index.created(TransferType.CARD, CARD, true);
+        index.created(TransferType.CARD, OTHER_CARD, false);
+
+        assertAll(() -> {
+            assertTrue(index.isBlocked(TransferType.CARD, CARD));
+            assertFalse(index.isBlocked(TransferType.CARD, OTHER_CARD));
+            assertFalse(index.isBlocked(TransferType.PHONE, CARD));
+            assertEquals(1, index.size(TransferType.CARD));
+        });
+    }
+
+    @Test
+    @DisplayName("снятие блокировки удаляет номер, если других заблокированных переводов на него нет")
+    void updatedReleasedTest() {
+        index.created(TransferType.CARD, CARD, true);
+        index.created(TransferType.CARD, OTHER_CARD, true);
+
+        index.updated(TransferType.CARD, CARD, true, CARD, false, number -> false);
+        index.updated(TransferType.CARD, OTHER_CARD, true, OTHER_CARD, false, number -> true);
+
+        assertAll(() -> {
+            assertFalse(index.isBlocked(TransferType.CARD, CARD));
+            assertTrue(index.isBlocked(TransferType.CARD, OTHER_CARD));
+        });
+    }
+
+    @Test
+    @DisplayName("смена номера в заблокированном переводе переносит блокировку")
+    void updatedNumberChangedTest() {
+        index.created(TransferType.PHONE, PHONE, true);
+
+        index.updated(TransferType.PHONE, PHONE, true, PHONE + 1, true, number -> false);
+
+        assertAll(() -> {
+            assertFalse(index.isBlocked(TransferType.PHONE, PHONE));
+            assertTrue(index.isBlocked(TransferType.PHONE, PHONE + 1));
+        });
+    }
+
+    @Test
+    @DisplayName("ложные срабатывания фильтра отсекаются точным множеством")
+    void noFalsePositivesTest() {
+        LongStream.range(0, ENTRIES).forEach(number -> index.add(TransferType.ACCOUNT, number * 2));
+        LongStream.range(0, ENTRIES / 2).forEach(number ->
+                index.updated(TransferType.ACCOUNT, number * 4, true, null, false, blocked -> false));
+
+        assertAll(() -> {
+            assertEquals(ENTRIES / 2, index.size(TransferType.ACCOUNT));
+            assertTrue(LongStream.range(0, ENTRIES / 2).allMatch(number ->
+                    index.isBlocked(TransferType.ACCOUNT, number * 4 + 2)));
+            assertTrue(LongStream.range(0, ENTRIES / 2).noneMatch(number ->
+                    index.isBlocked(TransferType.ACCOUNT, number * 4)));
+            assertTrue(LongStream.range(0, ENTRIES).noneMatch(number ->
+                    index.isBlocked(TransferType.ACCOUNT, number * 2 + 1)));
+        });
+    }
+}
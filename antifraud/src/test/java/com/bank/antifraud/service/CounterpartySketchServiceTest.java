@@ -0,0 +1,87 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.ParentTest;
+import com.bank.antifraud.dto.CounterpartyCountDto;
+import com.bank.antifraud.entity.CounterpartySketchEntity;
+import com.bank.antifraud.repository.CounterpartySketchRepository;
+import com.bank.antifraud.scoring.TransferType;
+import com.bank.antifraud.service.impl.CounterpartySketchServiceImpl;
+import com.bank.antifraud.sketch.CounterpartySketchStore;
+import com.bank.antifraud.sketch.HyperLogLog;
+import com.bank.common.exception.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+
+class CounterpartySketchServiceTest extends ParentTest {
+
+    private static final int PRECISION = 12;
+    private static final int MAX_WINDOW_HOURS = 48;
+    private static final OffsetDateTime FROM = OffsetDateTime.parse("2026-10-01T10:15:00Z");
+    private static final OffsetDateTime TO = OffsetDateTime.parse("2026-10-01T12:30:00Z");
+    private static final long PHONE = 79_990_000_000L;
+
+    @Mock
+    private CounterpartySketchRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CounterpartySketchStore store;
+
+    private CounterpartySketchServiceImpl service;
+
+    @BeforeEach
+    void init() {
+        store = new CounterpartySketchStore(repository, transactionManager, new SimpleMeterRegistry(), PRECISION,
+                500, 90);
+        service = new CounterpartySketchServiceImpl(repository, store, MAX_WINDOW_HOURS);
+    }
+
+    @Test
+    @DisplayName("оценка окна объединяет сохранённые часы и ещё не записанные переводы")
+    void countPositiveTest() {
+        final HyperLogLog stored = new HyperLogLog(PRECISION);
+        for (long phone = 0; phone < 10; phone++) {
+            stored.add(PHONE + phone);
+        }
+        final OffsetDateTime firstHour = OffsetDateTime.parse("2026-10-01T10:00:00Z");
+        doReturn(List.of(new CounterpartySketchEntity(ONE, ONE, TransferType.PHONE, firstHour, stored.toBytes())))
+                .when(repository).findAllByAccountDetailsIdAndBucketStartBetween(eq(ONE), any(), any());
+        store.record(ONE, TransferType.PHONE, PHONE, TO.toInstant().toEpochMilli());
+        store.record(ONE, TransferType.PHONE, PHONE + 100, TO.toInstant().toEpochMilli());
+
+        final CounterpartyCountDto result = service.count(ONE, FROM, TO);
+
+        assertAll(() -> {
+            assertEquals(firstHour, result.getWindowStart());
+            assertEquals(OffsetDateTime.parse("2026-10-01T13:00:00Z"), result.getWindowEnd());
+            assertEquals(11, result.getPhoneNumbers());
+            assertEquals(0, result.getCardNumbers());
+        });
+    }
+
+    @Test
+    @DisplayName("окно длиннее max-window-hours или пустое, негативный сценарий")
+    void countNegativeTest() {
+        assertAll(() -> {
+            assertThrows(ValidationException.class,
+                    () -> service.count(ONE, FROM, FROM.plusHours(MAX_WINDOW_HOURS + 1)));
+            assertThrows(ValidationException.class, () -> service.count(ONE, TO, FROM));
+            assertThrows(ValidationException.class, () -> service.count(null, FROM, TO));
+        });
+    }
+}
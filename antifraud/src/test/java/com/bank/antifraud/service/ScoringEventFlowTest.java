@@ -0,0 +1,106 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.ParentTest;
+import com.bank.antifraud.config.ScoringProperties;
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.graph.MuleHit;
+import com.bank.antifraud.graph.MuleHitType;
+import com.bank.antifraud.graph.TransferGraph;
+import com.bank.antifraud.repository.ScoringEventRepository;
+import com.bank.antifraud.repository.ScoringRuleRepository;
+import com.bank.antifraud.rule.ScoringRuleRegistry;
+import com.bank.antifraud.scoring.VelocityStore;
+import com.bank.antifraud.service.impl.ScoringEventServiceImpl;
+import com.bank.antifraud.service.impl.ScoringServiceImpl;
+import com.bank.antifraud.sketch.CounterpartySketchStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * Событие outbox сервиса переводов от тела запроса до ребра {@link TransferGraph}
+ */
+class ScoringEventFlowTest extends ParentTest {
+
+    private static final String EVENT = "{\"eventId\":\"event-%d\",\"transferType\":\"ACCOUNT\",\"transferId\":%d," +
+            "\"accountDetailsId\":%d,\"number\":%d,\"amount\":10.00,\"purpose\":null,\"senderNumber\":%d}";
+    private static final long FIRST = 40817810000000001L;
+    private static final long SECOND = 40817810000000002L;
+    private static final long THIRD = 40817810000000003L;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final TransferGraph graph = new TransferGraph(100);
+
+    @Mock
+    private ScoringEventRepository eventRepository;
+
+    @Mock
+    private ScoringRuleRepository ruleRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SuspiciousAccountTransferService accountTransferService;
+
+    @Mock
+    private SuspiciousCardTransferService cardTransferService;
+
+    @Mock
+    private SuspiciousPhoneTransferService phoneTransferService;
+
+    @Mock
+    private CounterpartySketchStore sketches;
+
+    private ScoringEventServiceImpl service;
+
+    @BeforeEach
+    void init() {
+        final ScoringServiceImpl scoring = new ScoringServiceImpl(new VelocityStore(new SimpleMeterRegistry(), 0L),
+                new ScoringRuleRegistry(new ScoringProperties(), ruleRepository, transactionManager),
+                accountTransferService, cardTransferService, phoneTransferService, graph, sketches);
+        service = new ScoringEventServiceImpl(scoring, eventRepository, objectMapper, transactionManager, 168);
+        doReturn(1).when(eventRepository).reserve(anyString(), any(OffsetDateTime.class));
+    }
+
+    @Test
+    @DisplayName("переводы между счетами из событий outbox попадают в граф и замыкают круговую схему")
+    void eventToGraphEdgeTest() throws Exception {
+        score(1, FIRST, SECOND);
+        score(2, SECOND, THIRD);
+        score(3, THIRD, FIRST);
+
+        final List<MuleHit> hits = graph.detect(0, 3, 10, ForkJoinPool.commonPool());
+
+        assertAll(() -> {
+            assertEquals(3, graph.edges());
+            assertEquals(1, hits.size());
+            assertEquals(MuleHitType.CYCLE, hits.get(0).getType());
+            assertArrayEquals(new long[]{1, 2, 3}, hits.get(0).getTransferIds());
+        });
+    }
+
+    /**
+     * Тело запроса в том виде, в каком его пишет OutboxWriter сервиса переводов
+     */
+    private void score(long transferId, long sender, long recipient) throws Exception {
+        final String body = String.format(EVENT, transferId, transferId, transferId, recipient, sender);
+        service.score("event-" + transferId, objectMapper.readValue(body, TransferScoringDto.class));
+    }
+}
@@ -0,0 +1,139 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.ParentTest;
+import com.bank.antifraud.dto.ScoringVerdictDto;
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.entity.ScoringEventEntity;
+import com.bank.antifraud.repository.ScoringEventRepository;
+import com.bank.antifraud.scoring.TransferType;
+import com.bank.antifraud.service.impl.ScoringEventServiceImpl;
+import com.bank.common.exception.ConflictException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ScoringEventServiceTest extends ParentTest {
+
+    private static final String EVENT_ID = "7b0c0c5e-3f0e-4c8a-9f43-0e5e2d6c8a11";
+    private static final String STORED_VERDICT = "{\"id\":1,\"transferType\":\"CARD\",\"isBlocked\":false," +
+            "\"isSuspicious\":true,\"blockedReason\":null,\"suspiciousReason\":\"Крупная сумма\"}";
+
+    private ScoringEventServiceImpl service;
+
+    @Mock
+    private ScoringService scoringService;
+
+    @Mock
+    private ScoringEventRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void init() {
+        service = new ScoringEventServiceImpl(scoringService, repository, new ObjectMapper(), transactionManager,
+                168);
+    }
+
+    @Test
+    @DisplayName("первая доставка события проверяется и сохраняет вердикт")
+    void scoreFirstDeliveryTest() {
+        final TransferScoringDto transfer = new TransferScoringDto();
+        final ScoringVerdictDto verdict = verdict();
+        doReturn(1).when(repository).reserve(eq(EVENT_ID), any(OffsetDateTime.class));
+        doReturn(verdict).when(scoringService).score(transfer);
+
+        final ScoringVerdictDto result = service.score(EVENT_ID, transfer);
+
+        assertAll(() -> {
+            assertSame(verdict, result);
+            verify(repository).complete(eq(EVENT_ID), anyString());
+        });
+    }
+
+    @Test
+    @DisplayName("повторная доставка события получает сохранённый вердикт без скоринга")
+    void scoreRedeliveryTest() {
+        doReturn(0).when(repository).reserve(eq(EVENT_ID), any(OffsetDateTime.class));
+        doReturn(Optional.of(new ScoringEventEntity(EVENT_ID, STORED_VERDICT, OffsetDateTime.now())))
+                .when(repository).findById(EVENT_ID);
+
+        final ScoringVerdictDto result = service.score(EVENT_ID, new TransferScoringDto());
+
+        assertAll(() -> {
+            assertEquals(ONE, result.getId());
+            assertEquals(TransferType.CARD, result.getTransferType());
+            assertTrue(result.getIsSuspicious());
+            verify(scoringService, never()).score(any());
+        });
+    }
+
+    @Test
+    @DisplayName("повтор события, которое ещё проверяется, отклоняется")
+    void scoreInProgressNegativeTest() {
+        doReturn(0).when(repository).reserve(eq(EVENT_ID), any(OffsetDateTime.class));
+        doReturn(Optional.of(new ScoringEventEntity(EVENT_ID, null, OffsetDateTime.now())))
+                .when(repository).findById(EVENT_ID);
+
+        assertAll(() -> {
+            assertThrows(ConflictException.class, () -> service.score(EVENT_ID, new TransferScoringDto()));
+            verify(scoringService, never()).score(any());
+        });
+    }
+
+    @Test
+    @DisplayName("ошибка скоринга освобождает событие для повтора")
+    void scoreFailureReleasesEventNegativeTest() {
+        final TransferScoringDto transfer = new TransferScoringDto();
+        final RuntimeException failure = new IllegalArgumentException("Счёт не найден");
+        doReturn(1).when(repository).reserve(eq(EVENT_ID), any(OffsetDateTime.class));
+        doThrow(failure).when(scoringService).score(transfer);
+
+        final RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> service.score(EVENT_ID, transfer));
+
+        assertAll(() -> {
+            assertSame(failure, exception);
+            verify(repository).deleteReservation(EVENT_ID);
+            verify(repository, never()).complete(anyString(), anyString());
+        });
+    }
+
+    @Test
+    @DisplayName("событие без X-Event-Id проверяется без учёта повторов")
+    void scoreWithoutEventIdTest() {
+        final TransferScoringDto transfer = new TransferScoringDto();
+        final ScoringVerdictDto verdict = verdict();
+        doReturn(verdict).when(scoringService).score(transfer);
+
+        final ScoringVerdictDto result = service.score(null, transfer);
+
+        assertAll(() -> {
+            assertSame(verdict, result);
+            verify(repository, never()).reserve(anyString(), any());
+        });
+    }
+
+    private ScoringVerdictDto verdict() {
+        return new ScoringVerdictDto(ONE, TransferType.CARD, false, true, null, "Крупная сумма");
+    }
+}
@@ -0,0 +1,90 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.ParentTest;
+import com.bank.antifraud.dto.ScoringRuleDto;
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import com.bank.antifraud.mapper.ScoringRuleMapperImpl;
+import com.bank.antifraud.repository.ScoringRuleRepository;
+import com.bank.antifraud.service.impl.ScoringRuleServiceImpl;
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ScoringRuleServiceTest extends ParentTest {
+
+    private static final String EXPRESSION = "amount > 100000 and velocity(card, 1h) > 5 -> block \"velocity\"";
+    private static final String UPDATED_EXPRESSION = "amount > 50000 -> suspicious \"amount\"";
+
+    @InjectMocks
+    private ScoringRuleServiceImpl service;
+
+    @Mock
+    private ScoringRuleRepository repository;
+
+    @Mock
+    private AuditWriter auditWriter;
+
+    @Spy
+    private ScoringRuleMapperImpl mapper;
+
+    @Test
+    @DisplayName("сохранение, позитивный сценарий")
+    void createPositiveTest() {
+        doReturn(new ScoringRuleEntity(ONE, EXPRESSION, true)).when(repository).save(any());
+
+        final ScoringRuleDto result = service.create(new ScoringRuleDto(null, EXPRESSION, true));
+
+        assertAll(() -> {
+            assertEquals(ONE, result.getId());
+            assertEquals(EXPRESSION, result.getExpression());
+            verify(auditWriter).created(ScoringRuleEntity.class, result);
+        });
+    }
+
+    @Test
+    @DisplayName("сохранение правила с ошибкой, негативный сценарий")
+    void createInvalidNegativeTest() {
+        assertThrows(ValidationException.class,
+                () -> service.create(new ScoringRuleDto(null, "amount > -> block \"x\"", true)));
+
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("обновление, позитивный сценарий")
+    void updatePositiveTest() {
+        doReturn(Optional.of(new ScoringRuleEntity(ONE, EXPRESSION, true))).when(repository).findById(ONE);
+        doReturn(new ScoringRuleEntity(ONE, UPDATED_EXPRESSION, false)).when(repository).save(any());
+
+        final ScoringRuleDto result = service.update(new ScoringRuleDto(null, UPDATED_EXPRESSION, false), ONE);
+
+        assertAll(() -> {
+            assertEquals(ONE, result.getId());
+            assertEquals(UPDATED_EXPRESSION, result.getExpression());
+            assertEquals(false, result.getIsEnabled());
+        });
+    }
+
+    @Test
+    @DisplayName("чтение по несуществующему id, негативный сценарий")
+    void readNoIdNegativeTest() {
+        final EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> service.read(ONE));
+
+        assertEquals(getNotFoundExceptionMessage(ONE, "ScoringRule"), exception.getMessage());
+    }
+}
@@ -0,0 +1,192 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.ParentTest;
+import com.bank.antifraud.config.ScoringProperties;
+import com.bank.antifraud.dto.ScoringVerdictDto;
+import com.bank.antifraud.dto.SuspiciousCardTransferDto;
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.entity.ScoringRuleEntity;
+import com.bank.antifraud.graph.TransferGraph;
+import com.bank.antifraud.repository.ScoringRuleRepository;
+import com.bank.antifraud.rule.ScoringRuleRegistry;
+import com.bank.antifraud.scoring.ScoringAction;
+import com.bank.antifraud.scoring.ScoringMetric;
+import com.bank.antifraud.scoring.TransferType;
+import com.bank.antifraud.scoring.VelocityKeyType;
+import com.bank.antifraud.scoring.VelocityStore;
+import com.bank.antifraud.scoring.VelocityWindow;
+import com.bank.antifraud.service.impl.ScoringServiceImpl;
+import com.bank.antifraud.sketch.CounterpartySketchStore;
+import com.bank.common.exception.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ScoringServiceTest extends ParentTest {
+
+    private static final String LARGE_AMOUNT = "Крупная сумма";
+    private static final String SENDER_VELOCITY = "Частые переводы";
+    private static final String CARD_VELOCITY = "Крупные переводы на карту";
+    private static final Long SENDER_ACCOUNT = 3L;
+
+    private ScoringServiceImpl service;
+
+    @Mock
+    private SuspiciousAccountTransferService accountTransferService;
+
+    @Mock
+    private SuspiciousCardTransferService cardTransferService;
+
+    @Mock
+    private SuspiciousPhoneTransferService phoneTransferService;
+
+    @Mock
+    private TransferGraph graph;
+
+    @Mock
+    private ScoringRuleRepository ruleRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CounterpartySketchStore sketches;
+
+    private ScoringRuleRegistry registry;
+
+    @BeforeEach
+    void init() {
+        final ScoringProperties properties = new ScoringProperties();
+        properties.setRules(List.of(
+                getRule(LARGE_AMOUNT, null, ScoringMetric.AMOUNT, BigDecimal.valueOf(1000L), ScoringAction.SUSPICIOUS),
+                getRule(SENDER_VELOCITY, VelocityKeyType.SENDER, ScoringMetric.COUNT, BigDecimal.ONE,
+                        ScoringAction.BLOCK)
+        ));
+        final VelocityStore store = new VelocityStore(new SimpleMeterRegistry(), 0L);
+        registry = new ScoringRuleRegistry(properties, ruleRepository, transactionManager);
+        service = new ScoringServiceImpl(store, registry, accountTransferService, cardTransferService,
+                phoneTransferService, graph, sketches);
+    }
+
+    @Test
+    @DisplayName("скоринг обычного перевода, вердикт не сохраняется")
+    void scoreCleanTest() {
+        final ScoringVerdictDto result = service.score(getTransfer(BigDecimal.TEN));
+
+        assertAll(() -> {
+            assertFalse(result.getIsSuspicious());
+            assertFalse(result.getIsBlocked());
+            assertNull(result.getId());
+            verify(cardTransferService, never()).create(any());
+            verify(graph, never()).add(anyLong(), anyLong(), anyLong(), anyLong());
+        });
+    }
+
+    @Test
+    @DisplayName("скоринг крупного перевода, вердикт сохраняется")
+    void scoreSuspiciousTest() {
+        doReturn(new SuspiciousCardTransferDto(TWO, ONE, false, true, null, LARGE_AMOUNT, null))
+                .when(cardTransferService).create(any());
+
+        final ScoringVerdictDto result = service.score(getTransfer(BigDecimal.valueOf(5000L)));
+
+        assertAll(() -> {
+            assertTrue(result.getIsSuspicious());
+            assertFalse(result.getIsBlocked());
+            assertEquals(LARGE_AMOUNT, result.getSuspiciousReason());
+            assertEquals(TWO, result.getId());
+        });
+    }
+
+    @Test
+    @DisplayName("скоринг блокирует перевод при превышении частоты")
+    void scoreBlockedTest() {
+        doReturn(new SuspiciousCardTransferDto(TWO, ONE, true, true, SENDER_VELOCITY, "", null))
+                .when(cardTransferService).create(any());
+
+        service.score(getTransfer(BigDecimal.TEN));
+        final ScoringVerdictDto result = service.score(getTransfer(BigDecimal.TEN));
+
+        assertAll(() -> {
+            assertTrue(result.getIsBlocked());
+            assertTrue(result.getIsSuspicious());
+            assertEquals(SENDER_VELOCITY, result.getBlockedReason());
+        });
+    }
+
+    @Test
+    @DisplayName("правило из таблицы после перезагрузки блокирует перевод со своей причиной")
+    void scoreTableRuleTest() {
+        final String expression = "amount > 100 and count(card, 1h) >= 1 -> block \"" + CARD_VELOCITY + "\"";
+        doReturn(List.of(new ScoringRuleEntity(ONE, expression, true)))
+                .when(ruleRepository).findAllByIsEnabledTrueOrderById();
+        doReturn(new SuspiciousCardTransferDto(TWO, ONE, true, true, CARD_VELOCITY, "", null))
+                .when(cardTransferService).create(any());
+
+        registry.reload();
+        final ScoringVerdictDto result = service.score(getTransfer(BigDecimal.valueOf(500L)));
+
+        assertAll(() -> {
+            assertTrue(result.getIsBlocked());
+            assertEquals(CARD_VELOCITY, result.getBlockedReason());
+            assertEquals("", result.getSuspiciousReason());
+        });
+    }
+
+    @Test
+    @DisplayName("перевод между счетами с номером счёта отправителя добавляется в граф переводов")
+    void scoreAccountTransferAddsGraphEdgeTest() {
+        service.score(new TransferScoringDto(ONE, TransferType.ACCOUNT, ONE, TWO, BigDecimal.TEN, SENDER_ACCOUNT));
+
+        verify(graph).add(eq(SENDER_ACCOUNT), eq(TWO), eq(ONE), anyLong());
+    }
+
+    @Test
+    @DisplayName("получатель перевода учитывается в оценке разных получателей счёта отправителя")
+    void scoreRecordsCounterpartyTest() {
+        service.score(getTransfer(BigDecimal.TEN));
+
+        verify(sketches).record(eq(ONE), eq(TransferType.CARD), eq(TWO), anyLong());
+    }
+
+    @Test
+    @DisplayName("скоринг перевода без суммы")
+    void scoreNegativeTest() {
+        assertThrows(ValidationException.class, () -> service.score(getTransfer(null)));
+    }
+
+    private static TransferScoringDto getTransfer(BigDecimal amount) {
+        return new TransferScoringDto(ONE, TransferType.CARD, ONE, TWO, amount, null);
+    }
+
+    private static ScoringProperties.Rule getRule(String name, VelocityKeyType key, ScoringMetric metric,
+                                                  BigDecimal threshold, ScoringAction action) {
+        final ScoringProperties.Rule rule = new ScoringProperties.Rule();
+        rule.setName(name);
+        rule.setKey(key);
+        rule.setWindow(VelocityWindow.MINUTE);
+        rule.setMetric(metric);
+        rule.setThreshold(threshold);
+        rule.setAction(action);
+        return rule;
+    }
+}
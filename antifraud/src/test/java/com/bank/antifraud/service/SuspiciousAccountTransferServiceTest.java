@@ -5,9 +5,11 @@ import com.bank.antifraud.dto.SuspiciousAccountTransferDto;
 import com.bank.antifraud.entity.SuspiciousAccountTransferEntity;
 import com.bank.antifraud.mapper.SuspiciousAccountTransferMapperImpl;
 import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
+import com.bank.antifraud.screening.BlockedInstrumentIndex;
 import com.bank.antifraud.service.impl.SuspiciousAccountTransferServiceImpl;
 import com.bank.antifraud.supplier.SuspiciousAccountTransferSupplier;
-import com.bank.antifraud.util.ListSizeValidator;
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,11 +35,15 @@ public class SuspiciousAccountTransferServiceTest extends ParentTest {
 
     private static SuspiciousAccountTransferEntity suspiciousAccountTransfer;
     private static SuspiciousAccountTransferEntity updatedSuspiciousAccountTransfer;
+    private static SuspiciousAccountTransferEntity secondSuspiciousAccountTransfer;
     private static SuspiciousAccountTransferDto updateSuspiciousAccountTransferDto;
 
     @InjectMocks
     private SuspiciousAccountTransferServiceImpl service;
 
+    @Mock
+    private AuditWriter auditWriter;
+
     @Mock
     private SuspiciousAccountTransferRepository repository;
 
@@ -45,7 +51,10 @@ public class SuspiciousAccountTransferServiceTest extends ParentTest {
     private SuspiciousAccountTransferMapperImpl mapper;
 
     @Spy
-    private ListSizeValidator listSizeValidator;
+    private BulkReader bulkReader = new BulkReader(100, 100);
+
+    @Mock
+    private BlockedInstrumentIndex index;
 
     @BeforeAll
     static void init() {
@@ -55,6 +64,8 @@ public class SuspiciousAccountTransferServiceTest extends ParentTest {
 
         updatedSuspiciousAccountTransfer = suspiciousAccountTransferSupplier.getEntity(ONE, TWO, FALSE, REASON);
 
+        secondSuspiciousAccountTransfer = suspiciousAccountTransferSupplier.getEntity(TWO, TWO, FALSE, REASON);
+
         updateSuspiciousAccountTransferDto = suspiciousAccountTransferSupplier.getDto(ONE, TWO, FALSE, REASON);
     }
 
@@ -225,14 +236,14 @@ public class SuspiciousAccountTransferServiceTest extends ParentTest {
                     assertEquals(suspiciousAccountTransfer.getIsBlocked(), indexZeroTransfer.getIsBlocked());
                     assertEquals(suspiciousAccountTransfer.getIsSuspicious(), indexZeroTransfer.getIsSuspicious());
                     assertEquals(suspiciousAccountTransfer.getBlockedReason(), indexZeroTransfer.getBlockedReason());
-                    assertEquals(updatedSuspiciousAccountTransfer.getId(), indexOneTransfer.getId());
-                    assertEquals(updatedSuspiciousAccountTransfer.getSuspiciousReason(), suspiciousReason);
-                    assertEquals(updatedSuspiciousAccountTransfer.getAccountTransferId(), accountTransferId);
-                    assertEquals(updatedSuspiciousAccountTransfer.getIsBlocked(), indexOneTransfer.getIsBlocked());
-                    assertEquals(updatedSuspiciousAccountTransfer.getIsSuspicious(),
+                    assertEquals(secondSuspiciousAccountTransfer.getId(), indexOneTransfer.getId());
+                    assertEquals(secondSuspiciousAccountTransfer.getSuspiciousReason(), suspiciousReason);
+                    assertEquals(secondSuspiciousAccountTransfer.getAccountTransferId(), accountTransferId);
+                    assertEquals(secondSuspiciousAccountTransfer.getIsBlocked(), indexOneTransfer.getIsBlocked());
+                    assertEquals(secondSuspiciousAccountTransfer.getIsSuspicious(),
                             indexOneTransfer.getIsSuspicious()
                     );
-                    assertEquals(updatedSuspiciousAccountTransfer.getBlockedReason(),
+                    assertEquals(secondSuspiciousAccountTransfer.getBlockedReason(),
                             indexOneTransfer.getBlockedReason()
                     );
                     assertEquals(suspiciousAccountTransfer.getSuspiciousReason(),
@@ -246,7 +257,7 @@ public class SuspiciousAccountTransferServiceTest extends ParentTest {
     }
 
     private List<SuspiciousAccountTransferDto> readAllTestPrepare() {
-        doReturn(List.of(suspiciousAccountTransfer, updatedSuspiciousAccountTransfer)).when(repository).findAllById(
+        doReturn(List.of(suspiciousAccountTransfer, secondSuspiciousAccountTransfer)).when(repository).findAllById(
                 any()
         );
 
@@ -264,7 +275,7 @@ public class SuspiciousAccountTransferServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(List.of(ONE, TWO))
         );
 
-        assertEquals("Количество найденных и запрошенных записей не совпадает.", exception.getMessage());
+        assertEquals("SuspiciousAccountTransfer не найдены, id = [2]", exception.getMessage());
     }
 
     @Test
@@ -5,9 +5,11 @@ import com.bank.antifraud.dto.SuspiciousCardTransferDto;
 import com.bank.antifraud.entity.SuspiciousCardTransferEntity;
 import com.bank.antifraud.mapper.SuspiciousCardTransferMapperImpl;
 import com.bank.antifraud.repository.SuspiciousCardTransferRepository;
+import com.bank.antifraud.screening.BlockedInstrumentIndex;
 import com.bank.antifraud.service.impl.SuspiciousCardTransferServiceImpl;
 import com.bank.antifraud.supplier.SuspiciousCardTransferSupplier;
-import com.bank.antifraud.util.ListSizeValidator;
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,12 +35,16 @@ class SuspiciousCardTransferServiceTest extends ParentTest {
 
     private static SuspiciousCardTransferEntity suspiciousCardTransfer;
     private static SuspiciousCardTransferEntity updatedSuspiciousCardTransfer;
+    private static SuspiciousCardTransferEntity secondSuspiciousCardTransfer;
 
     private static SuspiciousCardTransferDto updateSuspiciousCardTransferDto;
 
     @InjectMocks
     private SuspiciousCardTransferServiceImpl service;
 
+    @Mock
+    private AuditWriter auditWriter;
+
     @Mock
     private SuspiciousCardTransferRepository repository;
 
@@ -46,7 +52,10 @@ class SuspiciousCardTransferServiceTest extends ParentTest {
     private SuspiciousCardTransferMapperImpl mapper;
 
     @Spy
-    private ListSizeValidator listSizeValidator;
+    private BulkReader bulkReader = new BulkReader(100, 100);
+
+    @Mock
+    private BlockedInstrumentIndex index;
 
     @BeforeAll
     static void init() {
@@ -57,6 +66,8 @@ class SuspiciousCardTransferServiceTest extends ParentTest {
         updateSuspiciousCardTransferDto = suspiciousCardTransferSupplier.getDto(ONE, TWO, FALSE, FALSE);
 
         updatedSuspiciousCardTransfer = suspiciousCardTransferSupplier.getEntity(ONE, TWO, FALSE, FALSE);
+
+        secondSuspiciousCardTransfer = suspiciousCardTransferSupplier.getEntity(TWO, TWO, FALSE, FALSE);
     }
 
     @Test
@@ -224,18 +235,18 @@ class SuspiciousCardTransferServiceTest extends ParentTest {
                     assertEquals(suspiciousCardTransfer.getBlockedReason(), indexZeroTransfer.getBlockedReason());
                     assertEquals(suspiciousCardTransfer.getCardTransferId(), indexZeroTransfer.getCardTransferId());
                     assertEquals(suspiciousCardTransfer.getSuspiciousReason(), indexZeroTransfer.getSuspiciousReason());
-                    assertEquals(updatedSuspiciousCardTransfer.getId(), indexOneTransfer.getId());
-                    assertEquals(updatedSuspiciousCardTransfer.getCardTransferId(), cardTransferId);
-                    assertEquals(updatedSuspiciousCardTransfer.getSuspiciousReason(), suspiciousReason);
-                    assertEquals(updatedSuspiciousCardTransfer.getIsBlocked(), indexOneTransfer.getIsBlocked());
-                    assertEquals(updatedSuspiciousCardTransfer.getIsSuspicious(), indexOneTransfer.getIsSuspicious());
-                    assertEquals(updatedSuspiciousCardTransfer.getBlockedReason(), indexOneTransfer.getBlockedReason());
+                    assertEquals(secondSuspiciousCardTransfer.getId(), indexOneTransfer.getId());
+                    assertEquals(secondSuspiciousCardTransfer.getCardTransferId(), cardTransferId);
+                    assertEquals(secondSuspiciousCardTransfer.getSuspiciousReason(), suspiciousReason);
+                    assertEquals(secondSuspiciousCardTransfer.getIsBlocked(), indexOneTransfer.getIsBlocked());
+                    assertEquals(secondSuspiciousCardTransfer.getIsSuspicious(), indexOneTransfer.getIsSuspicious());
+                    assertEquals(secondSuspiciousCardTransfer.getBlockedReason(), indexOneTransfer.getBlockedReason());
                 }
         );
     }
 
     private List<SuspiciousCardTransferDto> readAllTestPrepare() {
-        doReturn(List.of(suspiciousCardTransfer, updatedSuspiciousCardTransfer)).when(repository).findAllById(any());
+        doReturn(List.of(suspiciousCardTransfer, secondSuspiciousCardTransfer)).when(repository).findAllById(any());
 
         return service.readAll(
                 List.of(ONE, TWO)
@@ -251,7 +262,7 @@ class SuspiciousCardTransferServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(List.of(ONE, TWO))
         );
 
-        assertEquals("Количество найденных и запрошенных записей не совпадает.", exception.getMessage());
+        assertEquals("SuspiciousCardTransfer не найдены, id = [2]", exception.getMessage());
     }
 
     @Test
@@ -5,9 +5,11 @@ import com.bank.antifraud.dto.SuspiciousPhoneTransferDto;
 import com.bank.antifraud.entity.SuspiciousPhoneTransferEntity;
 import com.bank.antifraud.mapper.SuspiciousPhoneTransferMapperImpl;
 import com.bank.antifraud.repository.SuspiciousPhoneTransferRepository;
+import com.bank.antifraud.screening.BlockedInstrumentIndex;
 import com.bank.antifraud.service.impl.SuspiciousPhoneTransferServiceImpl;
 import com.bank.antifraud.supplier.SuspiciousPhoneTransferSupplier;
-import com.bank.antifraud.util.ListSizeValidator;
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,12 +35,16 @@ class SuspiciousPhoneTransferServiceTest extends ParentTest {
 
     private static SuspiciousPhoneTransferEntity suspiciousPhoneTransfer;
     private static SuspiciousPhoneTransferEntity updatedSuspiciousPhoneTransfer;
+    private static SuspiciousPhoneTransferEntity secondSuspiciousPhoneTransfer;
 
     private static SuspiciousPhoneTransferDto updateSuspiciousPhoneTransferDto;
 
     @InjectMocks
     private SuspiciousPhoneTransferServiceImpl service;
 
+    @Mock
+    private AuditWriter auditWriter;
+
     @Mock
     private SuspiciousPhoneTransferRepository repository;
 
@@ -46,7 +52,10 @@ class SuspiciousPhoneTransferServiceTest extends ParentTest {
     private static SuspiciousPhoneTransferMapperImpl mapper;
 
     @Spy
-    private ListSizeValidator listSizeValidator;
+    private BulkReader bulkReader = new BulkReader(100, 100);
+
+    @Mock
+    private BlockedInstrumentIndex index;
 
     @BeforeAll
     static void init() {
@@ -57,6 +66,8 @@ class SuspiciousPhoneTransferServiceTest extends ParentTest {
 
         updatedSuspiciousPhoneTransfer = suspiciousPhoneTransferSupplier.getEntity(ONE, TWO, FALSE, FALSE);
 
+        secondSuspiciousPhoneTransfer = suspiciousPhoneTransferSupplier.getEntity(TWO, TWO, FALSE, FALSE);
+
         updateSuspiciousPhoneTransferDto = suspiciousPhoneTransferSupplier.getDto(ONE, TWO, FALSE, FALSE);
     }
 
@@ -223,15 +234,15 @@ class SuspiciousPhoneTransferServiceTest extends ParentTest {
                     assertEquals(suspiciousPhoneTransfer.getIsSuspicious(), indexZeroTransfer.getIsSuspicious());
                     assertEquals(suspiciousPhoneTransfer.getBlockedReason(), indexZeroTransfer.getBlockedReason());
                     assertEquals(suspiciousPhoneTransfer.getPhoneTransferId(), indexZeroTransfer.getPhoneTransferId());
-                    assertEquals(updatedSuspiciousPhoneTransfer.getId(), indexOneTransfer.getId());
-                    assertEquals(updatedSuspiciousPhoneTransfer.getPhoneTransferId(), phoneTransferId);
-                    assertEquals(updatedSuspiciousPhoneTransfer.getSuspiciousReason(), suspiciousReason);
-                    assertEquals(updatedSuspiciousPhoneTransfer.getIsBlocked(), indexOneTransfer.getIsBlocked());
-                    assertEquals(updatedSuspiciousPhoneTransfer.getIsSuspicious(), indexOneTransfer.getIsSuspicious());
+                    assertEquals(secondSuspiciousPhoneTransfer.getId(), indexOneTransfer.getId());
+                    assertEquals(secondSuspiciousPhoneTransfer.getPhoneTransferId(), phoneTransferId);
+                    assertEquals(secondSuspiciousPhoneTransfer.getSuspiciousReason(), suspiciousReason);
+                    assertEquals(secondSuspiciousPhoneTransfer.getIsBlocked(), indexOneTransfer.getIsBlocked());
+                    assertEquals(secondSuspiciousPhoneTransfer.getIsSuspicious(), indexOneTransfer.getIsSuspicious());
                     assertEquals(suspiciousPhoneTransfer.getSuspiciousReason(),
                             indexZeroTransfer.getSuspiciousReason()
                     );
-                    assertEquals(updatedSuspiciousPhoneTransfer.getBlockedReason(),
+                    assertEquals(secondSuspiciousPhoneTransfer.getBlockedReason(),
                             indexOneTransfer.getBlockedReason()
                     );
                 }
@@ -239,7 +250,7 @@ class SuspiciousPhoneTransferServiceTest extends ParentTest {
     }
 
     private List<SuspiciousPhoneTransferDto> readAllTestPrepare() {
-        doReturn(List.of(suspiciousPhoneTransfer, updatedSuspiciousPhoneTransfer)).when(repository).findAllById(any());
+        doReturn(List.of(suspiciousPhoneTransfer, secondSuspiciousPhoneTransfer)).when(repository).findAllById(any());
 
         return service.readAll(
                 List.of(ONE, TWO)
@@ -255,7 +266,7 @@ class SuspiciousPhoneTransferServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(List.of(ONE, TWO))
         );
 
-        assertEquals("Количество найденных и запрошенных записей не совпадает.", exception.getMessage());
+        assertEquals("SuspiciousPhoneTransfer не найдены, id = [2]", exception.getMessage());
     }
 
     @Test
@@ -0,0 +1,113 @@
+package com.bank.antifraud.sketch;
+
+import com.bank.antifraud.ParentTest;
+import com.bank.antifraud.entity.CounterpartySketchEntity;
+import com.bank.antifraud.repository.CounterpartySketchRepository;
+import com.bank.antifraud.scoring.TransferType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+class CounterpartySketchStoreTest extends ParentTest {
+
+    private static final int PRECISION = 12;
+    private static final long NOW_MS = 1_800_000_000_000L;
+    private static final long HOUR_MS = 3_600_000L;
+    private static final long FIRST_CARD = 4_276_000_000_000_001L;
+    private static final long SECOND_CARD = 4_276_000_000_000_002L;
+    private static final long THIRD_CARD = 4_276_000_000_000_003L;
+
+    @Mock
+    private CounterpartySketchRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CounterpartySketchStore store;
+
+    @BeforeEach
+    void init() {
+        store = new CounterpartySketchStore(repository, transactionManager, new SimpleMeterRegistry(), PRECISION,
+                500, 90);
+    }
+
+    @Test
+    @DisplayName("запись нового часа создаёт строку с оценкой разных получателей")
+    void flushCreatesTest() {
+        store.record(ONE, TransferType.CARD, FIRST_CARD, NOW_MS);
+        store.record(ONE, TransferType.CARD, SECOND_CARD, NOW_MS + 1);
+        store.record(ONE, TransferType.CARD, FIRST_CARD, NOW_MS + 2);
+
+        store.flush();
+
+        final CounterpartySketchEntity saved = captureSaved();
+        assertAll(() -> {
+            assertEquals(ONE, saved.getAccountDetailsId());
+            assertEquals(TransferType.CARD, saved.getCounterpartyType());
+            assertEquals(CounterpartySketchStore.bucketStart(CounterpartySketchStore.hour(NOW_MS)),
+                    saved.getBucketStart());
+            assertEquals(2, HyperLogLog.fromBytes(saved.getSketch()).estimate());
+            assertEquals(0, store.pendingSize());
+        });
+    }
+
+    @Test
+    @DisplayName("запись в существующий час объединяет оценку с сохранённой другим экземпляром")
+    void flushMergesStoredTest() {
+        final HyperLogLog other = new HyperLogLog(PRECISION);
+        other.add(FIRST_CARD);
+        other.add(SECOND_CARD);
+        doReturn(Optional.of(new CounterpartySketchEntity(ONE, ONE, TransferType.CARD,
+                CounterpartySketchStore.bucketStart(CounterpartySketchStore.hour(NOW_MS)), other.toBytes())))
+                .when(repository).findByAccountDetailsIdAndCounterpartyTypeAndBucketStart(any(), any(), any());
+        store.record(ONE, TransferType.CARD, SECOND_CARD, NOW_MS);
+        store.record(ONE, TransferType.CARD, THIRD_CARD, NOW_MS);
+
+        store.flush();
+
+        assertEquals(3, HyperLogLog.fromBytes(captureSaved().getSketch()).estimate());
+    }
+
+    @Test
+    @DisplayName("незаписанная оценка остаётся в памяти и учитывается в окне")
+    void flushFailureRestoresTest() {
+        doThrow(new IllegalStateException("нет соединения")).when(repository).save(any());
+        store.record(ONE, TransferType.CARD, FIRST_CARD, NOW_MS);
+        store.record(ONE, TransferType.CARD, SECOND_CARD, NOW_MS + HOUR_MS);
+        store.record(TWO, TransferType.CARD, THIRD_CARD, NOW_MS);
+
+        store.flush();
+        final Map<TransferType, HyperLogLog> sketches = new EnumMap<>(TransferType.class);
+        sketches.put(TransferType.CARD, new HyperLogLog(PRECISION));
+        sketches.put(TransferType.PHONE, new HyperLogLog(PRECISION));
+        final long hour = CounterpartySketchStore.hour(NOW_MS);
+        store.mergePending(ONE, hour, hour + 1, sketches);
+
+        assertAll(() -> {
+            assertEquals(3, store.pendingSize());
+            assertEquals(2, sketches.get(TransferType.CARD).estimate());
+            assertEquals(0, sketches.get(TransferType.PHONE).estimate());
+        });
+    }
+
+    private CounterpartySketchEntity captureSaved() {
+        final ArgumentCaptor<CounterpartySketchEntity> captor = ArgumentCaptor.forClass(CounterpartySketchEntity.class);
+        verify(repository).save(captor.capture());
+        return captor.getValue();
+    }
+}
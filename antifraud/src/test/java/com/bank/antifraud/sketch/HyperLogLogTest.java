@@ -0,0 +1,98 @@
+package com.bank.antifraud.sketch;
+
+import com.bank.antifraud.ParentTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HyperLogLogTest extends ParentTest {
+
+    private static final int PRECISION = 12;
+    private static final double RELATIVE_ERROR = 0.05;
+    private static final long CARD_BASE = 4_276_000_000_000_000L;
+
+    @Test
+    @DisplayName("оценка отличается от точного количества не больше чем на 5%, повторы не учитываются")
+    void estimateAccuracyTest() {
+        final SplittableRandom random = new SplittableRandom(1);
+        for (int cardinality : new int[]{1, 10, 100, 1000, 5000, 20_000, 200_000}) {
+            final HyperLogLog sketch = new HyperLogLog(PRECISION);
+            final Set<Long> exact = new HashSet<>();
+            while (exact.size() < cardinality) {
+                final long card = CARD_BASE + random.nextInt(Integer.MAX_VALUE);
+                exact.add(card);
+                sketch.add(card);
+                sketch.add(card);
+            }
+            final long error = Math.abs(sketch.estimate() - exact.size());
+            assertTrue(error <= Math.max(1, exact.size() * RELATIVE_ERROR),
+                    () -> "точно " + exact.size() + ", оценка " + sketch.estimate());
+        }
+    }
+
+    @Test
+    @DisplayName("объединение часовых оценок равно оценке всех значений окна")
+    void mergeTest() {
+        final HyperLogLog first = new HyperLogLog(PRECISION);
+        final HyperLogLog second = new HyperLogLog(PRECISION);
+        final HyperLogLog window = new HyperLogLog(PRECISION);
+        for (long card = 0; card < 3000; card++) {
+            first.add(CARD_BASE + card);
+            window.add(CARD_BASE + card);
+        }
+        for (long card = 2000; card < 2100; card++) {
+            second.add(CARD_BASE + card);
+            window.add(CARD_BASE + card);
+        }
+
+        first.merge(second);
+
+        assertAll(() -> {
+            assertArrayEquals(window.toBytes(), first.toBytes());
+            assertEquals(window.estimate(), first.estimate());
+        });
+    }
+
+    @Test
+    @DisplayName("компактное представление восстанавливается, разреженная оценка занимает 3 байта на получателя")
+    void toBytesTest() {
+        final HyperLogLog sparse = new HyperLogLog(PRECISION);
+        final HyperLogLog dense = new HyperLogLog(PRECISION);
+        for (long card = 0; card < 10; card++) {
+            sparse.add(CARD_BASE + card);
+        }
+        for (long card = 0; card < 10_000; card++) {
+            dense.add(CARD_BASE + card);
+        }
+
+        assertAll(() -> {
+            assertEquals(2 + 10 * 3, sparse.toBytes().length);
+            assertEquals(2 + (1 << PRECISION), dense.toBytes().length);
+            assertEquals(sparse.estimate(), HyperLogLog.fromBytes(sparse.toBytes()).estimate());
+            assertArrayEquals(dense.toBytes(), HyperLogLog.fromBytes(dense.toBytes()).toBytes());
+            assertTrue(sparse.memoryBytes() < dense.memoryBytes());
+        });
+    }
+
+    @Test
+    @DisplayName("разная точность и повреждённые данные, негативный сценарий")
+    void negativeTest() {
+        final HyperLogLog sketch = new HyperLogLog(PRECISION);
+
+        assertAll(() -> {
+            assertThrows(IllegalArgumentException.class, () -> sketch.merge(new HyperLogLog(PRECISION - 1)));
+            assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(HyperLogLog.MAX_PRECISION + 1));
+            assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[]{PRECISION, 1, 0}));
+            assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[]{PRECISION}));
+        });
+    }
+}
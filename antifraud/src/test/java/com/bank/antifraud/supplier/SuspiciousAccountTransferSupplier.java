@@ -9,17 +9,19 @@ public class SuspiciousAccountTransferSupplier {
 
     private final String blockedReason = "Random blocked reason";
 
+    private final Long accountNumber = 4081781000000001L;
+
     public SuspiciousAccountTransferEntity getEntity(Long id, Long accountTransferId,
                                                      Boolean isSuspicious, String suspiciousReason) {
         return new SuspiciousAccountTransferEntity(id, accountTransferId, isBlocked, isSuspicious,
-                blockedReason, suspiciousReason
+                blockedReason, suspiciousReason, accountNumber
         );
     }
 
     public SuspiciousAccountTransferDto getDto(Long id, Long accountTransferId,
                                                Boolean isSuspicious, String suspiciousReason) {
         return new SuspiciousAccountTransferDto(id, accountTransferId, isBlocked, isSuspicious,
-                blockedReason, suspiciousReason
+                blockedReason, suspiciousReason, accountNumber
         );
     }
 }
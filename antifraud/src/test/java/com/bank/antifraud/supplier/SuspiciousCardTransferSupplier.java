@@ -6,19 +6,20 @@ import com.bank.antifraud.entity.SuspiciousCardTransferEntity;
 public class SuspiciousCardTransferSupplier {
 
     private final String blockedReason = "Random blocked reason";
+    private final Long cardNumber = 4276000000000001L;
     private final String suspiciousReason = "Random suspicious reason";
 
     public SuspiciousCardTransferEntity getEntity(Long id, Long accountTransferId,
                                                   Boolean isBlocked, Boolean isSuspicious) {
         return new SuspiciousCardTransferEntity(id, accountTransferId, isBlocked, isSuspicious,
-                blockedReason, suspiciousReason
+                blockedReason, suspiciousReason, cardNumber
         );
     }
 
     public SuspiciousCardTransferDto getDto(Long id, Long accountTransferId,
                                             Boolean isBlocked, Boolean isSuspicious) {
         return new SuspiciousCardTransferDto(id, accountTransferId, isBlocked, isSuspicious,
-                blockedReason, suspiciousReason
+                blockedReason, suspiciousReason, cardNumber
         );
     }
 }
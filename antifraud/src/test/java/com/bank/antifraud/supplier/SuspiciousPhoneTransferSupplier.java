@@ -6,19 +6,20 @@ import com.bank.antifraud.entity.SuspiciousPhoneTransferEntity;
 public class SuspiciousPhoneTransferSupplier {
 
     private final String blockedReason = "Random blocked reason";
+    private final Long phoneNumber = 79000000001L;
     private final String suspiciousReason = "Random suspicious reason";
 
     public SuspiciousPhoneTransferEntity getEntity(Long id, Long accountTransferId,
                                                    Boolean isBlocked, Boolean isSuspicious) {
         return new SuspiciousPhoneTransferEntity(id, accountTransferId, isBlocked, isSuspicious,
-                blockedReason, suspiciousReason
+                blockedReason, suspiciousReason, phoneNumber
         );
     }
 
     public SuspiciousPhoneTransferDto getDto(Long id, Long accountTransferId,
                                              Boolean isBlocked, Boolean isSuspicious) {
         return new SuspiciousPhoneTransferDto(id, accountTransferId, isBlocked, isSuspicious,
-                blockedReason, suspiciousReason
+                blockedReason, suspiciousReason, phoneNumber
         );
     }
 }
@@ -2,12 +2,10 @@ package com.bank.authorization;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
 
 @EnableEurekaClient
-@SpringBootApplication
-@ComponentScan(basePackages = {"com.bank.common", "com.bank.authorization"})
+@SpringBootApplication(scanBasePackages = {"com.bank.common", "com.bank.authorization"})
 public class AuthorizationApplication {
     public static void main(String[] args) {
         SpringApplication.run(AuthorizationApplication.class, args);
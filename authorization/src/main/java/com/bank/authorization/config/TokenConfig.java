@@ -0,0 +1,33 @@
+package com.bank.authorization.config;
+
+import com.bank.authorization.security.TokenKeyRing;
+import com.bank.authorization.security.TokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Токены доступа: время жизни, период ротации ключей и размер кэша проверенных токенов.
+ */
+@Configuration
+public class TokenConfig {
+
+    @Value("${auth.token.ttl:15m}")
+    private Duration ttl;
+
+    @Value("${auth.token.key-rotation:1h}")
+    private Duration keyRotation;
+
+    @Value("${auth.token.cache-size:10000}")
+    private int cacheSize;
+
+    @Bean
+    public TokenService tokenService(MeterRegistry registry) {
+        final Clock clock = Clock.systemUTC();
+        return new TokenService(new TokenKeyRing(keyRotation, ttl, clock), ttl, cacheSize, registry, clock);
+    }
+}
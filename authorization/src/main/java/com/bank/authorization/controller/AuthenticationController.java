@@ -0,0 +1,31 @@
+package com.bank.authorization.controller;
+
+import com.bank.authorization.dto.LoginDto;
+import com.bank.authorization.dto.TokenDto;
+import com.bank.authorization.service.AuthenticationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контролер для выдачи токенов доступа
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auth")
+public class AuthenticationController {
+
+    private final AuthenticationService service;
+
+    /**
+     * @param login {@link LoginDto}.
+     * @return {@link ResponseEntity<TokenDto>}.
+     */
+    @PostMapping("/token")
+    public ResponseEntity<TokenDto> login(@RequestBody LoginDto login) {
+        return ResponseEntity.ok(service.login(login));
+    }
+}
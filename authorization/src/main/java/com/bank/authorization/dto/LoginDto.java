@@ -0,0 +1,28 @@
+package com.bank.authorization.dto;
+
+import com.bank.authorization.entity.UserEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * ДТО для входа по техническому идентификатору {@link UserEntity} и паролю.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class LoginDto {
+
+    @NotNull
+    Long userId;
+
+    @NotNull
+    String password;
+}
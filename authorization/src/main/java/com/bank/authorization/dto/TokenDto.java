@@ -0,0 +1,25 @@
+package com.bank.authorization.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * ДТО выданного токена, передаётся в заголовке Authorization: Bearer.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TokenDto {
+
+    String accessToken;
+
+    String tokenType;
+
+    Long expiresIn;
+}
@@ -0,0 +1,75 @@
+package com.bank.authorization.security;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+/**
+ * Ключи подписи токенов, генерируются в памяти и не покидают экземпляр сервиса.
+ * Текущий ключ заменяется новым раз в период ротации, прежние ключи хранятся,
+ * пока подписанные ими токены могут быть действительны, и затем удаляются.
+ * После перезапуска все ранее выданные токены недействительны.
+ */
+public class TokenKeyRing {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int KEY_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+    private final Deque<SigningKey> keys = new ArrayDeque<>();
+    private final long rotationMs;
+    private final long retentionMs;
+    private final Clock clock;
+
+    private int nextKeyId;
+
+    /**
+     * @param rotation как часто выпускается новый ключ
+     * @param tokenTtl время жизни токена, столько же хранится выведенный из оборота ключ
+     * @param clock часы
+     */
+    public TokenKeyRing(Duration rotation, Duration tokenTtl, Clock clock) {
+        this.rotationMs = rotation.toMillis();
+        this.retentionMs = rotation.plus(tokenTtl).toMillis();
+        this.clock = clock;
+        this.nextKeyId = random.nextInt(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return ключ для подписи новых токенов
+     */
+    public synchronized SigningKey current() {
+        final long now = clock.millis();
+        if (keys.isEmpty() || now - keys.peekFirst().createdAtMs() >= rotationMs) {
+            final byte[] secret = new byte[KEY_BYTES];
+            random.nextBytes(secret);
+            keys.addFirst(new SigningKey(nextKeyId++, new SecretKeySpec(secret, ALGORITHM), now));
+        }
+        while (now - keys.peekLast().createdAtMs() >= retentionMs) {
+            keys.removeLast();
+        }
+        return keys.peekFirst();
+    }
+
+    /**
+     * @param keyId идентификатор ключа из токена
+     * @return ключ, если он ещё хранится
+     */
+    public synchronized Optional<SigningKey> find(int keyId) {
+        return keys.stream().filter(key -> key.id() == keyId).findFirst();
+    }
+
+    /**
+     * Ключ подписи
+     *
+     * @param id идентификатор, записывается в токен
+     * @param secret секрет HMAC-SHA256
+     * @param createdAtMs время выпуска
+     */
+    public record SigningKey(int id, SecretKeySpec secret, long createdAtMs) {
+    }
+}
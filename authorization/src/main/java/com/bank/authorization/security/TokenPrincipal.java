@@ -0,0 +1,11 @@
+package com.bank.authorization.security;
+
+/**
+ * Пользователь из проверенного токена
+ *
+ * @param userId технический идентификатор пользователя
+ * @param role роль
+ * @param expiresAtMs время истечения токена
+ */
+public record TokenPrincipal(Long userId, String role, long expiresAtMs) {
+}
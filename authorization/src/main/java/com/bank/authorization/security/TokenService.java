@@ -0,0 +1,124 @@
+package com.bank.authorization.security;
+
+import com.bank.common.cache.LruTtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Выпуск и проверка токенов доступа вида base64url(ключ:пользователь:истечение:роль).base64url(HMAC-SHA256).
+ * Проверенные токены хранятся в {@link LruTtlCache} не дольше времени жизни токена, повторный запрос
+ * с тем же токеном не пересчитывает подпись. Роль записана в токене, поэтому её изменение вступает в силу
+ * после истечения ранее выданных токенов.
+ */
+public class TokenService {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String TOKEN_SEPARATOR = ".";
+    private static final String PAYLOAD_SEPARATOR = ":";
+    private static final int PAYLOAD_PARTS = 4;
+
+    private final TokenKeyRing keyRing;
+    private final Duration ttl;
+    private final Clock clock;
+    private final LruTtlCache<String, TokenPrincipal> verified;
+
+    /**
+     * @param keyRing ключи подписи
+     * @param ttl время жизни токена
+     * @param cacheSize сколько проверенных токенов хранить
+     * @param registry метрики кэша
+     * @param clock часы
+     */
+    public TokenService(TokenKeyRing keyRing, Duration ttl, int cacheSize, MeterRegistry registry, Clock clock) {
+        this.keyRing = keyRing;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.verified = new LruTtlCache<>("auth.token.cache", "token", cacheSize, ttl, registry, clock);
+    }
+
+    /**
+     * @param userId технический идентификатор пользователя
+     * @param role роль
+     * @return подписанный текущим ключом токен
+     */
+    public String issue(Long userId, String role) {
+        final TokenKeyRing.SigningKey key = keyRing.current();
+        final String payload = key.id() + PAYLOAD_SEPARATOR + userId + PAYLOAD_SEPARATOR +
+                (clock.millis() + ttl.toMillis()) + PAYLOAD_SEPARATOR + role;
+        final byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + TOKEN_SEPARATOR + ENCODER.encodeToString(sign(key, payloadBytes));
+    }
+
+    /**
+     * @param token токен из заголовка Authorization
+     * @return пользователь, если подпись верна и токен не истёк
+     */
+    public Optional<TokenPrincipal> verify(String token) {
+        final long now = clock.millis();
+        final TokenPrincipal cached = verified.get(token);
+        if (cached != null && cached.expiresAtMs() > now) {
+            return Optional.of(cached);
+        }
+        if (cached != null) {
+            verified.remove(token);
+            return Optional.empty();
+        }
+        final Optional<TokenPrincipal> principal = parse(token).filter(found -> found.expiresAtMs() > now);
+        principal.ifPresent(found -> verified.put(token, found));
+        return principal;
+    }
+
+    /**
+     * @return время жизни выдаваемых токенов
+     */
+    public Duration ttl() {
+        return ttl;
+    }
+
+    /**
+     * @return количество проверенных токенов в кэше
+     */
+    public int cacheSize() {
+        return verified.size();
+    }
+
+    private Optional<TokenPrincipal> parse(String token) {
+        final int separator = token.indexOf(TOKEN_SEPARATOR);
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        try {
+            final byte[] payloadBytes = DECODER.decode(token.substring(0, separator));
+            final byte[] signature = DECODER.decode(token.substring(separator + 1));
+            final String[] parts = new String(payloadBytes, StandardCharsets.UTF_8)
+                    .split(PAYLOAD_SEPARATOR, PAYLOAD_PARTS);
+            if (parts.length != PAYLOAD_PARTS) {
+                return Optional.empty();
+            }
+            return keyRing.find(Integer.parseInt(parts[0]))
+                    .filter(key -> MessageDigest.isEqual(sign(key, payloadBytes), signature))
+                    .map(key -> new TokenPrincipal(Long.valueOf(parts[1]), parts[3], Long.parseLong(parts[2])));
+        } catch (IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] sign(TokenKeyRing.SigningKey key, byte[] payload) {
+        try {
+            final Mac mac = Mac.getInstance(key.secret().getAlgorithm());
+            mac.init(key.secret());
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("HMAC-SHA256 недоступен", exception);
+        }
+    }
+}
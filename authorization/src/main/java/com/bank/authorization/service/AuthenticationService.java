@@ -0,0 +1,16 @@
+package com.bank.authorization.service;
+
+import com.bank.authorization.dto.LoginDto;
+import com.bank.authorization.dto.TokenDto;
+
+/**
+ * Service для выдачи токенов доступа.
+ */
+public interface AuthenticationService {
+
+    /**
+     * @param login {@link LoginDto}.
+     * @return {@link TokenDto}.
+     */
+    TokenDto login(LoginDto login);
+}
@@ -0,0 +1,46 @@
+package com.bank.authorization.service;
+
+import com.bank.authorization.dto.LoginDto;
+import com.bank.authorization.dto.TokenDto;
+import com.bank.authorization.entity.UserEntity;
+import com.bank.authorization.repository.UserRepository;
+import com.bank.authorization.security.TokenService;
+import com.bank.common.exception.ClientAccessDeniedException;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Реализация для {@link AuthenticationService}.
+ * Пароль сверяется с хэшем из {@link UserEntity} один раз, дальше запросы идут с токеном.
+ */
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AuthenticationServiceImpl implements AuthenticationService {
+
+    private static final String TOKEN_TYPE = "Bearer";
+
+    UserRepository repository;
+    PasswordEncoder passwordEncoder;
+    TokenService tokenService;
+
+    /**
+     * @param login {@link LoginDto}.
+     * @return {@link TokenDto}.
+     */
+    @Override
+    public TokenDto login(LoginDto login) {
+        final UserEntity user = Optional.ofNullable(login.getUserId())
+                .flatMap(repository::findById)
+                .filter(found -> login.getPassword() != null &&
+                        passwordEncoder.matches(login.getPassword(), found.getPassword()))
+                .orElseThrow(() -> new ClientAccessDeniedException("Неверный идентификатор пользователя или пароль"));
+        return new TokenDto(tokenService.issue(user.getId(), user.getRole()), TOKEN_TYPE,
+                tokenService.ttl().toSeconds());
+    }
+}
@@ -4,9 +4,12 @@ import com.bank.authorization.dto.UserDto;
 import com.bank.authorization.mapper.UserMapper;
 import com.bank.authorization.entity.UserEntity;
 import com.bank.authorization.repository.UserRepository;
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +18,8 @@ import java.util.List;
 
 /**
  * Реализация для {@link UserService}.
+ * Пароль хранится хэшем {@link PasswordEncoder}, тем же, которым его сверяет {@link AuthenticationServiceImpl},
+ * и не попадает в аудит: {@link AuditWriter} получает снимок {@link AuditSnapshot} без пароля.
  */
 @Service
 @RequiredArgsConstructor
@@ -23,12 +28,16 @@ public class UserServiceImpl implements UserService {
 
     UserRepository repository;
     UserMapper mapper;
+    BulkReader bulkReader;
+    AuditWriter auditWriter;
+    PasswordEncoder passwordEncoder;
 
     /**
      * @param id технический идентификатор для {@link UserEntity}.
      * @return {@link UserDto}.
      */
     @Override
+    @Transactional(readOnly = true)
     public UserDto read(Long id) {
         final UserEntity user = repository.findById(id)
                 .orElseThrow(() -> returnEntityNotFoundException("Пользователь с данным id не найден!"));
@@ -42,8 +51,14 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public UserDto save(UserDto user) {
-        final UserEntity userEntity = repository.save(mapper.toEntity(user));
-        return mapper.toDto(userEntity);
+        final UserEntity entity = mapper.toEntity(user);
+        if (entity != null) {
+            entity.setPassword(encode(entity.getPassword()));
+        }
+        final UserEntity userEntity = repository.save(entity);
+        final UserDto result = mapper.toDto(userEntity);
+        auditWriter.created(UserEntity.class, AuditSnapshot.of(result));
+        return result;
     }
 
     /**
@@ -56,8 +71,16 @@ public class UserServiceImpl implements UserService {
     public UserDto update(Long id, UserDto userDto) {
         final UserEntity userById = repository.findById(id)
                  .orElseThrow(() -> returnEntityNotFoundException("Обновление невозможно, пользователь не найден!"));
-        final UserEntity user = repository.save(mapper.mergeToEntity(userDto, userById));
-        return mapper.toDto(user);
+        final AuditSnapshot before = AuditSnapshot.of(mapper.toDto(userById));
+        final String hash = userById.getPassword();
+        final UserEntity merged = mapper.mergeToEntity(userDto, userById);
+        if (merged.getPassword() != null && !merged.getPassword().equals(hash)) {
+            merged.setPassword(encode(merged.getPassword()));
+        }
+        final UserEntity user = repository.save(merged);
+        final UserDto result = mapper.toDto(user);
+        auditWriter.updated(UserEntity.class, before, AuditSnapshot.of(result));
+        return result;
     }
 
     /**
@@ -65,17 +88,30 @@ public class UserServiceImpl implements UserService {
      * @return {@link List<UserDto>}.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<UserDto> readAll(List<Long> ids) {
-        final List<UserEntity> users = repository.findAllById(ids);
-
-        if (users.size() != ids.size()) {
-            throw returnEntityNotFoundException("Ошибка в переданных параметрах, пользователь(и) не найден(ы)");
-        }
+        return bulkReader.readAll(ids, chunk -> mapper.toDtoList(repository.findAllById(chunk)),
+                UserDto::getId, "Ошибка в переданных параметрах, пользователь(и) не найден(ы)");
+    }
 
-        return mapper.toDtoList(users);
+    /**
+     * Новый пароль хэшируется, пустой остаётся пустым и отклоняется проверкой сущности
+     */
+    private String encode(String password) {
+        return password == null ? null : passwordEncoder.encode(password);
     }
 
     private EntityNotFoundException returnEntityNotFoundException(String message) {
         return new EntityNotFoundException(message);
     }
+
+    /**
+     * Поля {@link UserDto} для аудита, кроме пароля
+     */
+    private record AuditSnapshot(Long id, String role, Long profileId) {
+
+        private static AuditSnapshot of(UserDto user) {
+            return new AuditSnapshot(user.getId(), user.getRole(), user.getProfileId());
+        }
+    }
 }
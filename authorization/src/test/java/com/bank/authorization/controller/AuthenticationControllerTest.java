@@ -0,0 +1,67 @@
+package com.bank.authorization.controller;
+
+import com.bank.authorization.ParentTest;
+import com.bank.authorization.dto.LoginDto;
+import com.bank.authorization.dto.TokenDto;
+import com.bank.authorization.service.AuthenticationService;
+import com.bank.common.exception.ClientAccessDeniedException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AuthenticationController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class AuthenticationControllerTest extends ParentTest {
+
+    private final ObjectMapper mapper;
+    private final MockMvc mockMvc;
+
+    @MockBean
+    private AuthenticationService service;
+
+    @Test
+    @DisplayName("выдача токена, позитивный сценарий")
+    void loginPositiveTest() throws Exception {
+        doReturn(new TokenDto("token", "Bearer", 900L)).when(service).login(any());
+
+        mockMvc.perform(post("/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(new LoginDto(ONE, PASSWORD))))
+                .andExpectAll(status().isOk(),
+                        jsonPath("$.accessToken", is("token")),
+                        jsonPath("$.tokenType", is("Bearer")),
+                        jsonPath("$.expiresIn", is(900))
+                );
+    }
+
+    @Test
+    @DisplayName("выдача токена с неверным паролем, негативный сценарий")
+    void loginNegativeTest() throws Exception {
+        String message = "Неверный идентификатор пользователя или пароль";
+        doThrow(new ClientAccessDeniedException(message)).when(service).login(any());
+
+        mockMvc.perform(post("/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(new LoginDto(ONE, PASSWORD))))
+                .andExpectAll(status().isForbidden(),
+                        content().string(message)
+                );
+    }
+}
@@ -0,0 +1,118 @@
+package com.bank.authorization.security;
+
+import com.bank.authorization.ParentTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+
+class TokenServiceTest extends ParentTest {
+
+    private static final Duration TTL = Duration.ofMinutes(15);
+    private static final Duration ROTATION = Duration.ofHours(1);
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry registry;
+
+    private TokenService service;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        service = new TokenService(new TokenKeyRing(ROTATION, TTL, clock), TTL, 2, registry, clock);
+        doReturn(0L).when(clock).millis();
+    }
+
+    @Test
+    @DisplayName("выданный токен проверяется, повторная проверка из кэша")
+    void issueAndVerifyTest() {
+        final String token = service.issue(ONE, ROLE_USER);
+
+        final TokenPrincipal principal = service.verify(token).orElseThrow();
+        service.verify(token);
+
+        assertAll(() -> {
+            assertEquals(ONE, principal.userId());
+            assertEquals(ROLE_USER, principal.role());
+            assertEquals(TTL.toMillis(), principal.expiresAtMs());
+            assertEquals(1.0, registry.counter("auth.token.cache.hits", "cache", "token").count());
+        });
+    }
+
+    @Test
+    @DisplayName("изменённый, чужой и испорченный токены отклоняются")
+    void verifyTamperedTest() {
+        final String token = service.issue(ONE, ROLE_USER);
+        final String forged = service.issue(TWO, ROLE_ADMIN);
+        final String payload = forged.substring(0, forged.indexOf('.'));
+        final String signature = token.substring(token.indexOf('.') + 1);
+        final TokenService other = new TokenService(new TokenKeyRing(ROTATION, TTL, clock), TTL, 2, registry, clock);
+
+        assertAll(() -> {
+            assertEquals(Optional.empty(), service.verify(payload + "." + signature));
+            assertEquals(Optional.empty(), service.verify(other.issue(ONE, ROLE_USER)));
+            assertEquals(Optional.empty(), service.verify("не токен"));
+            assertEquals(Optional.empty(), service.verify(""));
+        });
+    }
+
+    @Test
+    @DisplayName("истёкший токен отклоняется, в том числе из кэша")
+    void verifyExpiredTest() {
+        final String token = service.issue(ONE, ROLE_USER);
+        service.verify(token);
+
+        doReturn(TTL.toMillis()).when(clock).millis();
+
+        assertAll(() -> {
+            assertEquals(Optional.empty(), service.verify(token));
+            assertEquals(0, service.cacheSize());
+        });
+    }
+
+    @Test
+    @DisplayName("кэш хранит не больше cacheSize токенов, вытесненный токен проверяется заново")
+    void cacheSizeTest() {
+        final String first = service.issue(ONE, ROLE_USER);
+        service.verify(first);
+        service.verify(service.issue(TWO, ROLE_USER));
+        service.verify(service.issue(TWO, ROLE_ADMIN));
+
+        assertAll(() -> {
+            assertEquals(2, service.cacheSize());
+            assertEquals(1.0, registry.counter("auth.token.cache.evictions", "cache", "token", "cause", "size")
+                    .count());
+            assertEquals(ONE, service.verify(first).orElseThrow().userId());
+            assertEquals(4.0, registry.counter("auth.token.cache.misses", "cache", "token").count());
+        });
+    }
+
+    @Test
+    @DisplayName("после ротации ключа ранее выданный токен действителен до истечения")
+    void rotationTest() {
+        final Duration rotation = TTL.dividedBy(3);
+        service = new TokenService(new TokenKeyRing(rotation, TTL, clock), TTL, 2, registry, clock);
+        final String beforeRotation = service.issue(ONE, ROLE_USER);
+
+        doReturn(rotation.toMillis()).when(clock).millis();
+        final String afterRotation = service.issue(TWO, ROLE_ADMIN);
+
+        assertAll(() -> {
+            assertTrue(service.verify(beforeRotation).isPresent());
+            assertTrue(service.verify(afterRotation).isPresent());
+            assertEquals(TWO, service.verify(afterRotation).orElseThrow().userId());
+        });
+    }
+}
@@ -0,0 +1,86 @@
+package com.bank.authorization.service;
+
+import com.bank.authorization.ParentTest;
+import com.bank.authorization.dto.LoginDto;
+import com.bank.authorization.dto.TokenDto;
+import com.bank.authorization.repository.UserRepository;
+import com.bank.authorization.security.TokenKeyRing;
+import com.bank.authorization.security.TokenService;
+import com.bank.common.exception.ClientAccessDeniedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.bank.authorization.supplier.UserSupplier.getUser;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+
+class AuthenticationServiceTest extends ParentTest {
+
+    private static final Duration TTL = Duration.ofMinutes(15);
+    private static final String BAD_CREDENTIALS_MESSAGE = "Неверный идентификатор пользователя или пароль";
+
+    @InjectMocks
+    private AuthenticationServiceImpl service;
+
+    @Mock
+    private UserRepository repository;
+
+    @Spy
+    private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    @Spy
+    private TokenService tokenService = new TokenService(new TokenKeyRing(TTL, TTL, Clock.systemUTC()), TTL, 10,
+            new SimpleMeterRegistry(), Clock.systemUTC());
+
+    @Test
+    @DisplayName("вход, позитивный сценарий")
+    void loginPositiveTest() {
+        doReturn(Optional.of(getUser(ONE, ROLE_USER, passwordEncoder.encode(PASSWORD), TWO)))
+                .when(repository).findById(ONE);
+
+        final TokenDto result = service.login(new LoginDto(ONE, PASSWORD));
+
+        assertAll(() -> {
+            assertEquals("Bearer", result.getTokenType());
+            assertEquals(TTL.toSeconds(), result.getExpiresIn());
+            assertEquals(ONE, tokenService.verify(result.getAccessToken()).orElseThrow().userId());
+            assertEquals(ROLE_USER, tokenService.verify(result.getAccessToken()).orElseThrow().role());
+        });
+    }
+
+    @Test
+    @DisplayName("вход с неверным паролем, негативный сценарий")
+    void loginWrongPasswordNegativeTest() {
+        doReturn(Optional.of(getUser(ONE, ROLE_USER, passwordEncoder.encode(PASSWORD), TWO)))
+                .when(repository).findById(ONE);
+
+        final var exception = assertThrows(
+                ClientAccessDeniedException.class, () -> service.login(new LoginDto(ONE, PASSWORD_ADMIN))
+        );
+
+        assertEquals(BAD_CREDENTIALS_MESSAGE, exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("вход несуществующего пользователя и без id, негативный сценарий")
+    void loginNoUserNegativeTest() {
+        doReturn(Optional.empty()).when(repository).findById(ONE);
+
+        assertAll(() -> {
+            assertThrows(ClientAccessDeniedException.class, () -> service.login(new LoginDto(ONE, PASSWORD)));
+            assertThrows(ClientAccessDeniedException.class, () -> service.login(new LoginDto(null, PASSWORD)));
+        });
+    }
+}
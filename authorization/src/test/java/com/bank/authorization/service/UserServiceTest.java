@@ -1,21 +1,36 @@
 package com.bank.authorization.service;
 
 import com.bank.authorization.ParentTest;
+import com.bank.authorization.dto.LoginDto;
+import com.bank.authorization.dto.TokenDto;
 import com.bank.authorization.dto.UserDto;
 import com.bank.authorization.entity.UserEntity;
 import com.bank.authorization.mapper.UserMapperImpl;
 import com.bank.authorization.repository.UserRepository;
+import com.bank.authorization.security.TokenKeyRing;
+import com.bank.authorization.security.TokenService;
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import static com.bank.authorization.supplier.UserSupplier.getUserDto;
@@ -23,10 +38,14 @@ import static com.bank.authorization.supplier.UserSupplier.getUser;
 import static com.bank.authorization.supplier.UserSupplier.getUsers;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 
@@ -45,12 +64,24 @@ class UserServiceTest extends ParentTest {
     @InjectMocks
     private UserServiceImpl service;
 
+    @Mock
+    private AuditWriter auditWriter;
+
     @Mock
     private UserRepository repository;
 
     @Spy
     private UserMapperImpl mapper;
 
+    @Spy
+    private BulkReader bulkReader = new BulkReader(100, 100);
+
+    @Spy
+    private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeAll
     static void setUp() {
         userDto = getUserDto(ONE, ROLE_USER, PASSWORD, ONE);
@@ -82,6 +113,79 @@ class UserServiceTest extends ParentTest {
         );
     }
 
+    @Test
+    @DisplayName("сохранение хэширует пароль, созданный пользователь получает токен, позитивный сценарий")
+    void saveThenLoginPositiveTest() {
+        final ArgumentCaptor<UserEntity> saved = ArgumentCaptor.forClass(UserEntity.class);
+        doAnswer(invocation -> {
+            final UserEntity entity = invocation.getArgument(0);
+            entity.setId(ONE);
+            return entity;
+        }).when(repository).save(saved.capture());
+
+        service.save(getUserDto(null, ROLE_USER, PASSWORD, ONE));
+
+        doReturn(Optional.of(saved.getValue())).when(repository).findById(ONE);
+        final Duration ttl = Duration.ofMinutes(15);
+        final TokenService tokenService = new TokenService(new TokenKeyRing(ttl, ttl, Clock.systemUTC()), ttl, 10,
+                new SimpleMeterRegistry(), Clock.systemUTC());
+        final TokenDto token = new AuthenticationServiceImpl(repository, passwordEncoder, tokenService)
+                .login(new LoginDto(ONE, PASSWORD));
+
+        assertAll(() -> {
+            assertNotEquals(PASSWORD, saved.getValue().getPassword());
+            assertTrue(passwordEncoder.matches(PASSWORD, saved.getValue().getPassword()));
+            assertEquals(ONE, tokenService.verify(token.getAccessToken()).orElseThrow().userId());
+        });
+    }
+
+    @Test
+    @DisplayName("обновление хэширует новый пароль и не трогает прежний хэш, позитивный сценарий")
+    void updatePasswordPositiveTest() {
+        final String hash = passwordEncoder.encode(PASSWORD);
+        doReturn(Optional.of(getUser(ONE, ROLE_USER, hash, ONE)), Optional.of(getUser(ONE, ROLE_USER, hash, ONE)))
+                .when(repository).findById(ONE);
+        final ArgumentCaptor<UserEntity> saved = ArgumentCaptor.forClass(UserEntity.class);
+        doAnswer(invocation -> invocation.getArgument(0)).when(repository).save(saved.capture());
+
+        service.update(ONE, getUserDto(null, ROLE_USER, PASSWORD_ADMIN, ONE));
+        service.update(ONE, getUserDto(null, ROLE_ADMIN, hash, ONE));
+
+        assertAll(() -> {
+            assertTrue(passwordEncoder.matches(PASSWORD_ADMIN, saved.getAllValues().get(0).getPassword()));
+            assertEquals(hash, saved.getAllValues().get(1).getPassword());
+        });
+    }
+
+    @Test
+    @DisplayName("пароль и его хэш не попадают в JSON аудита создания и обновления, позитивный сценарий")
+    void auditWithoutPasswordPositiveTest() {
+        final List<Object> audited = new ArrayList<>();
+        doAnswer(invocation -> {
+            audited.addAll(Arrays.asList(invocation.getArguments()).subList(1, invocation.getArguments().length));
+            return 1;
+        }).when(jdbcTemplate).update(anyString(), (Object[]) any());
+        final AuditWriter writer = new AuditWriter(jdbcTemplate, new ObjectMapper(), new SimpleMeterRegistry(),
+                "auth", "tester", 10, 10, 10);
+        final UserServiceImpl auditedService = new UserServiceImpl(repository, mapper, bulkReader, writer,
+                passwordEncoder);
+        final UserEntity stored = getUser(ONE, ROLE_USER, passwordEncoder.encode(PASSWORD), ONE);
+        doAnswer(invocation -> invocation.getArgument(0)).when(repository).save(any());
+        doReturn(Optional.of(stored)).when(repository).findById(ONE);
+
+        auditedService.save(getUserDto(ONE, ROLE_USER, PASSWORD, ONE));
+        auditedService.update(ONE, getUserDto(null, ROLE_ADMIN, PASSWORD_ADMIN, ONE));
+
+        final List<String> json = audited.stream().filter(String.class::isInstance).map(String.class::cast)
+                .filter(value -> value.startsWith("{")).toList();
+        assertAll(() -> {
+            assertEquals(3, json.size());
+            json.forEach(value -> assertFalse(value.contains("password"), value));
+            assertTrue(audited.stream().filter(Objects::nonNull).map(Object::toString)
+                    .noneMatch(value -> value.contains(PASSWORD) || value.contains("$2a$")));
+        });
+    }
+
     @Test
     @DisplayName("сохранение, негативный сценарий")
     void saveNegativeTest() {
@@ -227,7 +331,7 @@ class UserServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(List.of(ONE, TWO))
         );
 
-        assertEquals(INCORRECT_PARAMETER_EXCEPTION_MESSAGE, exception.getMessage());
+        assertEquals(INCORRECT_PARAMETER_EXCEPTION_MESSAGE + ", id = [1, 2]", exception.getMessage());
     }
 
     @Test
@@ -241,7 +345,7 @@ class UserServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(ids)
         );
 
-        assertEquals(INCORRECT_PARAMETER_EXCEPTION_MESSAGE, exception.getMessage());
+        assertEquals(INCORRECT_PARAMETER_EXCEPTION_MESSAGE + ", id = [null, 1]", exception.getMessage());
     }
 
     private void repositorySaveMock() {
@@ -0,0 +1,137 @@
+package com.bank.benchmarks;
+
+import com.bank.antifraud.entity.SuspiciousCardTransferEntity;
+import com.bank.profile.dto.ActualRegistrationDto;
+import com.bank.profile.dto.PassportDto;
+import com.bank.profile.dto.ProfileDto;
+import com.bank.profile.dto.RegistrationDto;
+import com.bank.profile.entity.ActualRegistrationEntity;
+import com.bank.profile.entity.PassportEntity;
+import com.bank.profile.entity.ProfileEntity;
+import com.bank.profile.entity.RegistrationEntity;
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.entity.AccountTransferEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+
+/**
+ * Детерминированные данные для бенчмарков: одинаковые между запусками, чтобы результаты
+ * разных коммитов можно было сравнивать. Все dto проходят валидацию.
+ */
+public final class BenchmarkData {
+
+    private static final long PHONE_BASE = 9_000_000_000L;
+    private static final long INN_BASE = 500_000_000_000L;
+    private static final long SNILS_BASE = 50_000_000_000L;
+    private static final long ACCOUNT_BASE = 40_000_000L;
+    private static final long CARD_NUMBER_BASE = 2_200_000_000_000_000L;
+    private static final int SERIES = 4510;
+    private static final long PASSPORT_NUMBER = 123456L;
+    private static final int DIVISION_CODE = 770001;
+    private static final long POSTAL_INDEX = 101000L;
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 9, 3);
+    private static final LocalDate ISSUE_DATE = LocalDate.of(2010, 10, 1);
+    private static final LocalDate EXPIRATION_DATE = LocalDate.of(2020, 10, 1);
+    private static final String COUNTRY = "Россия";
+    private static final String CITY = "Москва";
+    private static final String STREET = "Тверская";
+    private static final String NAME = "Иван";
+    private static final String ISSUED_BY = "ОВД Тверского района";
+    private static final String DISTRICT = "ЦАО";
+    private static final String HOUSE = "1";
+    private static final String BLOCK = "2";
+    private static final String FLAT = "3";
+    private static final String LAST_NAME = "Иванов";
+    private static final String MIDDLE_NAME = "Иванович";
+    private static final String GENDER = "муж";
+    private static final String NAME_ON_CARD = "IVAN IVANOV";
+    private static final String PURPOSE = "Перевод по договору ";
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * @param size количество элементов
+     * @param factory элемент по номеру, номера начинаются с 1
+     * @return список элементов
+     */
+    public static <T> List<T> list(int size, LongFunction<T> factory) {
+        return LongStream.rangeClosed(1, size).mapToObj(factory).toList();
+    }
+
+    /**
+     * @param id номер профиля, от него зависят уникальные телефон, е-мейл, ИНН и СНИЛС
+     * @return профиль без id с паспортом и обеими регистрациями
+     */
+    public static ProfileDto profileDto(long id) {
+        final RegistrationDto registration = new RegistrationDto(null, COUNTRY, CITY, CITY, DISTRICT, CITY, STREET,
+                HOUSE, BLOCK, FLAT, POSTAL_INDEX);
+        final PassportDto passport = new PassportDto(null, SERIES, PASSPORT_NUMBER, LAST_NAME, NAME, MIDDLE_NAME,
+                GENDER, BIRTH_DATE, CITY, ISSUED_BY, ISSUE_DATE, DIVISION_CODE, EXPIRATION_DATE, registration);
+        return new ProfileDto(null, phoneNumber(id), email(id), NAME_ON_CARD, INN_BASE + id, SNILS_BASE + id,
+                passport, new ActualRegistrationDto(null, COUNTRY, CITY, CITY, DISTRICT, CITY, STREET, HOUSE, BLOCK,
+                FLAT, POSTAL_INDEX));
+    }
+
+    /**
+     * @param id технический идентификатор
+     * @return профиль с паспортом и обеими регистрациями, как после чтения по графу
+     */
+    public static ProfileEntity profileEntity(long id) {
+        final RegistrationEntity registration = new RegistrationEntity(id, COUNTRY, CITY, CITY, DISTRICT, CITY,
+                STREET, HOUSE, BLOCK, FLAT, POSTAL_INDEX);
+        final PassportEntity passport = new PassportEntity(id, SERIES, PASSPORT_NUMBER, LAST_NAME, NAME,
+                MIDDLE_NAME, GENDER, BIRTH_DATE, CITY, ISSUED_BY, ISSUE_DATE, DIVISION_CODE, EXPIRATION_DATE,
+                registration);
+        return new ProfileEntity(id, phoneNumber(id), email(id), NAME_ON_CARD, INN_BASE + id,
+                SNILS_BASE + id, passport, new ActualRegistrationEntity(id, COUNTRY, CITY, CITY, DISTRICT, CITY,
+                STREET, HOUSE, BLOCK, FLAT, POSTAL_INDEX));
+    }
+
+    /**
+     * @param id номер профиля
+     * @return уникальный номер телефона профиля
+     */
+    public static Long phoneNumber(long id) {
+        return PHONE_BASE + id;
+    }
+
+    /**
+     * @param id номер профиля
+     * @return уникальный е-мейл профиля
+     */
+    public static String email(long id) {
+        return "user" + id + "@bank.ru";
+    }
+
+    /**
+     * @param id технический идентификатор
+     * @return перевод по номеру счёта
+     */
+    public static AccountTransferEntity accountTransferEntity(long id) {
+        return new AccountTransferEntity(id, id, ACCOUNT_BASE + id, BigDecimal.valueOf(id * 100 + 99, 2),
+                PURPOSE + id);
+    }
+
+    /**
+     * @param id номер перевода
+     * @return перевод по номеру счёта без id, для создания
+     */
+    public static AccountTransferDto accountTransferDto(long id) {
+        return new AccountTransferDto(null, ACCOUNT_BASE + id, BigDecimal.valueOf(id * 100 + 99, 2),
+                PURPOSE + id, id);
+    }
+
+    /**
+     * @param id технический идентификатор
+     * @return подозрительный перевод по карте
+     */
+    public static SuspiciousCardTransferEntity suspiciousCardTransferEntity(long id) {
+        return new SuspiciousCardTransferEntity(id, id, id % 2 == 0, true, id % 2 == 0 ? "Лимит" : null,
+                "Более 20 переводов за час", CARD_NUMBER_BASE + id);
+    }
+}
@@ -0,0 +1,152 @@
+package com.bank.benchmarks.geo;
+
+import com.bank.publicinfo.geo.GeoHit;
+import com.bank.publicinfo.geo.GeoIndex;
+import com.bank.publicinfo.geo.GeoPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Поиск limit ближайших банкоматов среди atms: индекс {@link GeoIndex} с настройками по умолчанию
+ * и запрос к H2, который считает расстояние по гаверсинусу для каждой строки и сортирует все строки.
+ * Банкоматы равномерно распределены по области около 4 x 6 градусов, треть круглосуточные,
+ * десятая часть работает ночью. openAt - фильтр по часам работы, пустой - без фильтра.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NearestAtmBenchmark {
+
+    private static final double MIN_LATITUDE = 54.0;
+    private static final double MIN_LONGITUDE = 35.0;
+    private static final double LATITUDE_RANGE = 4.0;
+    private static final double LONGITUDE_RANGE = 6.0;
+    private static final double CELL_DEGREES = 0.05;
+    private static final int MAX_RINGS = 16;
+    private static final int MAX_LIMIT = 100;
+    private static final int QUERIES = 1024;
+    private static final int ALL_HOURS_EVERY = 3;
+    private static final int NIGHT_EVERY = 10;
+    private static final LocalTime DAY_START = LocalTime.of(8, 0);
+    private static final LocalTime DAY_END = LocalTime.of(20, 0);
+    private static final LocalTime NIGHT_START = LocalTime.of(20, 0);
+    private static final LocalTime NIGHT_END = LocalTime.of(8, 0);
+    private static final String OPEN_AT = "openAt";
+    private static final String CREATE = "CREATE TABLE atm (id BIGINT PRIMARY KEY, latitude DOUBLE PRECISION, " +
+            "longitude DOUBLE PRECISION, start_of_work TIME, end_of_work TIME, all_hours BOOLEAN)";
+    private static final String INSERT = "INSERT INTO atm VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String NEAREST = "SELECT id, 2 * 6371.0088 * ASIN(SQRT(" +
+            "POWER(SIN(RADIANS(latitude - :lat) / 2), 2) + " +
+            "COS(RADIANS(:lat)) * COS(RADIANS(latitude)) * POWER(SIN(RADIANS(longitude - :lon) / 2), 2))) AS km " +
+            "FROM atm WHERE CAST(:openAt AS TIME) IS NULL OR all_hours OR start_of_work = end_of_work " +
+            "OR (start_of_work < end_of_work AND :openAt >= start_of_work AND :openAt < end_of_work) " +
+            "OR (start_of_work > end_of_work AND (:openAt >= start_of_work OR :openAt < end_of_work)) " +
+            "ORDER BY km LIMIT :limit";
+
+    @Param({"100000"})
+    public int atms;
+
+    @Param({"10"})
+    public int limit;
+
+    @Param({"", "23:00"})
+    public String openAt;
+
+    private final double[][] queries = new double[QUERIES][];
+    private GeoIndex<GeoPoint> index;
+    private SingleConnectionDataSource dataSource;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private LocalTime time;
+    private int next;
+
+    @Setup
+    public void setup() {
+        final SplittableRandom random = new SplittableRandom(1);
+        final List<GeoPoint> points = new ArrayList<>(atms);
+        for (long id = 1; id <= atms; id++) {
+            points.add(point(id, random));
+        }
+        for (int query = 0; query < QUERIES; query++) {
+            queries[query] = new double[]{latitude(random), longitude(random)};
+        }
+        time = openAt.isEmpty() ? null : LocalTime.parse(openAt);
+        index = new GeoIndex<>(CELL_DEGREES, MAX_RINGS, MAX_LIMIT, Function.identity());
+        index.putAll(points);
+
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:atm;DB_CLOSE_DELAY=-1", true);
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate.getJdbcTemplate().execute(CREATE);
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT, points.stream()
+                .map(point -> new Object[]{point.id(), point.latitude(), point.longitude(), point.startOfWork(),
+                        point.endOfWork(), point.allHours()})
+                .toList());
+        final double[] first = queries[0];
+        System.out.printf("%nИндекс: %s%nH2:     %s%n", index.nearest(first[0], first[1], limit, time).get(0),
+                scan(first).get(0));
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public List<GeoHit> index() {
+        final double[] query = queries[next++ & (QUERIES - 1)];
+        return index.nearest(query[0], query[1], limit, time);
+    }
+
+    @Benchmark
+    public List<GeoHit> sqlScan() {
+        return scan(queries[next++ & (QUERIES - 1)]);
+    }
+
+    private List<GeoHit> scan(double[] query) {
+        final MapSqlParameterSource params = new MapSqlParameterSource("lat", query[0])
+                .addValue("lon", query[1])
+                .addValue(OPEN_AT, time)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(NEAREST, params, (rs, row) -> new GeoHit(rs.getLong("id"), rs.getDouble("km")));
+    }
+
+    private static GeoPoint point(long id, SplittableRandom random) {
+        if (id % ALL_HOURS_EVERY == 0) {
+            return new GeoPoint(id, latitude(random), longitude(random), null, null, true);
+        }
+        if (id % NIGHT_EVERY == 0) {
+            return new GeoPoint(id, latitude(random), longitude(random), NIGHT_START, NIGHT_END, false);
+        }
+        return new GeoPoint(id, latitude(random), longitude(random), DAY_START, DAY_END, false);
+    }
+
+    private static double latitude(SplittableRandom random) {
+        return MIN_LATITUDE + random.nextDouble() * LATITUDE_RANGE;
+    }
+
+    private static double longitude(SplittableRandom random) {
+        return MIN_LONGITUDE + random.nextDouble() * LONGITUDE_RANGE;
+    }
+}
@@ -0,0 +1,85 @@
+package com.bank.benchmarks.graph;
+
+import com.bank.antifraud.graph.MuleHit;
+import com.bank.antifraud.graph.TransferGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поиск схем дропов в графе переводов: время одного полного поиска круговых цепочек и веерных рассылок
+ * по edges переводам между accounts счетами. Каждый тысячный перевод начинает круговую цепочку из трёх
+ * переводов. При подготовке печатаются память графа и время добавления переводов.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TransferGraphBenchmark {
+
+    private static final long ACCOUNT_BASE = 40_817_810_000_000_000L;
+    private static final int CYCLE_EVERY = 1000;
+    private static final int MAX_CYCLE_LENGTH = 5;
+    private static final int FAN_OUT = 20;
+    private static final long NANOS_IN_MILLI = 1_000_000;
+
+    @Param({"10000000"})
+    public int edges;
+
+    @Param({"2000000"})
+    public int accounts;
+
+    private TransferGraph graph;
+    private ForkJoinPool pool;
+    private long fromMs;
+
+    @Setup
+    public void setup() {
+        graph = new TransferGraph(edges);
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        final SplittableRandom random = new SplittableRandom(1);
+        final long startMs = System.currentTimeMillis();
+        fromMs = startMs - 1;
+        final long started = System.nanoTime();
+        int transfer = 0;
+        while (transfer < edges) {
+            final long sender = ACCOUNT_BASE + random.nextInt(accounts);
+            final long recipient = ACCOUNT_BASE + random.nextInt(accounts);
+            graph.add(sender, recipient, transfer++, startMs + transfer);
+            if (transfer % CYCLE_EVERY == 0 && transfer + 2 < edges) {
+                final long middle = ACCOUNT_BASE + random.nextInt(accounts);
+                graph.add(recipient, middle, transfer++, startMs + transfer);
+                graph.add(middle, sender, transfer++, startMs + transfer);
+            }
+        }
+        final long addMs = (System.nanoTime() - started) / NANOS_IN_MILLI;
+        System.out.printf("%nПереводов: %d, счетов: %d, память %d МБ, добавление %d мс, найдено схем: %d%n",
+                graph.edges(), graph.nodes(), graph.memoryBytes() >> 20, addMs, detect().size());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<MuleHit> detect() {
+        return graph.detect(fromMs, MAX_CYCLE_LENGTH, FAN_OUT, pool);
+    }
+}
@@ -0,0 +1,54 @@
+package com.bank.benchmarks.handler;
+
+import com.bank.common.handler.RestHandlerException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.ResponseEntity;
+
+import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Обработка потока 404 из нескольких потоков, как при переборе несуществующих id.
+ * Пропускная способность должна быть много выше 10 тысяч в секунду: в лог пишется
+ * не больше error-log.client.rate строк в секунду, остальное - счётчик и сводка.
+ * Исключение создаётся заранее, чтобы измерять обработчик, а не заполнение стека.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class RestHandlerExceptionBenchmark {
+
+    private final RestHandlerException handler = new RestHandlerException(
+            new StaticListableBeanFactory(Map.of("registry", new SimpleMeterRegistry()))
+                    .getBeanProvider(MeterRegistry.class), 1, 5, Duration.ofSeconds(10));
+    private final EntityNotFoundException notFound = new EntityNotFoundException("profile с данным id не найден!");
+
+    @TearDown
+    public void tearDown() {
+        handler.destroy();
+    }
+
+    @Benchmark
+    public ResponseEntity<String> notFoundStorm() {
+        return handler.handleEntityNotFoundException(notFound);
+    }
+}
@@ -0,0 +1,70 @@
+package com.bank.benchmarks.importer;
+
+import com.bank.benchmarks.BenchmarkData;
+import com.bank.profile.dto.PassportDto;
+import com.bank.profile.dto.ProfileDto;
+import com.bank.profile.importer.ImportFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Файл импорта профилей из {@link BenchmarkData}: у каждой строки свои телефон, е-мейл, ИНН, СНИЛС
+ * и серия с номером паспорта, поэтому все строки проходят валидацию и ограничения уникальности.
+ */
+final class ImportFiles {
+
+    private static final String SEPARATOR = ",";
+    private static final int SERIES_BASE = 1000;
+    private static final long NUMBER_BASE = 100_000L;
+    private static final long NUMBERS = 900_000L;
+
+    private ImportFiles() {
+    }
+
+    /**
+     * @param out куда писать файл
+     * @param format {@link ImportFormat}
+     * @param rows количество строк без заголовка
+     * @param objectMapper сериализация строк
+     */
+    static void write(Writer out, ImportFormat format, long rows, ObjectMapper objectMapper) throws IOException {
+        for (long id = 1; id <= rows; id++) {
+            final JsonNode profile = objectMapper.valueToTree(profile(id));
+            if (format == ImportFormat.NDJSON) {
+                out.append(objectMapper.writeValueAsString(profile)).append('\n');
+                continue;
+            }
+            final Map<String, String> columns = new LinkedHashMap<>();
+            flatten("", profile, columns);
+            if (id == 1) {
+                out.append(String.join(SEPARATOR, columns.keySet())).append('\n');
+            }
+            out.append(String.join(SEPARATOR, columns.values())).append('\n');
+        }
+    }
+
+    private static ProfileDto profile(long id) {
+        final ProfileDto profile = BenchmarkData.profileDto(id);
+        final PassportDto passport = profile.getPassport();
+        passport.setSeries(SERIES_BASE + (int) (id / NUMBERS));
+        passport.setNumber(NUMBER_BASE + id % NUMBERS);
+        return profile;
+    }
+
+    /**
+     * Путь поля через точку, как в заголовке CSV импорта
+     */
+    private static void flatten(String prefix, JsonNode node, Map<String, String> columns) {
+        if (node.isObject()) {
+            node.fields().forEachRemaining(field -> flatten(prefix + field.getKey() + ".", field.getValue(),
+                    columns));
+            return;
+        }
+        columns.put(prefix.substring(0, prefix.length() - 1), node.isNull() ? "" : node.asText());
+    }
+}
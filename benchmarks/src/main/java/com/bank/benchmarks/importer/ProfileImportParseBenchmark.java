@@ -0,0 +1,78 @@
+package com.bank.benchmarks.importer;
+
+import com.bank.profile.dto.PassportDto;
+import com.bank.profile.dto.ProfileDto;
+import com.bank.profile.dto.RegistrationDto;
+import com.bank.profile.importer.ImportFormat;
+import com.bank.profile.importer.ImportRow;
+import com.bank.profile.importer.ProfileRowReader;
+import com.bank.profile.validator.DtoValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Разбор и валидация строк импорта профилей, результат - строк в секунду.
+ * Файл строится {@link ImportFiles}, запись в базу измеряет {@link ProfileImportWriteBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfileImportParseBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"CSV", "NDJSON"})
+    public ImportFormat format;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final DtoValidator<ProfileDto> profileValidator = new DtoValidator<>();
+    private final DtoValidator<PassportDto> passportValidator = new DtoValidator<>();
+    private final DtoValidator<RegistrationDto> registrationValidator = new DtoValidator<>();
+
+    private byte[] file;
+
+    @Setup
+    public void setup() throws IOException {
+        final StringWriter content = new StringWriter();
+        ImportFiles.write(content, format, ROWS, objectMapper);
+        file = content.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int parseAndValidate() throws IOException {
+        int valid = 0;
+        try (ProfileRowReader reader = new ProfileRowReader(new ByteArrayInputStream(file), format, objectMapper)) {
+            while (reader.hasNext()) {
+                final ImportRow row = reader.next();
+                if (row.error() == null && profileValidator.errors(row.profile()).isEmpty() &&
+                        passportValidator.errors(row.profile().getPassport()).isEmpty() &&
+                        registrationValidator.errors(row.profile().getPassport().getRegistration()).isEmpty()) {
+                    valid++;
+                }
+            }
+        }
+        return valid;
+    }
+}
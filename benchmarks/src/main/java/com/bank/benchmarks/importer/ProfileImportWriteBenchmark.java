@@ -0,0 +1,160 @@
+package com.bank.benchmarks.importer;
+
+import com.bank.profile.dto.ActualRegistrationDto;
+import com.bank.profile.dto.ImportReportDto;
+import com.bank.profile.dto.PassportDto;
+import com.bank.profile.dto.ProfileDto;
+import com.bank.profile.dto.RegistrationDto;
+import com.bank.profile.importer.ImportFormat;
+import com.bank.profile.importer.ProfileImportWriter;
+import com.bank.profile.service.ProfileImportService;
+import com.bank.profile.service.imp.ProfileImportServiceImp;
+import com.bank.profile.validator.DtoValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Импорт файла из rows профилей целиком: чтение, параллельная валидация и запись пачками
+ * {@link ProfileImportWriter} с контрольной точкой, в пустые таблицы встроенной H2 в режиме PostgreSQL.
+ * Время одного импорта в секундах, строк в секунду печатается после каждого импорта.
+ * По умолчанию 100 тысяч строк, файл на миллион строк - параметром -p rows=1000000.
+ * Схема - скрипт benchmark/profile-import-h2.sql. Два запроса писателя, которых нет в H2, заменяются:
+ * pg_get_serial_sequence - alias на {@link #serialSequence}, upsert контрольной точки - MERGE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ProfileImportWriteBenchmark {
+
+    private static final String UPSERT_CHECKPOINT = "INSERT INTO profile.import_checkpoint";
+    private static final String MERGE_CHECKPOINT = "MERGE INTO profile.import_checkpoint (import_id, line, imported, " +
+            "failed, updated_at) KEY (import_id) VALUES (?, ?, ?, ?, ?)";
+    private static final String[] TABLES = {"profile", "passport", "registration", "actual_registration",
+        "import_error", "import_checkpoint"};
+    private static final int REPORT_ERRORS = 100;
+
+    @Param({"100000"})
+    public long rows;
+
+    @Param({"CSV"})
+    public ImportFormat format;
+
+    @Param({"1000"})
+    public int batchSize;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private ProfileImportService service;
+    private Path file;
+    private int imports;
+
+    /**
+     * Имя последовательности id таблицы, как у столбца bigserial в PostgreSQL
+     *
+     * @param table таблица со схемой
+     * @param column столбец id
+     * @return последовательность со схемой
+     */
+    public static String serialSequence(String table, String column) {
+        return table + "_" + column + "_seq";
+    }
+
+    @Setup
+    public void setup() throws IOException, SQLException {
+        LoggingSystem.get(getClass().getClassLoader()).setLogLevel(LoggingSystem.ROOT_LOGGER_NAME, LogLevel.WARN);
+        final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        file = Files.createTempFile("profile-import", "." + format.name().toLowerCase());
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            ImportFiles.write(out, format, rows, objectMapper);
+        }
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:import;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;" +
+                "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1", true);
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("benchmark/profile-import-h2.sql"));
+        }
+        jdbcTemplate = new H2JdbcTemplate(dataSource);
+        final ProfileImportWriter writer = new ProfileImportWriter(jdbcTemplate,
+                new DataSourceTransactionManager(dataSource));
+        service = new ProfileImportServiceImp(writer, objectMapper, new DtoValidator<ProfileDto>(),
+                new DtoValidator<PassportDto>(), new DtoValidator<RegistrationDto>(),
+                new DtoValidator<ActualRegistrationDto>(), batchSize, REPORT_ERRORS);
+    }
+
+    /**
+     * Каждый импорт пишет в пустые таблицы
+     */
+    @Setup(Level.Invocation)
+    public void truncate() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        for (String table : TABLES) {
+            jdbcTemplate.execute("TRUNCATE TABLE profile." + table);
+        }
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        dataSource.destroy();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public ImportReportDto importFile() throws IOException {
+        final ImportReportDto report;
+        try (InputStream input = Files.newInputStream(file)) {
+            report = service.importProfiles(input, format, "benchmark-" + ++imports);
+        }
+        System.out.printf("%nЗаписано %d, отклонено %d, %d строк/с%n", report.getImported(), report.getFailed(),
+                Math.round(report.getRowsPerSecond()));
+        return report;
+    }
+
+    /**
+     * JdbcTemplate, заменяющий upsert контрольной точки на MERGE H2
+     */
+    private static final class H2JdbcTemplate extends JdbcTemplate {
+
+        private H2JdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            return super.update(sql.startsWith(UPSERT_CHECKPOINT) ? MERGE_CHECKPOINT : sql, args);
+        }
+    }
+}
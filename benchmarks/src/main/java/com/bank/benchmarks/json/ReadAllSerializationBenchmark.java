@@ -0,0 +1,85 @@
+package com.bank.benchmarks.json;
+
+import com.bank.antifraud.dto.SuspiciousCardTransferDto;
+import com.bank.antifraud.mapper.SuspiciousCardTransferMapper;
+import com.bank.benchmarks.BenchmarkData;
+import com.bank.profile.dto.ProfileDto;
+import com.bank.profile.mapper.ProfileMapper;
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.mapper.AccountTransferMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сериализация ответов readAll в json тем же ObjectMapper, что строит Spring для контроллеров.
+ * Writer получается заранее для конкретного типа списка, как это делает конвертер сообщений.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadAllSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private ObjectWriter accountTransferWriter;
+    private ObjectWriter profileWriter;
+    private ObjectWriter suspiciousCardTransferWriter;
+    private List<AccountTransferDto> accountTransfers;
+    private List<ProfileDto> profiles;
+    private List<SuspiciousCardTransferDto> suspiciousCardTransfers;
+
+    @Setup
+    public void setup() {
+        final TypeFactory typeFactory = objectMapper.getTypeFactory();
+        accountTransferWriter = objectMapper.writerFor(typeFactory.constructCollectionType(List.class,
+                AccountTransferDto.class));
+        profileWriter = objectMapper.writerFor(typeFactory.constructCollectionType(List.class, ProfileDto.class));
+        suspiciousCardTransferWriter = objectMapper.writerFor(typeFactory.constructCollectionType(List.class,
+                SuspiciousCardTransferDto.class));
+        accountTransfers = Mappers.getMapper(AccountTransferMapper.class)
+                .toDtoList(BenchmarkData.list(size, BenchmarkData::accountTransferEntity));
+        profiles = Mappers.getMapper(ProfileMapper.class)
+                .toDtoList(BenchmarkData.list(size, BenchmarkData::profileEntity));
+        suspiciousCardTransfers = Mappers.getMapper(SuspiciousCardTransferMapper.class)
+                .toListDto(BenchmarkData.list(size, BenchmarkData::suspiciousCardTransferEntity));
+    }
+
+    @Benchmark
+    public byte[] accountTransfers() throws JsonProcessingException {
+        return accountTransferWriter.writeValueAsBytes(accountTransfers);
+    }
+
+    @Benchmark
+    public byte[] profiles() throws JsonProcessingException {
+        return profileWriter.writeValueAsBytes(profiles);
+    }
+
+    @Benchmark
+    public byte[] suspiciousCardTransfers() throws JsonProcessingException {
+        return suspiciousCardTransferWriter.writeValueAsBytes(suspiciousCardTransfers);
+    }
+}
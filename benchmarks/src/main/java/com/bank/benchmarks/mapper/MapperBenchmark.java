@@ -0,0 +1,74 @@
+package com.bank.benchmarks.mapper;
+
+import com.bank.antifraud.dto.SuspiciousCardTransferDto;
+import com.bank.antifraud.entity.SuspiciousCardTransferEntity;
+import com.bank.antifraud.mapper.SuspiciousCardTransferMapper;
+import com.bank.benchmarks.BenchmarkData;
+import com.bank.profile.dto.ProfileDto;
+import com.bank.profile.entity.ProfileEntity;
+import com.bank.profile.mapper.ProfileMapper;
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.mapper.AccountTransferMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Преобразование списков сущностей в dto сгенерированными MapStruct мапперами,
+ * как в readAll сервисов перевода, профиля и антифрода.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private final AccountTransferMapper accountTransferMapper = Mappers.getMapper(AccountTransferMapper.class);
+    private final ProfileMapper profileMapper = Mappers.getMapper(ProfileMapper.class);
+    private final SuspiciousCardTransferMapper suspiciousCardTransferMapper =
+            Mappers.getMapper(SuspiciousCardTransferMapper.class);
+
+    private List<AccountTransferEntity> accountTransfers;
+    private List<ProfileEntity> profiles;
+    private List<SuspiciousCardTransferEntity> suspiciousCardTransfers;
+
+    @Setup
+    public void setup() {
+        accountTransfers = BenchmarkData.list(size, BenchmarkData::accountTransferEntity);
+        profiles = BenchmarkData.list(size, BenchmarkData::profileEntity);
+        suspiciousCardTransfers = BenchmarkData.list(size, BenchmarkData::suspiciousCardTransferEntity);
+    }
+
+    @Benchmark
+    public List<AccountTransferDto> accountTransferToDtoList() {
+        return accountTransferMapper.toDtoList(accountTransfers);
+    }
+
+    @Benchmark
+    public List<ProfileDto> profileToDtoList() {
+        return profileMapper.toDtoList(profiles);
+    }
+
+    @Benchmark
+    public List<SuspiciousCardTransferDto> suspiciousCardTransferToListDto() {
+        return suspiciousCardTransferMapper.toListDto(suspiciousCardTransfers);
+    }
+}
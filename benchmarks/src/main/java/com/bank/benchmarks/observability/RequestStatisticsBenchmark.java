@@ -0,0 +1,113 @@
+package com.bank.benchmarks.observability;
+
+import com.bank.common.observability.CountingDataSource;
+import com.bank.common.observability.RequestStatistics;
+import com.bank.common.observability.RequestStatisticsRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Накладные расходы учёта SQL на запрос, результат - микросекунды на операцию.
+ * requestLifecycle - открытие статистики, три SQL и запись в метрики без базы;
+ * rawQuery и countedQuery - один и тот же запрос к H2 через соединение пула и через прокси
+ * {@link CountingDataSource}, разница между ними - цена прокси на запрос.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestStatisticsBenchmark {
+
+    private static final int SQL_LIMIT = 20;
+    private static final int ROWS = 10;
+    private static final String METHOD = "GET";
+    private static final String URI = "/profile/{id}";
+    private static final String SELECT = "select id, name from profile where id <= ?";
+
+    private final RequestStatisticsRecorder recorder = new RequestStatisticsRecorder(new SimpleMeterRegistry(),
+            Duration.ofHours(1), Long.MAX_VALUE);
+
+    private Connection raw;
+    private Connection counted;
+
+    @Setup
+    public void setup() throws SQLException {
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:observability;DB_CLOSE_DELAY=-1");
+        raw = dataSource.getConnection();
+        try (Statement statement = raw.createStatement()) {
+            statement.execute("create table profile (id bigint primary key, name varchar(64))");
+            statement.execute("insert into profile select x, 'name' || x from system_range(1, 100)");
+        }
+        RequestStatistics.start(SQL_LIMIT);
+        counted = new CountingDataSource(dataSource).getConnection();
+        RequestStatistics.finish();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        counted.close();
+        raw.close();
+    }
+
+    @Benchmark
+    public RequestStatistics requestLifecycle() {
+        final RequestStatistics statistics = RequestStatistics.start(SQL_LIMIT);
+        try {
+            statistics.statement(SELECT);
+            statistics.rows(ROWS);
+            statistics.statement(SELECT);
+            statistics.rows(ROWS);
+            statistics.statement("update profile set name = ? where id = ?");
+            statistics.rows(1);
+        } finally {
+            RequestStatistics.finish();
+        }
+        recorder.record(METHOD, URI, statistics);
+        return statistics;
+    }
+
+    @Benchmark
+    public long rawQuery() throws SQLException {
+        return query(raw);
+    }
+
+    @Benchmark
+    public long countedQuery() throws SQLException {
+        return query(counted);
+    }
+
+    private static long query(Connection connection) throws SQLException {
+        long sum = 0;
+        try (PreparedStatement statement = connection.prepareStatement(SELECT)) {
+            statement.setLong(1, ROWS);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    sum += resultSet.getLong(1);
+                }
+            }
+        }
+        return sum;
+    }
+}
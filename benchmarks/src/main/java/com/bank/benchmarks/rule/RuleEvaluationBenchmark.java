@@ -0,0 +1,109 @@
+package com.bank.benchmarks.rule;
+
+import com.bank.antifraud.rule.CompiledRule;
+import com.bank.antifraud.rule.RuleCompiler;
+import com.bank.antifraud.rule.RuleContext;
+import com.bank.antifraud.scoring.VelocityCounter;
+import com.bank.antifraud.scoring.VelocityKeyType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Проверка одного перевода rules скомпилированными правилами, как в скоринге: новый контекст перевода
+ * и проход по всем правилам. Правила генерируются из шаблонов с разными порогами, ключами и окнами.
+ * При подготовке печатается время компиляции всех правил.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleEvaluationBenchmark {
+
+    private static final String[] KEYS = {"sender", "card", "phone", "account"};
+    private static final String[] WINDOWS = {"1m", "1h", "1d"};
+    private static final String[] TEMPLATES = {
+        "amount > %d -> suspicious \"amount-%d\"",
+        "amount > %d and velocity(%s, %s) > 5 -> block \"velocity-%d\"",
+        "sum(%s, %s) >= %d or count(sender, 1d) > 50 -> suspicious \"sum-%d\"",
+        "not (amount < %d) and (count(%s, %s) > 3 or sum(sender, 1h) > 500000) -> block \"mixed-%d\""
+    };
+    private static final int TRANSFERS = 20;
+    private static final long TRANSFER_AMOUNT = 10_000L;
+    private static final long NANOS_IN_MICRO = 1000;
+
+    @Param({"500"})
+    public int rules;
+
+    private final List<CompiledRule> compiled = new ArrayList<>();
+    private final Map<VelocityKeyType, VelocityCounter> counters = new EnumMap<>(VelocityKeyType.class);
+    private BigDecimal amount;
+    private long nowMs;
+
+    @Setup
+    public void setup() {
+        final SplittableRandom random = new SplittableRandom(1);
+        final List<String> sources = new ArrayList<>();
+        for (int index = 0; index < rules; index++) {
+            sources.add(source(index, random));
+        }
+        final long started = System.nanoTime();
+        sources.forEach(source -> compiled.add(RuleCompiler.compile(source)));
+        final long compileMicros = (System.nanoTime() - started) / NANOS_IN_MICRO;
+
+        nowMs = System.currentTimeMillis();
+        final VelocityCounter sender = new VelocityCounter();
+        final VelocityCounter card = new VelocityCounter();
+        for (int index = 0; index < TRANSFERS; index++) {
+            sender.add(TRANSFER_AMOUNT, nowMs - index * 1000L);
+            card.add(TRANSFER_AMOUNT, nowMs - index * 1000L);
+        }
+        counters.put(VelocityKeyType.SENDER, sender);
+        counters.put(VelocityKeyType.CARD, card);
+        amount = BigDecimal.valueOf(150_000L);
+        System.out.printf("%nПравил: %d, компиляция %d мкс, сработало на переводе: %d%n",
+                compiled.size(), compileMicros, evaluate());
+    }
+
+    @Benchmark
+    public int evaluate() {
+        final RuleContext context = new RuleContext(amount, counters, nowMs);
+        int matched = 0;
+        for (CompiledRule rule : compiled) {
+            if (rule.matches(context)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    private static String source(int index, SplittableRandom random) {
+        final String key = KEYS[random.nextInt(KEYS.length)];
+        final String window = WINDOWS[random.nextInt(WINDOWS.length)];
+        final long threshold = 1000L * (1 + random.nextInt(500));
+        return switch (index % TEMPLATES.length) {
+            case 0 -> String.format(TEMPLATES[0], threshold, index);
+            case 1 -> String.format(TEMPLATES[1], threshold, key, window, index);
+            case 2 -> String.format(TEMPLATES[2], key, window, threshold, index);
+            default -> String.format(TEMPLATES[3], threshold, key, window, index);
+        };
+    }
+}
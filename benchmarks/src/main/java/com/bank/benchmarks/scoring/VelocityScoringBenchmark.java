@@ -0,0 +1,103 @@
+package com.bank.benchmarks.scoring;
+
+import com.bank.antifraud.rule.CompiledRule;
+import com.bank.antifraud.rule.RuleCompiler;
+import com.bank.antifraud.rule.RuleContext;
+import com.bank.antifraud.scoring.VelocityCounter;
+import com.bank.antifraud.scoring.VelocityKeyType;
+import com.bank.antifraud.scoring.VelocityStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Скоринг перевода на карту при keys отслеживаемых ключах: запись в счётчики отправителя и карты
+ * {@link VelocityStore} и проверка правилами, повторяющими правила application-local.yaml.
+ * Граф переводов, оценки получателей и сохранение вердикта не входят: они не зависят от числа ключей.
+ * Ключи делятся поровну между отправителями и картами, перевод выбирает их случайно.
+ * При подготовке печатается прирост занятой кучи на один ключ после заполнения хранилища.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class VelocityScoringBenchmark {
+
+    private static final String[] RULES = {
+        "amount > 1000000 -> suspicious \"Крупная сумма перевода\"",
+        "count(sender, 1m) > 5 -> suspicious \"Более 5 переводов отправителя за минуту\"",
+        "count(sender, 1m) > 30 -> block \"Более 30 переводов отправителя за минуту\"",
+        "sum(sender, 1d) > 3000000 -> block \"Сумма переводов отправителя за сутки больше 3000000\"",
+        "count(card, 1h) > 20 -> suspicious \"Более 20 входящих переводов на карту за час\""
+    };
+    private static final long CARD_BASE = 2_200_000_000_000_000L;
+    private static final long TRANSFER_AMOUNT = 15_000L;
+
+    @Param({"1000000", "4000000"})
+    public int keys;
+
+    private final SplittableRandom random = new SplittableRandom(1);
+    private List<CompiledRule> rules;
+    private VelocityStore store;
+    private BigDecimal amount;
+    private int senders;
+
+    @Setup
+    public void setup() {
+        rules = List.of(RULES).stream().map(RuleCompiler::compile).toList();
+        amount = BigDecimal.valueOf(TRANSFER_AMOUNT);
+        senders = keys / 2;
+        final long before = usedHeap();
+        store = new VelocityStore(new SimpleMeterRegistry(), 0);
+        final long nowMs = System.currentTimeMillis();
+        for (int key = 0; key < senders; key++) {
+            store.record(VelocityKeyType.SENDER, (long) key, TRANSFER_AMOUNT, nowMs);
+            store.record(VelocityKeyType.CARD, CARD_BASE + key, TRANSFER_AMOUNT, nowMs);
+        }
+        final long used = usedHeap() - before;
+        System.out.printf("%nКлючей: %d, куча %d МБ, на ключ %d Б%n", store.size(), used >> 20,
+                used / store.size());
+    }
+
+    @Benchmark
+    public int score() {
+        final long nowMs = System.currentTimeMillis();
+        final Map<VelocityKeyType, VelocityCounter> counters = new EnumMap<>(VelocityKeyType.class);
+        counters.put(VelocityKeyType.SENDER, store.record(VelocityKeyType.SENDER,
+                (long) random.nextInt(senders), TRANSFER_AMOUNT, nowMs));
+        counters.put(VelocityKeyType.CARD, store.record(VelocityKeyType.CARD,
+                CARD_BASE + random.nextInt(senders), TRANSFER_AMOUNT, nowMs));
+        final RuleContext context = new RuleContext(amount, counters, nowMs);
+        int matched = 0;
+        for (CompiledRule rule : rules) {
+            if (rule.matches(context)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
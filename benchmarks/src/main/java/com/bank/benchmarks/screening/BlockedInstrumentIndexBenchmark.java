@@ -0,0 +1,84 @@
+package com.bank.benchmarks.screening;
+
+import com.bank.antifraud.scoring.TransferType;
+import com.bank.antifraud.screening.BlockedInstrumentIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Проверка получателя по индексу заблокированных номеров, результат - проверок в секунду из четырёх потоков.
+ * miss - номер не заблокирован, ответ даёт фильтр Блума; hit - номер заблокирован и подтверждается
+ * точным множеством под блокировкой чтения. Память индекса на миллион номеров печатается при подготовке.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class BlockedInstrumentIndexBenchmark {
+
+    private static final int LOOKUP_MASK = 0xFFFF;
+    private static final long CARD_BASE = 4_000_000_000_000_000L;
+    private static final long MILLION = 1_000_000;
+
+    @Param({"1000000"})
+    public int entries;
+
+    private long[] blocked;
+    private long[] clean;
+    private BlockedInstrumentIndex index;
+
+    @Setup
+    public void setup() {
+        index = new BlockedInstrumentIndex(entries, 0.01);
+        final SplittableRandom random = new SplittableRandom(1);
+        blocked = new long[LOOKUP_MASK + 1];
+        for (int number = 0; number < entries; number++) {
+            final long card = CARD_BASE + random.nextLong(MILLION * MILLION);
+            index.add(TransferType.CARD, card);
+            blocked[number & LOOKUP_MASK] = card;
+        }
+        clean = random.longs(LOOKUP_MASK + 1, CARD_BASE + MILLION * MILLION, 2 * CARD_BASE).toArray();
+        index.markLoaded();
+        final long memory = index.memoryBytes(TransferType.CARD);
+        final int size = index.size(TransferType.CARD);
+        System.out.printf("%nНомеров: %d, память %d байт, %.1f МБ на миллион%n", size, memory, (double) memory / size);
+    }
+
+    @Benchmark
+    public boolean miss(Cursor cursor) {
+        return index.isBlocked(TransferType.CARD, clean[cursor.next() & LOOKUP_MASK]);
+    }
+
+    @Benchmark
+    public boolean hit(Cursor cursor) {
+        return index.isBlocked(TransferType.CARD, blocked[cursor.next() & LOOKUP_MASK]);
+    }
+
+    /**
+     * Позиция в массиве номеров своя у каждого потока
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position;
+
+        int next() {
+            return position++;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.bank.benchmarks.security;
+
+import com.bank.authorization.security.TokenKeyRing;
+import com.bank.authorization.security.TokenPrincipal;
+import com.bank.authorization.security.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Проверка подписанного токена на каждом запросе против проверки пароля BCrypt,
+ * которую выполняла аутентификация HTTP Basic. Результат - проверок в секунду.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenBenchmark {
+
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final String ROLE = "USER";
+    private static final String PASSWORD = "password";
+
+    private final Clock clock = Clock.systemUTC();
+    private final TokenService cachedService = new TokenService(new TokenKeyRing(TTL, TTL, clock), TTL, 10_000,
+            new SimpleMeterRegistry(), clock);
+    private final TokenService uncachedService = new TokenService(new TokenKeyRing(TTL, TTL, clock), TTL, 0,
+            new SimpleMeterRegistry(), clock);
+    private final String cachedToken = cachedService.issue(1L, ROLE);
+    private final String uncachedToken = uncachedService.issue(1L, ROLE);
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final String passwordHash = passwordEncoder.encode(PASSWORD);
+
+    @Benchmark
+    public Optional<TokenPrincipal> verifyCached() {
+        return cachedService.verify(cachedToken);
+    }
+
+    @Benchmark
+    public Optional<TokenPrincipal> verifySignature() {
+        return uncachedService.verify(uncachedToken);
+    }
+
+    @Benchmark
+    public String issue() {
+        return cachedService.issue(1L, ROLE);
+    }
+
+    @Benchmark
+    public boolean basicPasswordCheck() {
+        return passwordEncoder.matches(PASSWORD, passwordHash);
+    }
+}
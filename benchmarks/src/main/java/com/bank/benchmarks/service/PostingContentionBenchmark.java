@@ -0,0 +1,105 @@
+package com.bank.benchmarks.service;
+
+import com.bank.account.AccountApplication;
+import com.bank.account.dto.PostingDto;
+import com.bank.account.dto.PostingResultDto;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.repository.AccountDetailsRepository;
+import com.bank.account.service.PostingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Проводки по небольшому набору горячих счетов из многих потоков: пропускная способность (thrpt)
+ * и распределение задержки одной проводки (sample, в отчёте p0.99).
+ * Каждая операция - одна проводка между двумя разными случайными счетами из hotAccounts,
+ * при 2 счетах все потоки ждут одну и ту же пару блокировок {@code StripedLock}.
+ * Сервис счетов целиком, с транзакциями, версиями и аудитом, на встроенной H2 в режиме PostgreSQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class PostingContentionBenchmark {
+
+    private static final BigDecimal OPENING_BALANCE = new BigDecimal("1000000000.00");
+    private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+    private static final long ACCOUNT_BASE = 40_800_000L;
+    private static final String[] ARGS = {
+        "--spring.config.name=benchmark",
+        "--spring.main.banner-mode=off",
+        "--logging.level.root=WARN",
+        "--eureka.client.enabled=false",
+        "--spring.datasource.url=jdbc:h2:mem:account;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;" +
+                "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS account",
+        "--spring.datasource.hikari.maximum-pool-size=20",
+        "--spring.liquibase.enabled=false",
+        "--spring.jpa.hibernate.ddl-auto=create",
+        "--spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+        "--audit.schema=account"
+    };
+
+    @Param({"2", "16", "1024"})
+    public int hotAccounts;
+
+    private ConfigurableApplicationContext context;
+    private PostingService service;
+    private List<Long> ids;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(AccountApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(ARGS);
+        service = context.getBean(PostingService.class);
+        final AccountDetailsRepository repository = context.getBean(AccountDetailsRepository.class);
+        ids = LongStream.rangeClosed(1, hotAccounts)
+                .mapToObj(number -> repository.save(new AccountDetailsEntity(null, number, ACCOUNT_BASE + number,
+                        number, OPENING_BALANCE, false, number, null)).getId())
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PostingResultDto> post(Picker picker) {
+        final int debit = picker.random.nextInt(hotAccounts);
+        final int credit = (debit + 1 + picker.random.nextInt(hotAccounts - 1)) % hotAccounts;
+        return service.post(List.of(new PostingDto(ids.get(debit), ids.get(credit), AMOUNT)));
+    }
+
+    /**
+     * Свой генератор у каждого потока, чтобы выбор счетов не был общей точкой синхронизации
+     */
+    @State(Scope.Thread)
+    public static class Picker {
+
+        private final SplittableRandom random = new SplittableRandom(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,72 @@
+package com.bank.benchmarks.service;
+
+import com.bank.benchmarks.BenchmarkData;
+import com.bank.profile.ProfileApplication;
+import com.bank.profile.entity.PassportEntity;
+import com.bank.profile.entity.ProfileEntity;
+import com.bank.profile.repository.ActualRegistrationRepository;
+import com.bank.profile.repository.PassportRepository;
+import com.bank.profile.repository.ProfileRepository;
+import com.bank.profile.repository.RegistrationRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.stream.Stream;
+
+/**
+ * Сервис профилей целиком, с транзакциями, Hibernate, кэшем по натуральному ключу и аудитом,
+ * на встроенной H2 в режиме PostgreSQL. Схема создаётся Hibernate, а не Liquibase:
+ * миграции используют возможности PostgreSQL, которых нет в H2.
+ * Конфигурация приложения не читается (spring.config.name=benchmark), все настройки заданы здесь.
+ */
+final class ProfileContext {
+
+    private static final String[] ARGS = {
+        "--spring.config.name=benchmark",
+        "--spring.main.banner-mode=off",
+        "--logging.level.root=WARN",
+        "--server.servlet.context-path=/api/profile",
+        "--eureka.client.enabled=false",
+        "--spring.datasource.url=jdbc:h2:mem:profile;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;" +
+                "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS profile",
+        "--spring.liquibase.enabled=false",
+        "--spring.jpa.hibernate.ddl-auto=create-drop",
+        "--spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+        "--spring.jpa.properties.hibernate.globally_quoted_identifiers=true"
+    };
+
+    private ProfileContext() {
+    }
+
+    /**
+     * @param args дополнительные настройки бенчмарка
+     * @return запущенное приложение profile
+     */
+    static ConfigurableApplicationContext start(String... args) {
+        return new SpringApplicationBuilder(ProfileApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(Stream.concat(Stream.of(ARGS), Stream.of(args)).toArray(String[]::new));
+    }
+
+    /**
+     * Профиль с паспортом и регистрациями сохраняется через репозитории, без аудита
+     *
+     * @param context приложение profile
+     * @param number номер профиля в {@link BenchmarkData}
+     * @return технический идентификатор профиля
+     */
+    static Long persist(ConfigurableApplicationContext context, long number) {
+        final ProfileEntity profile = BenchmarkData.profileEntity(number);
+        final PassportEntity passport = profile.getPassport();
+        passport.getRegistration().setId(null);
+        passport.setRegistration(context.getBean(RegistrationRepository.class).save(passport.getRegistration()));
+        passport.setId(null);
+        profile.setPassport(context.getBean(PassportRepository.class).save(passport));
+        profile.getActualRegistration().setId(null);
+        profile.setActualRegistration(context.getBean(ActualRegistrationRepository.class)
+                .save(profile.getActualRegistration()));
+        profile.setId(null);
+        return context.getBean(ProfileRepository.class).save(profile).getId();
+    }
+}
@@ -0,0 +1,77 @@
+package com.bank.benchmarks.service;
+
+import com.bank.benchmarks.BenchmarkData;
+import com.bank.profile.dto.ProfileDto;
+import com.bank.profile.service.ProfileService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Поиск профиля по номеру телефона из нескольких потоков, как в колл-центре: пропускная способность
+ * в запросах в секунду (цель - не меньше 5000) и распределение задержки (цель - p0.99 меньше 5 мс).
+ * Телефон выбирается случайно среди PROFILES профилей, при подготовке каждый профиль читается один раз.
+ * При cacheSize больше PROFILES все запросы обслуживает кэш, при cacheSize в десять раз меньше
+ * девять запросов из десяти идут в базу.
+ * Приложение запускается {@link ProfileContext}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class ProfileLookupBenchmark {
+
+    private static final int PROFILES = 10_000;
+
+    @Param({"100000", "1000"})
+    public int cacheSize;
+
+    private ConfigurableApplicationContext context;
+    private ProfileService service;
+
+    @Setup
+    public void setup() {
+        context = ProfileContext.start("--profile.lookup-cache.max-size=" + cacheSize);
+        service = context.getBean(ProfileService.class);
+        LongStream.rangeClosed(1, PROFILES).forEach(number -> ProfileContext.persist(context, number));
+        LongStream.rangeClosed(1, PROFILES).forEach(number ->
+                service.readByPhoneNumber(BenchmarkData.phoneNumber(number)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProfileDto readByPhoneNumber(Picker picker) {
+        return service.readByPhoneNumber(BenchmarkData.phoneNumber(1 + picker.random.nextInt(PROFILES)));
+    }
+
+    /**
+     * Свой генератор у каждого потока, чтобы выбор профиля не был общей точкой синхронизации
+     */
+    @State(Scope.Thread)
+    public static class Picker {
+
+        private final SplittableRandom random = new SplittableRandom(Thread.currentThread().getId());
+    }
+}
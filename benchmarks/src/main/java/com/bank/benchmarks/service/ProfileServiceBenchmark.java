@@ -0,0 +1,113 @@
+package com.bank.benchmarks.service;
+
+import com.bank.benchmarks.BenchmarkData;
+import com.bank.profile.dto.ProfileDto;
+import com.bank.profile.mapper.ProfileMapper;
+import com.bank.profile.repository.ProfileRepository;
+import com.bank.profile.service.ProfileService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Операции сервиса профилей, приложение запускается {@link ProfileContext}.
+ * findAllById и findAllAggregate сравнивают чтение batch профилей без кэша и BulkReader: findAllById
+ * дочитывает паспорт и регистрации отдельными select, граф агрегата загружает всё одним запросом.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProfileServiceBenchmark {
+
+    private static final int PROFILES = 1000;
+
+    @Param({"10", "100", "500"})
+    public int batch;
+
+    private ConfigurableApplicationContext context;
+    private ProfileService service;
+    private ProfileRepository repository;
+    private ProfileMapper mapper;
+    private List<Long> ids;
+    private List<Long> batchIds;
+    private List<Long> phoneNumbers;
+    private ProfileDto template;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        context = ProfileContext.start();
+        service = context.getBean(ProfileService.class);
+        repository = context.getBean(ProfileRepository.class);
+        mapper = context.getBean(ProfileMapper.class);
+        ids = LongStream.rangeClosed(1, PROFILES)
+                .mapToObj(number -> ProfileContext.persist(context, number))
+                .toList();
+        batchIds = ids.subList(0, batch);
+        phoneNumbers = LongStream.rangeClosed(1, batch).mapToObj(BenchmarkData::phoneNumber).toList();
+        final ProfileDto first = service.readAggregate(ids.get(0));
+        template = new ProfileDto(null, first.getPhoneNumber(), first.getEmail(), first.getNameOnCard(),
+                first.getInn(), first.getSnils(), first.getPassport(), null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProfileDto read() {
+        return service.read(nextId());
+    }
+
+    @Benchmark
+    public ProfileDto readAggregate() {
+        return service.readAggregate(nextId());
+    }
+
+    @Benchmark
+    public List<ProfileDto> readAll() {
+        return service.readAll(batchIds);
+    }
+
+    @Benchmark
+    public List<ProfileDto> findAllById() {
+        return mapper.toDtoList(repository.findAllById(batchIds));
+    }
+
+    @Benchmark
+    public List<ProfileDto> findAllAggregate() {
+        return mapper.toDtoList(repository.findAllAggregateByIdIn(batchIds));
+    }
+
+    @Benchmark
+    public ProfileDto readByPhoneNumberCached() {
+        return service.readByPhoneNumber(phoneNumbers.get(cursor++ % batch));
+    }
+
+    @Benchmark
+    public ProfileDto save() {
+        return service.save(template);
+    }
+
+    private Long nextId() {
+        return ids.get(cursor++ % PROFILES);
+    }
+}
@@ -0,0 +1,117 @@
+package com.bank.benchmarks.service;
+
+import com.bank.common.audit.AuditEventDto;
+import com.bank.history.client.AuditClient;
+import com.bank.history.dto.TimelineDto;
+import com.bank.history.entity.HistoryEntity;
+import com.bank.history.repository.HistoryRepository;
+import com.bank.history.service.TimelineServiceImpl;
+import com.bank.history.timeline.AuditSource;
+import com.bank.history.timeline.TimelineSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Proxy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Лента событий страницы из size строк истории: {@link TimelineServiceImpl} с одним пакетным запросом
+ * на сервис-источник, запросы параллельно, и прежний способ - отдельный запрос на каждый id аудита,
+ * 6 x size запросов по очереди. Вместо Feign-клиентов заглушки, отвечающие через latencyMicros,
+ * вместо репозитория - готовая страница, поэтому измеряется только схема обращений к сервисам.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimelineBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int THREADS = 24;
+    private static final long AUDIT_BASE = 1_000_000L;
+
+    @Param({"20", "100"})
+    public int size;
+
+    @Param({"1000"})
+    public long latencyMicros;
+
+    private final List<TimelineSource> sources = new ArrayList<>();
+    private List<HistoryEntity> histories;
+    private TimelineServiceImpl service;
+
+    @Setup
+    public void setup() {
+        histories = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            final long audit = AUDIT_BASE + id;
+            histories.add(new HistoryEntity(id, audit, audit, audit, audit, audit, audit));
+        }
+        for (AuditSource source : AuditSource.values()) {
+            sources.add(new TimelineSource(source, this::readAudit, TIMEOUT));
+        }
+        final PageImpl<HistoryEntity> page = new PageImpl<>(histories);
+        final HistoryRepository repository = (HistoryRepository) Proxy.newProxyInstance(
+                HistoryRepository.class.getClassLoader(), new Class<?>[]{HistoryRepository.class},
+                (proxy, method, args) -> {
+                    if ("findAll".equals(method.getName()) && args != null && args[0] instanceof Pageable) {
+                        return page;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        service = new TimelineServiceImpl(repository, sources, new SimpleMeterRegistry(), MAX_PAGE_SIZE, THREADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.destroy();
+    }
+
+    @Benchmark
+    public TimelineDto timeline() {
+        return service.readTimeline(0, size, null);
+    }
+
+    @Benchmark
+    public List<AuditEventDto> perId() {
+        final List<AuditEventDto> events = new ArrayList<>(histories.size() * sources.size());
+        for (HistoryEntity history : histories) {
+            for (TimelineSource source : sources) {
+                events.addAll(source.client().readAll(List.of(source.source().auditId(history)), null));
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Заглушка {@link AuditClient}: ответ через latencyMicros независимо от числа id, как сетевой вызов
+     */
+    private List<AuditEventDto> readAudit(List<Long> ids, String authorization) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(latencyMicros));
+        final Timestamp now = new Timestamp(System.currentTimeMillis());
+        return ids.stream()
+                .map(id -> new AuditEventDto(id, "transfer", "CREATE", "bank", null, now, null, null, "{}"))
+                .toList();
+    }
+}
@@ -0,0 +1,84 @@
+package com.bank.benchmarks.service;
+
+import com.bank.benchmarks.BenchmarkData;
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.dto.BulkResultDto;
+import com.bank.transfer.service.AccountTransferService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Создание переводов по счёту: пакетом через createAll (JDBC batch по batch_size строк, транзакция на пачку,
+ * outbox пачкой) и тем же числом вызовов create, каждый в своей транзакции.
+ * Приложение запускается {@link TransferContext}.
+ * H2 в памяти не передаёт строки по сети, поэтому выигрыш пакета на PostgreSQL больше измеренного.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransferBulkInsertBenchmark {
+
+    @Param({"100", "1000"})
+    public int transfers;
+
+    private ConfigurableApplicationContext context;
+    private AccountTransferService service;
+    private JdbcTemplate jdbcTemplate;
+    private List<AccountTransferDto> dtos;
+
+    @Setup
+    public void setup() {
+        context = TransferContext.start();
+        service = context.getBean(AccountTransferService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        dtos = BenchmarkData.list(transfers, BenchmarkData::accountTransferDto);
+    }
+
+    /**
+     * Без relay outbox копится, таблицы очищаются, чтобы итерации писали в одинаковые по размеру таблицы
+     */
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE transfer.account_transfer");
+        jdbcTemplate.execute("TRUNCATE TABLE transfer.outbox_event");
+        jdbcTemplate.execute("TRUNCATE TABLE transfer.audit");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BulkResultDto> createAll() {
+        return service.createAll(dtos);
+    }
+
+    @Benchmark
+    public Long createOneByOne() {
+        long last = 0;
+        for (AccountTransferDto dto : dtos) {
+            last = service.create(dto).getId();
+        }
+        return last;
+    }
+}
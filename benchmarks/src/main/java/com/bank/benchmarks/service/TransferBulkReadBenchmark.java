@@ -0,0 +1,84 @@
+package com.bank.benchmarks.service;
+
+import com.bank.benchmarks.BenchmarkData;
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.mapper.AccountTransferMapper;
+import com.bank.transfer.repository.AccountTransferRepository;
+import com.bank.transfer.service.AccountTransferService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Чтение переводов по списку из ids id в случайном порядке: readAll сервиса через BulkReader
+ * (части по bulk-read.chunk-size по очереди в транзакции вызывающего, результат в порядке запроса)
+ * и прежний способ - один findAllById со всем списком в одном IN. Таблица содержит TRANSFERS переводов.
+ * Приложение запускается {@link TransferContext}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransferBulkReadBenchmark {
+
+    private static final int TRANSFERS = 20_000;
+
+    @Param({"1000", "10000"})
+    public int ids;
+
+    private ConfigurableApplicationContext context;
+    private AccountTransferService service;
+    private AccountTransferRepository repository;
+    private AccountTransferMapper mapper;
+    private List<Long> request;
+
+    @Setup
+    public void setup() {
+        context = TransferContext.start();
+        service = context.getBean(AccountTransferService.class);
+        repository = context.getBean(AccountTransferRepository.class);
+        mapper = context.getBean(AccountTransferMapper.class);
+        final List<AccountTransferEntity> entities = BenchmarkData.list(TRANSFERS,
+                BenchmarkData::accountTransferEntity);
+        entities.forEach(entity -> entity.setId(null));
+        final List<Long> saved = new ArrayList<>(repository.saveAll(entities).stream()
+                .map(AccountTransferEntity::getId)
+                .toList());
+        Collections.shuffle(saved, new Random(1));
+        request = saved.subList(0, ids);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<AccountTransferDto> readAll() {
+        return service.readAll(request);
+    }
+
+    @Benchmark
+    public List<AccountTransferDto> findAllByIdSingleIn() {
+        return mapper.toDtoList(repository.findAllById(request));
+    }
+}
@@ -0,0 +1,53 @@
+package com.bank.benchmarks.service;
+
+import com.bank.transfer.TransferApplication;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.config.TaskManagementConfigUtils;
+
+/**
+ * Приложение transfer целиком, с аудитом и outbox, на встроенной H2 в режиме PostgreSQL.
+ * Схема создаётся Hibernate, аудит и outbox - скриптом benchmark/transfer-h2.sql.
+ * Фоновые задачи отключены: relay outbox и очистка ключей идемпотентности используют SQL PostgreSQL.
+ */
+final class TransferContext {
+
+    private static final String[] ARGS = {
+        "--spring.config.name=benchmark",
+        "--spring.main.banner-mode=off",
+        "--logging.level.root=WARN",
+        "--eureka.client.enabled=false",
+        "--spring.datasource.url=jdbc:h2:mem:transfer;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;" +
+                "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS transfer",
+        "--spring.liquibase.enabled=false",
+        "--spring.jpa.hibernate.ddl-auto=create",
+        "--spring.jpa.defer-datasource-initialization=true",
+        "--spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+        "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "--spring.jpa.properties.hibernate.order_inserts=true",
+        "--spring.sql.init.mode=always",
+        "--spring.sql.init.schema-locations=classpath:benchmark/transfer-h2.sql",
+        "--audit.schema=transfer",
+        "--transfer.outbox.destinations.antifraud=http://localhost/scoring"
+    };
+
+    private TransferContext() {
+    }
+
+    /**
+     * @return запущенное приложение transfer
+     */
+    static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(TransferApplication.class)
+                .web(WebApplicationType.NONE)
+                .initializers(TransferContext::disableScheduling)
+                .run(ARGS);
+    }
+
+    private static void disableScheduling(ConfigurableApplicationContext context) {
+        context.addBeanFactoryPostProcessor(factory -> ((BeanDefinitionRegistry) factory)
+                .removeBeanDefinition(TaskManagementConfigUtils.SCHEDULED_ANNOTATION_PROCESSOR_BEAN_NAME));
+    }
+}
@@ -0,0 +1,86 @@
+package com.bank.benchmarks.sketch;
+
+import com.bank.antifraud.sketch.HyperLogLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Оценки разных получателей счёта по часам: добавление получателя в часовую оценку и оценка окна
+ * из HOURS сохранённых часов, как в запросе /counterparty/count. counterparties - разных получателей
+ * за час. При подготовке печатаются память и размер в таблице на счёт за окно и ошибка оценки.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CounterpartySketchBenchmark {
+
+    private static final int HOURS = 24;
+    private static final int PRECISION = 12;
+    private static final long CARD_BASE = 4_276_000_000_000_000L;
+
+    @Param({"5", "100", "2000"})
+    public int counterparties;
+
+    private final List<byte[]> stored = new ArrayList<>();
+    private HyperLogLog current;
+    private long[] cards;
+    private int next;
+
+    @Setup
+    public void setup() {
+        final SplittableRandom random = new SplittableRandom(1);
+        final Set<Long> exact = new HashSet<>();
+        long memory = 0;
+        long bytes = 0;
+        for (int hour = 0; hour < HOURS; hour++) {
+            final HyperLogLog sketch = new HyperLogLog(PRECISION);
+            for (int index = 0; index < counterparties; index++) {
+                final long card = CARD_BASE + random.nextInt(counterparties * HOURS);
+                sketch.add(card);
+                exact.add(card);
+            }
+            memory += sketch.memoryBytes();
+            stored.add(sketch.toBytes());
+            bytes += stored.get(hour).length;
+        }
+        cards = random.longs(1 << 16).toArray();
+        current = new HyperLogLog(PRECISION);
+        final long estimate = window();
+        System.out.printf("%nПолучателей за час: %d, на счёт за %d ч: память %d Б, в таблице %d Б, " +
+                        "точно %d, оценка %d%n", counterparties, HOURS, memory, bytes, exact.size(), estimate);
+    }
+
+    @Benchmark
+    public HyperLogLog add() {
+        current.add(cards[next++ & (cards.length - 1)]);
+        return current;
+    }
+
+    @Benchmark
+    public long window() {
+        final HyperLogLog window = new HyperLogLog(PRECISION);
+        for (byte[] hour : stored) {
+            window.merge(HyperLogLog.fromBytes(hour));
+        }
+        return window.estimate();
+    }
+}
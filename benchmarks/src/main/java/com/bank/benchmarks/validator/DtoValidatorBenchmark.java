@@ -0,0 +1,63 @@
+package com.bank.benchmarks.validator;
+
+import com.bank.benchmarks.BenchmarkData;
+import com.bank.common.exception.ValidationException;
+import com.bank.profile.dto.PassportDto;
+import com.bank.profile.dto.ProfileDto;
+import com.bank.profile.validator.DtoValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость {@link DtoValidator#validate} на каждом сохранении и обновлении
+ * и {@link DtoValidator#errors} на каждой строке импорта.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoValidatorBenchmark {
+
+    private final DtoValidator<ProfileDto> profileValidator = new DtoValidator<>();
+    private final DtoValidator<PassportDto> passportValidator = new DtoValidator<>();
+    private final ProfileDto profile = BenchmarkData.profileDto(1);
+    private final ProfileDto invalidProfile = BenchmarkData.profileDto(1);
+
+    /**
+     * Некорректный е-мейл и слишком короткое имя на карте
+     */
+    public DtoValidatorBenchmark() {
+        invalidProfile.setEmail("not-an-email");
+        invalidProfile.setNameOnCard("I");
+    }
+
+    @Benchmark
+    public ProfileDto validProfile() {
+        profileValidator.validate(profile, () -> new ValidationException("Сохранение невозможно, неверные данные"));
+        return profile;
+    }
+
+    @Benchmark
+    public PassportDto validPassport() {
+        passportValidator.validate(profile.getPassport(),
+                () -> new ValidationException("Сохранение невозможно, неверные данные паспорта"));
+        return profile.getPassport();
+    }
+
+    @Benchmark
+    public List<String> invalidProfileErrors() {
+        return profileValidator.errors(invalidProfile);
+    }
+}
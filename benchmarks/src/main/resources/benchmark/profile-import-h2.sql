@@ -0,0 +1,85 @@
+-- Таблицы profile, в которые пишет импорт, с ограничениями уникальности и внешними ключами Liquibase.
+-- id выделяет импорт через pg_get_serial_sequence, в H2 это alias на последовательности ниже.
+-- Уникальность е-мейла в PostgreSQL - частичный индекс по lower(email), в H2 - обычный уникальный индекс.
+CREATE SCHEMA IF NOT EXISTS profile;
+
+CREATE ALIAS IF NOT EXISTS pg_get_serial_sequence
+    FOR 'com.bank.benchmarks.importer.ProfileImportWriteBenchmark.serialSequence';
+
+CREATE SEQUENCE IF NOT EXISTS profile.registration_id_seq;
+CREATE SEQUENCE IF NOT EXISTS profile.actual_registration_id_seq;
+CREATE SEQUENCE IF NOT EXISTS profile.passport_id_seq;
+CREATE SEQUENCE IF NOT EXISTS profile.profile_id_seq;
+
+CREATE TABLE IF NOT EXISTS profile.registration (
+    id BIGINT PRIMARY KEY,
+    country VARCHAR(166) NOT NULL,
+    region VARCHAR(160),
+    city VARCHAR(160),
+    district VARCHAR(160),
+    locality VARCHAR(230),
+    street VARCHAR(230),
+    house_number VARCHAR(20),
+    house_block VARCHAR(20),
+    flat_number VARCHAR(40),
+    index BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS profile.actual_registration (
+    id BIGINT PRIMARY KEY,
+    country VARCHAR(40) NOT NULL,
+    region VARCHAR(160),
+    city VARCHAR(160),
+    district VARCHAR(160),
+    locality VARCHAR(230),
+    street VARCHAR(230),
+    house_number VARCHAR(20),
+    house_block VARCHAR(20),
+    flat_number VARCHAR(40),
+    index BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS profile.passport (
+    id BIGINT PRIMARY KEY,
+    series INTEGER NOT NULL,
+    number BIGINT NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    first_name VARCHAR(255) NOT NULL,
+    middle_name VARCHAR(255),
+    gender VARCHAR(3) NOT NULL,
+    birth_date DATE NOT NULL,
+    birth_place VARCHAR(480) NOT NULL,
+    issued_by TEXT NOT NULL,
+    date_of_issue DATE NOT NULL,
+    division_code INTEGER NOT NULL,
+    expiration_date DATE,
+    registration_id BIGINT NOT NULL REFERENCES profile.registration (id),
+    CONSTRAINT passport_series_number_key UNIQUE (series, number)
+);
+
+CREATE TABLE IF NOT EXISTS profile.profile (
+    id BIGINT PRIMARY KEY,
+    phone_number BIGINT NOT NULL CONSTRAINT profile_phone_number_key UNIQUE,
+    email VARCHAR(264) CONSTRAINT profile_email_key UNIQUE,
+    name_on_card VARCHAR(370),
+    inn BIGINT,
+    snils BIGINT,
+    passport_id BIGINT NOT NULL REFERENCES profile.passport (id),
+    actual_registration_id BIGINT REFERENCES profile.actual_registration (id)
+);
+
+CREATE TABLE IF NOT EXISTS profile.import_checkpoint (
+    import_id VARCHAR(100) PRIMARY KEY,
+    line BIGINT NOT NULL,
+    imported BIGINT NOT NULL,
+    failed BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS profile.import_error (
+    import_id VARCHAR(100) NOT NULL,
+    line BIGINT NOT NULL,
+    message VARCHAR(2000)
+);
+
+CREATE INDEX IF NOT EXISTS import_error_import_id_idx ON profile.import_error (import_id);
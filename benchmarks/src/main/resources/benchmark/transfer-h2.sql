@@ -0,0 +1,26 @@
+-- Таблицы transfer, которые в PostgreSQL создаёт Liquibase, а не Hibernate: аудит и outbox
+CREATE TABLE IF NOT EXISTS transfer.audit (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    entity_type VARCHAR(40) NOT NULL,
+    operation_type VARCHAR(255) NOT NULL,
+    created_by VARCHAR(255) NOT NULL,
+    modified_by VARCHAR(255),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    modified_at TIMESTAMP WITH TIME ZONE,
+    new_entity_json TEXT,
+    entity_json TEXT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS transfer.outbox_event (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id VARCHAR(36) NOT NULL,
+    destination VARCHAR(64) NOT NULL,
+    partition_key BIGINT NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload TEXT NOT NULL,
+    attempts INTEGER DEFAULT 0 NOT NULL,
+    last_error TEXT,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT now() NOT NULL,
+    available_at TIMESTAMP WITH TIME ZONE DEFAULT now() NOT NULL,
+    status VARCHAR(16) DEFAULT 'PENDING' NOT NULL
+);
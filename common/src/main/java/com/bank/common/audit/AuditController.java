@@ -0,0 +1,31 @@
+package com.bank.common.audit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller для пакетного чтения аудита модуля, подключается в каждый сервис вместе с common
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/audit")
+public class AuditController {
+
+    private final AuditReader reader;
+
+    /**
+     * @param ids список технических идентификаторов записей аудита
+     * @return {@link ResponseEntity} c найденными {@link AuditEventDto} и HttpStatus OK
+     */
+    @GetMapping
+    public ResponseEntity<List<AuditEventDto>> readAll(@RequestParam("id") List<Long> ids) {
+        return new ResponseEntity<>(reader.readAll(ids), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,31 @@
+package com.bank.common.audit;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.sql.Timestamp;
+
+/**
+ * Dto строки таблицы audit модуля, отдаётся {@link AuditController} сервису истории.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AuditEventDto {
+
+    Long id;
+    String entityType;
+    String operationType;
+    String createdBy;
+    String modifiedBy;
+    Timestamp createdAt;
+    Timestamp modifiedAt;
+    String newEntityJson;
+    String entityJson;
+}
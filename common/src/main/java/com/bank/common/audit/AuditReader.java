@@ -0,0 +1,53 @@
+package com.bank.common.audit;
+
+import com.bank.common.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Чтение таблицы audit модуля по списку id одним запросом.
+ * Не найденные id пропускаются: история собирает ленту из нескольких сервисов
+ * и показывает то, что удалось прочитать.
+ */
+@Component
+public class AuditReader {
+
+    private static final String SELECT = "SELECT id, entity_type, operation_type, created_by, modified_by, " +
+            "created_at, modified_at, new_entity_json, entity_json FROM %s.audit WHERE id = ANY (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String select;
+    private final int maxIds;
+
+    public AuditReader(JdbcTemplate jdbcTemplate,
+                       @Value("${audit.schema:${spring.liquibase.default-schema:public}}") String schema,
+                       @Value("${audit.read-max-ids:1000}") int maxIds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.select = String.format(SELECT, schema);
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * @param ids технические идентификаторы записей аудита
+     * @return найденные записи в порядке id
+     */
+    public List<AuditEventDto> readAll(List<Long> ids) {
+        if (ids.size() > maxIds) {
+            throw new ValidationException("За один запрос можно прочитать не более " + maxIds + " записей аудита");
+        }
+        final Long[] distinct = ids.stream().distinct().toArray(Long[]::new);
+        if (distinct.length == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.query(select + " ORDER BY id",
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("bigint", distinct)),
+                (resultSet, rowNumber) -> new AuditEventDto(resultSet.getLong("id"), resultSet.getString("entity_type"),
+                        resultSet.getString("operation_type"), resultSet.getString("created_by"),
+                        resultSet.getString("modified_by"), resultSet.getTimestamp("created_at"),
+                        resultSet.getTimestamp("modified_at"), resultSet.getString("new_entity_json"),
+                        resultSet.getString("entity_json")));
+    }
+}
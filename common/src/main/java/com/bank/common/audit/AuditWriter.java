@@ -0,0 +1,245 @@
+package com.bank.common.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Асинхронная запись в таблицу audit модуля.
+ * Изменения попадают в ограниченную очередь после коммита транзакции, фоновый поток
+ * пишет их пачками одним многострочным INSERT. Для обновления в new_entity_json
+ * хранятся только изменённые поля. При заполненной очереди вызывающий поток ждёт
+ * audit.offer-timeout-ms, затем запись отбрасывается и учитывается в метрике audit.dropped.
+ * Пачка, которую не удалось записать, учитывается в audit.failed, фоновый поток продолжает работу.
+ */
+@Slf4j
+@Component
+public class AuditWriter implements SmartLifecycle {
+
+    private static final String CREATE = "CREATE";
+    private static final String UPDATE = "UPDATE";
+    private static final String INSERT = "INSERT INTO %s.audit (entity_type, operation_type, created_by, " +
+            "modified_by, created_at, modified_at, new_entity_json, entity_json) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 8;
+    private static final long POLL_MS = 200;
+    private static final long STOP_TIMEOUT_MS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<AuditRecord> queue;
+    private final String insert;
+    private final String user;
+    private final int batchSize;
+    private final long offerTimeoutMs;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Timer lag;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, MeterRegistry registry,
+                       @Value("${audit.schema:${spring.liquibase.default-schema:public}}") String schema,
+                       @Value("${audit.user:${spring.application.name:system}}") String user,
+                       @Value("${audit.queue-capacity:10000}") int capacity,
+                       @Value("${audit.batch-size:200}") int batchSize,
+                       @Value("${audit.offer-timeout-ms:50}") long offerTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.insert = String.format(INSERT, schema);
+        this.user = user;
+        this.batchSize = batchSize;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.written = registry.counter("audit.written");
+        this.dropped = registry.counter("audit.dropped");
+        this.failed = registry.counter("audit.failed");
+        this.lag = registry.timer("audit.lag");
+        Gauge.builder("audit.queue.depth", queue, BlockingQueue::size).register(registry);
+        Gauge.builder("audit.queue.oldest.age", this, AuditWriter::oldestAgeMs).baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    /**
+     * @param entityClass класс сущности, его имя пишется в entity_type
+     * @param created созданная сущность или её dto
+     */
+    public void created(Class<?> entityClass, Object created) {
+        enqueue(new AuditRecord(entityClass.getSimpleName(), CREATE, null, created, Instant.now(), System.nanoTime()));
+    }
+
+    /**
+     * @param entityClass класс сущности, его имя пишется в entity_type
+     * @param before сущность или её dto до изменения, снимок не должен меняться после вызова
+     * @param after сущность или её dto после изменения
+     */
+    public void updated(Class<?> entityClass, Object before, Object after) {
+        enqueue(new AuditRecord(entityClass.getSimpleName(), UPDATE, before, after, Instant.now(), System.nanoTime()));
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        worker = new Thread(this::drain, "audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join(STOP_TIMEOUT_MS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Останавливается после веб-сервера, чтобы дописать изменения последних запросов.
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 4096;
+    }
+
+    private void enqueue(AuditRecord record) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(record);
+                }
+            });
+        } else {
+            offer(record);
+        }
+    }
+
+    private void offer(AuditRecord record) {
+        if (!running) {
+            write(List.of(record));
+            return;
+        }
+        try {
+            if (!queue.offer(record, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                dropped.increment();
+                log.warn("Очередь аудита заполнена, запись {} {} отброшена", record.operationType(),
+                        record.entityType());
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+        }
+    }
+
+    private void drain() {
+        final List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                final AuditRecord first = queue.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    write(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void write(List<AuditRecord> batch) {
+        final Object[] args = new Object[batch.size() * COLUMNS];
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                fill(args, i * COLUMNS, batch.get(i));
+            }
+            jdbcTemplate.update(insert + String.join(", ", Collections.nCopies(batch.size(), ROW)), args);
+            written.increment(batch.size());
+            lag.record(System.nanoTime() - batch.get(0).enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+        } catch (JsonProcessingException | RuntimeException exception) {
+            failed.increment(batch.size());
+            log.error("Не удалось записать {} записей аудита", batch.size(), exception);
+        }
+    }
+
+    private void fill(Object[] args, int offset, AuditRecord record) throws JsonProcessingException {
+        final Timestamp at = Timestamp.from(record.at());
+        final boolean update = UPDATE.equals(record.operationType());
+        args[offset] = record.entityType();
+        args[offset + 1] = record.operationType();
+        args[offset + 2] = user;
+        args[offset + 3] = update ? user : null;
+        args[offset + 4] = at;
+        args[offset + 5] = update ? at : null;
+        args[offset + 6] = update ? objectMapper.writeValueAsString(diff(record.before(), record.after())) : null;
+        args[offset + 7] = objectMapper.writeValueAsString(update ? record.before() : record.after());
+    }
+
+    /**
+     * @return поля after, отличающиеся от before, удалённые поля записываются как null
+     */
+    private ObjectNode diff(Object before, Object after) {
+        final JsonNode old = objectMapper.valueToTree(before);
+        final JsonNode current = objectMapper.valueToTree(after);
+        final ObjectNode changes = objectMapper.createObjectNode();
+        current.fields().forEachRemaining(field -> {
+            if (!Objects.equals(old.get(field.getKey()), field.getValue())) {
+                changes.set(field.getKey(), field.getValue());
+            }
+        });
+        old.fieldNames().forEachRemaining(name -> {
+            if (!current.has(name)) {
+                changes.putNull(name);
+            }
+        });
+        return changes;
+    }
+
+    private double oldestAgeMs() {
+        final AuditRecord oldest = queue.peek();
+        return oldest == null ? 0 : (System.nanoTime() - oldest.enqueuedAtNanos()) / 1_000_000.0;
+    }
+
+    /**
+     * Изменение, ожидающее записи
+     */
+    private record AuditRecord(String entityType, String operationType, Object before, Object after,
+                               Instant at, long enqueuedAtNanos) {
+    }
+}
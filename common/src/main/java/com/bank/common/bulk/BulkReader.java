@@ -0,0 +1,90 @@
+package com.bank.common.bulk;
+
+import com.bank.common.collection.LongHashSet;
+import com.bank.common.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Чтение записей по списку id для readAll.
+ * Повторяющиеся id читаются один раз, список делится на части по bulk-read.chunk-size,
+ * части читаются по очереди в потоке вызывающего: в его транзакции, на его соединении и в его снимке данных.
+ * Параллельное чтение частей занимало бы по соединению на часть, пока вызывающий держит своё,
+ * и несколько одновременных readAll исчерпывали бы пул соединений.
+ * Результат возвращается в порядке запроса, при отсутствии записей исключение перечисляет
+ * каждый не найденный id один раз.
+ */
+@Component
+public class BulkReader {
+
+    private final int maxIds;
+    private final int chunkSize;
+
+    public BulkReader(@Value("${bulk-read.max-ids:10000}") int maxIds,
+                      @Value("${bulk-read.chunk-size:1000}") int chunkSize) {
+        this.maxIds = maxIds;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param ids список технических идентификаторов, может содержать повторы
+     * @param loader чтение части уникальных id, например {@code findAllById} с маппингом в дто
+     * @param idGetter технический идентификатор прочитанной записи
+     * @param notFoundMessage начало сообщения, если часть id не найдена
+     * @return записи в порядке ids, повторный id даёт повторную запись
+     */
+    public <T> List<T> readAll(List<Long> ids, Function<List<Long>, List<T>> loader, Function<T, Long> idGetter,
+                               String notFoundMessage) {
+        if (ids.size() > maxIds) {
+            throw new ValidationException("За один запрос можно прочитать не больше " + maxIds + " записей");
+        }
+        final List<Long> unique = unique(ids);
+        final Map<Long, T> found = new HashMap<>(unique.size() * 2);
+        load(unique, loader).forEach(item -> found.put(idGetter.apply(item), item));
+        final List<T> result = new ArrayList<>(ids.size());
+        final Set<Long> missing = new LinkedHashSet<>();
+        for (Long id : ids) {
+            final T item = id == null ? null : found.get(id);
+            if (item == null) {
+                missing.add(id);
+            } else {
+                result.add(item);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new EntityNotFoundException(notFoundMessage + ", id = " + missing);
+        }
+        return result;
+    }
+
+    private static List<Long> unique(List<Long> ids) {
+        final LongHashSet seen = new LongHashSet(ids.size());
+        final List<Long> unique = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            if (id != null && seen.add(id)) {
+                unique.add(id);
+            }
+        }
+        return unique;
+    }
+
+    private <T> List<T> load(List<Long> ids, Function<List<Long>, List<T>> loader) {
+        if (ids.size() <= chunkSize) {
+            return ids.isEmpty() ? List.of() : loader.apply(ids);
+        }
+        final List<T> loaded = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            loaded.addAll(loader.apply(ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+        }
+        return loaded;
+    }
+}
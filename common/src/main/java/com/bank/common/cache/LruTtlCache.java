@@ -0,0 +1,166 @@
+package com.bank.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Ограниченный по размеру и времени жизни кэш в памяти.
+ * При переполнении вытесняется запись, к которой дольше всего не обращались, запись старше ttl считается отсутствующей.
+ * Каждое удаление увеличивает поколение: значение, прочитанное из базы до удаления, не кладётся в кэш,
+ * если при чтении запомнено поколение {@link #generation()}.
+ * Метрики: metric.hits, metric.misses, metric.evictions с причиной size или write и metric.size с тегом cache.
+ */
+public class LruTtlCache<K, V> {
+
+    private static final String CACHE_TAG = "cache";
+    private static final String CAUSE_TAG = "cause";
+
+    private final Map<K, Entry<V>> entries;
+    private final long ttlMs;
+    private final Clock clock;
+    private final BiConsumer<K, V> dropped;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter writeEvictions;
+
+    private long generation;
+
+    public LruTtlCache(String metric, String name, int maxSize, Duration ttl, MeterRegistry registry, Clock clock) {
+        this(metric, name, maxSize, ttl, registry, clock, (key, value) -> { });
+    }
+
+    /**
+     * @param metric префикс имён метрик, например reference.cache
+     * @param name значение тега cache
+     * @param maxSize наибольшее количество записей
+     * @param ttl время жизни записи с момента помещения в кэш
+     * @param registry реестр метрик
+     * @param clock часы для времени жизни
+     * @param dropped вызывается под блокировкой кэша для записи, которую кэш убрал сам:
+     *                вытесненной, истёкшей или заменённой в put
+     */
+    public LruTtlCache(String metric, String name, int maxSize, Duration ttl, MeterRegistry registry, Clock clock,
+                       BiConsumer<K, V> dropped) {
+        this.ttlMs = ttl.toMillis();
+        this.clock = clock;
+        this.dropped = dropped;
+        this.hits = registry.counter(metric + ".hits", CACHE_TAG, name);
+        this.misses = registry.counter(metric + ".misses", CACHE_TAG, name);
+        final String evictions = metric + ".evictions";
+        this.sizeEvictions = registry.counter(evictions, CACHE_TAG, name, CAUSE_TAG, "size");
+        this.writeEvictions = registry.counter(evictions, CACHE_TAG, name, CAUSE_TAG, "write");
+        this.entries = new LinkedHashMap<>(maxSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > maxSize) {
+                    sizeEvictions.increment();
+                    dropped.accept(eldest.getKey(), eldest.getValue().value());
+                    return true;
+                }
+                return false;
+            }
+        };
+        Gauge.builder(metric + ".size", this, LruTtlCache::size).tag(CACHE_TAG, name).register(registry);
+    }
+
+    /**
+     * @param key ключ
+     * @return значение или null, если его нет или время жизни прошло
+     */
+    public synchronized V get(K key) {
+        final Entry<V> entry = entries.get(key);
+        if (entry != null && clock.millis() - entry.loadedAtMs() < ttlMs) {
+            hits.increment();
+            return entry.value();
+        }
+        if (entry != null) {
+            entries.remove(key);
+            dropped.accept(key, entry.value());
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * @return поколение, запоминается перед чтением из базы и передаётся в {@link #put(Object, Object, long)}
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * @param key ключ
+     * @param value значение
+     * @param loadGeneration поколение до чтения value из базы
+     * @return false, если после чтения запись удалялась и значение могло устареть
+     */
+    public synchronized boolean put(K key, V value, long loadGeneration) {
+        if (loadGeneration != generation) {
+            return false;
+        }
+        put(key, value);
+        return true;
+    }
+
+    /**
+     * @param key ключ
+     * @param value значение, не зависящее от удалений, например уже сохранённый ответ
+     */
+    public synchronized void put(K key, V value) {
+        final Entry<V> previous = entries.put(key, new Entry<>(value, clock.millis()));
+        if (previous != null) {
+            dropped.accept(key, previous.value());
+        }
+    }
+
+    /**
+     * @param key ключ удаляемой записи, поколение увеличивается, даже если записи нет
+     */
+    public synchronized void remove(K key) {
+        removeAll(List.of(key));
+    }
+
+    /**
+     * @param keys ключи удаляемых записей, поколение увеличивается, даже если записей нет
+     */
+    public synchronized void removeAll(Collection<K> keys) {
+        generation++;
+        for (K key : keys) {
+            if (entries.remove(key) != null) {
+                writeEvictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Удаляет все записи
+     */
+    public synchronized void clear() {
+        generation++;
+        writeEvictions.increment(entries.size());
+        entries.clear();
+    }
+
+    /**
+     * @return количество записей, включая истёкшие, но ещё не удалённые
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Значение и время помещения в кэш
+     */
+    private record Entry<V>(V value, long loadedAtMs) {
+    }
+}
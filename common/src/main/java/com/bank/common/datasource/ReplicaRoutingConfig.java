@@ -0,0 +1,71 @@
+package com.bank.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Чтение с реплик в модулях, где задан replica.urls: вместо пула spring.datasource
+ * создаётся {@link ReplicaRoutingDataSource} с тем же primary и пулом на каждую реплику
+ * с учётными данными spring.datasource.
+ */
+@Configuration
+@ConditionalOnProperty(name = "replica.urls")
+public class ReplicaRoutingConfig {
+
+    /**
+     * @param properties настройки spring.datasource для primary и учётных данных реплик
+     * @param urls адреса реплик через запятую
+     * @param maxLag допустимое отставание реплики
+     * @param checkInterval период проверки реплик
+     * @param connectionTimeout ожидание соединения реплики до перехода на другую базу
+     * @return DataSource с выбором базы по read-only транзакции
+     */
+    @Bean
+    public ReplicaRoutingDataSource dataSource(DataSourceProperties properties,
+                                               @Value("${replica.urls}") List<String> urls,
+                                               @Value("${replica.max-lag:5s}") Duration maxLag,
+                                               @Value("${replica.check-interval:5s}") Duration checkInterval,
+                                               @Value("${replica.connection-timeout:1s}") Duration connectionTimeout) {
+        final HikariDataSource primary = pool(properties, "primary");
+        final Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int index = 0; index < urls.size(); index++) {
+            final HikariDataSource replica = pool(properties, "replica-" + (index + 1));
+            replica.setJdbcUrl(urls.get(index));
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, maxLag, checkInterval);
+    }
+
+    /**
+     * Hibernate по умолчанию держит соединение до закрытия EntityManager, а open-in-view держит его
+     * весь http-запрос: тогда запись после чтения ушла бы на соединение реплики.
+     * Соединение отпускается после каждой транзакции, и следующая выбирает базу заново.
+     *
+     * @return освобождение соединения после транзакции
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, String name) {
+        final HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName(name);
+        return pool;
+    }
+}
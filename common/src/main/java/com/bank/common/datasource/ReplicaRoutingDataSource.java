@@ -0,0 +1,188 @@
+package com.bank.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource, отправляющий работу {@code @Transactional(readOnly = true)} на реплики, остальное - на primary.
+ * Соединение берётся лениво при первом SQL, когда признак read-only транзакции уже известен.
+ * Реплики выбираются по кругу среди доступных: раз в checkInterval каждая проверяется запросом отставания,
+ * реплика с ошибкой или отставанием больше maxLag исключается до следующей успешной проверки.
+ * Если доступных реплик нет или соединение не получено, чтение идёт на primary.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    /**
+     * Отставание в мс: 0 на primary и на реплике, применившей всё полученное WAL
+     */
+    private static final String LAG_SQL = "select case when not pg_is_in_recovery() or " +
+            "pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 " +
+            "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0) end";
+
+    private final Router router;
+    private final ScheduledExecutorService checker;
+
+    /**
+     * @param primary пул основной базы
+     * @param replicas пулы реплик по имени для лога
+     * @param maxLag допустимое отставание реплики
+     * @param checkInterval период проверки реплик
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag,
+                                    Duration checkInterval) {
+        this.router = new Router(primary, replicas.entrySet().stream()
+                .map(replica -> new Replica(replica.getKey(), replica.getValue()))
+                .toList(), maxLag.toMillis());
+        setDefaultAutoCommit(true);
+        setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        setTargetDataSource(router);
+        this.checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "replica-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long periodMs = checkInterval.toMillis();
+        checker.scheduleWithFixedDelay(this::checkReplicas, 0, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Проверяет доступность и отставание каждой реплики
+     */
+    public void checkReplicas() {
+        router.replicas.forEach(router::check);
+    }
+
+    /**
+     * @return имена реплик, на которые сейчас идёт чтение
+     */
+    public List<String> availableReplicas() {
+        return router.replicas.stream()
+                .filter(replica -> replica.available)
+                .map(replica -> replica.name)
+                .toList();
+    }
+
+    @Override
+    public void close() throws Exception {
+        checker.shutdownNow();
+        for (Replica replica : router.replicas) {
+            closeIfPossible(replica.dataSource);
+        }
+        closeIfPossible(router.primary);
+    }
+
+    private static void closeIfPossible(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Выбор базы для физического соединения. Для обёрток, например метрик пула, unwrap отдаёт primary.
+     */
+    private static final class Router extends AbstractDataSource {
+
+        private final DataSource primary;
+        private final List<Replica> replicas;
+        private final long maxLagMillis;
+        private final AtomicInteger next = new AtomicInteger();
+
+        private Router(DataSource primary, List<Replica> replicas, long maxLagMillis) {
+            this.primary = primary;
+            this.replicas = replicas;
+            this.maxLagMillis = maxLagMillis;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || replicas.isEmpty()) {
+                return primary.getConnection();
+            }
+            final int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+            for (int offset = 0; offset < replicas.size(); offset++) {
+                final Replica replica = replicas.get((start + offset) % replicas.size());
+                if (replica.available) {
+                    try {
+                        return replica.dataSource.getConnection();
+                    } catch (SQLException | RuntimeException exception) {
+                        replica.available = false;
+                        log.warn("Реплика {} недоступна, чтение переведено на другие базы: {}", replica.name,
+                                exception.getMessage());
+                    }
+                }
+            }
+            return primary.getConnection();
+        }
+
+        /**
+         * Соединение с явными учётными данными всегда берётся у primary
+         */
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return primary.getConnection(username, password);
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) throws SQLException {
+            return type.isInstance(this) ? type.cast(this) : primary.unwrap(type);
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> type) throws SQLException {
+            return type.isInstance(this) || primary.isWrapperFor(type);
+        }
+
+        private void check(Replica replica) {
+            final String problem = problem(replica);
+            final boolean available = problem == null;
+            if (available != replica.available) {
+                log.warn("Реплика {} {}", replica.name, available ? "доступна для чтения" : "исключена: " + problem);
+            }
+            replica.available = available;
+        }
+
+        /**
+         * @return причина исключения реплики или null, если она доступна
+         */
+        private String problem(Replica replica) {
+            try (Connection connection = replica.dataSource.getConnection();
+                    Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(LAG_SQL)) {
+                final long lagMillis = resultSet.next() ? resultSet.getLong(1) : Long.MAX_VALUE;
+                return lagMillis <= maxLagMillis ? null : "отставание " + lagMillis + " мс";
+            } catch (SQLException | RuntimeException exception) {
+                return exception.toString();
+            }
+        }
+    }
+
+    /**
+     * Пул реплики и результат последней проверки
+     */
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.bank.common.exception;
+
+/**
+ * Исключение при конфликте с параллельно выполняемым запросом.
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    public ConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
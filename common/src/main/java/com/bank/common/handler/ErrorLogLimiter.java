@@ -0,0 +1,92 @@
+package com.bank.common.handler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ограничение частоты записи в лог по типу исключения: на каждый тип свой token bucket
+ * с rate записями в секунду и запасом burst. Bucket хранит одно число - момент, когда он
+ * снова станет полным (алгоритм GCRA), и обновляется через compareAndSet без блокировок.
+ * Подавленные записи считаются, раз в summaryInterval по каждому типу пишется их количество.
+ */
+@Slf4j
+public class ErrorLogLimiter implements AutoCloseable {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<Class<?>, Bucket> buckets = new ConcurrentHashMap<>();
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final ScheduledExecutorService summary;
+
+    /**
+     * @param rate записей в секунду на тип исключения, 0 и меньше - не писать совсем
+     * @param burst сколько записей подряд можно написать после затишья
+     * @param summaryInterval период сводки подавленных записей
+     */
+    public ErrorLogLimiter(double rate, int burst, Duration summaryInterval) {
+        this.intervalNanos = rate > 0 ? Math.max(1L, (long) (NANOS_PER_SECOND / rate)) : Long.MAX_VALUE;
+        this.capacityNanos = rate > 0 ? intervalNanos * Math.max(burst, 1) : 0;
+        this.summary = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "error-log-summary");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long periodMs = summaryInterval.toMillis();
+        summary.scheduleAtFixedRate(this::logSummary, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param type тип исключения
+     * @return true, если запись можно писать, иначе она учтена как подавленная
+     */
+    public boolean tryAcquire(Class<?> type) {
+        final Bucket bucket = buckets.computeIfAbsent(type, ignored -> new Bucket());
+        if (capacityNanos > 0) {
+            while (true) {
+                final long now = System.nanoTime();
+                final long fullAt = bucket.fullAt.get();
+                final long next = Math.max(fullAt, now) + intervalNanos;
+                if (next - now > capacityNanos) {
+                    break;
+                }
+                if (bucket.fullAt.compareAndSet(fullAt, next)) {
+                    return true;
+                }
+            }
+        }
+        bucket.suppressed.increment();
+        return false;
+    }
+
+    @Override
+    public void close() {
+        summary.shutdownNow();
+        logSummary();
+    }
+
+    private void logSummary() {
+        buckets.forEach((type, bucket) -> {
+            final long suppressed = bucket.suppressed.sumThenReset();
+            if (suppressed > 0) {
+                log.warn("Не записано в лог исключений {}: {}", type.getName(), suppressed);
+            }
+        });
+    }
+
+    /**
+     * Момент в System.nanoTime, когда bucket снова полон, и счётчик подавленных записей
+     */
+    private static final class Bucket {
+        private final AtomicLong fullAt = new AtomicLong(System.nanoTime());
+        private final LongAdder suppressed = new LongAdder();
+    }
+}
@@ -1,25 +1,59 @@
 package com.bank.common.handler;
 
 import com.bank.common.exception.ClientAccessDeniedException;
+import com.bank.common.exception.ConflictException;
 import com.bank.common.exception.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.servlet.HandlerMapping;
 import org.webjars.NotFoundException;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Обработчик исключений.
+ * Ошибками клиента (4xx) считаются только исключения модулей из com.bank.common.exception, отсутствие сущности
+ * и ошибки разбора запроса Spring. Стандартные исключения Java, например IllegalStateException, говорят
+ * об ошибке в коде или окружении и отвечают 500.
+ * Ошибки сервера пишутся в лог со стеком всегда. Ошибки клиента пишутся одной строкой без стека
+ * и не чаще error-log.client.rate в секунду на тип исключения, см. {@link ErrorLogLimiter}:
+ * при всплеске 404 от перебора id запись в лог не становится узким местом.
+ * Каждая ошибка считается в метрике http.server.errors с типом исключения, шаблоном адреса и статусом.
  */
 @Slf4j
 @RestControllerAdvice
-public class RestHandlerException {
+public class RestHandlerException implements DisposableBean {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry registry;
+    private final ErrorLogLimiter limiter;
+    private final Map<ErrorKey, Counter> counters = new ConcurrentHashMap<>();
+
+    public RestHandlerException(ObjectProvider<MeterRegistry> registry,
+                                @Value("${error-log.client.rate:1}") double rate,
+                                @Value("${error-log.client.burst:5}") int burst,
+                                @Value("${error-log.summary-interval:1m}") Duration summaryInterval) {
+        this.registry = registry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.limiter = new ErrorLogLimiter(rate, burst, summaryInterval);
+    }
 
     /**
      * @param exception {@link EntityNotFoundException}
@@ -27,8 +61,7 @@ public class RestHandlerException {
      */
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<String> handleEntityNotFoundException(EntityNotFoundException exception) {
-        log.error(exception.getMessage(), exception);
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
+        return respond(HttpStatus.NOT_FOUND, exception, exception.getMessage());
     }
 
     /**
@@ -37,28 +70,16 @@ public class RestHandlerException {
      */
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<String> handleNotFoundException(NotFoundException exception) {
-        log.error(exception.getMessage(), exception);
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
-    }
-
-    /**
-     * @param exception {@link IllegalStateException}
-     * @return {@link ResponseEntity<String>}
-     */
-    @ExceptionHandler(IllegalStateException.class)
-    public ResponseEntity<String> handleIllegalStateException(IllegalStateException exception) {
-        log.error(exception.getMessage(), exception);
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(exception.getMessage());
+        return respond(HttpStatus.NOT_FOUND, exception, exception.getMessage());
     }
 
     /**
-     * @param exception {@link IllegalArgumentException}
+     * @param exception {@link ConflictException}
      * @return {@link ResponseEntity<String>}
      */
-    @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException exception) {
-        log.error(exception.getMessage(), exception);
-        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(exception.getMessage());
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<String> handleConflictException(ConflictException exception) {
+        return respond(HttpStatus.CONFLICT, exception, exception.getMessage());
     }
 
     /**
@@ -67,18 +88,7 @@ public class RestHandlerException {
      */
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<String> handleValidationException(ValidationException exception) {
-        log.error(exception.getMessage(), exception);
-        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(exception.getMessage());
-    }
-
-    /**
-     * @param exception {@link UnsupportedOperationException}
-     * @return {@link ResponseEntity<String>}
-     */
-    @ExceptionHandler(UnsupportedOperationException.class)
-    public ResponseEntity<String> handleUnsupportedOperationException(UnsupportedOperationException exception) {
-        log.error(exception.getMessage(), exception);
-        return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(exception.getMessage());
+        return respond(HttpStatus.UNPROCESSABLE_ENTITY, exception, exception.getMessage());
     }
 
     /**
@@ -87,8 +97,7 @@ public class RestHandlerException {
      */
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<String> handleHttpMessageNotReadableException(HttpMessageNotReadableException exception) {
-        log.error(exception.getMessage(), exception);
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exception.getMessage());
+        return respond(HttpStatus.BAD_REQUEST, exception, exception.getMessage());
     }
 
     /**
@@ -97,8 +106,7 @@ public class RestHandlerException {
      */
     @ExceptionHandler(MaxUploadSizeExceededException.class)
     public ResponseEntity<String> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException exception) {
-        log.error(exception.getMessage(), exception);
-        return ResponseEntity.status(HttpStatus.LENGTH_REQUIRED).body(exception.getMessage());
+        return respond(HttpStatus.LENGTH_REQUIRED, exception, exception.getMessage());
     }
 
     /**
@@ -107,8 +115,7 @@ public class RestHandlerException {
      */
     @ExceptionHandler(ClientAccessDeniedException.class)
     public ResponseEntity<String> handleClientAccessDeniedException(ClientAccessDeniedException exception) {
-        log.error(exception.getMessage(), exception);
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(exception.getMessage());
+        return respond(HttpStatus.FORBIDDEN, exception, exception.getMessage());
     }
 
     /**
@@ -117,8 +124,7 @@ public class RestHandlerException {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleServerGlobalException(Exception exception) {
-        log.error(exception.getMessage(), exception);
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ошибка на стороне сервера.");
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, exception, "Ошибка на стороне сервера.");
     }
 
     /**
@@ -128,7 +134,46 @@ public class RestHandlerException {
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<String> handleMethodArgumentTypeMismatchException(
             MethodArgumentTypeMismatchException exception) {
-        log.error(exception.getMessage(), exception);
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Некорректно указан id");
+        return respond(HttpStatus.BAD_REQUEST, exception, "Некорректно указан id");
+    }
+
+    @Override
+    public void destroy() {
+        limiter.close();
+    }
+
+    private ResponseEntity<String> respond(HttpStatus status, Exception exception, String body) {
+        counters.computeIfAbsent(new ErrorKey(exception.getClass(), uri(), status), this::counter).increment();
+        if (status.is5xxServerError()) {
+            log.error(exception.getMessage(), exception);
+        } else if (limiter.tryAcquire(exception.getClass())) {
+            log.warn("{} {}: {}", status.value(), exception.getClass().getSimpleName(), exception.getMessage());
+        }
+        return ResponseEntity.status(status).body(body);
+    }
+
+    private Counter counter(ErrorKey key) {
+        return Counter.builder("http.server.errors")
+                .tag("exception", key.type().getSimpleName())
+                .tag("uri", key.uri())
+                .tag("status", String.valueOf(key.status().value()))
+                .tag("outcome", key.status().is5xxServerError() ? "SERVER_ERROR" : "CLIENT_ERROR")
+                .register(registry);
+    }
+
+    /**
+     * @return шаблон адреса обработчика, например /profile/{id}, чтобы число значений тега было ограничено
+     */
+    private static String uri() {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        final Object pattern = attributes == null ? null : attributes.getAttribute(
+                HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+
+    /**
+     * Тип исключения, шаблон адреса и статус ответа
+     */
+    private record ErrorKey(Class<?> type, String uri, HttpStatus status) {
     }
 }
@@ -0,0 +1,121 @@
+package com.bank.common.observability;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.stream.IntStream;
+
+/**
+ * DataSource, считающий SQL-запросы и строки в {@link RequestStatistics} текущего запроса.
+ * Соединение оборачивается в прокси, только если оно берётся внутри http-запроса,
+ * поэтому фоновые задачи и миграции работают с соединением пула напрямую.
+ * Строки запроса считаются по ResultSet.next результата executeQuery и getResultSet,
+ * строки изменения - по результату executeUpdate и executeBatch.
+ * При закрытии контекста закрывает и обёрнутый пул, как закрывался бы он сам.
+ */
+public class CountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final String EXECUTE = "execute";
+    private static final String EXECUTE_QUERY = "executeQuery";
+    private static final String GET_RESULT_SET = "getResultSet";
+    private static final String NEXT = "next";
+
+    /**
+     * @param target DataSource пула соединений
+     */
+    public CountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Connection wrap(Connection connection) {
+        final RequestStatistics statistics = RequestStatistics.current();
+        if (statistics == null) {
+            return connection;
+        }
+        return proxy(Connection.class, connection, new Handler(connection, null, statistics));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    /**
+     * Общий обработчик для Connection, Statement и ResultSet.
+     * Statement, созданный подготовкой SQL, помнит свой текст для execute без аргументов.
+     */
+    private record Handler(Object target, String sql, RequestStatistics statistics) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            final Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+            final String name = method.getName();
+            if (name.startsWith(EXECUTE)) {
+                statistics.statement(args != null && args.length > 0 && args[0] instanceof String text ? text : sql);
+                countUpdated(result);
+            } else if (NEXT.equals(name) && Boolean.TRUE.equals(result)) {
+                statistics.rows(1);
+            }
+            return wrapResult(name, result, args);
+        }
+
+        private void countUpdated(Object result) {
+            if (result instanceof Integer updated && updated > 0) {
+                statistics.rows(updated);
+            } else if (result instanceof Long updated && updated > 0) {
+                statistics.rows(updated);
+            } else if (result instanceof int[] batch) {
+                statistics.rows(IntStream.of(batch).filter(updated -> updated > 0).sum());
+            }
+        }
+
+        private Object wrapResult(String name, Object result, Object[] args) {
+            final String text = args != null && args.length > 0 && args[0] instanceof String value ? value : sql;
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, statement, new Handler(statement, text, statistics));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, statement, new Handler(statement, text, statistics));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, statement, new Handler(statement, null, statistics));
+            }
+            if (result instanceof ResultSet resultSet && (EXECUTE_QUERY.equals(name) || GET_RESULT_SET.equals(name))) {
+                return proxy(ResultSet.class, resultSet, new Handler(resultSet, null, statistics));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.bank.common.observability;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Автоконфигурация наблюдаемости запросов для всех модулей с common в зависимостях,
+ * зарегистрирована в META-INF/spring/org.springframework.boot.autoconfigure.AutoConfiguration.imports.
+ * Метрика Spring Boot http.server.requests уже есть у каждого обработчика контроллера,
+ * здесь ей включаются гистограмма и процентили; DataSource оборачивается в {@link CountingDataSource},
+ * а {@link RequestStatisticsFilter} пишет число SQL и строк на запрос. Отключается observability.enabled=false.
+ * Модуль заменяет любой бин своим бином с тем же именем, {@link RequestStatisticsRecorder} - бином своего типа.
+ */
+@AutoConfiguration
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(name = "observability.enabled", matchIfMissing = true)
+public class ObservabilityAutoConfiguration {
+
+    private static final String REQUESTS_METRIC = "http.server.requests";
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    /**
+     * @return обёртка каждого DataSource контекста в {@link CountingDataSource}
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "countingDataSourcePostProcessor")
+    public static BeanPostProcessor countingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+                    return new CountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * @return гистограмма и процентили 0.5, 0.95, 0.99 для метрик http.server.requests*
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "requestPercentilesMeterFilter")
+    public MeterFilter requestPercentilesMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().startsWith(REQUESTS_METRIC)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .percentiles(PERCENTILES)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    /**
+     * @return запись метрик и медленных запросов по статистике запроса
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public RequestStatisticsRecorder requestStatisticsRecorder(
+            MeterRegistry registry,
+            @Value("${observability.slow-request.duration:1s}") Duration slowDuration,
+            @Value("${observability.slow-request.statements:50}") long slowStatements) {
+        return new RequestStatisticsRecorder(registry, slowDuration, slowStatements);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "requestStatisticsFilter")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<RequestStatisticsFilter> requestStatisticsFilter(
+            RequestStatisticsRecorder recorder,
+            @Value("${observability.slow-request.sql-limit:20}") int sqlLimit) {
+        final FilterRegistrationBean<RequestStatisticsFilter> registration =
+                new FilterRegistrationBean<>(new RequestStatisticsFilter(recorder, sqlLimit));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,115 @@
+package com.bank.common.observability;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Счётчики SQL-запросов и строк одного http-запроса.
+ * Текущая статистика хранится в ThreadLocal потока запроса, в пулы её переносит {@link #propagate}.
+ * Для лога медленных запросов запоминаются первые sqlLimit разных текстов SQL с числом выполнений.
+ */
+public final class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final Map<String, LongAdder> sql = new ConcurrentHashMap<>();
+    private final int sqlLimit;
+    private final long startedAtNanos = System.nanoTime();
+
+    private RequestStatistics(int sqlLimit) {
+        this.sqlLimit = sqlLimit;
+    }
+
+    /**
+     * @param sqlLimit сколько разных текстов SQL запоминать
+     * @return новая статистика, ставшая текущей для потока
+     */
+    public static RequestStatistics start(int sqlLimit) {
+        final RequestStatistics statistics = new RequestStatistics(sqlLimit);
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * @return статистика текущего запроса или null вне запроса
+     */
+    public static RequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Завершает учёт в потоке запроса
+     */
+    public static void finish() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @param task задача для другого потока
+     * @return задача, SQL которой учитывается в статистике текущего запроса
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        final RequestStatistics statistics = CURRENT.get();
+        if (statistics == null) {
+            return task;
+        }
+        return () -> {
+            final RequestStatistics previous = CURRENT.get();
+            CURRENT.set(statistics);
+            try {
+                return task.get();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * @param text текст SQL, может быть null для пакета без текста
+     */
+    public void statement(String text) {
+        statements.increment();
+        if (text == null) {
+            return;
+        }
+        final LongAdder executions = sql.get(text);
+        if (executions != null) {
+            executions.increment();
+        } else if (sql.size() < sqlLimit) {
+            sql.computeIfAbsent(text, ignored -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * @param count прочитанные или изменённые строки
+     */
+    public void rows(long count) {
+        rows.add(count);
+    }
+
+    public long statements() {
+        return statements.sum();
+    }
+
+    public long rows() {
+        return rows.sum();
+    }
+
+    /**
+     * @return время с начала запроса
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - startedAtNanos;
+    }
+
+    /**
+     * @return запомненные тексты SQL с числом выполнений
+     */
+    public Map<String, LongAdder> sql() {
+        return sql;
+    }
+}
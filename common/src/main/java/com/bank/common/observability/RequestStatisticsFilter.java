@@ -0,0 +1,44 @@
+package com.bank.common.observability;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Открывает {@link RequestStatistics} на время http-запроса и передаёт её в {@link RequestStatisticsRecorder}
+ * с шаблоном адреса обработчика, как у метрики http.server.requests.
+ */
+public class RequestStatisticsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final RequestStatisticsRecorder recorder;
+    private final int sqlLimit;
+
+    /**
+     * @param recorder запись статистики в метрики и лог
+     * @param sqlLimit сколько разных текстов SQL запоминать для лога
+     */
+    public RequestStatisticsFilter(RequestStatisticsRecorder recorder, int sqlLimit) {
+        this.recorder = recorder;
+        this.sqlLimit = sqlLimit;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final RequestStatistics statistics = RequestStatistics.start(sqlLimit);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestStatistics.finish();
+            final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            recorder.record(request.getMethod(), pattern != null ? pattern.toString() : UNKNOWN_URI, statistics);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.bank.common.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Запись {@link RequestStatistics} завершённого запроса в метрики
+ * http.server.requests.jdbc.statements и http.server.requests.jdbc.rows с гистограммой процентилей.
+ * Запрос дольше slowDuration или с числом SQL больше slowStatements пишется в лог вместе с текстами SQL.
+ */
+@Slf4j
+public class RequestStatisticsRecorder {
+
+    private final MeterRegistry registry;
+    private final long slowNanos;
+    private final long slowStatements;
+    private final Map<RequestKey, Summaries> summaries = new ConcurrentHashMap<>();
+
+    /**
+     * @param registry реестр метрик
+     * @param slowDuration порог длительности медленного запроса
+     * @param slowStatements порог числа SQL в одном запросе
+     */
+    public RequestStatisticsRecorder(MeterRegistry registry, Duration slowDuration, long slowStatements) {
+        this.registry = registry;
+        this.slowNanos = slowDuration.toNanos();
+        this.slowStatements = slowStatements;
+    }
+
+    /**
+     * @param method http-метод
+     * @param uri шаблон адреса обработчика
+     * @param statistics статистика запроса
+     */
+    public void record(String method, String uri, RequestStatistics statistics) {
+        final long statements = statistics.statements();
+        final long rows = statistics.rows();
+        final Summaries meters = summaries.computeIfAbsent(new RequestKey(method, uri), this::register);
+        meters.statements().record(statements);
+        meters.rows().record(rows);
+        final long elapsedNanos = statistics.elapsedNanos();
+        if (elapsedNanos > slowNanos || statements > slowStatements) {
+            log.warn("Медленный запрос {} {}: {} мс, SQL-запросов {}, строк {}\n{}", method, uri,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), statements, rows, sql(statistics));
+        }
+    }
+
+    private Summaries register(RequestKey key) {
+        return new Summaries(summary("http.server.requests.jdbc.statements", key),
+                summary("http.server.requests.jdbc.rows", key));
+    }
+
+    private DistributionSummary summary(String name, RequestKey key) {
+        return DistributionSummary.builder(name)
+                .tag("method", key.method())
+                .tag("uri", key.uri())
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static String sql(RequestStatistics statistics) {
+        return statistics.sql().entrySet().stream()
+                .map(entry -> entry.getValue().sum() + " x " + entry.getKey())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private record RequestKey(String method, String uri) {
+    }
+
+    private record Summaries(DistributionSummary statements, DistributionSummary rows) {
+    }
+}
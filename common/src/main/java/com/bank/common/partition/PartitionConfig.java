@@ -0,0 +1,14 @@
+package com.bank.common.partition;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Включает расписание для {@link PartitionMaintenance} в модулях, где задан partition.tables
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "partition.tables")
+public class PartitionConfig {
+}
@@ -0,0 +1,247 @@
+package com.bank.common.partition;
+
+import com.bank.common.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Обслуживание помесячных секций таблиц, секционированных по created_at.
+ * Секции называются table_pYYYYMM. На старте и по расписанию создаются секции текущего месяца
+ * и partition.premake-months следующих, секции старше partition.retention-months отсоединяются,
+ * выгружаются в partition.export-dir сжатым CSV с заголовком и удаляются.
+ * Секции по умолчанию нет, поэтому запись за месяц без секции упадёт: запас секций вперёд
+ * должен перекрывать возможный простой сервиса. Обслуживание идемпотентно, ошибка по одной секции
+ * пишется в лог и не мешает остальным, незавершённые шаги повторяются при следующем запуске.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "partition.tables")
+public class PartitionMaintenance {
+
+    private static final Pattern TABLE = Pattern.compile("([a-z_][a-z0-9_]*)\\.([a-z_][a-z0-9_]*)");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String PARTITION_SUFFIX = "_p";
+    private static final String CREATE = "CREATE TABLE IF NOT EXISTS %s.%s PARTITION OF %s.%s " +
+            "FOR VALUES FROM ('%s') TO ('%s')";
+    private static final String SELECT_PARTITIONS = "SELECT c.relname, i.inhparent IS NOT NULL AS attached " +
+            "FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace " +
+            "LEFT JOIN pg_inherits i ON i.inhrelid = c.oid " +
+            "WHERE n.nspname = ? AND c.relkind = 'r' AND c.relname ~ ?";
+    private static final String DETACH = "ALTER TABLE %s.%s DETACH PARTITION %s.%s";
+    private static final String DROP = "DROP TABLE IF EXISTS %s.%s";
+    private static final String SEPARATOR = ",";
+    private static final char QUOTE = '"';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate exportTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final List<String> tables;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final Path exportDir;
+
+    public PartitionMaintenance(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                @Value("${partition.tables}") List<String> tables,
+                                @Value("${partition.premake-months:3}") int premakeMonths,
+                                @Value("${partition.retention-months:24}") int retentionMonths,
+                                @Value("${partition.export-dir:partition-export}") String exportDir,
+                                @Value("${partition.export-fetch-size:1000}") int fetchSize) {
+        tables.forEach(PartitionMaintenance::parse);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportTemplate = new JdbcTemplate(dataSource);
+        this.exportTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tables = tables;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.exportDir = Paths.get(exportDir);
+    }
+
+    /**
+     * На старте только создаются недостающие секции, устаревшие ждут расписания
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        final YearMonth current = YearMonth.now();
+        tables.forEach(table -> createPartitions(parse(table), current));
+    }
+
+    /**
+     * Обслуживание по расписанию partition.cron
+     */
+    @Scheduled(cron = "${partition.cron:0 30 3 * * *}")
+    public void scheduled() {
+        maintain(LocalDate.now());
+    }
+
+    /**
+     * @param today текущая дата, от её месяца считаются запас вперёд и срок хранения
+     */
+    public void maintain(LocalDate today) {
+        final YearMonth current = YearMonth.from(today);
+        for (String table : tables) {
+            final Matcher name = parse(table);
+            createPartitions(name, current);
+            if (retentionMonths > 0) {
+                expirePartitions(name, current.minusMonths(retentionMonths));
+            }
+        }
+    }
+
+    private void createPartitions(Matcher table, YearMonth current) {
+        final String schema = table.group(1);
+        final String parent = table.group(2);
+        for (int offset = 0; offset <= premakeMonths; offset++) {
+            final YearMonth month = current.plusMonths(offset);
+            try {
+                jdbcTemplate.execute(String.format(CREATE, schema, partitionName(parent, month), schema, parent,
+                        month.atDay(1), month.plusMonths(1).atDay(1)));
+            } catch (DataAccessException exception) {
+                log.error("Секция {}.{} за {} не создана: {}", schema, parent, month,
+                        exception.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private void expirePartitions(Matcher table, YearMonth cutoff) {
+        final String schema = table.group(1);
+        final String parent = table.group(2);
+        final String pattern = "^" + parent + PARTITION_SUFFIX + "[0-9]{6}$";
+        jdbcTemplate.query(SELECT_PARTITIONS, (resultSet, rowNumber) -> new Partition(resultSet.getString(1),
+                        resultSet.getBoolean(2)), schema, pattern).stream()
+                .filter(partition -> month(parent, partition.name()).isBefore(cutoff))
+                .forEach(partition -> expire(schema, parent, partition));
+    }
+
+    private void expire(String schema, String parent, Partition partition) {
+        try {
+            if (partition.attached()) {
+                jdbcTemplate.execute(String.format(DETACH, schema, parent, schema, partition.name()));
+            }
+            final String qualified = schema + "." + partition.name();
+            final Path file = exportDir.resolve(qualified + ".csv.gz");
+            if (Files.notExists(file)) {
+                export(qualified, file);
+            }
+            jdbcTemplate.execute(String.format(DROP, schema, partition.name()));
+            log.info("Секция {}.{} выгружена в {} и удалена", schema, partition.name(), file);
+        } catch (DataAccessException | UncheckedIOException exception) {
+            log.error("Секция {}.{} не обслужена, повтор при следующем запуске", schema, partition.name(),
+                    exception);
+        }
+    }
+
+    /**
+     * Выгрузка курсором во временный файл и атомарное переименование,
+     * поэтому существующий файл всегда содержит полную секцию
+     */
+    private void export(String table, Path file) {
+        try {
+            Files.createDirectories(exportDir);
+            final Path temporary = Files.createTempFile(exportDir, table, ".tmp");
+            try {
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                        new GZIPOutputStream(Files.newOutputStream(temporary)), StandardCharsets.UTF_8))) {
+                    final ResultSetExtractor<Void> extractor = resultSet -> writeCsv(resultSet, writer);
+                    transactionTemplate.executeWithoutResult(status ->
+                            exportTemplate.query("SELECT * FROM " + table, extractor));
+                }
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static Void writeCsv(ResultSet resultSet, Writer writer) throws SQLException {
+        try {
+            final ResultSetMetaData metaData = resultSet.getMetaData();
+            final int columns = metaData.getColumnCount();
+            for (int column = 1; column <= columns; column++) {
+                writer.write(column > 1 ? SEPARATOR : "");
+                writer.write(metaData.getColumnName(column));
+            }
+            writer.write('\n');
+            while (resultSet.next()) {
+                for (int column = 1; column <= columns; column++) {
+                    writer.write(column > 1 ? SEPARATOR : "");
+                    writer.write(quote(resultSet.getString(column)));
+                }
+                writer.write('\n');
+            }
+            return null;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * null выгружается пустым значением, пустая строка - парой кавычек
+     */
+    private static String quote(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && value.chars().noneMatch(symbol -> symbol == SEPARATOR.charAt(0) || symbol == QUOTE ||
+                symbol == '\n' || symbol == '\r')) {
+            return value;
+        }
+        return QUOTE + value.replace("\"", "\"\"") + QUOTE;
+    }
+
+    private static String partitionName(String parent, YearMonth month) {
+        return parent + PARTITION_SUFFIX + month.format(SUFFIX);
+    }
+
+    private static YearMonth month(String parent, String partition) {
+        return YearMonth.parse(partition.substring(parent.length() + PARTITION_SUFFIX.length()), SUFFIX);
+    }
+
+    private static Matcher parse(String table) {
+        final Matcher matcher = TABLE.matcher(table.trim());
+        if (!matcher.matches()) {
+            throw new ValidationException("Таблица для секционирования должна быть в виде schema.table: " + table);
+        }
+        return matcher;
+    }
+
+    /**
+     * Секция и признак, присоединена ли она к родительской таблице
+     */
+    private record Partition(String name, boolean attached) {
+    }
+}
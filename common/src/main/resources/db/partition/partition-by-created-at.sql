@@ -0,0 +1,26 @@
+-- Помесячное секционирование таблицы ${partition.table} по created_at, секции дальше ведёт PartitionMaintenance.
+-- Подключается из changelog модуля через sqlFile, таблица задаётся свойством partition.table этого changelog.
+-- Существующие строки переносятся в секции с месяца самой ранней записи, вперёд создаётся запас на 3 месяца.
+ALTER TABLE ${partition.table} RENAME TO ${partition.table}_unpartitioned;
+CREATE TABLE ${partition.table} (LIKE ${partition.table}_unpartitioned INCLUDING COMMENTS)
+    PARTITION BY RANGE (created_at);
+DO $$
+DECLARE
+    partition_month DATE;
+BEGIN
+    FOR partition_month IN SELECT generate_series(
+            date_trunc('month', COALESCE((SELECT min(created_at) FROM ${partition.table}_unpartitioned), now())),
+            date_trunc('month', now()) + INTERVAL '3 months', INTERVAL '1 month')::date
+    LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF ${partition.table} FOR VALUES FROM (%L) TO (%L)',
+                '${partition.table}_p' || to_char(partition_month, 'YYYYMM'), partition_month,
+                (partition_month + INTERVAL '1 month')::date);
+    END LOOP;
+END $$;
+INSERT INTO ${partition.table} SELECT * FROM ${partition.table}_unpartitioned;
+DROP TABLE ${partition.table}_unpartitioned;
+CREATE SEQUENCE ${partition.table}_id_seq OWNED BY ${partition.table}.id;
+SELECT setval('${partition.table}_id_seq', COALESCE((SELECT max(id) FROM ${partition.table}), 0) + 1, false);
+ALTER TABLE ${partition.table} ALTER COLUMN id SET DEFAULT nextval('${partition.table}_id_seq');
+ALTER TABLE ${partition.table} ADD CONSTRAINT ${partition.table}_pkey PRIMARY KEY (id, created_at);
+CREATE INDEX ${partition.table}_created_at_idx ON ${partition.table} (created_at);
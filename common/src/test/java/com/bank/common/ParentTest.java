@@ -0,0 +1,11 @@
+package com.bank.common;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public abstract class ParentTest {
+
+    protected static final Long ONE = 1L;
+    protected static final Long TWO = 2L;
+}
@@ -0,0 +1,115 @@
+package com.bank.common.audit;
+
+import com.bank.common.ParentTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class AuditWriterTest extends ParentTest {
+
+    private static final long WAIT_MS = 5_000;
+    private static final int COLUMNS = 8;
+    private static final String FAILED = "audit.failed";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<Object[]> inserted = new CopyOnWriteArrayList<>();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private AuditWriter writer;
+
+    @BeforeEach
+    void init() {
+        writer = new AuditWriter(jdbcTemplate, new ObjectMapper(), registry, "test", "tester", 100, 50, 1_000);
+    }
+
+    @AfterEach
+    void stop() {
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("изменения пишутся пачкой, для обновления сохраняются только изменённые поля")
+    void writeTest() {
+        recordInserts();
+        writer.start();
+
+        writer.created(Account.class, new Account(ONE, "first"));
+        writer.updated(Account.class, new Account(ONE, "first"), new Account(ONE, "second"));
+        writer.stop();
+
+        final List<Object> rows = rows();
+        assertAll(() -> {
+            assertEquals(2 * COLUMNS, rows.size());
+            assertEquals("Account", rows.get(0));
+            assertEquals("CREATE", rows.get(1));
+            assertEquals("{\"id\":1,\"name\":\"first\"}", rows.get(7));
+            assertEquals("UPDATE", rows.get(COLUMNS + 1));
+            assertEquals("{\"name\":\"second\"}", rows.get(COLUMNS + 6));
+            assertEquals(2.0, registry.counter("audit.written").count());
+        });
+    }
+
+    @Test
+    @DisplayName("ошибка пачки не останавливает фоновый поток")
+    void writeFailureKeepsWorkerTest() {
+        recordInserts();
+        writer.start();
+
+        writer.updated(Account.class, new Object(), new Object());
+        awaitFailed();
+        writer.created(Account.class, new Account(TWO, "after failure"));
+        verify(jdbcTemplate, timeout(WAIT_MS)).update(anyString(), (Object[]) any());
+        writer.stop();
+
+        assertAll(() -> {
+            assertEquals(1.0, registry.counter(FAILED).count());
+            assertEquals(1.0, registry.counter("audit.written").count());
+            assertEquals("{\"id\":2,\"name\":\"after failure\"}", rows().get(7));
+        });
+    }
+
+    private void recordInserts() {
+        doAnswer(invocation -> {
+            final Object[] arguments = Arrays.copyOfRange(invocation.getArguments(), 1,
+                    invocation.getArguments().length);
+            inserted.add(arguments);
+            return arguments.length / COLUMNS;
+        }).when(jdbcTemplate).update(anyString(), (Object[]) any());
+    }
+
+    private void awaitFailed() {
+        final long deadline = System.currentTimeMillis() + WAIT_MS;
+        while (registry.counter(FAILED).count() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private List<Object> rows() {
+        return inserted.stream().flatMap(Arrays::stream).toList();
+    }
+
+    /**
+     * Сущность для аудита
+     */
+    private record Account(Long id, String name) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.bank.common.bulk;
+
+import com.bank.common.ParentTest;
+import com.bank.common.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkReaderTest extends ParentTest {
+
+    private static final int CHUNK_SIZE = 3;
+    private static final String NOT_FOUND = "Записи не существуют";
+
+    private final BulkReader reader = new BulkReader(20, CHUNK_SIZE);
+    private final List<List<Long>> chunks = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("записи возвращаются в порядке запроса, даже если часть возвращает их в другом порядке")
+    void readAllChunkOrderTest() {
+        final List<Long> ids = List.of(7L, 2L, 9L, 1L, 5L, 8L, 3L);
+
+        final List<Long> result = reader.readAll(ids, reversed(), Function.identity(), NOT_FOUND);
+
+        assertAll(() -> {
+            assertEquals(ids, result);
+            assertEquals(3, chunks.size());
+            assertTrue(chunks.stream().allMatch(chunk -> chunk.size() <= CHUNK_SIZE));
+        });
+    }
+
+    @Test
+    @DisplayName("повторяющийся id читается один раз и возвращается на каждой позиции")
+    void readAllDuplicatesTest() {
+        final List<Long> result = reader.readAll(List.of(TWO, ONE, TWO), reversed(), Function.identity(), NOT_FOUND);
+
+        assertAll(() -> {
+            assertEquals(List.of(TWO, ONE, TWO), result);
+            assertEquals(List.of(List.of(TWO, ONE)), chunks);
+        });
+    }
+
+    @Test
+    @DisplayName("исключение перечисляет все не найденные id, в том числе из разных частей")
+    void readAllMissingNegativeTest() {
+        final List<Long> ids = LongStream.rangeClosed(1, 8).boxed().toList();
+
+        final var exception = assertThrows(EntityNotFoundException.class, () -> reader.readAll(ids,
+                chunk -> chunk.stream().filter(id -> id % 3 != 0).toList(), Function.identity(), NOT_FOUND));
+
+        assertEquals(NOT_FOUND + ", id = [3, 6]", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("части читаются по очереди в потоке вызывающего, то есть в его транзакции")
+    void readAllCallerThreadTest() {
+        final Thread caller = Thread.currentThread();
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        final List<Long> ids = LongStream.rangeClosed(1, 8).boxed().toList();
+
+        final List<Long> result = reader.readAll(ids, chunk -> {
+            threads.add(Thread.currentThread());
+            return chunk;
+        }, Function.identity(), NOT_FOUND);
+
+        assertAll(() -> {
+            assertEquals(ids, result);
+            assertEquals(List.of(caller, caller, caller), threads);
+        });
+    }
+
+    @Test
+    @DisplayName("повторяющийся не найденный id указывается в исключении один раз")
+    void readAllMissingDuplicatesNegativeTest() {
+        final List<Long> ids = new ArrayList<>(List.of(3L, ONE, 3L, 6L, 3L));
+        ids.add(null);
+        ids.add(null);
+
+        final var exception = assertThrows(EntityNotFoundException.class, () -> reader.readAll(ids,
+                chunk -> chunk.stream().filter(id -> id % 3 != 0).toList(), Function.identity(), NOT_FOUND));
+
+        assertEquals(NOT_FOUND + ", id = [3, 6, null]", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("ошибка чтения части пробрасывается без обёртки")
+    void readAllLoaderFailureNegativeTest() {
+        final List<Long> ids = LongStream.rangeClosed(1, 8).boxed().toList();
+        final IllegalStateException failure = new IllegalStateException("База недоступна");
+
+        final var exception = assertThrows(IllegalStateException.class, () -> reader.readAll(ids, chunk -> {
+            throw failure;
+        }, Function.identity(), NOT_FOUND));
+
+        assertEquals(failure, exception);
+    }
+
+    @Test
+    @DisplayName("запрос больше max-ids отклоняется")
+    void readAllTooManyIdsNegativeTest() {
+        final List<Long> ids = LongStream.rangeClosed(1, 21).boxed().toList();
+
+        assertThrows(ValidationException.class, () -> reader.readAll(ids, reversed(), Function.identity(), NOT_FOUND));
+    }
+
+    /**
+     * Чтение части, возвращающее записи в обратном порядке, как findAllById без сортировки
+     */
+    private Function<List<Long>, List<Long>> reversed() {
+        return chunk -> {
+            chunks.add(List.copyOf(chunk));
+            final List<Long> loaded = new ArrayList<>(chunk);
+            Collections.reverse(loaded);
+            return loaded;
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package com.bank.common.cache;
+
+import com.bank.common.ParentTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+
+class LruTtlCacheTest extends ParentTest {
+
+    private static final String METRIC = "test.cache";
+    private static final String NAME = "test";
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final Long THREE = 3L;
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry registry;
+
+    private List<Long> dropped;
+
+    private LruTtlCache<Long, String> cache;
+
+    @BeforeEach
+    void init() {
+        registry = new SimpleMeterRegistry();
+        dropped = new ArrayList<>();
+        cache = new LruTtlCache<>(METRIC, NAME, 2, TTL, registry, clock, (key, value) -> dropped.add(key));
+        doReturn(0L).when(clock).millis();
+    }
+
+    @Test
+    @DisplayName("при переполнении вытесняется запись, к которой дольше всего не обращались")
+    void sizeEvictionTest() {
+        cache.put(ONE, "one");
+        cache.put(TWO, "two");
+        cache.get(ONE);
+
+        cache.put(THREE, "three");
+
+        assertAll(() -> {
+            assertEquals("one", cache.get(ONE));
+            assertNull(cache.get(TWO));
+            assertEquals(List.of(TWO), dropped);
+            assertEquals(1.0, registry.counter(METRIC + ".evictions", "cache", NAME, "cause", "size").count());
+        });
+    }
+
+    @Test
+    @DisplayName("после истечения времени жизни запись считается отсутствующей и удаляется")
+    void expiredTest() {
+        cache.put(ONE, "one");
+        doReturn(TTL.toMillis()).when(clock).millis();
+
+        assertAll(() -> {
+            assertNull(cache.get(ONE));
+            assertEquals(0, cache.size());
+            assertEquals(List.of(ONE), dropped);
+            assertEquals(1.0, registry.counter(METRIC + ".misses", "cache", NAME).count());
+        });
+    }
+
+    @Test
+    @DisplayName("значение, прочитанное до удаления, не кладётся в кэш")
+    void stalePutNegativeTest() {
+        final long loadGeneration = cache.generation();
+        cache.remove(ONE);
+
+        final boolean stored = cache.put(ONE, "stale", loadGeneration);
+
+        assertAll(() -> {
+            assertFalse(stored);
+            assertNull(cache.get(ONE));
+            assertTrue(cache.put(ONE, "fresh", cache.generation()));
+            assertEquals("fresh", cache.get(ONE));
+        });
+    }
+
+    @Test
+    @DisplayName("явное удаление и замена: удаление не вызывает обработчик, замена вызывает")
+    void removeAndReplaceTest() {
+        cache.put(ONE, "one");
+        cache.put(ONE, "another");
+        cache.put(TWO, "two");
+
+        cache.removeAll(List.of(ONE, TWO));
+
+        assertAll(() -> {
+            assertEquals(0, cache.size());
+            assertEquals(List.of(ONE), dropped);
+            assertEquals(2.0, registry.counter(METRIC + ".evictions", "cache", NAME, "cause", "write").count());
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package com.bank.common.datasource;
+
+import com.bank.common.ParentTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * Выбор базы по признаку read-only транзакции без контейнеров: базы подменены,
+ * проверяется, у какой из них взято физическое соединение
+ */
+class ReplicaRoutingDataSourceTest extends ParentTest {
+
+    private static final String REPLICA = "replica-1";
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+    private static final Duration CHECK_INTERVAL = Duration.ofHours(1);
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private ReplicaRoutingDataSource routing;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void init() throws SQLException {
+        doReturn(replicaConnection).when(replica).getConnection();
+        doReturn(statement).when(replicaConnection).createStatement();
+        doReturn(resultSet).when(statement).executeQuery(anyString());
+        doReturn(true).when(resultSet).next();
+        doReturn(primaryConnection).when(primary).getConnection();
+    }
+
+    @AfterEach
+    void close() throws Exception {
+        routing.close();
+    }
+
+    @Test
+    @DisplayName("read-only транзакция берёт соединение реплики, read-write транзакция - primary")
+    void readOnlyTransactionUsesReplicaTest() throws SQLException {
+        routing(0L);
+
+        assertAll(() -> {
+            assertEquals(List.of(REPLICA), routing.availableReplicas());
+            assertSame(replicaConnection, connection(true));
+            assertSame(primaryConnection, connection(false));
+        });
+    }
+
+    @Test
+    @DisplayName("при отставании реплики больше допустимого read-only транзакция идёт на primary")
+    void laggingReplicaUsesPrimaryTest() throws SQLException {
+        routing(MAX_LAG.toMillis() + 1);
+
+        assertAll(() -> {
+            assertTrue(routing.availableReplicas().isEmpty());
+            assertSame(primaryConnection, connection(true));
+        });
+    }
+
+    /**
+     * Отставание задаётся до создания, потому что первая проверка реплик идёт сразу в фоновом потоке
+     */
+    private void routing(long lagMillis) throws SQLException {
+        doReturn(lagMillis).when(resultSet).getLong(1);
+        routing = new ReplicaRoutingDataSource(primary, Map.of(REPLICA, replica), MAX_LAG, CHECK_INTERVAL);
+        routing.checkReplicas();
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(routing));
+    }
+
+    /**
+     * @return физическое соединение, взятое при первом обращении внутри транзакции
+     */
+    private Connection connection(boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                ((ConnectionProxy) DataSourceUtils.getConnection(routing)).getTargetConnection());
+    }
+}
@@ -0,0 +1,102 @@
+package com.bank.common.handler;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.bank.common.ParentTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ErrorLogLimiterTest extends ParentTest {
+
+    private static final Duration SUMMARY_INTERVAL = Duration.ofHours(1);
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ErrorLogLimiter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void init() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void stop() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("после затишья пишется burst записей подряд, остальные подавляются")
+    void tryAcquireBurstTest() {
+        try (ErrorLogLimiter limiter = new ErrorLogLimiter(1, 3, SUMMARY_INTERVAL)) {
+            final List<Boolean> acquired = IntStream.range(0, 5)
+                    .mapToObj(attempt -> limiter.tryAcquire(IllegalStateException.class))
+                    .toList();
+
+            assertEquals(List.of(true, true, true, false, false), acquired);
+        }
+    }
+
+    @Test
+    @DisplayName("у каждого типа исключения свой лимит")
+    void tryAcquirePerTypeTest() {
+        try (ErrorLogLimiter limiter = new ErrorLogLimiter(1, 1, SUMMARY_INTERVAL)) {
+            assertAll(() -> {
+                assertTrue(limiter.tryAcquire(IllegalStateException.class));
+                assertFalse(limiter.tryAcquire(IllegalStateException.class));
+                assertTrue(limiter.tryAcquire(IllegalArgumentException.class));
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("лимит восстанавливается со скоростью rate записей в секунду")
+    void tryAcquireRefillTest() throws InterruptedException {
+        try (ErrorLogLimiter limiter = new ErrorLogLimiter(50, 1, SUMMARY_INTERVAL)) {
+            final boolean first = limiter.tryAcquire(IllegalStateException.class);
+            final boolean second = limiter.tryAcquire(IllegalStateException.class);
+            Thread.sleep(100);
+            final boolean afterPause = limiter.tryAcquire(IllegalStateException.class);
+
+            assertAll(() -> {
+                assertTrue(first);
+                assertFalse(second);
+                assertTrue(afterPause);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("нулевой rate подавляет все записи")
+    void tryAcquireZeroRateNegativeTest() {
+        try (ErrorLogLimiter limiter = new ErrorLogLimiter(0, 5, SUMMARY_INTERVAL)) {
+            assertFalse(limiter.tryAcquire(IllegalStateException.class));
+        }
+    }
+
+    @Test
+    @DisplayName("сводка пишет число подавленных записей по типу и обнуляет счётчик")
+    void summaryTest() {
+        final ErrorLogLimiter limiter = new ErrorLogLimiter(1, 1, SUMMARY_INTERVAL);
+        IntStream.range(0, 4).forEach(attempt -> limiter.tryAcquire(IllegalStateException.class));
+        limiter.tryAcquire(IllegalArgumentException.class);
+
+        limiter.close();
+        limiter.close();
+
+        final List<String> messages = appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        assertEquals(List.of("Не записано в лог исключений java.lang.IllegalStateException: 3"), messages);
+    }
+}
@@ -0,0 +1,134 @@
+package com.bank.common.handler;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.bank.common.ParentTest;
+import com.bank.common.exception.ConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+
+class RestHandlerExceptionTest extends ParentTest {
+
+    private static final String ERRORS = "http.server.errors";
+    private static final String URI = "/profile/{id}";
+    private static final String NOT_FOUND = "Профиль не найден";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RestHandlerException.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @Mock
+    private ObjectProvider<MeterRegistry> registryProvider;
+
+    private RestHandlerException handler;
+
+    @BeforeEach
+    void init() {
+        doReturn(registry).when(registryProvider).getIfAvailable(any());
+        handler = new RestHandlerException(registryProvider, 1, 2, Duration.ofHours(1));
+        appender.start();
+        logger.addAppender(appender);
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void stop() {
+        RequestContextHolder.resetRequestAttributes();
+        logger.detachAppender(appender);
+        handler.destroy();
+    }
+
+    @Test
+    @DisplayName("ошибка считается в метрике с типом исключения, шаблоном адреса и статусом")
+    void errorMetricTest() {
+        final ResponseEntity<String> response =
+                handler.handleEntityNotFoundException(new EntityNotFoundException(NOT_FOUND));
+        handler.handleEntityNotFoundException(new EntityNotFoundException(NOT_FOUND));
+
+        assertAll(() -> {
+            assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+            assertEquals(NOT_FOUND, response.getBody());
+            assertEquals(2.0, registry.counter(ERRORS, "exception", "EntityNotFoundException", "outcome",
+                    "CLIENT_ERROR", "status", "404", "uri", URI).count());
+        });
+    }
+
+    @Test
+    @DisplayName("вне http-запроса адрес в метрике UNKNOWN, ошибка сервера считается как SERVER_ERROR")
+    void serverErrorMetricTest() {
+        RequestContextHolder.resetRequestAttributes();
+
+        final ResponseEntity<String> response = handler.handleServerGlobalException(new RuntimeException("boom"));
+
+        assertAll(() -> {
+            assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+            assertEquals(1.0, registry.counter(ERRORS, "exception", "RuntimeException", "outcome", "SERVER_ERROR",
+                    "status", "500", "uri", "UNKNOWN").count());
+        });
+    }
+
+    @Test
+    @DisplayName("ошибки клиента пишутся в лог без стека и не чаще лимита, ошибки сервера - всегда со стеком")
+    void logSamplingTest() {
+        IntStream.range(0, 5).forEach(attempt ->
+                handler.handleEntityNotFoundException(new EntityNotFoundException(NOT_FOUND)));
+        IntStream.range(0, 3).forEach(attempt -> handler.handleServerGlobalException(new RuntimeException("boom")));
+
+        final long warnings = appender.list.stream().filter(event -> event.getLevel() == Level.WARN).count();
+        final var errors = appender.list.stream().filter(event -> event.getLevel() == Level.ERROR).toList();
+        assertAll(() -> {
+            assertEquals(2, warnings);
+            assertEquals("404 EntityNotFoundException: " + NOT_FOUND, appender.list.get(0).getFormattedMessage());
+            assertNull(appender.list.get(0).getThrowableProxy());
+            assertEquals(3, errors.size());
+            errors.forEach(event -> assertNotNull(event.getThrowableProxy()));
+        });
+    }
+
+    @Test
+    @DisplayName("IllegalStateException - ошибка сервера со стеком, конфликт модуля - 409 без стека")
+    void illegalStateIsServerErrorTest() {
+        final ResponseEntity<String> conflict = handler.handleConflictException(new ConflictException("занято"));
+        final ResponseEntity<String> failure =
+                handler.handleServerGlobalException(new IllegalStateException("Ответ не сериализуется"));
+
+        assertAll(() -> {
+            assertEquals(HttpStatus.CONFLICT, conflict.getStatusCode());
+            assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, failure.getStatusCode());
+            assertEquals(Level.WARN, appender.list.get(0).getLevel());
+            assertNull(appender.list.get(0).getThrowableProxy());
+            assertEquals(Level.ERROR, appender.list.get(1).getLevel());
+            assertNotNull(appender.list.get(1).getThrowableProxy());
+            assertEquals(1.0, registry.counter(ERRORS, "exception", "IllegalStateException", "outcome",
+                    "SERVER_ERROR", "status", "500", "uri", URI).count());
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package com.bank.common.observability;
+
+import com.bank.common.ParentTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.doReturn;
+
+class CountingDataSourceTest extends ParentTest {
+
+    private static final String SELECT = "select id from profile.profile where id = ?";
+    private static final String UPDATE = "update profile.profile set inn = 1";
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @AfterEach
+    void finish() {
+        RequestStatistics.finish();
+    }
+
+    @Test
+    @DisplayName("запрос в http-запросе считается с текстом SQL и прочитанными строками")
+    void queryCountTest() throws SQLException {
+        doReturn(connection).when(target).getConnection();
+        doReturn(preparedStatement).when(connection).prepareStatement(SELECT);
+        doReturn(resultSet).when(preparedStatement).executeQuery();
+        doReturn(true, true, false).when(resultSet).next();
+        final RequestStatistics statistics = RequestStatistics.start(10);
+
+        try (Connection counted = new CountingDataSource(target).getConnection();
+             PreparedStatement prepared = counted.prepareStatement(SELECT);
+             ResultSet rows = prepared.executeQuery()) {
+            while (rows.next()) {
+                rows.getLong(1);
+            }
+        }
+
+        assertAll(() -> {
+            assertEquals(1, statistics.statements());
+            assertEquals(2, statistics.rows());
+            assertEquals(1, statistics.sql().get(SELECT).sum());
+        });
+    }
+
+    @Test
+    @DisplayName("изменённые строки считаются по executeUpdate и executeBatch")
+    void updateCountTest() throws SQLException {
+        doReturn(connection).when(target).getConnection();
+        doReturn(statement).when(connection).createStatement();
+        doReturn(3).when(statement).executeUpdate(UPDATE);
+        doReturn(new int[]{1, Statement.SUCCESS_NO_INFO, 1}).when(statement).executeBatch();
+        final RequestStatistics statistics = RequestStatistics.start(10);
+
+        try (Connection counted = new CountingDataSource(target).getConnection();
+             Statement created = counted.createStatement()) {
+            created.executeUpdate(UPDATE);
+            created.executeBatch();
+        }
+
+        assertAll(() -> {
+            assertEquals(2, statistics.statements());
+            assertEquals(5, statistics.rows());
+            assertEquals(1, statistics.sql().get(UPDATE).sum());
+        });
+    }
+
+    @Test
+    @DisplayName("каждый http-запрос считается отдельно, вне запроса соединение не оборачивается")
+    void perRequestTest() throws SQLException {
+        doReturn(connection).when(target).getConnection();
+        doReturn(statement).when(connection).createStatement();
+        final CountingDataSource dataSource = new CountingDataSource(target);
+
+        final RequestStatistics first = RequestStatistics.start(10);
+        dataSource.getConnection().createStatement().execute(UPDATE);
+        final RequestStatistics second = RequestStatistics.start(10);
+        dataSource.getConnection().createStatement().execute(UPDATE);
+        dataSource.getConnection().createStatement().execute(UPDATE);
+        RequestStatistics.finish();
+        final Connection direct = dataSource.getConnection();
+
+        assertAll(() -> {
+            assertEquals(1, first.statements());
+            assertEquals(2, second.statements());
+            assertSame(connection, direct);
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package com.bank.common.observability;
+
+import com.bank.common.ParentTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObservabilityAutoConfigurationTest extends ParentTest {
+
+    private static final String FILTER = "requestStatisticsFilter";
+    private static final String PERCENTILES = "requestPercentilesMeterFilter";
+
+    private final WebApplicationContextRunner runner = new WebApplicationContextRunner()
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withConfiguration(AutoConfigurations.of(ObservabilityAutoConfiguration.class))
+            .withUserConfiguration(Infrastructure.class);
+
+    @Test
+    @DisplayName("автоконфигурация зарегистрирована для Spring Boot")
+    void registeredTest() {
+        final List<String> candidates = new ArrayList<>();
+        ImportCandidates.load(AutoConfiguration.class, getClass().getClassLoader()).forEach(candidates::add);
+
+        assertThat(candidates).contains(ObservabilityAutoConfiguration.class.getName());
+    }
+
+    @Test
+    @DisplayName("по умолчанию фильтр, процентили и подсчёт SQL включены")
+    void defaultsTest() {
+        runner.run(context -> {
+            assertThat(context).hasBean(FILTER).hasBean(PERCENTILES).hasSingleBean(RequestStatisticsRecorder.class);
+            assertThat(context.getBean(DataSource.class)).isInstanceOf(CountingDataSource.class);
+        });
+    }
+
+    @Test
+    @DisplayName("бины модуля заменяют бины автоконфигурации")
+    void overrideTest() {
+        runner.withUserConfiguration(Overrides.class).run(context -> {
+            assertThat(context.getBean(PERCENTILES)).isSameAs(Overrides.PERCENTILES_FILTER);
+            assertThat(context.getBean(RequestStatisticsRecorder.class)).isSameAs(Overrides.RECORDER);
+            assertThat(context).hasBean(FILTER);
+        });
+    }
+
+    @Test
+    @DisplayName("observability.enabled=false отключает автоконфигурацию")
+    void disabledTest() {
+        runner.withPropertyValues("observability.enabled=false").run(context -> {
+            assertThat(context).doesNotHaveBean(FILTER).doesNotHaveBean(PERCENTILES)
+                    .doesNotHaveBean(RequestStatisticsRecorder.class);
+            assertThat(context.getBean(DataSource.class)).isNotInstanceOf(CountingDataSource.class);
+        });
+    }
+
+    /**
+     * Реестр метрик и DataSource, которые в приложении создаёт Spring Boot
+     */
+    @Configuration(proxyBeanMethods = false)
+    static class Infrastructure {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        DataSource dataSource() {
+            return new DriverManagerDataSource("jdbc:h2:mem:observability");
+        }
+    }
+
+    /**
+     * Собственные бины модуля
+     */
+    @Configuration(proxyBeanMethods = false)
+    static class Overrides {
+
+        static final MeterFilter PERCENTILES_FILTER = MeterFilter.acceptNameStartsWith("http");
+        static final RequestStatisticsRecorder RECORDER = new RequestStatisticsRecorder(new SimpleMeterRegistry(),
+                Duration.ofSeconds(5), 100);
+
+        @Bean
+        MeterFilter requestPercentilesMeterFilter() {
+            return PERCENTILES_FILTER;
+        }
+
+        @Bean
+        RequestStatisticsRecorder requestStatisticsRecorder() {
+            return RECORDER;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.bank.common.partition;
+
+import com.bank.common.ParentTest;
+import com.bank.common.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Имена секций и срок хранения без базы: JDBC подменён, проверяются выполненные команды
+ */
+class PartitionMaintenanceTest extends ParentTest {
+
+    private static final String TABLE = "transfer.audit";
+    private static final LocalDate TODAY = LocalDate.of(2024, 10, 15);
+    private static final int PREMAKE_MONTHS = 3;
+    private static final int RETENTION_MONTHS = 24;
+    private static final String CREATE = "CREATE TABLE IF NOT EXISTS transfer.audit_p%s PARTITION OF transfer.audit " +
+            "FOR VALUES FROM ('%s') TO ('%s')";
+    private static final String DROP = "DROP TABLE IF EXISTS transfer.audit_p";
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private PreparedStatement partitions;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path exportDir;
+
+    @Test
+    @DisplayName("создаются секции текущего месяца и запаса вперёд с переходом через год")
+    void createPartitionsTest() throws Exception {
+        maintenance(0).maintain(TODAY);
+
+        assertEquals(List.of(
+                String.format(CREATE, "202410", "2024-10-01", "2024-11-01"),
+                String.format(CREATE, "202411", "2024-11-01", "2024-12-01"),
+                String.format(CREATE, "202412", "2024-12-01", "2025-01-01"),
+                String.format(CREATE, "202501", "2025-01-01", "2025-02-01")), executed());
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    @DisplayName("удаляются только секции старше срока хранения, присоединённые сначала отсоединяются")
+    void expirePartitionsTest() throws Exception {
+        doReturn(partitions).when(connection).prepareStatement(anyString());
+        doReturn(resultSet).when(partitions).executeQuery();
+        doReturn(true, true, true, true, false).when(resultSet).next();
+        doReturn("audit_p202208", "audit_p202209", "audit_p202210", "audit_p202410").when(resultSet).getString(1);
+        doReturn(false, true, true, true).when(resultSet).getBoolean(2);
+        Files.createFile(exportDir.resolve("transfer.audit_p202208.csv.gz"));
+        Files.createFile(exportDir.resolve("transfer.audit_p202209.csv.gz"));
+
+        maintenance(RETENTION_MONTHS).maintain(TODAY);
+
+        final List<String> executed = executed().subList(PREMAKE_MONTHS + 1, executed().size());
+        assertAll(() -> {
+            assertEquals(List.of(DROP + "202208",
+                    "ALTER TABLE transfer.audit DETACH PARTITION transfer.audit_p202209",
+                    DROP + "202209"), executed);
+            verify(partitions).setString(1, "transfer");
+            verify(partitions).setString(2, "^audit_p[0-9]{6}$");
+        });
+    }
+
+    @Test
+    @DisplayName("таблица без схемы отклоняется при создании")
+    void invalidTableNegativeTest() {
+        assertThrows(ValidationException.class, () -> new PartitionMaintenance(dataSource, transactionManager,
+                List.of("audit"), PREMAKE_MONTHS, RETENTION_MONTHS, exportDir.toString(), 100));
+    }
+
+    private PartitionMaintenance maintenance(int retentionMonths) throws Exception {
+        doReturn(connection).when(dataSource).getConnection();
+        doReturn(statement).when(connection).createStatement();
+        return new PartitionMaintenance(dataSource, transactionManager, List.of(TABLE), PREMAKE_MONTHS,
+                retentionMonths, exportDir.toString(), 100);
+    }
+
+    private List<String> executed() throws Exception {
+        final ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(statement, atLeastOnce()).execute(sql.capture());
+        return sql.getAllValues();
+    }
+}
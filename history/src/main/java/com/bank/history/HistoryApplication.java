@@ -3,7 +3,9 @@ package com.bank.history;
 import org.springframework.boot.SpringApplication;
 import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.openfeign.EnableFeignClients;
 @EnableEurekaClient
+@EnableFeignClients(basePackages = "com.bank.history.client")
 @SpringBootApplication(scanBasePackages = {"com.bank.common", "com.bank.history"})
 public class HistoryApplication {
     public static void main(String[] args) {
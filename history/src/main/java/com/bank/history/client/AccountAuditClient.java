@@ -0,0 +1,10 @@
+package com.bank.history.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+
+/**
+ * Feign-клиент аудита сервиса счетов.
+ */
+@FeignClient(name = "account-app", contextId = "accountAudit", path = "/api/account")
+public interface AccountAuditClient extends AuditClient {
+}
@@ -0,0 +1,10 @@
+package com.bank.history.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+
+/**
+ * Feign-клиент аудита сервиса антифрода.
+ */
+@FeignClient(name = "anti-fraud-app", contextId = "antiFraudAudit", path = "/api/anti-fraud")
+public interface AntiFraudAuditClient extends AuditClient {
+}
@@ -0,0 +1,25 @@
+package com.bank.history.client;
+
+import com.bank.common.audit.AuditEventDto;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+/**
+ * Пакетное чтение аудита сервиса, общий контракт Feign-клиентов всех источников истории.
+ */
+public interface AuditClient {
+
+    /**
+     * @param ids технические идентификаторы записей аудита
+     * @param authorization заголовок Authorization исходного запроса, может отсутствовать
+     * @return найденные записи аудита
+     */
+    @GetMapping("/audit")
+    List<AuditEventDto> readAll(@RequestParam("id") List<Long> ids,
+                                @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false)
+                                String authorization);
+}
@@ -0,0 +1,10 @@
+package com.bank.history.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+
+/**
+ * Feign-клиент аудита сервиса авторизации.
+ */
+@FeignClient(name = "authorization-app", contextId = "authorizationAudit", path = "/api/authorization")
+public interface AuthorizationAuditClient extends AuditClient {
+}
@@ -0,0 +1,10 @@
+package com.bank.history.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+
+/**
+ * Feign-клиент аудита сервиса профилей.
+ */
+@FeignClient(name = "profile-app", contextId = "profileAudit", path = "/api/profile")
+public interface ProfileAuditClient extends AuditClient {
+}
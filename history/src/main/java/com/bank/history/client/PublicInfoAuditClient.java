@@ -0,0 +1,10 @@
+package com.bank.history.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+
+/**
+ * Feign-клиент аудита сервиса публичной информации банка.
+ */
+@FeignClient(name = "public-info-app", contextId = "publicInfoAudit", path = "/api/public-info")
+public interface PublicInfoAuditClient extends AuditClient {
+}
@@ -0,0 +1,10 @@
+package com.bank.history.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+
+/**
+ * Feign-клиент аудита сервиса переводов.
+ */
+@FeignClient(name = "transfer-app", contextId = "transferAudit", path = "/api/transfer")
+public interface TransferAuditClient extends AuditClient {
+}
@@ -0,0 +1,52 @@
+package com.bank.history.config;
+
+import com.bank.history.client.AccountAuditClient;
+import com.bank.history.client.AntiFraudAuditClient;
+import com.bank.history.client.AuditClient;
+import com.bank.history.client.AuthorizationAuditClient;
+import com.bank.history.client.ProfileAuditClient;
+import com.bank.history.client.PublicInfoAuditClient;
+import com.bank.history.client.TransferAuditClient;
+import com.bank.history.timeline.AuditSource;
+import com.bank.history.timeline.TimelineSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Источники ленты событий. Время ожидания задаётся history.timeline.timeout для всех
+ * и history.timeline.source-timeout.[transfer|profile|account|anti-fraud|public-bank-info|authorization]
+ * для отдельного сервиса.
+ */
+@Configuration
+public class TimelineConfig {
+
+    private static final String SOURCE_TIMEOUT = "history.timeline.source-timeout.";
+
+    @Value("${history.timeline.timeout:2s}")
+    private Duration timeout;
+
+    @Bean
+    public List<TimelineSource> timelineSources(Environment environment, TransferAuditClient transfer,
+                                                ProfileAuditClient profile, AccountAuditClient account,
+                                                AntiFraudAuditClient antiFraud, PublicInfoAuditClient publicInfo,
+                                                AuthorizationAuditClient authorization) {
+        return List.of(source(environment, AuditSource.TRANSFER, transfer),
+                source(environment, AuditSource.PROFILE, profile),
+                source(environment, AuditSource.ACCOUNT, account),
+                source(environment, AuditSource.ANTI_FRAUD, antiFraud),
+                source(environment, AuditSource.PUBLIC_BANK_INFO, publicInfo),
+                source(environment, AuditSource.AUTHORIZATION, authorization));
+    }
+
+    private TimelineSource source(Environment environment, AuditSource source, AuditClient client) {
+        final String name = source.name().toLowerCase(Locale.ROOT).replace('_', '-');
+        return new TimelineSource(source, client,
+                environment.getProperty(SOURCE_TIMEOUT + name, Duration.class, timeout));
+    }
+}
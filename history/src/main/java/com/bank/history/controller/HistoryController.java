@@ -2,9 +2,12 @@ package com.bank.history.controller;
 
 import java.util.List;
 
+import com.bank.history.dto.TimelineDto;
 import com.bank.history.entity.HistoryEntity;
+import com.bank.history.service.TimelineService;
 import lombok.RequiredArgsConstructor;
 import com.bank.history.dto.HistoryDto;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import com.bank.history.service.HistoryService;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 
@@ -25,6 +29,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 @RequestMapping("/api/history")
 public class HistoryController {
     private final HistoryService service;
+    private final TimelineService timelineService;
 
     /**
      * @param id технический идентификатор {@link HistoryEntity}
@@ -44,6 +49,20 @@ public class HistoryController {
         return new ResponseEntity<>(service.readAllById(id), HttpStatus.OK);
     }
 
+    /**
+     * @param page          номер страницы истории, новые записи первыми
+     * @param size          размер страницы
+     * @param authorization заголовок Authorization, передаётся сервисам-источникам
+     * @return {@link ResponseEntity} c {@link TimelineDto} и HttpStatus OK
+     */
+    @GetMapping("/timeline")
+    public ResponseEntity<TimelineDto> readTimeline(@RequestParam(defaultValue = "0") int page,
+                                                    @RequestParam(defaultValue = "50") int size,
+                                                    @RequestHeader(value = HttpHeaders.AUTHORIZATION,
+                                                            required = false) String authorization) {
+        return new ResponseEntity<>(timelineService.readTimeline(page, size, authorization), HttpStatus.OK);
+    }
+
     /**
      * @param history {@link HistoryDto}
      * @return {@link ResponseEntity} c {@link HistoryDto} и HttpStatus OK
@@ -0,0 +1,29 @@
+package com.bank.history.dto;
+
+import com.bank.history.timeline.AuditSource;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dto ленты событий по странице истории.
+ * events упорядочены по времени события, failedSources - сервисы, не ответившие вовремя или с ошибкой,
+ * их события в ленту не попали.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TimelineDto {
+    List<TimelineEventDto> events;
+    Map<AuditSource, String> failedSources;
+}
@@ -0,0 +1,36 @@
+package com.bank.history.dto;
+
+import com.bank.history.entity.HistoryEntity;
+import com.bank.history.timeline.AuditSource;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.sql.Timestamp;
+
+/**
+ * Dto события ленты: запись аудита сервиса-источника, на которую ссылается {@link HistoryEntity}.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TimelineEventDto {
+    Long historyId;
+    AuditSource source;
+    Long auditId;
+    String entityType;
+    String operationType;
+    String createdBy;
+    String modifiedBy;
+    Timestamp createdAt;
+    Timestamp modifiedAt;
+    String newEntityJson;
+    String entityJson;
+}
@@ -4,12 +4,12 @@ import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 
-import javax.transaction.Transactional;
-
+import com.bank.common.bulk.BulkReader;
 import com.bank.history.dto.HistoryDto;
 import com.bank.history.entity.HistoryEntity;
 import com.bank.history.mapper.HistoryMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
 
@@ -23,6 +23,7 @@ import com.bank.history.repository.HistoryRepository;
 public class HistoryServiceImpl implements HistoryService {
 
     private final HistoryMapper mapper;
+    private final BulkReader bulkReader;
     private final HistoryRepository repository;
 
     /**
@@ -30,6 +31,7 @@ public class HistoryServiceImpl implements HistoryService {
      * @return {@link HistoryDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public HistoryDto readById(Long id) {
 
         return mapper.toDto(repository.findById(id)
@@ -41,15 +43,10 @@ public class HistoryServiceImpl implements HistoryService {
      * @return список {@link HistoryDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public List<HistoryDto> readAllById(List<Long> id) {
-
-        final List<HistoryEntity> histories = repository.findAllById(id);
-
-        if (id.size() > histories.size()) {
-            throw returnEntityNotFoundException("истории по указанным id не найдены");
-        }
-
-        return mapper.toDtoList(histories);
+        return bulkReader.readAll(id, chunk -> mapper.toDtoList(repository.findAllById(chunk)),
+                HistoryDto::getId, "истории по указанным id не найдены");
     }
 
     /**
@@ -0,0 +1,18 @@
+package com.bank.history.service;
+
+import com.bank.history.dto.TimelineDto;
+import com.bank.history.entity.HistoryEntity;
+
+/**
+ * Service ленты событий по истории.
+ */
+public interface TimelineService {
+
+    /**
+     * @param page          номер страницы {@link HistoryEntity}, новые записи первыми
+     * @param size          размер страницы
+     * @param authorization заголовок Authorization исходного запроса, передаётся сервисам-источникам
+     * @return {@link TimelineDto}
+     */
+    TimelineDto readTimeline(int page, int size, String authorization);
+}
@@ -0,0 +1,168 @@
+package com.bank.history.service;
+
+import com.bank.common.audit.AuditEventDto;
+import com.bank.common.exception.ValidationException;
+import com.bank.history.dto.TimelineDto;
+import com.bank.history.dto.TimelineEventDto;
+import com.bank.history.entity.HistoryEntity;
+import com.bank.history.repository.HistoryRepository;
+import com.bank.history.timeline.AuditSource;
+import com.bank.history.timeline.TimelineSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Реализация {@link TimelineService}.
+ * По странице истории собираются id аудита каждого сервиса, и каждому сервису уходит один
+ * пакетный запрос, все запросы выполняются параллельно. Сервис, не ответивший за своё время
+ * или ответивший ошибкой, попадает в failedSources, лента собирается из остальных.
+ */
+@Slf4j
+@Service
+public class TimelineServiceImpl implements TimelineService, DisposableBean {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private static final Comparator<TimelineEventDto> CHRONOLOGICAL = Comparator
+            .comparing(TimelineServiceImpl::eventTime, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(TimelineEventDto::getHistoryId)
+            .thenComparing(TimelineEventDto::getSource);
+
+    private final HistoryRepository repository;
+    private final List<TimelineSource> sources;
+    private final MeterRegistry registry;
+    private final int maxPageSize;
+    private final ThreadPoolExecutor executor;
+
+    public TimelineServiceImpl(HistoryRepository repository, List<TimelineSource> sources, MeterRegistry registry,
+                               @Value("${history.timeline.max-page-size:100}") int maxPageSize,
+                               @Value("${history.timeline.threads:24}") int threads) {
+        this.repository = repository;
+        this.sources = sources;
+        this.registry = registry;
+        this.maxPageSize = maxPageSize;
+        final AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 4), runnable -> {
+                    final Thread thread = new Thread(runnable, "timeline-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @param page          номер страницы истории.
+     * @param size          размер страницы.
+     * @param authorization заголовок Authorization исходного запроса.
+     * @return {@link TimelineDto}
+     */
+    @Override
+    public TimelineDto readTimeline(int page, int size, String authorization) {
+        if (page < 0 || size < 1 || size > maxPageSize) {
+            throw new ValidationException("Номер страницы не может быть отрицательным, размер страницы от 1 до " +
+                    maxPageSize);
+        }
+        final List<HistoryEntity> histories = repository.findAll(
+                PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"))).getContent();
+        final Map<TimelineSource, CompletableFuture<List<AuditEventDto>>> requests = new LinkedHashMap<>();
+        for (TimelineSource source : sources) {
+            final List<Long> ids = histories.stream().map(source.source()::auditId).filter(Objects::nonNull)
+                    .distinct().toList();
+            if (!ids.isEmpty()) {
+                requests.put(source, request(source, ids, authorization));
+            }
+        }
+        final List<TimelineEventDto> events = new ArrayList<>();
+        final Map<AuditSource, String> failedSources = new EnumMap<>(AuditSource.class);
+        requests.forEach((source, request) -> collect(source, request, histories, events, failedSources));
+        events.sort(CHRONOLOGICAL);
+        return new TimelineDto(events, failedSources);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<List<AuditEventDto>> request(TimelineSource source, List<Long> ids,
+                                                           String authorization) {
+        final Timer.Sample sample = Timer.start(registry);
+        final CompletableFuture<List<AuditEventDto>> request;
+        try {
+            request = CompletableFuture.supplyAsync(() -> source.client().readAll(ids, authorization), executor);
+        } catch (RejectedExecutionException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+        return request.orTimeout(source.timeout().toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> sample.stop(registry.timer("history.timeline.source",
+                        "source", source.source().name(), "outcome", error == null ? "success" : "error")));
+    }
+
+    private void collect(TimelineSource source, CompletableFuture<List<AuditEventDto>> request,
+                         List<HistoryEntity> histories, List<TimelineEventDto> events,
+                         Map<AuditSource, String> failedSources) {
+        final Map<Long, AuditEventDto> audits = new HashMap<>();
+        try {
+            request.join().forEach(audit -> audits.putIfAbsent(audit.getId(), audit));
+        } catch (CompletionException exception) {
+            final Throwable cause = exception.getCause() == null ? exception : exception.getCause();
+            log.warn("Аудит сервиса {} не получен: {}", source.source(), cause.toString());
+            failedSources.put(source.source(), cause instanceof TimeoutException ?
+                    "нет ответа за " + source.timeout().toMillis() + " мс" : String.valueOf(cause.getMessage()));
+            return;
+        }
+        for (HistoryEntity history : histories) {
+            final AuditEventDto audit = audits.get(source.source().auditId(history));
+            if (audit != null) {
+                events.add(toEvent(history.getId(), source.source(), audit));
+            }
+        }
+    }
+
+    private static TimelineEventDto toEvent(Long historyId, AuditSource source, AuditEventDto audit) {
+        return TimelineEventDto.builder()
+                .historyId(historyId)
+                .source(source)
+                .auditId(audit.getId())
+                .entityType(audit.getEntityType())
+                .operationType(audit.getOperationType())
+                .createdBy(audit.getCreatedBy())
+                .modifiedBy(audit.getModifiedBy())
+                .createdAt(audit.getCreatedAt())
+                .modifiedAt(audit.getModifiedAt())
+                .newEntityJson(audit.getNewEntityJson())
+                .entityJson(audit.getEntityJson())
+                .build();
+    }
+
+    /**
+     * Время события: изменения для UPDATE, создания для CREATE
+     */
+    private static Timestamp eventTime(TimelineEventDto event) {
+        return event.getModifiedAt() == null ? event.getCreatedAt() : event.getModifiedAt();
+    }
+}
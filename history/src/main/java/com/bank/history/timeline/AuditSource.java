@@ -0,0 +1,32 @@
+package com.bank.history.timeline;
+
+import com.bank.history.entity.HistoryEntity;
+
+import java.util.function.Function;
+
+/**
+ * Сервис-источник записи истории и поле {@link HistoryEntity} с id его аудита.
+ */
+public enum AuditSource {
+
+    TRANSFER(HistoryEntity::getTransferAuditId),
+    PROFILE(HistoryEntity::getProfileAuditId),
+    ACCOUNT(HistoryEntity::getAccountAuditId),
+    ANTI_FRAUD(HistoryEntity::getAntiFraudAuditId),
+    PUBLIC_BANK_INFO(HistoryEntity::getPublicBankInfoAuditId),
+    AUTHORIZATION(HistoryEntity::getAuthorizationAuditId);
+
+    private final Function<HistoryEntity, Long> auditId;
+
+    AuditSource(Function<HistoryEntity, Long> auditId) {
+        this.auditId = auditId;
+    }
+
+    /**
+     * @param history строка истории
+     * @return id записи аудита этого сервиса
+     */
+    public Long auditId(HistoryEntity history) {
+        return auditId.apply(history);
+    }
+}
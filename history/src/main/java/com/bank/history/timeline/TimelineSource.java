@@ -0,0 +1,15 @@
+package com.bank.history.timeline;
+
+import com.bank.history.client.AuditClient;
+
+import java.time.Duration;
+
+/**
+ * Сервис-источник ленты с Feign-клиентом и своим ограничением времени ответа
+ *
+ * @param source сервис-источник
+ * @param client клиент аудита сервиса
+ * @param timeout сколько ждать ответа, после этого лента собирается без событий источника
+ */
+public record TimelineSource(AuditSource source, AuditClient client, Duration timeout) {
+}
@@ -3,7 +3,11 @@ package com.bank.history.controller;
 import com.bank.common.exception.ValidationException;
 import com.bank.history.ParentTest;
 import com.bank.history.dto.HistoryDto;
+import com.bank.history.dto.TimelineDto;
+import com.bank.history.dto.TimelineEventDto;
 import com.bank.history.service.HistoryService;
+import com.bank.history.service.TimelineService;
+import com.bank.history.timeline.AuditSource;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeAll;
@@ -19,11 +23,14 @@ import org.springframework.test.web.servlet.ResultActions;
 import javax.persistence.EntityNotFoundException;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -40,6 +47,8 @@ public class HistoryControllerTest extends ParentTest {
     private ResultActions response;
     @MockBean
     private final HistoryService service;
+    @MockBean
+    private final TimelineService timelineService;
     private static HistoryDto history;
     private final ObjectMapper mapper;
 
@@ -71,6 +80,28 @@ public class HistoryControllerTest extends ParentTest {
     }
 
 
+    @Test
+    @DisplayName("лента событий, позитивный сценарий")
+    void readTimelinePositiveTest() throws Exception {
+        final TimelineEventDto event = TimelineEventDto.builder()
+                .historyId(ONE)
+                .source(AuditSource.PROFILE)
+                .auditId(TWO)
+                .operationType("CREATE")
+                .build();
+        doReturn(new TimelineDto(List.of(event), Map.of(AuditSource.ACCOUNT, "нет ответа за 2000 мс")))
+                .when(timelineService).readTimeline(eq(0), eq(10), any());
+
+        mock.perform(get("/api/history/timeline?size=10"))
+                .andExpectAll(status().isOk(),
+                        jsonPath("$.events", hasSize(1)),
+                        jsonPath("$.events[0].historyId", is(value(ONE))),
+                        jsonPath("$.events[0].source", is("PROFILE")),
+                        jsonPath("$.events[0].auditId", is(value(TWO))),
+                        jsonPath("$.failedSources.ACCOUNT", is("нет ответа за 2000 мс"))
+                );
+    }
+
     @Test
     @DisplayName("чтение, негативный сценарий")
     void readNegativeTest() throws Exception {
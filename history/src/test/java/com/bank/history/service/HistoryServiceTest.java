@@ -1,5 +1,6 @@
 package com.bank.history.service;
 
+import com.bank.common.bulk.BulkReader;
 import com.bank.history.ParentTest;
 import com.bank.history.dto.HistoryDto;
 import com.bank.history.entity.HistoryEntity;
@@ -41,6 +42,9 @@ public class HistoryServiceTest extends ParentTest {
     @Spy
     private HistoryMapperImpl mapper;
 
+    @Spy
+    private BulkReader bulkReader = new BulkReader(100, 100);
+
     @BeforeAll
     static void init() {
         historyEntity = getHistoryEntity(ONE, ONE, ONE, ONE, TWO, THREE, ONE);
@@ -117,7 +121,7 @@ public class HistoryServiceTest extends ParentTest {
                 () -> service.readAllById(List.of(ONE, TWO))
         );
 
-        assertEquals("истории по указанным id не найдены", exception.getMessage());
+        assertEquals("истории по указанным id не найдены, id = [1, 2]", exception.getMessage());
     }
 
     @Test
@@ -0,0 +1,140 @@
+package com.bank.history.service;
+
+import com.bank.common.audit.AuditEventDto;
+import com.bank.common.exception.ValidationException;
+import com.bank.history.ParentTest;
+import com.bank.history.client.AuditClient;
+import com.bank.history.dto.TimelineDto;
+import com.bank.history.dto.TimelineEventDto;
+import com.bank.history.entity.HistoryEntity;
+import com.bank.history.repository.HistoryRepository;
+import com.bank.history.timeline.AuditSource;
+import com.bank.history.timeline.TimelineSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * Сервисы-источники заменены заглушками {@link AuditClient}, отдающими записи аудита по id.
+ */
+public class TimelineServiceTest extends ParentTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(200);
+    private static final String AUTHORIZATION = "Bearer token";
+
+    @Mock
+    private HistoryRepository repository;
+
+    private final Map<AuditSource, List<List<Long>>> calls = new ConcurrentHashMap<>();
+
+    private TimelineServiceImpl service;
+
+    @AfterEach
+    void destroy() {
+        service.destroy();
+    }
+
+    @Test
+    @DisplayName("один пакетный запрос на сервис, события по времени")
+    void readTimelinePositiveTest() {
+        init(List.of(source(AuditSource.TRANSFER, stub(AuditSource.TRANSFER)),
+                source(AuditSource.PROFILE, stub(AuditSource.PROFILE))));
+        doReturn(new PageImpl<>(List.of(history(TWO, 20L, 21L), history(ONE, 10L, 11L))))
+                .when(repository).findAll(any(Pageable.class));
+
+        final TimelineDto result = service.readTimeline(0, 2, AUTHORIZATION);
+
+        assertAll(() -> {
+            assertEquals(List.of(List.of(20L, 10L)), calls.get(AuditSource.TRANSFER));
+            assertEquals(List.of(List.of(21L, 11L)), calls.get(AuditSource.PROFILE));
+            assertEquals(List.of(10L, 11L, 20L, 21L), result.getEvents().stream()
+                    .map(TimelineEventDto::getAuditId).collect(Collectors.toList()));
+            assertEquals(ONE, result.getEvents().get(0).getHistoryId());
+            assertTrue(result.getFailedSources().isEmpty());
+        });
+    }
+
+    @Test
+    @DisplayName("медленный и упавший сервисы не мешают остальным")
+    void readTimelinePartialTest() {
+        final AuditClient slow = (ids, authorization) -> {
+            try {
+                Thread.sleep(TIMEOUT.multipliedBy(10).toMillis());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of();
+        };
+        final AuditClient failing = (ids, authorization) -> {
+            throw new IllegalStateException("сервис недоступен");
+        };
+        init(List.of(source(AuditSource.TRANSFER, stub(AuditSource.TRANSFER)), source(AuditSource.PROFILE, slow),
+                source(AuditSource.ACCOUNT, failing)));
+        doReturn(new PageImpl<>(List.of(history(ONE, 10L, 11L)))).when(repository).findAll(any(Pageable.class));
+
+        final long startedAt = System.nanoTime();
+        final TimelineDto result = service.readTimeline(0, 1, null);
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        assertAll(() -> {
+            assertEquals(1, result.getEvents().size());
+            assertEquals(AuditSource.TRANSFER, result.getEvents().get(0).getSource());
+            assertEquals("нет ответа за 200 мс", result.getFailedSources().get(AuditSource.PROFILE));
+            assertEquals("сервис недоступен", result.getFailedSources().get(AuditSource.ACCOUNT));
+            assertTrue(elapsed.compareTo(TIMEOUT.multipliedBy(5)) < 0);
+        });
+    }
+
+    @Test
+    @DisplayName("размер страницы больше допустимого, негативный сценарий")
+    void readTimelineNegativeTest() {
+        init(List.of());
+
+        assertThrows(ValidationException.class, () -> service.readTimeline(0, 101, null));
+    }
+
+    private void init(List<TimelineSource> sources) {
+        service = new TimelineServiceImpl(repository, sources, new SimpleMeterRegistry(), 100, 4);
+    }
+
+    private static TimelineSource source(AuditSource source, AuditClient client) {
+        return new TimelineSource(source, client, TIMEOUT);
+    }
+
+    /**
+     * Заглушка сервиса: запись аудита с id создана в момент id секунд
+     */
+    private AuditClient stub(AuditSource source) {
+        return (ids, authorization) -> {
+            calls.computeIfAbsent(source, ignored -> new ArrayList<>()).add(ids);
+            return ids.stream().map(id -> new AuditEventDto(id, "entity", "CREATE", "user", null,
+                    new Timestamp(id * 1000), null, null, "{}")).toList();
+        };
+    }
+
+    /**
+     * Строка истории, в которой заполнены только переводы и профили
+     */
+    private static HistoryEntity history(Long id, Long transferAuditId, Long profileAuditId) {
+        return getHistoryEntity(id, transferAuditId, profileAuditId, id, null, null, null);
+    }
+}
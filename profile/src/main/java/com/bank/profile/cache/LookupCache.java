@@ -0,0 +1,140 @@
+package com.bank.profile.cache;
+
+import com.bank.common.cache.LruTtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Кэш дто по натуральному ключу: телефону, ИНН, паспорту, поверх {@link LruTtlCache}.
+ * Одно дто может лежать под несколькими ключами, при изменении записи удаляются все её ключи,
+ * а зависимые кэши, в дто которых она вложена, очищаются целиком.
+ * Ненайденные записи не кэшируются. Закэшированные дто общие для всех запросов и не должны изменяться.
+ */
+public class LookupCache<V> {
+
+    private final LruTtlCache<String, V> entries;
+    private final Map<Long, Set<String>> keysById = new HashMap<>();
+    private final Function<V, Long> idGetter;
+    private final List<LookupCache<?>> dependents = new ArrayList<>();
+
+    public LookupCache(String name, int maxSize, Duration ttl, Function<V, Long> idGetter, MeterRegistry registry) {
+        this(name, maxSize, ttl, idGetter, registry, Clock.systemUTC());
+    }
+
+    LookupCache(String name, int maxSize, Duration ttl, Function<V, Long> idGetter, MeterRegistry registry,
+                Clock clock) {
+        this.idGetter = idGetter;
+        this.entries = new LruTtlCache<>("lookup.cache", name, maxSize, ttl, registry, clock,
+                (key, value) -> unlink(key, idGetter.apply(value)));
+    }
+
+    /**
+     * @param cache кэш, дто которого содержат дто этого кэша и очищаются при его изменении
+     */
+    public void addDependent(LookupCache<?> cache) {
+        dependents.add(cache);
+    }
+
+    /**
+     * @param key натуральный ключ с префиксом, например phone:9001234567
+     * @param loader чтение из базы при промахе, исключение пробрасывается как есть
+     * @return дто из кэша или прочитанное loader
+     */
+    public V get(String key, Supplier<V> loader) {
+        final long loadGeneration;
+        synchronized (this) {
+            loadGeneration = entries.generation();
+            final V cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final V loaded = loader.get();
+        synchronized (this) {
+            if (entries.put(key, loaded, loadGeneration)) {
+                keysById.computeIfAbsent(idGetter.apply(loaded), ignored -> new HashSet<>()).add(key);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Удаляет все ключи записи и очищает зависимые кэши.
+     * В транзакции удаление повторяется после её завершения, чтобы не осталось значение,
+     * прочитанное другим запросом до коммита.
+     *
+     * @param id технический идентификатор
+     */
+    public void evict(Long id) {
+        evictNow(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * Удаляет все записи, в том числе в зависимых кэшах, например при изменении вложенной регистрации.
+     * В транзакции очистка повторяется после её завершения.
+     */
+    public void clear() {
+        clearNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clearNow();
+                }
+            });
+        }
+    }
+
+    /**
+     * @return количество ключей
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictNow(Long id) {
+        synchronized (this) {
+            final Set<String> keys = keysById.remove(id);
+            entries.removeAll(keys == null ? Set.of() : keys);
+        }
+        dependents.forEach(LookupCache::clearNow);
+    }
+
+    private void clearNow() {
+        synchronized (this) {
+            entries.clear();
+            keysById.clear();
+        }
+        dependents.forEach(LookupCache::clearNow);
+    }
+
+    /**
+     * Вызывается под блокировкой этого кэша: все обращения к entries, которые могут убрать запись, идут под ней
+     */
+    private void unlink(String key, Long id) {
+        final Set<String> keys = keysById.get(id);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            keysById.remove(id);
+        }
+    }
+}
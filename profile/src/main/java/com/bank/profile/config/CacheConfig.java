@@ -0,0 +1,39 @@
+package com.bank.profile.config;
+
+import com.bank.profile.cache.LookupCache;
+import com.bank.profile.dto.PassportDto;
+import com.bank.profile.dto.ProfileDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Кэши поиска профиля и паспорта по натуральному ключу.
+ * Профиль содержит паспорт, поэтому изменение паспорта очищает кэш профилей.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Value("${profile.lookup-cache.max-size:100000}")
+    private int maxSize;
+
+    @Value("${profile.lookup-cache.ttl:5m}")
+    private Duration ttl;
+
+    @Bean
+    public LookupCache<ProfileDto> profileLookupCache(MeterRegistry registry) {
+        return new LookupCache<>("profile", maxSize, ttl, ProfileDto::getId, registry);
+    }
+
+    @Bean
+    public LookupCache<PassportDto> passportLookupCache(MeterRegistry registry,
+                                                        LookupCache<ProfileDto> profileLookupCache) {
+        final LookupCache<PassportDto> cache = new LookupCache<>("passport", maxSize, ttl, PassportDto::getId,
+                registry);
+        cache.addDependent(profileLookupCache);
+        return cache;
+    }
+}
@@ -36,6 +36,16 @@ public class PassportController {
         return new ResponseEntity<>(service.read(id), HttpStatus.OK);
     }
 
+    /**
+     * @param series серия
+     * @param number номер
+     * @return {@link ResponseEntity} c {@link PassportDto} и HttpStatus OK
+     */
+    @GetMapping("/lookup")
+    public ResponseEntity<PassportDto> readBySeriesAndNumber(@RequestParam Integer series, @RequestParam Long number) {
+        return new ResponseEntity<>(service.readBySeriesAndNumber(series, number), HttpStatus.OK);
+    }
+
     /**
      * @param ids список техничских идентификаторов {@link PassportEntity}
      * @return {@link ResponseEntity} c {@link PassportDto} и HttpStatus OK
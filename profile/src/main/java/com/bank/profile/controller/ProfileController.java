@@ -36,6 +36,51 @@ public class ProfileController {
         return new ResponseEntity<>(service.read(id), HttpStatus.OK);
     }
 
+    /**
+     * @param id техничский идентификатор {@link ProfileEntity}
+     * @return {@link ResponseEntity} c {@link ProfileDto}, паспортом и обеими регистрациями и HttpStatus OK
+     */
+    @GetMapping("/{id}/aggregate")
+    public ResponseEntity<ProfileDto> readAggregate(@PathVariable Long id) {
+        return new ResponseEntity<>(service.readAggregate(id), HttpStatus.OK);
+    }
+
+    /**
+     * @param phoneNumber номер телефона
+     * @return {@link ResponseEntity} c {@link ProfileDto} и HttpStatus OK
+     */
+    @GetMapping(value = "/lookup", params = "phoneNumber")
+    public ResponseEntity<ProfileDto> readByPhoneNumber(@RequestParam Long phoneNumber) {
+        return new ResponseEntity<>(service.readByPhoneNumber(phoneNumber), HttpStatus.OK);
+    }
+
+    /**
+     * @param email е-мейл
+     * @return {@link ResponseEntity} c {@link ProfileDto} и HttpStatus OK
+     */
+    @GetMapping(value = "/lookup", params = "email")
+    public ResponseEntity<ProfileDto> readByEmail(@RequestParam String email) {
+        return new ResponseEntity<>(service.readByEmail(email), HttpStatus.OK);
+    }
+
+    /**
+     * @param inn ИНН
+     * @return {@link ResponseEntity} c {@link ProfileDto} и HttpStatus OK
+     */
+    @GetMapping(value = "/lookup", params = "inn")
+    public ResponseEntity<ProfileDto> readByInn(@RequestParam Long inn) {
+        return new ResponseEntity<>(service.readByInn(inn), HttpStatus.OK);
+    }
+
+    /**
+     * @param snils СНИЛС
+     * @return {@link ResponseEntity} c {@link ProfileDto} и HttpStatus OK
+     */
+    @GetMapping(value = "/lookup", params = "snils")
+    public ResponseEntity<ProfileDto> readBySnils(@RequestParam Long snils) {
+        return new ResponseEntity<>(service.readBySnils(snils), HttpStatus.OK);
+    }
+
     /**
      * @param ids список техничских идентификаторов {@link ProfileEntity}
      * @return {@link ResponseEntity} c {@link ProfileDto} и HttpStatus OK
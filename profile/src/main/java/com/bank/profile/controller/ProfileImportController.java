@@ -0,0 +1,38 @@
+package com.bank.profile.controller;
+
+import com.bank.profile.dto.ImportReportDto;
+import com.bank.profile.importer.ImportFormat;
+import com.bank.profile.service.ProfileImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * Controller для потокового импорта профилей, тело запроса читается без загрузки в память целиком
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/profile/import")
+public class ProfileImportController {
+
+    private final ProfileImportService service;
+
+    /**
+     * @param input файл импорта в теле запроса
+     * @param format {@link ImportFormat}
+     * @param importId идентификатор импорта, повторный запрос с ним продолжает с контрольной точки
+     * @return {@link ResponseEntity} c {@link ImportReportDto} и HttpStatus OK
+     */
+    @PostMapping
+    public ResponseEntity<ImportReportDto> importProfiles(InputStream input,
+                                                          @RequestParam(defaultValue = "CSV") ImportFormat format,
+                                                          @RequestParam String importId) {
+        return new ResponseEntity<>(service.importProfiles(input, format, importId), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,31 @@
+package com.bank.profile.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+/**
+ * Dto результата импорта профилей.
+ * imported и failed считаются с начала импорта, в том числе по прошлым запускам с тем же importId,
+ * errors - первые ошибки текущего запуска, все ошибки лежат в таблице import_error.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ImportReportDto {
+
+    String importId;
+    Long resumedFromLine;
+    Long lastLine;
+    Long imported;
+    Long failed;
+    Double rowsPerSecond;
+    List<ImportErrorDto> errors;
+}
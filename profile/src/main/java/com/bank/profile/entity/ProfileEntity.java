@@ -15,6 +15,9 @@ import javax.persistence.GenerationType;
 import javax.persistence.Column;
 import javax.persistence.ManyToOne;
 import javax.persistence.JoinColumn;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedSubgraph;
 import javax.validation.constraints.NotNull;
 import java.util.Objects;
 
@@ -28,8 +31,19 @@ import java.util.Objects;
 @AllArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Table(name = "profile", schema = "profile")
+@NamedEntityGraph(name = ProfileEntity.AGGREGATE,
+        attributeNodes = {
+                @NamedAttributeNode(value = "passport", subgraph = "passport"),
+                @NamedAttributeNode("actualRegistration")
+        },
+        subgraphs = @NamedSubgraph(name = "passport", attributeNodes = @NamedAttributeNode("registration")))
 public class ProfileEntity {
 
+    /**
+     * Граф загрузки профиля вместе с паспортом, регистрацией и фактической регистрацией
+     */
+    public static final String AGGREGATE = "profile-aggregate";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id", nullable = false)
@@ -0,0 +1,14 @@
+package com.bank.profile.importer;
+
+import com.bank.profile.dto.ImportErrorDto;
+
+import java.util.List;
+
+/**
+ * Результат записи пачки строк
+ *
+ * @param checkpoint сохранённая контрольная точка
+ * @param errors ошибки валидации и записи строк пачки
+ */
+public record ImportBatchResult(ImportCheckpoint checkpoint, List<ImportErrorDto> errors) {
+}
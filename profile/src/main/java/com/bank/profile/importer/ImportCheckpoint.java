@@ -0,0 +1,20 @@
+package com.bank.profile.importer;
+
+/**
+ * Контрольная точка импорта, сохраняется в одной транзакции с пачкой строк
+ *
+ * @param importId идентификатор импорта, с ним же импорт продолжается после сбоя
+ * @param line последняя обработанная строка файла
+ * @param imported записано профилей
+ * @param failed отклонено строк
+ */
+public record ImportCheckpoint(String importId, long line, long imported, long failed) {
+
+    /**
+     * @param importId идентификатор импорта
+     * @return контрольная точка нового импорта
+     */
+    public static ImportCheckpoint start(String importId) {
+        return new ImportCheckpoint(importId, 0, 0, 0);
+    }
+}
@@ -0,0 +1,18 @@
+package com.bank.profile.importer;
+
+/**
+ * Формат файла импорта профилей
+ */
+public enum ImportFormat {
+
+    /**
+     * Первая строка - заголовок с путями полей {@link com.bank.profile.dto.ProfileDto} через точку,
+     * например passport.registration.city
+     */
+    CSV,
+
+    /**
+     * Одна строка - один {@link com.bank.profile.dto.ProfileDto} в json
+     */
+    NDJSON
+}
@@ -0,0 +1,21 @@
+package com.bank.profile.importer;
+
+import com.bank.profile.dto.ProfileDto;
+
+/**
+ * Разобранная строка файла импорта
+ *
+ * @param line номер строки в файле
+ * @param profile профиль с паспортом и регистрациями, null если строку не удалось разобрать
+ * @param error описание ошибки разбора или валидации, null для корректной строки
+ */
+public record ImportRow(long line, ProfileDto profile, String error) {
+
+    /**
+     * @param message описание ошибки
+     * @return та же строка с ошибкой
+     */
+    public ImportRow withError(String message) {
+        return new ImportRow(line, profile, message);
+    }
+}
@@ -0,0 +1,58 @@
+package com.bank.profile.importer;
+
+import com.bank.profile.dto.ImportReportDto;
+import com.bank.profile.service.ProfileImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Запуск импорта из командной строки:
+ * java -jar profile.jar --profile.import.file=profiles.csv --profile.import.id=2024-01
+ * После импорта приложение завершается, код выхода 0 при отсутствии отклонённых строк.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "profile.import.file")
+public class ProfileImportRunner implements ApplicationRunner {
+
+    private final ProfileImportService service;
+    private final ConfigurableApplicationContext context;
+    private final Path file;
+    private final ImportFormat format;
+    private final String importId;
+
+    public ProfileImportRunner(ProfileImportService service, ConfigurableApplicationContext context,
+                               @Value("${profile.import.file}") Path file,
+                               @Value("${profile.import.format:CSV}") ImportFormat format,
+                               @Value("${profile.import.id:${profile.import.file}}") String importId) {
+        this.service = service;
+        this.context = context;
+        this.file = file;
+        this.format = format;
+        this.importId = importId;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        final ImportReportDto report;
+        try (InputStream input = Files.newInputStream(file)) {
+            report = service.importProfiles(input, format, importId);
+        }
+        log.info("Импорт {} завершён на строке {}: записано {}, отклонено {}", report.getImportId(),
+                report.getLastLine(), report.getImported(), report.getFailed());
+        report.getErrors().forEach(error -> log.warn("Строка {}: {}", error.getLine(), error.getMessage()));
+        final int exitCode = report.getFailed() == 0 ? 0 : 1;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+}
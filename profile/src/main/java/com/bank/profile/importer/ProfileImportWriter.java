@@ -0,0 +1,186 @@
+package com.bank.profile.importer;
+
+import com.bank.profile.dto.ActualRegistrationDto;
+import com.bank.profile.dto.ImportErrorDto;
+import com.bank.profile.dto.PassportDto;
+import com.bank.profile.dto.ProfileDto;
+import com.bank.profile.dto.RegistrationDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Запись пачки импорта JDBC batch-вставками в одной транзакции вместе с ошибками и контрольной точкой.
+ * id регистраций, паспортов и профилей выделяются заранее одним запросом к последовательности на таблицу,
+ * поэтому цепочка регистрация - паспорт - профиль связывается без чтения сгенерированных ключей.
+ * Если пачка нарушает ограничение базы, например уникальность телефона, она откатывается
+ * и строки пишутся по одной, каждая в своей транзакции, чтобы найти и отклонить только плохие.
+ */
+@Slf4j
+@Component
+public class ProfileImportWriter {
+
+    private static final String REGISTRATION = "profile.registration";
+    private static final String ACTUAL_REGISTRATION = "profile.actual_registration";
+    private static final String NEXT_IDS = "SELECT nextval(pg_get_serial_sequence(?, 'id')) " +
+            "FROM generate_series(1, ?)";
+    private static final String INSERT_REGISTRATION = "INSERT INTO %s (id, country, region, city, district, " +
+            "locality, street, house_number, house_block, flat_number, index) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PASSPORT = "INSERT INTO profile.passport (id, series, number, last_name, " +
+            "first_name, middle_name, gender, birth_date, birth_place, issued_by, date_of_issue, division_code, " +
+            "expiration_date, registration_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PROFILE = "INSERT INTO profile.profile (id, phone_number, email, " +
+            "name_on_card, inn, snils, passport_id, actual_registration_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ERROR = "INSERT INTO profile.import_error (import_id, line, message) " +
+            "VALUES (?, ?, ?)";
+    private static final String SELECT_CHECKPOINT = "SELECT line, imported, failed FROM profile.import_checkpoint " +
+            "WHERE import_id = ?";
+    private static final String UPSERT_CHECKPOINT = "INSERT INTO profile.import_checkpoint (import_id, line, " +
+            "imported, failed, updated_at) VALUES (?, ?, ?, ?, ?) ON CONFLICT (import_id) DO UPDATE SET " +
+            "line = EXCLUDED.line, imported = EXCLUDED.imported, failed = EXCLUDED.failed, " +
+            "updated_at = EXCLUDED.updated_at";
+    private static final int MAX_MESSAGE_LENGTH = 2000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProfileImportWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @param importId идентификатор импорта
+     * @return сохранённая контрольная точка или начало файла
+     */
+    public ImportCheckpoint checkpoint(String importId) {
+        final List<ImportCheckpoint> found = jdbcTemplate.query(SELECT_CHECKPOINT, (resultSet, rowNumber) ->
+                new ImportCheckpoint(importId, resultSet.getLong(1), resultSet.getLong(2), resultSet.getLong(3)),
+                importId);
+        return found.isEmpty() ? ImportCheckpoint.start(importId) : found.get(0);
+    }
+
+    /**
+     * @param previous контрольная точка до пачки
+     * @param lastLine последняя строка пачки
+     * @param valid строки, прошедшие валидацию
+     * @param rejected строки, не прошедшие разбор или валидацию
+     * @return новая контрольная точка и все ошибки пачки
+     */
+    public ImportBatchResult write(ImportCheckpoint previous, long lastLine, List<ImportRow> valid,
+                                   List<ImportErrorDto> rejected) {
+        try {
+            return transactionTemplate.execute(status -> {
+                insert(valid);
+                return finish(previous, lastLine, valid.size(), rejected);
+            });
+        } catch (DataAccessException exception) {
+            log.warn("Пачка импорта {} до строки {} не записана, строки пишутся по одной: {}", previous.importId(),
+                    lastLine, exception.getMostSpecificCause().getMessage());
+        }
+        final List<ImportErrorDto> errors = new ArrayList<>(rejected);
+        int imported = 0;
+        for (ImportRow row : valid) {
+            if (insertOne(row, errors)) {
+                imported++;
+            }
+        }
+        final int written = imported;
+        return transactionTemplate.execute(status -> finish(previous, lastLine, written, errors));
+    }
+
+    private boolean insertOne(ImportRow row, List<ImportErrorDto> errors) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(List.of(row)));
+            return true;
+        } catch (DataAccessException exception) {
+            errors.add(new ImportErrorDto(row.line(), exception.getMostSpecificCause().getMessage()));
+            return false;
+        }
+    }
+
+    private ImportBatchResult finish(ImportCheckpoint previous, long lastLine, int imported,
+                                     List<ImportErrorDto> errors) {
+        jdbcTemplate.batchUpdate(INSERT_ERROR, errors.stream().map(error -> new Object[]{
+                previous.importId(), error.getLine(), truncate(error.getMessage())}).toList());
+        final ImportCheckpoint next = new ImportCheckpoint(previous.importId(), lastLine,
+                previous.imported() + imported, previous.failed() + errors.size());
+        jdbcTemplate.update(UPSERT_CHECKPOINT, next.importId(), next.line(), next.imported(), next.failed(),
+                Timestamp.from(Instant.now()));
+        return new ImportBatchResult(next, errors);
+    }
+
+    private void insert(List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        final List<ProfileDto> profiles = rows.stream().map(ImportRow::profile).toList();
+        final List<Long> registrationIds = nextIds(REGISTRATION, profiles.size());
+        final List<Long> passportIds = nextIds("profile.passport", profiles.size());
+        final List<Long> profileIds = nextIds("profile.profile", profiles.size());
+        final Iterator<Long> actualIds = nextIds(ACTUAL_REGISTRATION,
+                profiles.stream().filter(profile -> profile.getActualRegistration() != null).count()).iterator();
+        final List<Object[]> registrations = new ArrayList<>(profiles.size());
+        final List<Object[]> passports = new ArrayList<>(profiles.size());
+        final List<Object[]> actualRegistrations = new ArrayList<>();
+        final List<Object[]> profileArgs = new ArrayList<>(profiles.size());
+        for (int index = 0; index < profiles.size(); index++) {
+            final ProfileDto profile = profiles.get(index);
+            final ActualRegistrationDto actual = profile.getActualRegistration();
+            final Long actualId = actual == null ? null : actualIds.next();
+            registrations.add(registration(registrationIds.get(index), profile.getPassport().getRegistration()));
+            passports.add(passport(passportIds.get(index), profile.getPassport(), registrationIds.get(index)));
+            if (actual != null) {
+                actualRegistrations.add(actualRegistration(actualId, actual));
+            }
+            profileArgs.add(new Object[]{profileIds.get(index), profile.getPhoneNumber(), profile.getEmail(),
+                    profile.getNameOnCard(), profile.getInn(), profile.getSnils(), passportIds.get(index), actualId});
+        }
+        jdbcTemplate.batchUpdate(String.format(INSERT_REGISTRATION, REGISTRATION), registrations);
+        jdbcTemplate.batchUpdate(String.format(INSERT_REGISTRATION, ACTUAL_REGISTRATION), actualRegistrations);
+        jdbcTemplate.batchUpdate(INSERT_PASSPORT, passports);
+        jdbcTemplate.batchUpdate(INSERT_PROFILE, profileArgs);
+    }
+
+    private List<Long> nextIds(String table, long count) {
+        if (count == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(NEXT_IDS, Long.class, table, count);
+    }
+
+    private static Object[] registration(Long id, RegistrationDto registration) {
+        return new Object[]{id, registration.getCountry(), registration.getRegion(), registration.getCity(),
+                registration.getDistrict(), registration.getLocality(), registration.getStreet(),
+                registration.getHouseNumber(), registration.getHouseBlock(), registration.getFlatNumber(),
+                registration.getIndex()};
+    }
+
+    private static Object[] actualRegistration(Long id, ActualRegistrationDto registration) {
+        return new Object[]{id, registration.getCountry(), registration.getRegion(), registration.getCity(),
+                registration.getDistrict(), registration.getLocality(), registration.getStreet(),
+                registration.getHouseNumber(), registration.getHouseBlock(), registration.getFlatNumber(),
+                registration.getIndex()};
+    }
+
+    private static Object[] passport(Long id, PassportDto passport, Long registrationId) {
+        return new Object[]{id, passport.getSeries(), passport.getNumber(), passport.getLastName(),
+                passport.getFirstName(), passport.getMiddleName(), passport.getGender(), passport.getBirthDate(),
+                passport.getBirthPlace(), passport.getIssuedBy(), passport.getDateOfIssue(),
+                passport.getDivisionCode(), passport.getExpirationDate(), registrationId};
+    }
+
+    private static String truncate(String message) {
+        return message == null || message.length() <= MAX_MESSAGE_LENGTH ? message :
+                message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+}
@@ -0,0 +1,173 @@
+package com.bank.profile.importer;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.profile.dto.ProfileDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Потоковое чтение файла импорта по одной строке, файл целиком в память не загружается.
+ * Строки CSV разбираются по заголовку в дерево json, дальше CSV и NDJSON одинаково превращаются
+ * в {@link ProfileDto}. Пустые строки пропускаются, кавычки в CSV экранируются удвоением,
+ * перевод строки внутри значения не поддерживается. Ошибка разбора не прерывает чтение,
+ * а возвращается в {@link ImportRow#error()}.
+ */
+public class ProfileRowReader implements Iterator<ImportRow>, Closeable {
+
+    private static final char QUOTE = '"';
+    private static final char SEPARATOR = ',';
+    private static final String PATH_SEPARATOR = "\\.";
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+    private final List<String[]> columns;
+
+    private String next;
+    private long line;
+
+    /**
+     * @param input файл импорта в UTF-8
+     * @param format формат файла
+     * @param objectMapper разбор json и преобразование строк CSV в dto
+     */
+    public ProfileRowReader(InputStream input, ImportFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.columns = format == ImportFormat.CSV ? readHeader() : List.of();
+        advance();
+    }
+
+    /**
+     * Пропускает строки до контрольной точки без разбора
+     *
+     * @param lastLine последняя обработанная строка прошлого запуска
+     */
+    public void skipTo(long lastLine) {
+        while (next != null && line <= lastLine) {
+            advance();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public ImportRow next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        final String raw = next;
+        final long rawLine = line;
+        advance();
+        try {
+            return new ImportRow(rawLine, parse(raw), null);
+        } catch (JsonProcessingException | IllegalArgumentException exception) {
+            return new ImportRow(rawLine, null, "Строка не разобрана: " + String.valueOf(exception.getMessage())
+                    .lines().findFirst().orElse(""));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * @param raw строка CSV
+     * @return значения колонок без кавычек
+     */
+    static List<String> split(String raw) {
+        final List<String> values = new ArrayList<>();
+        final StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int index = 0; index < raw.length(); index++) {
+            final char symbol = raw.charAt(index);
+            if (symbol == QUOTE) {
+                if (!quoted && index > 0 && raw.charAt(index - 1) == QUOTE) {
+                    value.append(QUOTE);
+                }
+                quoted = !quoted;
+            } else if (symbol == SEPARATOR && !quoted) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(symbol);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("незакрытая кавычка");
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private ProfileDto parse(String raw) throws JsonProcessingException {
+        if (format == ImportFormat.NDJSON) {
+            return objectMapper.readValue(raw, ProfileDto.class);
+        }
+        final List<String> values = split(raw);
+        if (values.size() != columns.size()) {
+            throw new IllegalArgumentException("ожидалось колонок " + columns.size() + ", получено " + values.size());
+        }
+        final ObjectNode root = objectMapper.createObjectNode();
+        for (int index = 0; index < values.size(); index++) {
+            if (!values.get(index).isEmpty()) {
+                put(root, columns.get(index), values.get(index));
+            }
+        }
+        return objectMapper.treeToValue(root, ProfileDto.class);
+    }
+
+    private static void put(ObjectNode root, String[] path, String value) {
+        ObjectNode node = root;
+        for (int depth = 0; depth < path.length - 1; depth++) {
+            final JsonNode child = node.get(path[depth]);
+            node = child instanceof ObjectNode object ? object : node.putObject(path[depth]);
+        }
+        node.put(path[path.length - 1], value);
+    }
+
+    private List<String[]> readHeader() {
+        final String header = readLine();
+        if (header == null || header.isBlank()) {
+            throw new ValidationException("В файле CSV нет заголовка");
+        }
+        return split(header).stream().map(column -> column.trim().split(PATH_SEPARATOR)).toList();
+    }
+
+    private void advance() {
+        do {
+            next = readLine();
+        } while (next != null && next.isBlank());
+    }
+
+    private String readLine() {
+        try {
+            final String raw = reader.readLine();
+            if (raw != null) {
+                line++;
+            }
+            return raw;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
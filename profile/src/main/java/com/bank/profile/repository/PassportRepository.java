@@ -1,10 +1,30 @@
 package com.bank.profile.repository;
 
 import com.bank.profile.entity.PassportEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Репозиторий для {@link PassportEntity}
  */
 public interface PassportRepository extends JpaRepository<PassportEntity, Long> {
+
+    /**
+     * @param ids технические идентификаторы {@link PassportEntity}
+     * @return паспорта с регистрацией, загруженные одним запросом
+     */
+    @EntityGraph(attributePaths = "registration")
+    List<PassportEntity> findAllWithRegistrationByIdIn(Collection<Long> ids);
+
+    /**
+     * @param series серия
+     * @param number номер, вместе с серией уникальный индекс passport_series_number_key
+     * @return паспорт с регистрацией
+     */
+    @EntityGraph(attributePaths = "registration")
+    Optional<PassportEntity> findWithRegistrationBySeriesAndNumber(Integer series, Long number);
 }
@@ -1,10 +1,60 @@
 package com.bank.profile.repository;
 
 import com.bank.profile.entity.ProfileEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Репозиторий для {@link ProfileEntity}
  */
 public interface ProfileRepository extends JpaRepository<ProfileEntity, Long> {
+
+    /**
+     * @param id технический идентификатор {@link ProfileEntity}
+     * @return профиль с паспортом и обеими регистрациями, загруженный одним запросом
+     */
+    @EntityGraph(ProfileEntity.AGGREGATE)
+    Optional<ProfileEntity> findAggregateById(Long id);
+
+    /**
+     * @param ids технические идентификаторы {@link ProfileEntity}
+     * @return профили с паспортами и обеими регистрациями, загруженные одним запросом
+     */
+    @EntityGraph(ProfileEntity.AGGREGATE)
+    List<ProfileEntity> findAllAggregateByIdIn(Collection<Long> ids);
+
+    /**
+     * @param phoneNumber номер телефона, уникальный индекс profile_phone_number_key
+     * @return профиль с паспортом и обеими регистрациями
+     */
+    @EntityGraph(ProfileEntity.AGGREGATE)
+    Optional<ProfileEntity> findAggregateByPhoneNumber(Long phoneNumber);
+
+    /**
+     * @param email е-мейл без учёта регистра, уникальный частичный индекс profile_email_key
+     * @return профиль с паспортом и обеими регистрациями
+     */
+    @EntityGraph(ProfileEntity.AGGREGATE)
+    @Query("select p from ProfileEntity p where lower(p.email) = lower(:email)")
+    Optional<ProfileEntity> findAggregateByEmail(@Param("email") String email);
+
+    /**
+     * @param inn ИНН, уникальный индекс profile_inn_key
+     * @return профиль с паспортом и обеими регистрациями
+     */
+    @EntityGraph(ProfileEntity.AGGREGATE)
+    Optional<ProfileEntity> findAggregateByInn(Long inn);
+
+    /**
+     * @param snils СНИЛС, уникальный индекс profile_snils_key
+     * @return профиль с паспортом и обеими регистрациями
+     */
+    @EntityGraph(ProfileEntity.AGGREGATE)
+    Optional<ProfileEntity> findAggregateBySnils(Long snils);
 }
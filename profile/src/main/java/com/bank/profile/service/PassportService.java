@@ -16,6 +16,13 @@ public interface PassportService {
      */
     PassportDto read(Long id);
 
+    /**
+     * @param series серия
+     * @param number номер
+     * @return {@link PassportDto} с регистрацией
+     */
+    PassportDto readBySeriesAndNumber(Integer series, Long number);
+
     /**
      * @param ids список технических идентификаторов {@link PassportEntity}.
      * @return список {@link PassportDto}
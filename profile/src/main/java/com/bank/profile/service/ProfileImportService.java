@@ -0,0 +1,20 @@
+package com.bank.profile.service;
+
+import com.bank.profile.dto.ImportReportDto;
+import com.bank.profile.importer.ImportFormat;
+
+import java.io.InputStream;
+
+/**
+ * Service потокового импорта профилей с паспортами и регистрациями.
+ */
+public interface ProfileImportService {
+
+    /**
+     * @param input файл импорта, читается построчно
+     * @param format {@link ImportFormat}
+     * @param importId идентификатор импорта, повторный запуск с ним продолжает с контрольной точки
+     * @return {@link ImportReportDto}
+     */
+    ImportReportDto importProfiles(InputStream input, ImportFormat format, String importId);
+}
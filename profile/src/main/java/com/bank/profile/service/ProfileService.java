@@ -16,6 +16,36 @@ public interface ProfileService {
      */
     ProfileDto read(Long id);
 
+    /**
+     * @param id техничский идентификатор {@link ProfileEntity}.
+     * @return {@link ProfileDto} с паспортом, регистрацией и фактической регистрацией
+     */
+    ProfileDto readAggregate(Long id);
+
+    /**
+     * @param phoneNumber номер телефона
+     * @return {@link ProfileDto} с паспортом и регистрациями
+     */
+    ProfileDto readByPhoneNumber(Long phoneNumber);
+
+    /**
+     * @param email е-мейл, без учёта регистра
+     * @return {@link ProfileDto} с паспортом и регистрациями
+     */
+    ProfileDto readByEmail(String email);
+
+    /**
+     * @param inn ИНН
+     * @return {@link ProfileDto} с паспортом и регистрациями
+     */
+    ProfileDto readByInn(Long inn);
+
+    /**
+     * @param snils СНИЛС
+     * @return {@link ProfileDto} с паспортом и регистрациями
+     */
+    ProfileDto readBySnils(Long snils);
+
     /**
      * @param ids список технических идентификаторов {@link ProfileEntity}.
      * @return список {@link ProfileDto}
@@ -1,18 +1,19 @@
 package com.bank.profile.service.imp;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import com.bank.profile.dto.AccountDetailsIdDto;
 import com.bank.profile.mapper.AccountDetailsIdMapper;
 import com.bank.profile.entity.AccountDetailsIdEntity;
 import com.bank.profile.repository.AccountDetailsIdRepository;
 import com.bank.profile.service.AccountDetailsIdService;
-import com.bank.profile.validator.EntityListValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.AccessLevel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import javax.transaction.Transactional;
 import java.util.List;
 
 /**
@@ -25,13 +26,15 @@ public class AccountDetailsIdServiceImp implements AccountDetailsIdService {
 
     AccountDetailsIdRepository repository;
     AccountDetailsIdMapper mapper;
-    EntityListValidator validator;
+    AuditWriter auditWriter;
+    BulkReader bulkReader;
 
     /**
      * @param id технический идентификатор для {@link AccountDetailsIdEntity}.
      * @return {@link AccountDetailsIdDto}.
      */
     @Override
+    @Transactional(readOnly = true)
     public AccountDetailsIdDto read(Long id) {
         final AccountDetailsIdEntity accountDetailsId = repository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("accountDetailsId с данным id не найден!")
@@ -47,7 +50,9 @@ public class AccountDetailsIdServiceImp implements AccountDetailsIdService {
     @Transactional
     public AccountDetailsIdDto save(AccountDetailsIdDto accountDetailsIdDto) {
         final AccountDetailsIdEntity accountDetailsId = repository.save(mapper.toEntity(accountDetailsIdDto));
-        return mapper.toDto(accountDetailsId);
+        final AccountDetailsIdDto result = mapper.toDto(accountDetailsId);
+        auditWriter.created(AccountDetailsIdEntity.class, result);
+        return result;
     }
 
     /**
@@ -61,10 +66,13 @@ public class AccountDetailsIdServiceImp implements AccountDetailsIdService {
         final AccountDetailsIdEntity accountDetailsById = repository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("Обновление невозможно, accountDetailsId не найден!")
         );
+        final AccountDetailsIdDto before = mapper.toDto(accountDetailsById);
         final AccountDetailsIdEntity accountDetailsId = repository.save(
                 mapper.mergeToEntity(accountDetailsIdDto, accountDetailsById)
         );
-        return mapper.toDto(accountDetailsId);
+        final AccountDetailsIdDto result = mapper.toDto(accountDetailsId);
+        auditWriter.updated(AccountDetailsIdEntity.class, before, result);
+        return result;
     }
 
     /**
@@ -72,15 +80,9 @@ public class AccountDetailsIdServiceImp implements AccountDetailsIdService {
      * @return {@link List<AccountDetailsIdDto>}.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<AccountDetailsIdDto> readAll(List<Long> ids) {
-        final List<AccountDetailsIdEntity> accountDetailsIdEntities = repository.findAllById(ids);
-
-        validator.checkSize(
-                accountDetailsIdEntities,
-                ids,
-                () -> new EntityNotFoundException("Ошибка в переданных параметрах, accountDetailsId не существуют(ет)")
-        );
-
-        return mapper.toDtoList(accountDetailsIdEntities);
+        return bulkReader.readAll(ids, chunk -> mapper.toDtoList(repository.findAllById(chunk)),
+                AccountDetailsIdDto::getId, "Ошибка в переданных параметрах, accountDetailsId не существуют(ет)");
     }
 }
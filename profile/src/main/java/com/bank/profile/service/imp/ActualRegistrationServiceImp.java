@@ -1,21 +1,24 @@
 package com.bank.profile.service.imp;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import com.bank.common.exception.ValidationException;
+import com.bank.profile.cache.LookupCache;
 import com.bank.profile.dto.ActualRegistrationDto;
+import com.bank.profile.dto.ProfileDto;
 import com.bank.profile.entity.AccountDetailsIdEntity;
 import com.bank.profile.mapper.ActualRegistrationMapper;
 import com.bank.profile.entity.ActualRegistrationEntity;
 import com.bank.profile.repository.ActualRegistrationRepository;
 import com.bank.profile.service.ActualRegistrationService;
-import com.bank.profile.validator.EntityListValidator;
 import com.bank.profile.validator.DtoValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.AccessLevel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import javax.transaction.Transactional;
 import java.util.List;
 
 /**
@@ -28,14 +31,17 @@ public class ActualRegistrationServiceImp implements ActualRegistrationService {
 
     ActualRegistrationRepository repository;
     ActualRegistrationMapper mapper;
-    EntityListValidator validator;
+    AuditWriter auditWriter;
+    BulkReader bulkReader;
     DtoValidator<ActualRegistrationDto> dtoValidator;
+    LookupCache<ProfileDto> profileLookupCache;
 
     /**
      * @param id технический идентификатор для {@link ActualRegistrationEntity}.
      * @return {@link ActualRegistrationDto}.
      */
     @Override
+    @Transactional(readOnly = true)
     public ActualRegistrationDto read(Long id) {
         final ActualRegistrationEntity actualRegistration = repository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("actualRegistration с данным id не найден!")
@@ -57,7 +63,9 @@ public class ActualRegistrationServiceImp implements ActualRegistrationService {
                 () -> new ValidationException("Сохранение невозможно, неверные данные")
         );
 
-        return mapper.toDto(actualRegistration);
+        final ActualRegistrationDto result = mapper.toDto(actualRegistration);
+        auditWriter.created(ActualRegistrationEntity.class, result);
+        return result;
     }
 
     /**
@@ -71,6 +79,7 @@ public class ActualRegistrationServiceImp implements ActualRegistrationService {
         final ActualRegistrationEntity registrationById = repository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("Обновление невозможно, ActualRegistration не найден!")
         );
+        final ActualRegistrationDto before = mapper.toDto(registrationById);
         final ActualRegistrationEntity registration = repository.save(
                 mapper.mergeToEntity(actualRegistrationDto, registrationById)
         );
@@ -79,7 +88,10 @@ public class ActualRegistrationServiceImp implements ActualRegistrationService {
                 () -> new ValidationException("Обновление невозможно, неверные данные")
         );
 
-        return mapper.toDto(registration);
+        final ActualRegistrationDto result = mapper.toDto(registration);
+        auditWriter.updated(ActualRegistrationEntity.class, before, result);
+        profileLookupCache.clear();
+        return result;
     }
 
     /**
@@ -87,18 +99,10 @@ public class ActualRegistrationServiceImp implements ActualRegistrationService {
      * @return {@link List<ActualRegistrationDto>}.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<ActualRegistrationDto> readAll(List<Long> ids) {
-        final List<ActualRegistrationEntity> actualRegistrationEntities = repository.findAllById(ids);
-
-        validator.checkSize(
-                actualRegistrationEntities,
-                ids,
-                () -> new EntityNotFoundException(
-                        "Ошибка в переданных параметрах, ActualRegistration не существуют(ет)"
-                )
-        );
-
-        return mapper.toDtoList(actualRegistrationEntities);
+        return bulkReader.readAll(ids, chunk -> mapper.toDtoList(repository.findAllById(chunk)),
+                ActualRegistrationDto::getId, "Ошибка в переданных параметрах, ActualRegistration не существуют(ет)");
     }
 }
 
@@ -1,20 +1,22 @@
 package com.bank.profile.service.imp;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import com.bank.common.exception.ValidationException;
+import com.bank.profile.cache.LookupCache;
 import com.bank.profile.dto.PassportDto;
 import com.bank.profile.entity.PassportEntity;
 import com.bank.profile.mapper.PassportMapper;
 import com.bank.profile.repository.PassportRepository;
 import com.bank.profile.service.PassportService;
-import com.bank.profile.validator.EntityListValidator;
 import com.bank.profile.validator.DtoValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.AccessLevel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import javax.transaction.Transactional;
 import java.util.List;
 
 /**
@@ -27,14 +29,17 @@ public class PassportServiceImp implements PassportService {
 
     PassportRepository repository;
     PassportMapper mapper;
-    EntityListValidator validator;
+    AuditWriter auditWriter;
+    BulkReader bulkReader;
     DtoValidator<PassportDto> dtoValidator;
+    LookupCache<PassportDto> cache;
 
     /**
      * @param id технический идентификатор для {@link PassportEntity}.
      * @return {@link PassportDto}.
      */
     @Override
+    @Transactional(readOnly = true)
     public PassportDto read(Long id) {
         final PassportEntity passport = repository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("passport с данным id не найден!")
@@ -42,6 +47,21 @@ public class PassportServiceImp implements PassportService {
         return mapper.toDto(passport);
     }
 
+    /**
+     * @param series серия.
+     * @param number номер.
+     * @return {@link PassportDto}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PassportDto readBySeriesAndNumber(Integer series, Long number) {
+        return cache.get(series + "/" + number, () -> mapper.toDto(
+                repository.findWithRegistrationBySeriesAndNumber(series, number).orElseThrow(
+                        () -> new EntityNotFoundException("passport с такими серией и номером не найден!")
+                )
+        ));
+    }
+
     /**
      * @param passportDto {@link PassportDto}.
      * @return {@link PassportDto}.
@@ -56,7 +76,9 @@ public class PassportServiceImp implements PassportService {
                 () -> new ValidationException("Сохранение невозможно, неверные данные")
         );
 
-        return mapper.toDto(passport);
+        final PassportDto result = mapper.toDto(passport);
+        auditWriter.created(PassportEntity.class, result);
+        return result;
     }
 
     /**
@@ -69,6 +91,7 @@ public class PassportServiceImp implements PassportService {
         final PassportEntity passportEntityById = repository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("Обновление невозможно, passport не найден!")
         );
+        final PassportDto before = mapper.toDto(passportEntityById);
         final PassportEntity actualRegistration = repository.save(
                 mapper.mergeToEntity(passportDto, passportEntityById)
         );
@@ -78,7 +101,10 @@ public class PassportServiceImp implements PassportService {
                 () -> new ValidationException("Обновление невозможно, неверные данные")
         );
 
-        return mapper.toDto(actualRegistration);
+        final PassportDto result = mapper.toDto(actualRegistration);
+        auditWriter.updated(PassportEntity.class, before, result);
+        cache.evict(id);
+        return result;
     }
 
     /**
@@ -86,15 +112,9 @@ public class PassportServiceImp implements PassportService {
      * @return {@link List<PassportDto>}.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<PassportDto> readAll(List<Long> ids) {
-        final List<PassportEntity> passportEntities = repository.findAllById(ids);
-
-        validator.checkSize(
-                passportEntities,
-                ids,
-                () -> new EntityNotFoundException("Ошибка в переданных параметрах, passport не существуют(ет)")
-        );
-
-        return mapper.toDtoList(passportEntities);
+        return bulkReader.readAll(ids, chunk -> mapper.toDtoList(repository.findAllWithRegistrationByIdIn(chunk)),
+                PassportDto::getId, "Ошибка в переданных параметрах, passport не существуют(ет)");
     }
 }
@@ -0,0 +1,140 @@
+package com.bank.profile.service.imp;
+
+import com.bank.profile.dto.ActualRegistrationDto;
+import com.bank.profile.dto.ImportErrorDto;
+import com.bank.profile.dto.ImportReportDto;
+import com.bank.profile.dto.PassportDto;
+import com.bank.profile.dto.ProfileDto;
+import com.bank.profile.dto.RegistrationDto;
+import com.bank.profile.importer.ImportBatchResult;
+import com.bank.profile.importer.ImportCheckpoint;
+import com.bank.profile.importer.ImportFormat;
+import com.bank.profile.importer.ImportRow;
+import com.bank.profile.importer.ProfileImportWriter;
+import com.bank.profile.importer.ProfileRowReader;
+import com.bank.profile.service.ProfileImportService;
+import com.bank.profile.validator.DtoValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Реализация для {@link ProfileImportService}.
+ * Файл читается пачками по profile.import.batch-size строк, в памяти одновременно только одна пачка.
+ * Строки пачки валидируются параллельно, затем пачка пишется одной транзакцией вместе с контрольной точкой.
+ */
+@Slf4j
+@Service
+public class ProfileImportServiceImp implements ProfileImportService {
+
+    private static final String DELIMITER = "; ";
+
+    private final ProfileImportWriter writer;
+    private final ObjectMapper objectMapper;
+    private final DtoValidator<ProfileDto> profileValidator;
+    private final DtoValidator<PassportDto> passportValidator;
+    private final DtoValidator<RegistrationDto> registrationValidator;
+    private final DtoValidator<ActualRegistrationDto> actualRegistrationValidator;
+    private final int batchSize;
+    private final int reportErrors;
+
+    public ProfileImportServiceImp(ProfileImportWriter writer, ObjectMapper objectMapper,
+                                   DtoValidator<ProfileDto> profileValidator,
+                                   DtoValidator<PassportDto> passportValidator,
+                                   DtoValidator<RegistrationDto> registrationValidator,
+                                   DtoValidator<ActualRegistrationDto> actualRegistrationValidator,
+                                   @Value("${profile.import.batch-size:1000}") int batchSize,
+                                   @Value("${profile.import.report-errors:100}") int reportErrors) {
+        this.writer = writer;
+        this.objectMapper = objectMapper;
+        this.profileValidator = profileValidator;
+        this.passportValidator = passportValidator;
+        this.registrationValidator = registrationValidator;
+        this.actualRegistrationValidator = actualRegistrationValidator;
+        this.batchSize = batchSize;
+        this.reportErrors = reportErrors;
+    }
+
+    /**
+     * @param input файл импорта.
+     * @param format {@link ImportFormat}.
+     * @param importId идентификатор импорта.
+     * @return {@link ImportReportDto}.
+     */
+    @Override
+    public ImportReportDto importProfiles(InputStream input, ImportFormat format, String importId) {
+        final long startedAt = System.nanoTime();
+        final ImportCheckpoint start = writer.checkpoint(importId);
+        ImportCheckpoint checkpoint = start;
+        final List<ImportErrorDto> errors = new ArrayList<>();
+        try (ProfileRowReader reader = new ProfileRowReader(input, format, objectMapper)) {
+            reader.skipTo(start.line());
+            final List<ImportRow> batch = new ArrayList<>(batchSize);
+            while (reader.hasNext()) {
+                batch.add(reader.next());
+                if (batch.size() == batchSize || !reader.hasNext()) {
+                    checkpoint = flush(checkpoint, batch, errors);
+                    batch.clear();
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        final long processed = checkpoint.imported() + checkpoint.failed() - start.imported() - start.failed();
+        final double seconds = Math.max(1, System.nanoTime() - startedAt) / (double) TimeUnit.SECONDS.toNanos(1);
+        log.info("Импорт {}: строк {}, записано всего {}, отклонено всего {}, {} строк/с", importId, processed,
+                checkpoint.imported(), checkpoint.failed(), Math.round(processed / seconds));
+        return new ImportReportDto(importId, start.line(), checkpoint.line(), checkpoint.imported(),
+                checkpoint.failed(), processed / seconds, errors);
+    }
+
+    private ImportCheckpoint flush(ImportCheckpoint checkpoint, List<ImportRow> batch, List<ImportErrorDto> errors) {
+        final List<ImportRow> validated = batch.parallelStream().map(this::validate).toList();
+        final List<ImportRow> valid = new ArrayList<>(validated.size());
+        final List<ImportErrorDto> rejected = new ArrayList<>();
+        for (ImportRow row : validated) {
+            if (row.error() == null) {
+                valid.add(row);
+            } else {
+                rejected.add(new ImportErrorDto(row.line(), row.error()));
+            }
+        }
+        final ImportBatchResult result = writer.write(checkpoint, batch.get(batch.size() - 1).line(), valid,
+                rejected);
+        result.errors().stream().limit(Math.max(0, reportErrors - errors.size())).forEach(errors::add);
+        return result.checkpoint();
+    }
+
+    private ImportRow validate(ImportRow row) {
+        if (row.error() != null) {
+            return row;
+        }
+        final ProfileDto profile = row.profile();
+        final List<String> violations = new ArrayList<>(profileValidator.errors(profile));
+        final PassportDto passport = profile.getPassport();
+        if (passport == null) {
+            violations.add("passport: обязателен");
+        } else {
+            passportValidator.errors(passport).forEach(error -> violations.add("passport." + error));
+            if (passport.getRegistration() == null) {
+                violations.add("passport.registration: обязательна");
+            } else {
+                registrationValidator.errors(passport.getRegistration())
+                        .forEach(error -> violations.add("passport.registration." + error));
+            }
+        }
+        if (profile.getActualRegistration() != null) {
+            actualRegistrationValidator.errors(profile.getActualRegistration())
+                    .forEach(error -> violations.add("actualRegistration." + error));
+        }
+        return violations.isEmpty() ? row : row.withError(String.join(DELIMITER, violations));
+    }
+}
@@ -1,21 +1,25 @@
 package com.bank.profile.service.imp;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import com.bank.common.exception.ValidationException;
+import com.bank.profile.cache.LookupCache;
 import com.bank.profile.dto.ProfileDto;
 import com.bank.profile.mapper.ProfileMapper;
 import com.bank.profile.entity.ProfileEntity;
 import com.bank.profile.repository.ProfileRepository;
 import com.bank.profile.service.ProfileService;
-import com.bank.profile.validator.EntityListValidator;
 import com.bank.profile.validator.DtoValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.AccessLevel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import javax.transaction.Transactional;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 
 /**
  * Реализация для {@link ProfileService}
@@ -25,23 +29,85 @@ import java.util.List;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class ProfileServiceImp implements ProfileService {
 
+    private static final String NOT_FOUND = "profile с данным id не найден!";
+    private static final String NOT_FOUND_BY_KEY = "profile с такими данными не найден!";
+
     ProfileRepository repository;
     ProfileMapper mapper;
-    EntityListValidator validator;
+    AuditWriter auditWriter;
+    BulkReader bulkReader;
     DtoValidator<ProfileDto> dtoValidator;
+    LookupCache<ProfileDto> cache;
 
     /**
      * @param id технический идентификатор для {@link ProfileEntity}.
      * @return {@link ProfileDto}.
      */
     @Override
+    @Transactional(readOnly = true)
     public ProfileDto read(Long id) {
         final ProfileEntity profile = repository.findById(id).orElseThrow(
-                () -> new EntityNotFoundException("profile с данным id не найден!")
+                () -> new EntityNotFoundException(NOT_FOUND)
+        );
+        return mapper.toDto(profile);
+    }
+
+    /**
+     * Профиль, паспорт и обе регистрации читаются одним запросом по графу {@link ProfileEntity#AGGREGATE}.
+     *
+     * @param id технический идентификатор для {@link ProfileEntity}.
+     * @return {@link ProfileDto}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProfileDto readAggregate(Long id) {
+        final ProfileEntity profile = repository.findAggregateById(id).orElseThrow(
+                () -> new EntityNotFoundException(NOT_FOUND)
         );
         return mapper.toDto(profile);
     }
 
+    /**
+     * @param phoneNumber номер телефона.
+     * @return {@link ProfileDto}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProfileDto readByPhoneNumber(Long phoneNumber) {
+        return cache.get("phone:" + phoneNumber, () -> toDto(repository.findAggregateByPhoneNumber(phoneNumber)));
+    }
+
+    /**
+     * @param email е-мейл.
+     * @return {@link ProfileDto}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProfileDto readByEmail(String email) {
+        final String normalized = email.toLowerCase(Locale.ROOT);
+        return cache.get("email:" + normalized, () -> toDto(repository.findAggregateByEmail(normalized)));
+    }
+
+    /**
+     * @param inn ИНН.
+     * @return {@link ProfileDto}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProfileDto readByInn(Long inn) {
+        return cache.get("inn:" + inn, () -> toDto(repository.findAggregateByInn(inn)));
+    }
+
+    /**
+     * @param snils СНИЛС.
+     * @return {@link ProfileDto}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProfileDto readBySnils(Long snils) {
+        return cache.get("snils:" + snils, () -> toDto(repository.findAggregateBySnils(snils)));
+    }
+
     /**
      * @param profileDto {@link ProfileDto}.
      * @return {@link ProfileDto}.
@@ -56,7 +122,9 @@ public class ProfileServiceImp implements ProfileService {
                 () -> new ValidationException("Сохранение невозможно, неверные данные")
         );
 
-        return mapper.toDto(profile);
+        final ProfileDto result = mapper.toDto(profile);
+        auditWriter.created(ProfileEntity.class, result);
+        return result;
     }
 
     /**
@@ -69,6 +137,7 @@ public class ProfileServiceImp implements ProfileService {
         final ProfileEntity profileEntityById = repository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("Обновление невозможно, profile не найден!")
         );
+        final ProfileDto before = mapper.toDto(profileEntityById);
         final ProfileEntity profile = repository.save(
                 mapper.mergeToEntity(profileDto, profileEntityById)
         );
@@ -77,7 +146,10 @@ public class ProfileServiceImp implements ProfileService {
                 () -> new ValidationException("Обновление невозможно, неверные данные")
         );
 
-        return mapper.toDto(profile);
+        final ProfileDto result = mapper.toDto(profile);
+        auditWriter.updated(ProfileEntity.class, before, result);
+        cache.evict(id);
+        return result;
     }
 
     /**
@@ -85,15 +157,13 @@ public class ProfileServiceImp implements ProfileService {
      * @return {@link List<ProfileDto>}.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<ProfileDto> readAll(List<Long> ids) {
-        final List<ProfileEntity> profileEntities = repository.findAllById(ids);
-
-        validator.checkSize(
-                profileEntities,
-                ids,
-                () -> new EntityNotFoundException("Ошибка в переданных параметрах, profile не существуют(ет)")
-        );
+        return bulkReader.readAll(ids, chunk -> mapper.toDtoList(repository.findAllAggregateByIdIn(chunk)),
+                ProfileDto::getId, "Ошибка в переданных параметрах, profile не существуют(ет)");
+    }
 
-        return mapper.toDtoList(profileEntities);
+    private ProfileDto toDto(Optional<ProfileEntity> profile) {
+        return mapper.toDto(profile.orElseThrow(() -> new EntityNotFoundException(NOT_FOUND_BY_KEY)));
     }
 }
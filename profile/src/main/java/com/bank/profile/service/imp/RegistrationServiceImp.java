@@ -1,20 +1,23 @@
 package com.bank.profile.service.imp;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import com.bank.common.exception.ValidationException;
+import com.bank.profile.cache.LookupCache;
+import com.bank.profile.dto.PassportDto;
 import com.bank.profile.dto.RegistrationDto;
 import com.bank.profile.entity.RegistrationEntity;
 import com.bank.profile.mapper.RegistrationMapper;
 import com.bank.profile.repository.RegistrationRepository;
 import com.bank.profile.service.RegistrationService;
-import com.bank.profile.validator.EntityListValidator;
 import com.bank.profile.validator.DtoValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.AccessLevel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import javax.transaction.Transactional;
 import java.util.List;
 
 /**
@@ -27,14 +30,17 @@ public class RegistrationServiceImp implements RegistrationService {
 
     RegistrationRepository repository;
     RegistrationMapper mapper;
-    EntityListValidator validator;
+    AuditWriter auditWriter;
+    BulkReader bulkReader;
     DtoValidator<RegistrationDto> dtoValidator;
+    LookupCache<PassportDto> passportLookupCache;
 
     /**
      * @param id технический идентификатор для {@link RegistrationEntity}.
      * @return {@link RegistrationDto}.
      */
     @Override
+    @Transactional(readOnly = true)
     public RegistrationDto read(Long id) {
         final RegistrationEntity registration = repository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("registration с данным id не найден!")
@@ -56,7 +62,9 @@ public class RegistrationServiceImp implements RegistrationService {
                 () -> new ValidationException("Сохранение невозможно, неверные данные")
         );
 
-        return mapper.toDto(registration);
+        final RegistrationDto result = mapper.toDto(registration);
+        auditWriter.created(RegistrationEntity.class, result);
+        return result;
     }
 
     /**
@@ -69,6 +77,7 @@ public class RegistrationServiceImp implements RegistrationService {
         final RegistrationEntity registrationEntityById = repository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("Обновление невозможно, registration не найден!")
         );
+        final RegistrationDto before = mapper.toDto(registrationEntityById);
         final RegistrationEntity registration = repository.save(
                 mapper.mergeToEntity(registrationDto, registrationEntityById)
         );
@@ -77,7 +86,10 @@ public class RegistrationServiceImp implements RegistrationService {
                 () -> new ValidationException("Обновление невозможно, неверные данные")
         );
 
-        return mapper.toDto(registration);
+        final RegistrationDto result = mapper.toDto(registration);
+        auditWriter.updated(RegistrationEntity.class, before, result);
+        passportLookupCache.clear();
+        return result;
     }
 
     /**
@@ -85,15 +97,9 @@ public class RegistrationServiceImp implements RegistrationService {
      * @return {@link List<RegistrationDto>}.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<RegistrationDto> readAll(List<Long> ids) {
-        final List<RegistrationEntity> registrationEntities = repository.findAllById(ids);
-
-        validator.checkSize(
-                registrationEntities,
-                ids,
-                () -> new EntityNotFoundException("Ошибка в переданных параметрах, registration не существуют(ет)")
-        );
-
-        return mapper.toDtoList(registrationEntities);
+        return bulkReader.readAll(ids, chunk -> mapper.toDtoList(repository.findAllById(chunk)),
+                RegistrationDto::getId, "Ошибка в переданных параметрах, registration не существуют(ет)");
     }
 }
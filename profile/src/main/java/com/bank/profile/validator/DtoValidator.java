@@ -31,4 +31,17 @@ public class DtoValidator<T> {
             throw exceptionSupplier.get();
         }
     }
+
+    /**
+     * Потокобезопасен, используется при параллельной валидации строк импорта
+     *
+     * @param dto проверяемое dto
+     * @return нарушения в виде "поле: сообщение", пустой список для корректного dto
+     */
+    public List<String> errors(T dto) {
+        return validator.validate(dto).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
 }
@@ -0,0 +1,112 @@
+package com.bank.profile.cache;
+
+import com.bank.profile.ParentTest;
+import com.bank.profile.dto.PassportDto;
+import com.bank.profile.dto.ProfileDto;
+import com.bank.profile.supplier.ProfileSupplier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import javax.persistence.EntityNotFoundException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+
+class LookupCacheTest extends ParentTest {
+
+    private static final String PHONE = "phone:1";
+    private static final String INN_KEY = "inn:1";
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry registry;
+
+    private LookupCache<ProfileDto> cache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void init() {
+        registry = new SimpleMeterRegistry();
+        cache = new LookupCache<>("profile", 2, TTL, ProfileDto::getId, registry, clock);
+        loads = new AtomicInteger();
+        doReturn(0L).when(clock).millis();
+    }
+
+    @Test
+    @DisplayName("повторный поиск по ключу без обращения к базе")
+    void getHitTest() {
+        final ProfileDto first = cache.get(PHONE, () -> load(ONE));
+        final ProfileDto second = cache.get(PHONE, () -> load(ONE));
+
+        assertAll(() -> {
+            assertSame(first, second);
+            assertEquals(1, loads.get());
+            assertEquals(1.0, registry.counter("lookup.cache.hits", "cache", "profile").count());
+        });
+    }
+
+    @Test
+    @DisplayName("изменение записи удаляет все её ключи")
+    void evictTest() {
+        cache.get(PHONE, () -> load(ONE));
+        cache.get(INN_KEY, () -> load(ONE));
+
+        cache.evict(ONE);
+        cache.get(INN_KEY, () -> load(ONE));
+
+        assertAll(() -> {
+            assertEquals(1, cache.size());
+            assertEquals(3, loads.get());
+        });
+    }
+
+    @Test
+    @DisplayName("после истечения времени жизни запись читается заново, при переполнении вытесняется старая")
+    void expireAndSizeTest() {
+        cache.get(PHONE, () -> load(ONE));
+        doReturn(TTL.toMillis()).when(clock).millis();
+        cache.get(PHONE, () -> load(ONE));
+        cache.get(INN_KEY, () -> load(TWO));
+        cache.get("snils:2", () -> load(TWO));
+
+        cache.evict(ONE);
+
+        assertAll(() -> {
+            assertEquals(2, cache.size());
+            assertEquals(4, loads.get());
+        });
+    }
+
+    @Test
+    @DisplayName("изменение паспорта очищает кэш профилей, ненайденное не кэшируется")
+    void dependentAndMissTest() {
+        final LookupCache<PassportDto> passportCache = new LookupCache<>("passport", 2, TTL, PassportDto::getId,
+                registry, clock);
+        passportCache.addDependent(cache);
+        cache.get(PHONE, () -> load(ONE));
+
+        passportCache.evict(TWO);
+        assertThrows(EntityNotFoundException.class, () -> cache.get(INN_KEY, () -> {
+            throw new EntityNotFoundException(INN_KEY);
+        }));
+
+        assertEquals(0, cache.size());
+    }
+
+    private ProfileDto load(Long id) {
+        loads.incrementAndGet();
+        return new ProfileSupplier().getDto(id, PHONE_NUMBER, EMAIL, WHITESPACE);
+    }
+}
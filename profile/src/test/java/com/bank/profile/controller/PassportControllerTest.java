@@ -115,6 +115,18 @@ public class PassportControllerTest extends ParentTest {
                 );
     }
 
+    @Test
+    @DisplayName("поиск по серии и номеру, позитивный сценарий")
+    void readBySeriesAndNumberPositiveTest() throws Exception {
+        doReturn(passport).when(service).readBySeriesAndNumber(any(), any());
+
+        mockMvc.perform(get("/passport/lookup?series=1234&number=123456"))
+                .andExpectAll(status().isOk(),
+                        jsonPath("$.series", is(passport.getSeries())),
+                        jsonPath("$.lastName", is(passport.getLastName()))
+                );
+    }
+
     @Test
     @DisplayName("чтение, позитивный сценарий")
     void readTest() throws Exception {
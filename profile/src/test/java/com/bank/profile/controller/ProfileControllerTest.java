@@ -151,6 +151,44 @@ public class ProfileControllerTest extends ParentTest {
     }
 
 
+    @Test
+    @DisplayName("чтение профиля с паспортом и регистрациями, позитивный сценарий")
+    void readAggregatePositiveTest() throws Exception {
+        doReturn(profile).when(service).readAggregate(any());
+
+        mockMvc.perform(get("/profile/{id}/aggregate", ONE))
+                .andExpectAll(status().isOk(),
+                        jsonPath("$.id", is(getIntFromLong(profile.getId()))),
+                        jsonPath("$.email", is(profile.getEmail())),
+                        jsonPath("$.passport", is(profile.getPassport()))
+                );
+    }
+
+    @Test
+    @DisplayName("поиск по телефону, позитивный сценарий")
+    void readByPhoneNumberPositiveTest() throws Exception {
+        doReturn(profile).when(service).readByPhoneNumber(any());
+
+        mockMvc.perform(get("/profile/lookup?phoneNumber=1234567890"))
+                .andExpectAll(status().isOk(),
+                        jsonPath("$.phoneNumber", is(getIntFromLong(profile.getPhoneNumber()))),
+                        jsonPath("$.email", is(profile.getEmail()))
+                );
+    }
+
+    @Test
+    @DisplayName("поиск по е-мейлу, не найден, негативный сценарий")
+    void readByEmailNegativeTest() throws Exception {
+        final String exceptionMessage = "profile с такими данными не найден!";
+
+        doThrow(new EntityNotFoundException(exceptionMessage)).when(service).readByEmail(any());
+
+        mockMvc.perform(get("/profile/lookup?email=test@gmail.com"))
+                .andExpectAll(status().isNotFound(),
+                        content().string(exceptionMessage)
+                );
+    }
+
     @Test
     @DisplayName("чтение по нескольким id, позитивный сценарий")
     void readAllPositiveTest() throws Exception {
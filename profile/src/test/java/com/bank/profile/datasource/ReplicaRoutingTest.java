@@ -0,0 +1,105 @@
+package com.bank.profile.datasource;
+
+import com.bank.common.datasource.ReplicaRoutingDataSource;
+import com.bank.profile.ParentTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Выбор базы по read-only транзакции проверяется на двух PostgreSQL в контейнерах:
+ * вторая база играет роль реплики. Без Docker тест пропускается.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class ReplicaRoutingTest extends ParentTest {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+    private static final String IMAGE = "postgres:14-alpine";
+    private static final String CURRENT_DATABASE = "select current_database()";
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+    private static final Duration CHECK_INTERVAL = Duration.ofHours(1);
+
+    @Container
+    private static final PostgreSQLContainer<?> PRIMARY_POSTGRES = new PostgreSQLContainer<>(IMAGE)
+            .withDatabaseName(PRIMARY);
+
+    @Container
+    private static final PostgreSQLContainer<?> REPLICA_POSTGRES = new PostgreSQLContainer<>(IMAGE)
+            .withDatabaseName(REPLICA);
+
+    private ReplicaRoutingDataSource routing;
+
+    @AfterEach
+    void close() throws Exception {
+        routing.close();
+    }
+
+    @Test
+    @DisplayName("read-only транзакция читает с реплики, остальные идут на primary")
+    void readOnlyTransactionUsesReplicaTest() {
+        routing = routing(dataSource(REPLICA_POSTGRES), MAX_LAG);
+
+        assertAll(() -> {
+            assertEquals(List.of(REPLICA), routing.availableReplicas());
+            assertEquals(REPLICA, currentDatabase(true));
+            assertEquals(PRIMARY, currentDatabase(false));
+            assertEquals(PRIMARY, new JdbcTemplate(routing).queryForObject(CURRENT_DATABASE, String.class));
+        });
+    }
+
+    @Test
+    @DisplayName("недоступная реплика исключается, чтение идёт на primary")
+    void unavailableReplicaFallsBackToPrimaryTest() {
+        routing = routing(new DriverManagerDataSource("jdbc:postgresql://localhost:1/" + REPLICA,
+                REPLICA_POSTGRES.getUsername(), REPLICA_POSTGRES.getPassword()), MAX_LAG);
+
+        assertAll(() -> {
+            assertEquals(List.of(), routing.availableReplicas());
+            assertEquals(PRIMARY, currentDatabase(true));
+        });
+    }
+
+    @Test
+    @DisplayName("реплика с отставанием больше допустимого исключается, чтение идёт на primary")
+    void laggingReplicaFallsBackToPrimaryTest() {
+        routing = routing(dataSource(REPLICA_POSTGRES), Duration.ofMillis(-1));
+
+        assertAll(() -> {
+            assertEquals(List.of(), routing.availableReplicas());
+            assertEquals(PRIMARY, currentDatabase(true));
+        });
+    }
+
+    private ReplicaRoutingDataSource routing(DataSource replica, Duration maxLag) {
+        final ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(dataSource(PRIMARY_POSTGRES),
+                Map.of(REPLICA, replica), maxLag, CHECK_INTERVAL);
+        dataSource.checkReplicas();
+        return dataSource;
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        final TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> new JdbcTemplate(routing).queryForObject(CURRENT_DATABASE, String.class));
+    }
+
+    private static DataSource dataSource(PostgreSQLContainer<?> postgres) {
+        return new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+}
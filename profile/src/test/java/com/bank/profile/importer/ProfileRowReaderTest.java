@@ -0,0 +1,102 @@
+package com.bank.profile.importer;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.profile.ParentTest;
+import com.bank.profile.dto.ProfileDto;
+import com.bank.profile.supplier.ProfileSupplier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProfileRowReaderTest extends ParentTest {
+
+    private static final String HEADER = "phoneNumber,email,nameOnCard,passport.series,passport.registration.city";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("CSV: вложенные колонки, кавычки и пустые строки")
+    void readCsvTest() throws IOException {
+        final List<ImportRow> rows = read(ImportFormat.CSV, 0, HEADER,
+                PHONE_NUMBER + "," + EMAIL + ",\"Ok, \"\"card\"\"\"," + INT_ONE + ",Москва",
+                "",
+                TWO + ",,Ok,,");
+
+        final ProfileDto first = rows.get(0).profile();
+        assertAll(() -> {
+            assertEquals(2, rows.size());
+            assertEquals(2, rows.get(0).line());
+            assertEquals(PHONE_NUMBER, first.getPhoneNumber());
+            assertEquals("Ok, \"card\"", first.getNameOnCard());
+            assertEquals(INT_ONE, first.getPassport().getSeries());
+            assertEquals("Москва", first.getPassport().getRegistration().getCity());
+            assertEquals(4, rows.get(1).line());
+            assertNull(rows.get(1).profile().getEmail());
+            assertNull(rows.get(1).profile().getPassport());
+        });
+    }
+
+    @Test
+    @DisplayName("ошибка разбора строки не прерывает чтение")
+    void readBadRowTest() throws IOException {
+        final List<ImportRow> rows = read(ImportFormat.CSV, 0, HEADER,
+                "abc," + EMAIL + ",Ok,1234,Москва",
+                "\"Ok,",
+                "1,2",
+                PHONE_NUMBER + "," + EMAIL + ",Ok,1234,Москва");
+
+        assertAll(() -> {
+            assertEquals(4, rows.size());
+            assertTrue(rows.get(0).error().startsWith("Строка не разобрана"));
+            assertTrue(rows.get(1).error().contains("незакрытая кавычка"));
+            assertTrue(rows.get(2).error().contains("ожидалось колонок 5"));
+            assertNull(rows.get(3).error());
+        });
+    }
+
+    @Test
+    @DisplayName("NDJSON и продолжение с контрольной точки")
+    void readNdjsonSkipTest() throws IOException {
+        final ProfileSupplier supplier = new ProfileSupplier();
+        final List<ImportRow> rows = read(ImportFormat.NDJSON, 2,
+                objectMapper.writeValueAsString(supplier.getDto(null, ONE, EMAIL, WHITESPACE)),
+                objectMapper.writeValueAsString(supplier.getDto(null, TWO, EMAIL, WHITESPACE)),
+                objectMapper.writeValueAsString(supplier.getDto(null, PHONE_NUMBER, EMAIL, WHITESPACE)));
+
+        assertAll(() -> {
+            assertEquals(1, rows.size());
+            assertEquals(3, rows.get(0).line());
+            assertEquals(PHONE_NUMBER, rows.get(0).profile().getPhoneNumber());
+            assertEquals(INN, rows.get(0).profile().getInn());
+        });
+    }
+
+    @Test
+    @DisplayName("CSV без заголовка")
+    void readCsvWithoutHeaderTest() {
+        assertThrows(ValidationException.class, () -> read(ImportFormat.CSV, 0, ""));
+    }
+
+    private List<ImportRow> read(ImportFormat format, long skipTo, String... lines) throws IOException {
+        final byte[] content = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        final List<ImportRow> rows = new ArrayList<>();
+        try (ProfileRowReader reader = new ProfileRowReader(new ByteArrayInputStream(content), format,
+                objectMapper)) {
+            reader.skipTo(skipTo);
+            reader.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,122 @@
+package com.bank.profile.partition;
+
+import com.bank.common.partition.PartitionMaintenance;
+import com.bank.profile.ParentTest;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Секционирование аудита проверяется на PostgreSQL в контейнере после миграций Liquibase,
+ * без Docker тест пропускается.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class AuditPartitionTest extends ParentTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:14-alpine")
+            .withInitScript("db/init-schema.sql");
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String PARTITION = "audit_p";
+    private static final int RETENTION_MONTHS = 24;
+
+    private final DataSource dataSource;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final YearMonth current = YearMonth.now();
+
+    @TempDir
+    private Path exportDir;
+
+    private PartitionMaintenance maintenance;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeEach
+    void init() {
+        maintenance = new PartitionMaintenance(dataSource, transactionManager, List.of("profile.audit"), 3,
+                RETENTION_MONTHS, exportDir.toString(), 100);
+    }
+
+    @Test
+    @DisplayName("запрос за текущий месяц читает только его секцию и секции вперёд")
+    void recentQueryPrunesOldPartitionsTest() {
+        maintenance.maintain(current.minusMonths(2).atDay(1));
+
+        final String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN SELECT id FROM profile.audit " +
+                "WHERE entity_type = 'Profile' AND created_at >= '" + current.atDay(1) + "'", String.class));
+
+        assertAll(() -> {
+            assertTrue(plan.contains(PARTITION + current.format(SUFFIX)));
+            assertTrue(plan.contains(PARTITION + current.plusMonths(3).format(SUFFIX)));
+            assertFalse(plan.contains(PARTITION + current.minusMonths(1).format(SUFFIX)));
+            assertFalse(plan.contains(PARTITION + current.minusMonths(2).format(SUFFIX)));
+        });
+    }
+
+    @Test
+    @DisplayName("секция старше срока хранения отсоединяется, выгружается в сжатый CSV и удаляется")
+    void expiredPartitionExportedAndDroppedTest() throws IOException {
+        final YearMonth expired = current.minusMonths(RETENTION_MONTHS + 6);
+        maintenance.maintain(expired.atDay(1));
+        jdbcTemplate.update("INSERT INTO profile.audit (entity_type, operation_type, created_by, created_at, " +
+                "entity_json) VALUES (?, ?, ?, ?, ?)", "Profile", "CREATE", WHITESPACE,
+                Timestamp.valueOf(expired.atDay(2).atStartOfDay()), "{\"email\":\"a,b\"}");
+
+        maintenance.maintain(current.atDay(1));
+
+        final String partition = PARTITION + expired.format(SUFFIX);
+        final Path file = exportDir.resolve("profile." + partition + ".csv.gz");
+        final String csv;
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(file))) {
+            csv = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertAll(() -> {
+            assertTrue(csv.startsWith("id,entity_type,operation_type"));
+            assertTrue(csv.contains("\"{\"\"email\"\":\"\"a,b\"\"}\""));
+            assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM pg_class WHERE relname = ?",
+                    Integer.class, partition));
+        });
+    }
+}
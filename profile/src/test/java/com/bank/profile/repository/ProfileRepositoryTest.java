@@ -0,0 +1,126 @@
+package com.bank.profile.repository;
+
+import com.bank.profile.ParentTest;
+import com.bank.profile.entity.PassportEntity;
+import com.bank.profile.entity.ProfileEntity;
+import com.bank.profile.supplier.ActualRegistrationSupplier;
+import com.bank.profile.supplier.PassportSupplier;
+import com.bank.profile.supplier.ProfileSupplier;
+import com.bank.profile.supplier.RegistrationSupplier;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Количество SQL-запросов на чтение профиля считается по статистике Hibernate на встроенной базе.
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+        "spring.jpa.properties.hibernate.globally_quoted_identifiers=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ProfileRepositoryTest extends ParentTest {
+
+    private static final int PROFILES = 5;
+
+    private final ProfileRepository repository;
+    private final PassportRepository passportRepository;
+    private final TestEntityManager entityManager;
+
+    private final List<Long> ids = new ArrayList<>();
+    private final List<Long> passportIds = new ArrayList<>();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void init() {
+        for (int index = 0; index < PROFILES; index++) {
+            final ProfileEntity profile = persistProfile();
+            ids.add(profile.getId());
+            passportIds.add(profile.getPassport().getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findAllById догружает паспорта и регистрации отдельными запросами")
+    void findAllByIdTest() {
+        repository.findAllById(ids);
+
+        assertTrue(statistics.getPrepareStatementCount() > PROFILES);
+    }
+
+    @Test
+    @DisplayName("профили с паспортами и регистрациями читаются одним запросом")
+    void findAllAggregateByIdInTest() {
+        final List<ProfileEntity> profiles = repository.findAllAggregateByIdIn(ids);
+
+        assertAll(
+                () -> {
+                    assertEquals(PROFILES, profiles.size());
+                    assertEquals(1, statistics.getPrepareStatementCount());
+                    profiles.forEach(profile -> {
+                        assertTrue(Hibernate.isInitialized(profile.getPassport().getRegistration()));
+                        assertTrue(Hibernate.isInitialized(profile.getActualRegistration()));
+                    });
+                }
+        );
+    }
+
+    @Test
+    @DisplayName("профиль с паспортом и регистрациями по id читается одним запросом")
+    void findAggregateByIdTest() {
+        final ProfileEntity profile = repository.findAggregateById(ids.get(0)).orElseThrow();
+
+        assertAll(
+                () -> {
+                    assertEquals(1, statistics.getPrepareStatementCount());
+                    assertTrue(Hibernate.isInitialized(profile.getPassport().getRegistration()));
+                }
+        );
+    }
+
+    @Test
+    @DisplayName("паспорта с регистрацией читаются одним запросом")
+    void findAllWithRegistrationByIdInTest() {
+        final List<PassportEntity> passports = passportRepository.findAllWithRegistrationByIdIn(passportIds);
+
+        assertAll(
+                () -> {
+                    assertEquals(PROFILES, passports.size());
+                    assertEquals(1, statistics.getPrepareStatementCount());
+                }
+        );
+    }
+
+    private ProfileEntity persistProfile() {
+        final PassportEntity passport = new PassportSupplier().getEntity(null, WHITESPACE, WHITESPACE, LOCAL_DATE,
+                entityManager.persist(new RegistrationSupplier().getEntity(null, WHITESPACE, NUMBER)));
+        final ProfileEntity profile = new ProfileSupplier().getEntity(null, PHONE_NUMBER, EMAIL, WHITESPACE);
+        profile.setPassport(entityManager.persist(passport));
+        profile.setActualRegistration(entityManager.persist(
+                new ActualRegistrationSupplier().getEntity(null, WHITESPACE, NUMBER)));
+        return entityManager.persist(profile);
+    }
+}
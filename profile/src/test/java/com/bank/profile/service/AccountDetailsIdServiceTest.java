@@ -1,5 +1,7 @@
 package com.bank.profile.service;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import com.bank.profile.ParentTest;
 import com.bank.profile.dto.AccountDetailsIdDto;
 import com.bank.profile.entity.AccountDetailsIdEntity;
@@ -7,7 +9,6 @@ import com.bank.profile.mapper.AccountDetailsIdMapperImpl;
 import com.bank.profile.repository.AccountDetailsIdRepository;
 import com.bank.profile.service.imp.AccountDetailsIdServiceImp;
 import com.bank.profile.supplier.AccountDetailsIdSupplier;
-import com.bank.profile.validator.EntityListValidator;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,7 @@ public class AccountDetailsIdServiceTest extends ParentTest {
 
     private static AccountDetailsIdEntity accountDetails;
     private static AccountDetailsIdEntity updatedAccountDetails;
+    private static AccountDetailsIdEntity secondAccountDetails;
     private static AccountDetailsIdDto updatedAccountDetailsDto;
 
     @Mock
@@ -41,11 +43,14 @@ public class AccountDetailsIdServiceTest extends ParentTest {
     @InjectMocks
     private AccountDetailsIdServiceImp service;
 
+    @Mock
+    private AuditWriter auditWriter;
+
     @Spy
     private AccountDetailsIdMapperImpl mapper;
 
     @Spy
-    private EntityListValidator validator;
+    private BulkReader bulkReader = new BulkReader(100, 100);
 
     @BeforeAll
     static void init() {
@@ -55,6 +60,8 @@ public class AccountDetailsIdServiceTest extends ParentTest {
 
         updatedAccountDetails = accountDetailsIdSupplier.getEntity(ONE, ONE, null);
 
+        secondAccountDetails = accountDetailsIdSupplier.getEntity(TWO, ONE, null);
+
         updatedAccountDetailsDto = accountDetailsIdSupplier.getDto(ONE, ONE, null);
     }
 
@@ -202,15 +209,15 @@ public class AccountDetailsIdServiceTest extends ParentTest {
                     assertNull(oneAccountDetails.getProfile());
                     assertEquals(TWO, accountDetailsIds.size());
                     assertEquals(accountDetails.getId(), zeroAccountDetails.getId());
-                    assertEquals(updatedAccountDetails.getId(), oneAccountDetails.getId());
+                    assertEquals(secondAccountDetails.getId(), oneAccountDetails.getId());
                     assertEquals(accountDetails.getAccountId(), zeroAccountDetails.getAccountId());
-                    assertEquals(updatedAccountDetails.getAccountId(), oneAccountDetails.getAccountId());
+                    assertEquals(secondAccountDetails.getAccountId(), oneAccountDetails.getAccountId());
                 }
         );
     }
 
     private List<AccountDetailsIdDto> readAllTestPrepare() {
-        doReturn(List.of(accountDetails, updatedAccountDetails)).when(repository).findAllById(any());
+        doReturn(List.of(accountDetails, secondAccountDetails)).when(repository).findAllById(any());
 
         return service.readAll(List.of(ONE, TWO));
     }
@@ -227,7 +234,7 @@ public class AccountDetailsIdServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(ids)
         );
 
-        assertEquals(exceptionMessage, exception.getMessage());
+        assertEquals(exceptionMessage + ", id = [null, 1]", exception.getMessage());
     }
 
     @Test
@@ -239,7 +246,7 @@ public class AccountDetailsIdServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(List.of(ONE, TWO))
         );
 
-        assertEquals(exceptionMessage, exception.getMessage());
+        assertEquals(exceptionMessage + ", id = [1, 2]", exception.getMessage());
     }
 
     private void saveMock() {
@@ -1,14 +1,18 @@
 package com.bank.profile.service;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import com.bank.profile.ParentTest;
+import com.bank.profile.cache.LookupCache;
 import com.bank.profile.dto.ActualRegistrationDto;
+import com.bank.profile.dto.ProfileDto;
 import com.bank.profile.entity.ActualRegistrationEntity;
 import com.bank.profile.mapper.ActualRegistrationMapperImpl;
 import com.bank.profile.repository.ActualRegistrationRepository;
 import com.bank.profile.service.imp.ActualRegistrationServiceImp;
 import com.bank.profile.supplier.ActualRegistrationSupplier;
-import com.bank.profile.validator.EntityListValidator;
 import com.bank.profile.validator.DtoValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -33,6 +38,7 @@ public class ActualRegistrationServiceTest extends ParentTest {
 
     private static ActualRegistrationEntity registration;
     private static ActualRegistrationEntity updatedRegistration;
+    private static ActualRegistrationEntity secondRegistration;
     private static ActualRegistrationDto updatedRegistrationDto;
 
     @Mock
@@ -41,12 +47,18 @@ public class ActualRegistrationServiceTest extends ParentTest {
     @InjectMocks
     private ActualRegistrationServiceImp service;
 
+    @Mock
+    private AuditWriter auditWriter;
+
     @Spy
     private ActualRegistrationMapperImpl mapper;
     @Spy
-    private EntityListValidator validator;
+    private BulkReader bulkReader = new BulkReader(100, 100);
     @Spy
     private DtoValidator<ActualRegistrationDto> dtoValidator;
+    @Spy
+    private LookupCache<ProfileDto> profileLookupCache =
+            new LookupCache<>("profile", 100, Duration.ofMinutes(1), ProfileDto::getId, new SimpleMeterRegistry());
 
     @BeforeAll
     static void init() {
@@ -56,6 +68,8 @@ public class ActualRegistrationServiceTest extends ParentTest {
 
         updatedRegistration = actualRegistrationSupplier.getEntity(ONE, WHITESPACE, NUMBER);
 
+        secondRegistration = actualRegistrationSupplier.getEntity(TWO, WHITESPACE, NUMBER);
+
         updatedRegistrationDto = actualRegistrationSupplier.getDto(ONE, WHITESPACE, NUMBER);
     }
 
@@ -231,23 +245,23 @@ public class ActualRegistrationServiceTest extends ParentTest {
                     assertEquals(registration.getHouseBlock(), zeroRegistration.getHouseBlock());
                     assertEquals(registration.getFlatNumber(), zeroRegistration.getFlatNumber());
                     assertEquals(registration.getHouseNumber(), zeroRegistration.getHouseNumber());
-                    assertEquals(updatedRegistration.getId(), firstRegistration.getId());
-                    assertEquals(updatedRegistration.getCity(), firstRegistration.getCity());
-                    assertEquals(updatedRegistration.getIndex(), firstRegistration.getIndex());
-                    assertEquals(updatedRegistration.getRegion(), firstRegistration.getRegion());
-                    assertEquals(updatedRegistration.getStreet(), firstRegistration.getStreet());
-                    assertEquals(updatedRegistration.getCountry(), firstRegistration.getCountry());
-                    assertEquals(updatedRegistration.getDistrict(), firstRegistration.getDistrict());
-                    assertEquals(updatedRegistration.getLocality(), firstRegistration.getLocality());
-                    assertEquals(updatedRegistration.getHouseBlock(), firstRegistration.getHouseBlock());
-                    assertEquals(updatedRegistration.getFlatNumber(), firstRegistration.getFlatNumber());
-                    assertEquals(updatedRegistration.getHouseNumber(), firstRegistration.getHouseNumber());
+                    assertEquals(secondRegistration.getId(), firstRegistration.getId());
+                    assertEquals(secondRegistration.getCity(), firstRegistration.getCity());
+                    assertEquals(secondRegistration.getIndex(), firstRegistration.getIndex());
+                    assertEquals(secondRegistration.getRegion(), firstRegistration.getRegion());
+                    assertEquals(secondRegistration.getStreet(), firstRegistration.getStreet());
+                    assertEquals(secondRegistration.getCountry(), firstRegistration.getCountry());
+                    assertEquals(secondRegistration.getDistrict(), firstRegistration.getDistrict());
+                    assertEquals(secondRegistration.getLocality(), firstRegistration.getLocality());
+                    assertEquals(secondRegistration.getHouseBlock(), firstRegistration.getHouseBlock());
+                    assertEquals(secondRegistration.getFlatNumber(), firstRegistration.getFlatNumber());
+                    assertEquals(secondRegistration.getHouseNumber(), firstRegistration.getHouseNumber());
                 }
         );
     }
 
     private List<ActualRegistrationDto> readAllTestPrepare() {
-        doReturn(List.of(registration, updatedRegistration))
+        doReturn(List.of(registration, secondRegistration))
                 .when(repository)
                 .findAllById(any());
 
@@ -266,7 +280,7 @@ public class ActualRegistrationServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(ids)
         );
 
-        assertEquals(exceptionMessage, exception.getMessage());
+        assertEquals(exceptionMessage + ", id = [null, 1]", exception.getMessage());
     }
 
 
@@ -279,7 +293,7 @@ public class ActualRegistrationServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(List.of(ONE, TWO))
         );
 
-        assertEquals(exceptionMessage, exception.getMessage());
+        assertEquals(exceptionMessage + ", id = [1, 2]", exception.getMessage());
     }
 
     private void saveMock() {
@@ -1,14 +1,17 @@
 package com.bank.profile.service;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import com.bank.profile.ParentTest;
+import com.bank.profile.cache.LookupCache;
 import com.bank.profile.dto.PassportDto;
 import com.bank.profile.entity.PassportEntity;
 import com.bank.profile.mapper.PassportMapperImpl;
 import com.bank.profile.repository.PassportRepository;
 import com.bank.profile.service.imp.PassportServiceImp;
 import com.bank.profile.supplier.PassportSupplier;
-import com.bank.profile.validator.EntityListValidator;
 import com.bank.profile.validator.DtoValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -34,6 +38,7 @@ public class PassportServiceTest extends ParentTest {
 
     private static PassportEntity passport;
     private static PassportEntity updatedPassport;
+    private static PassportEntity secondPassport;
     private static PassportDto updatedPassportDto;
 
     @Mock
@@ -42,12 +47,18 @@ public class PassportServiceTest extends ParentTest {
     @InjectMocks
     private PassportServiceImp service;
 
+    @Mock
+    private AuditWriter auditWriter;
+
     @Spy
     private PassportMapperImpl mapper;
     @Spy
-    private EntityListValidator validator;
+    private BulkReader bulkReader = new BulkReader(100, 100);
     @Spy
     private DtoValidator<PassportDto> dtoValidator;
+    @Spy
+    private LookupCache<PassportDto> cache =
+            new LookupCache<>("passport", 100, Duration.ofMinutes(1), PassportDto::getId, new SimpleMeterRegistry());
 
     @BeforeAll
     static void init() {
@@ -57,6 +68,8 @@ public class PassportServiceTest extends ParentTest {
 
         updatedPassport = passportSupplier.getEntity(ONE, WHITESPACE, WHITESPACE, LOCAL_DATE, null);
 
+        secondPassport = passportSupplier.getEntity(TWO, WHITESPACE, WHITESPACE, LOCAL_DATE, null);
+
         updatedPassportDto = passportSupplier.getDto(ONE, WHITESPACE, WHITESPACE, LOCAL_DATE, null);
     }
 
@@ -245,27 +258,55 @@ public class PassportServiceTest extends ParentTest {
                     assertEquals(passport.getDivisionCode(), zeroPassport.getDivisionCode());
                     assertEquals(passport.getExpirationDate(), zeroPassport.getExpirationDate());
                     assertNull(firstPassport.getRegistration());
-                    assertEquals(updatedPassport.getId(), firstPassport.getId());
-                    assertEquals(updatedPassport.getSeries(), firstPassport.getSeries());
-                    assertEquals(updatedPassport.getNumber(), firstPassport.getNumber());
-                    assertEquals(updatedPassport.getGender(), firstPassport.getGender());
-                    assertEquals(updatedPassport.getLastName(), firstPassport.getLastName());
-                    assertEquals(updatedPassport.getIssuedBy(), firstPassport.getIssuedBy());
-                    assertEquals(updatedPassport.getFirstName(), firstPassport.getFirstName());
-                    assertEquals(updatedPassport.getBirthDate(), firstPassport.getBirthDate());
-                    assertEquals(updatedPassport.getMiddleName(), firstPassport.getMiddleName());
-                    assertEquals(updatedPassport.getBirthPlace(), firstPassport.getBirthPlace());
-                    assertEquals(updatedPassport.getDateOfIssue(), firstPassport.getDateOfIssue());
-                    assertEquals(updatedPassport.getDivisionCode(), firstPassport.getDivisionCode());
-                    assertEquals(updatedPassport.getExpirationDate(), firstPassport.getExpirationDate());
+                    assertEquals(secondPassport.getId(), firstPassport.getId());
+                    assertEquals(secondPassport.getSeries(), firstPassport.getSeries());
+                    assertEquals(secondPassport.getNumber(), firstPassport.getNumber());
+                    assertEquals(secondPassport.getGender(), firstPassport.getGender());
+                    assertEquals(secondPassport.getLastName(), firstPassport.getLastName());
+                    assertEquals(secondPassport.getIssuedBy(), firstPassport.getIssuedBy());
+                    assertEquals(secondPassport.getFirstName(), firstPassport.getFirstName());
+                    assertEquals(secondPassport.getBirthDate(), firstPassport.getBirthDate());
+                    assertEquals(secondPassport.getMiddleName(), firstPassport.getMiddleName());
+                    assertEquals(secondPassport.getBirthPlace(), firstPassport.getBirthPlace());
+                    assertEquals(secondPassport.getDateOfIssue(), firstPassport.getDateOfIssue());
+                    assertEquals(secondPassport.getDivisionCode(), firstPassport.getDivisionCode());
+                    assertEquals(secondPassport.getExpirationDate(), firstPassport.getExpirationDate());
                 }
         );
     }
 
+    @Test
+    @DisplayName("поиск по серии и номеру, позитивный сценарий")
+    void readBySeriesAndNumberPositiveTest() {
+        doReturn(Optional.of(passport)).when(repository).findWithRegistrationBySeriesAndNumber(INT_ONE, NUMBER);
+
+        final PassportDto result = service.readBySeriesAndNumber(INT_ONE, NUMBER);
+
+        assertAll(
+                () -> {
+                    assertEquals(passport.getId(), result.getId());
+                    assertEquals(passport.getSeries(), result.getSeries());
+                    assertEquals(passport.getNumber(), result.getNumber());
+                }
+        );
+    }
+
+    @Test
+    @DisplayName("поиск по несуществующим серии и номеру, негативный сценарий")
+    void readBySeriesAndNumberNegativeTest() {
+        doReturn(Optional.empty()).when(repository).findWithRegistrationBySeriesAndNumber(INT_ONE, NUMBER);
+
+        final var exception = assertThrows(
+                EntityNotFoundException.class, () -> service.readBySeriesAndNumber(INT_ONE, NUMBER)
+        );
+
+        assertEquals("passport с такими серией и номером не найден!", exception.getMessage());
+    }
+
     private List<PassportDto> readAllTestPrepare() {
-        doReturn(List.of(passport, updatedPassport))
+        doReturn(List.of(passport, secondPassport))
                 .when(repository)
-                .findAllById(any());
+                .findAllWithRegistrationByIdIn(any());
 
         return service.readAll(List.of(ONE, TWO));
     }
@@ -274,7 +315,7 @@ public class PassportServiceTest extends ParentTest {
     @DisplayName("чтение по списку id, id равен null, негативный сценарий")
     void readAllIdNullNegativeTest() {
         final String exceptionMessage = "Ошибка в переданных параметрах, passport не существуют(ет)";
-        doReturn(List.of(new PassportEntity())).when(repository).findAllById(any());
+        doReturn(List.of(new PassportEntity())).when(repository).findAllWithRegistrationByIdIn(any());
 
         final List<Long> ids = new ArrayList<>(Arrays.asList(null, ONE));
 
@@ -282,7 +323,7 @@ public class PassportServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(ids)
         );
 
-        assertEquals(exceptionMessage, exception.getMessage());
+        assertEquals(exceptionMessage + ", id = [null, 1]", exception.getMessage());
     }
 
     @Test
@@ -294,7 +335,7 @@ public class PassportServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(List.of(ONE, TWO))
         );
 
-        assertEquals(exceptionMessage, exception.getMessage());
+        assertEquals(exceptionMessage + ", id = [1, 2]", exception.getMessage());
     }
 
     private void saveMock() {
@@ -0,0 +1,117 @@
+package com.bank.profile.service;
+
+import com.bank.profile.ParentTest;
+import com.bank.profile.dto.ImportErrorDto;
+import com.bank.profile.dto.ImportReportDto;
+import com.bank.profile.dto.ProfileDto;
+import com.bank.profile.importer.ImportBatchResult;
+import com.bank.profile.importer.ImportCheckpoint;
+import com.bank.profile.importer.ImportFormat;
+import com.bank.profile.importer.ImportRow;
+import com.bank.profile.importer.ProfileImportWriter;
+import com.bank.profile.service.imp.ProfileImportServiceImp;
+import com.bank.profile.supplier.ActualRegistrationSupplier;
+import com.bank.profile.supplier.PassportSupplier;
+import com.bank.profile.supplier.ProfileSupplier;
+import com.bank.profile.supplier.RegistrationSupplier;
+import com.bank.profile.validator.DtoValidator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ProfileImportServiceTest extends ParentTest {
+
+    private static final String IMPORT_ID = "import-1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private ProfileImportWriter writer;
+
+    private ProfileImportService service;
+
+    @BeforeEach
+    void init() {
+        service = new ProfileImportServiceImp(writer, objectMapper, new DtoValidator<>(), new DtoValidator<>(),
+                new DtoValidator<>(), new DtoValidator<>(), 2, 10);
+        doAnswer(invocation -> {
+            final ImportCheckpoint previous = invocation.getArgument(0);
+            final long lastLine = invocation.getArgument(1);
+            final List<ImportRow> valid = invocation.getArgument(2);
+            final List<ImportErrorDto> rejected = invocation.getArgument(3);
+            return new ImportBatchResult(new ImportCheckpoint(IMPORT_ID, lastLine,
+                    previous.imported() + valid.size(), previous.failed() + rejected.size()), rejected);
+        }).when(writer).write(any(), anyLong(), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("импорт пачками, некорректные строки попадают в отчёт")
+    void importProfilesTest() throws JsonProcessingException {
+        doReturn(ImportCheckpoint.start(IMPORT_ID)).when(writer).checkpoint(IMPORT_ID);
+
+        final ImportReportDto report = service.importProfiles(file(row(PHONE_NUMBER, true),
+                row(ONE, true), row(PHONE_NUMBER, false), "{"), ImportFormat.NDJSON, IMPORT_ID);
+
+        assertAll(() -> {
+            assertEquals(0L, report.getResumedFromLine());
+            assertEquals(4L, report.getLastLine());
+            assertEquals(1L, report.getImported());
+            assertEquals(3L, report.getFailed());
+            assertEquals(2L, report.getErrors().get(0).getLine());
+            assertTrue(report.getErrors().get(0).getMessage().startsWith("phoneNumber: "));
+            assertEquals("passport: обязателен", report.getErrors().get(1).getMessage());
+            assertTrue(report.getErrors().get(2).getMessage().startsWith("Строка не разобрана"));
+            verify(writer, times(2)).write(any(), anyLong(), anyList(), anyList());
+        });
+    }
+
+    @Test
+    @DisplayName("повторный запуск продолжает с контрольной точки")
+    void importProfilesResumeTest() throws JsonProcessingException {
+        final ImportCheckpoint checkpoint = new ImportCheckpoint(IMPORT_ID, 2, 2, 0);
+        doReturn(checkpoint).when(writer).checkpoint(IMPORT_ID);
+
+        final ImportReportDto report = service.importProfiles(file(row(PHONE_NUMBER, true),
+                row(PHONE_NUMBER, true), row(PHONE_NUMBER, true)), ImportFormat.NDJSON, IMPORT_ID);
+
+        assertAll(() -> {
+            assertEquals(2L, report.getResumedFromLine());
+            assertEquals(3L, report.getImported());
+            assertTrue(report.getErrors().isEmpty());
+            verify(writer).write(eq(checkpoint), eq(3L), anyList(), anyList());
+        });
+    }
+
+    private String row(Long phoneNumber, boolean withPassport) throws JsonProcessingException {
+        final ProfileDto profile = new ProfileSupplier().getDto(null, phoneNumber, EMAIL, WHITESPACE);
+        if (withPassport) {
+            profile.setPassport(new PassportSupplier().getDto(null, WHITESPACE, WHITESPACE, LOCAL_DATE,
+                    new RegistrationSupplier().getDto(null, WHITESPACE, NUMBER)));
+            profile.setActualRegistration(new ActualRegistrationSupplier().getDto(null, WHITESPACE, NUMBER));
+        }
+        return objectMapper.writeValueAsString(profile);
+    }
+
+    private static ByteArrayInputStream file(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
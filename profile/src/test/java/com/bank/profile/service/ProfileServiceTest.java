@@ -1,14 +1,17 @@
 package com.bank.profile.service;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import com.bank.profile.ParentTest;
+import com.bank.profile.cache.LookupCache;
 import com.bank.profile.dto.ProfileDto;
 import com.bank.profile.entity.ProfileEntity;
 import com.bank.profile.mapper.ProfileMapperImpl;
 import com.bank.profile.repository.ProfileRepository;
 import com.bank.profile.service.imp.ProfileServiceImp;
 import com.bank.profile.supplier.ProfileSupplier;
-import com.bank.profile.validator.EntityListValidator;
 import com.bank.profile.validator.DtoValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -29,11 +33,14 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class ProfileServiceTest extends ParentTest {
 
     private static ProfileEntity profile;
     private static ProfileEntity updatedProfile;
+    private static ProfileEntity secondProfile;
     private static ProfileDto updatedProfileDto;
 
     @Mock
@@ -42,12 +49,18 @@ public class ProfileServiceTest extends ParentTest {
     @InjectMocks
     private ProfileServiceImp service;
 
+    @Mock
+    private AuditWriter auditWriter;
+
     @Spy
     private ProfileMapperImpl mapper;
     @Spy
-    private EntityListValidator validator;
+    private BulkReader bulkReader = new BulkReader(100, 100);
     @Spy
     private DtoValidator<ProfileDto> dtoValidator;
+    @Spy
+    private LookupCache<ProfileDto> cache =
+            new LookupCache<>("profile", 100, Duration.ofMinutes(1), ProfileDto::getId, new SimpleMeterRegistry());
 
     @BeforeAll
     static void init() {
@@ -57,6 +70,8 @@ public class ProfileServiceTest extends ParentTest {
 
         updatedProfile = profileSupplier.getEntity(ONE, PHONE_NUMBER, EMAIL, WHITESPACE);
 
+        secondProfile = profileSupplier.getEntity(TWO, PHONE_NUMBER, EMAIL, WHITESPACE);
+
         updatedProfileDto = profileSupplier.getDto(ONE, PHONE_NUMBER, EMAIL, WHITESPACE);
     }
 
@@ -128,6 +143,94 @@ public class ProfileServiceTest extends ParentTest {
         assertEquals(exceptionMessage, exception.getMessage());
     }
 
+    @Test
+    @DisplayName("чтение профиля с паспортом и регистрациями, позитивный сценарий")
+    void readAggregatePositiveTest() {
+        doReturn(Optional.of(profile)).when(repository).findAggregateById(ONE);
+
+        final ProfileDto result = service.readAggregate(ONE);
+
+        assertAll(
+                () -> {
+                    assertEquals(profile.getId(), result.getId());
+                    assertEquals(profile.getInn(), result.getInn());
+                    assertEquals(profile.getEmail(), result.getEmail());
+                }
+        );
+    }
+
+    @Test
+    @DisplayName("чтение профиля с паспортом и регистрациями, негативный сценарий")
+    void readAggregateNegativeTest() {
+        doReturn(Optional.empty()).when(repository).findAggregateById(ONE);
+
+        final var exception = assertThrows(
+                EntityNotFoundException.class, () -> service.readAggregate(ONE)
+        );
+
+        assertEquals("profile с данным id не найден!", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("поиск по телефону кэшируется до обновления профиля")
+    void readByPhoneNumberCacheTest() {
+        doReturn(Optional.of(profile)).when(repository).findAggregateByPhoneNumber(PHONE_NUMBER);
+        findByIdMock();
+        saveMock();
+
+        final ProfileDto first = service.readByPhoneNumber(PHONE_NUMBER);
+        final ProfileDto cached = service.readByPhoneNumber(PHONE_NUMBER);
+        service.update(ONE, updatedProfileDto);
+        service.readByPhoneNumber(PHONE_NUMBER);
+
+        assertAll(
+                () -> {
+                    assertEquals(profile.getId(), first.getId());
+                    assertEquals(first, cached);
+                    verify(repository, times(2)).findAggregateByPhoneNumber(PHONE_NUMBER);
+                }
+        );
+    }
+
+    @Test
+    @DisplayName("поиск по е-мейлу без учёта регистра, позитивный сценарий")
+    void readByEmailPositiveTest() {
+        doReturn(Optional.of(profile)).when(repository).findAggregateByEmail(EMAIL);
+
+        final ProfileDto result = service.readByEmail(EMAIL.toUpperCase());
+
+        assertEquals(profile.getEmail(), result.getEmail());
+    }
+
+    @Test
+    @DisplayName("поиск по ИНН и СНИЛС, позитивный сценарий")
+    void readByInnAndSnilsPositiveTest() {
+        doReturn(Optional.of(profile)).when(repository).findAggregateByInn(INN);
+        doReturn(Optional.of(profile)).when(repository).findAggregateBySnils(SNILS);
+
+        final ProfileDto byInn = service.readByInn(INN);
+        final ProfileDto bySnils = service.readBySnils(SNILS);
+
+        assertAll(
+                () -> {
+                    assertEquals(profile.getId(), byInn.getId());
+                    assertEquals(profile.getId(), bySnils.getId());
+                }
+        );
+    }
+
+    @Test
+    @DisplayName("поиск по несуществующему ИНН, негативный сценарий")
+    void readByInnNegativeTest() {
+        doReturn(Optional.empty()).when(repository).findAggregateByInn(INN);
+
+        final var exception = assertThrows(
+                EntityNotFoundException.class, () -> service.readByInn(INN)
+        );
+
+        assertEquals("profile с такими данными не найден!", exception.getMessage());
+    }
+
     @Test
     @DisplayName("чтение по несуществующему id, негативный сценарий")
     void readNotExistIdNegativeTest() {
@@ -222,20 +325,20 @@ public class ProfileServiceTest extends ParentTest {
                     assertEquals(profile.getSnils(), zeroProfile.getSnils());
                     assertEquals(profile.getNameOnCard(), zeroProfile.getNameOnCard());
                     assertEquals(profile.getPhoneNumber(), zeroProfile.getPhoneNumber());
-                    assertEquals(updatedProfile.getId(), firstProfile.getId());
-                    assertEquals(updatedProfile.getInn(), firstProfile.getInn());
-                    assertEquals(updatedProfile.getEmail(), firstProfile.getEmail());
-                    assertEquals(updatedProfile.getSnils(), firstProfile.getSnils());
-                    assertEquals(updatedProfile.getNameOnCard(), firstProfile.getNameOnCard());
-                    assertEquals(updatedProfile.getPhoneNumber(), firstProfile.getPhoneNumber());
+                    assertEquals(secondProfile.getId(), firstProfile.getId());
+                    assertEquals(secondProfile.getInn(), firstProfile.getInn());
+                    assertEquals(secondProfile.getEmail(), firstProfile.getEmail());
+                    assertEquals(secondProfile.getSnils(), firstProfile.getSnils());
+                    assertEquals(secondProfile.getNameOnCard(), firstProfile.getNameOnCard());
+                    assertEquals(secondProfile.getPhoneNumber(), firstProfile.getPhoneNumber());
                 }
         );
     }
 
     private List<ProfileDto> readAllTestPrepare() {
-        doReturn(List.of(profile, updatedProfile))
+        doReturn(List.of(profile, secondProfile))
                 .when(repository)
-                .findAllById(any());
+                .findAllAggregateByIdIn(any());
 
         return service.readAll(List.of(ONE, TWO));
     }
@@ -244,14 +347,14 @@ public class ProfileServiceTest extends ParentTest {
     @DisplayName("чтение по списку id, id равен null, негативный сценарий")
     void readAllIdNullNegativeTest() {
         final String exceptionMessage = "Ошибка в переданных параметрах, profile не существуют(ет)";
-        doReturn(List.of(new ProfileEntity())).when(repository).findAllById(any());
+        doReturn(List.of(new ProfileEntity())).when(repository).findAllAggregateByIdIn(any());
 
         final List<Long> ids = new ArrayList<>(Arrays.asList(null, ONE));
 
         final var exception = assertThrows(
                 EntityNotFoundException.class, () -> service.readAll(ids));
 
-        assertEquals(exceptionMessage, exception.getMessage());
+        assertEquals(exceptionMessage + ", id = [null, 1]", exception.getMessage());
     }
 
     @Test
@@ -263,7 +366,7 @@ public class ProfileServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(List.of(ONE, TWO))
         );
 
-        assertEquals(exceptionMessage, exception.getMessage());
+        assertEquals(exceptionMessage + ", id = [1, 2]", exception.getMessage());
     }
 
     private void saveMock() {
@@ -0,0 +1,127 @@
+package com.bank.publicinfo.cache;
+
+import com.bank.common.cache.LruTtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Read-through кэш справочных дто по id поверх {@link LruTtlCache}.
+ * Запись удаляется при сохранении или обновлении, вместе с ней очищаются зависимые кэши,
+ * в дто которых она вложена. Закэшированные дто общие для всех запросов и не должны изменяться.
+ */
+public class ReferenceCache<V> {
+
+    private final LruTtlCache<Long, V> entries;
+    private final Function<V, Long> idGetter;
+    private final List<ReferenceCache<?>> dependents = new ArrayList<>();
+
+    public ReferenceCache(String name, int maxSize, Duration ttl, Function<V, Long> idGetter,
+                          MeterRegistry registry) {
+        this(name, maxSize, ttl, idGetter, registry, Clock.systemUTC());
+    }
+
+    ReferenceCache(String name, int maxSize, Duration ttl, Function<V, Long> idGetter,
+                   MeterRegistry registry, Clock clock) {
+        this.entries = new LruTtlCache<>("reference.cache", name, maxSize, ttl, registry, clock);
+        this.idGetter = idGetter;
+    }
+
+    /**
+     * @param cache кэш, дто которого содержат дто этого кэша и очищаются при его изменении
+     */
+    public void addDependent(ReferenceCache<?> cache) {
+        dependents.add(cache);
+    }
+
+    /**
+     * @param id технический идентификатор
+     * @param loader чтение из базы при промахе, исключение пробрасывается как есть
+     * @return дто из кэша или прочитанное loader
+     */
+    public V get(Long id, Function<Long, V> loader) {
+        final long loadGeneration = entries.generation();
+        final V cached = entries.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        final V loaded = loader.apply(id);
+        entries.put(id, loaded, loadGeneration);
+        return loaded;
+    }
+
+    /**
+     * @param ids список технических идентификаторов, может содержать повторы и null
+     * @param loader чтение из базы id, которых нет в кэше, в их порядке
+     * @return дто в порядке ids
+     */
+    public List<V> getAll(List<Long> ids, Function<List<Long>, List<V>> loader) {
+        final Map<Long, V> found = new HashMap<>(ids.size() * 2);
+        final List<Long> missing = new ArrayList<>();
+        final long loadGeneration = entries.generation();
+        for (Long id : ids) {
+            final V cached = id == null ? null : entries.get(id);
+            if (cached == null) {
+                missing.add(id);
+            } else {
+                found.put(id, cached);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (V item : loader.apply(missing)) {
+                final Long id = idGetter.apply(item);
+                found.put(id, item);
+                entries.put(id, item, loadGeneration);
+            }
+        }
+        final List<V> result = new ArrayList<>(ids.size());
+        ids.forEach(id -> result.add(found.get(id)));
+        return result;
+    }
+
+    /**
+     * Удаляет запись при сохранении или обновлении и очищает зависимые кэши.
+     * В транзакции удаление повторяется после её завершения, чтобы не осталось значение,
+     * прочитанное другим запросом до коммита.
+     *
+     * @param id технический идентификатор
+     */
+    public void evict(Long id) {
+        evictNow(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * Удаляет все записи
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return количество записей
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictNow(Long id) {
+        entries.remove(id);
+        dependents.forEach(ReferenceCache::clear);
+    }
+}
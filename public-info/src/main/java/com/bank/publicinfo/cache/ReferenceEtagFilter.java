@@ -0,0 +1,35 @@
+package com.bank.publicinfo.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.InputStream;
+
+/**
+ * Строгий ETag по телу ответа и Cache-Control для успешных GET справочных данных.
+ * При совпадении If-None-Match клиент получает 304 без тела.
+ */
+public class ReferenceEtagFilter extends ShallowEtagHeaderFilter {
+
+    private final String cacheControl;
+
+    /**
+     * @param cacheControl значение заголовка Cache-Control
+     */
+    public ReferenceEtagFilter(String cacheControl) {
+        this.cacheControl = cacheControl;
+        setWriteWeakETag(false);
+    }
+
+    @Override
+    protected boolean isEligibleForEtag(HttpServletRequest request, HttpServletResponse response,
+                                        int responseStatusCode, InputStream inputStream) {
+        final boolean eligible = super.isEligibleForEtag(request, response, responseStatusCode, inputStream);
+        if (eligible) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        return eligible;
+    }
+}
@@ -0,0 +1,79 @@
+package com.bank.publicinfo.config;
+
+import com.bank.publicinfo.cache.ReferenceCache;
+import com.bank.publicinfo.cache.ReferenceEtagFilter;
+import com.bank.publicinfo.dto.AtmDto;
+import com.bank.publicinfo.dto.BankDetailsDto;
+import com.bank.publicinfo.dto.BranchDto;
+import com.bank.publicinfo.dto.CertificateDto;
+import com.bank.publicinfo.dto.LicenseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+
+/**
+ * Кэши справочных данных и HTTP-кэширование их GET-ответов.
+ * Банкомат содержит отделение, лицензия и сертификат - реквизиты банка,
+ * поэтому изменение отделения или реквизитов очищает зависимые кэши.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Value("${public-info.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${public-info.cache.ttl:5m}")
+    private Duration ttl;
+
+    @Value("${public-info.http-cache.max-age:60s}")
+    private Duration maxAge;
+
+    @Bean
+    public ReferenceCache<AtmDto> atmCache(MeterRegistry registry) {
+        return new ReferenceCache<>("atm", maxSize, ttl, AtmDto::getId, registry);
+    }
+
+    @Bean
+    public ReferenceCache<LicenseDto> licenseCache(MeterRegistry registry) {
+        return new ReferenceCache<>("license", maxSize, ttl, LicenseDto::getId, registry);
+    }
+
+    @Bean
+    public ReferenceCache<CertificateDto> certificateCache(MeterRegistry registry) {
+        return new ReferenceCache<>("certificate", maxSize, ttl, CertificateDto::getId, registry);
+    }
+
+    @Bean
+    public ReferenceCache<BranchDto> branchCache(MeterRegistry registry, ReferenceCache<AtmDto> atmCache) {
+        final ReferenceCache<BranchDto> cache = new ReferenceCache<>("branch", maxSize, ttl, BranchDto::getId,
+                registry);
+        cache.addDependent(atmCache);
+        return cache;
+    }
+
+    @Bean
+    public ReferenceCache<BankDetailsDto> bankDetailsCache(MeterRegistry registry,
+                                                           ReferenceCache<LicenseDto> licenseCache,
+                                                           ReferenceCache<CertificateDto> certificateCache) {
+        final ReferenceCache<BankDetailsDto> cache = new ReferenceCache<>("bank-details", maxSize, ttl,
+                BankDetailsDto::getId, registry);
+        cache.addDependent(licenseCache);
+        cache.addDependent(certificateCache);
+        return cache;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReferenceEtagFilter> referenceEtagFilter() {
+        final String cacheControl = CacheControl.maxAge(maxAge).cachePublic().mustRevalidate().getHeaderValue();
+        final FilterRegistrationBean<ReferenceEtagFilter> registration =
+                new FilterRegistrationBean<>(new ReferenceEtagFilter(cacheControl));
+        registration.addUrlPatterns("/atm", "/atm/*", "/branch", "/branch/*", "/bank-details", "/bank-details/*",
+                "/license", "/license/*", "/certificate", "/certificate/*");
+        return registration;
+    }
+}
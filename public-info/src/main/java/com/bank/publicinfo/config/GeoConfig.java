@@ -0,0 +1,37 @@
+package com.bank.publicinfo.config;
+
+import com.bank.publicinfo.dto.AtmDto;
+import com.bank.publicinfo.dto.BranchDto;
+import com.bank.publicinfo.geo.GeoIndex;
+import com.bank.publicinfo.geo.GeoPoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Индексы поиска ближайших банкоматов и отделений
+ */
+@Configuration
+public class GeoConfig {
+
+    @Value("${public-info.geo.cell-degrees:0.05}")
+    private double cellDegrees;
+
+    @Value("${public-info.geo.max-rings:16}")
+    private int maxRings;
+
+    @Value("${public-info.geo.max-limit:100}")
+    private int maxLimit;
+
+    @Bean
+    public GeoIndex<AtmDto> atmGeoIndex() {
+        return new GeoIndex<>(cellDegrees, maxRings, maxLimit, atm -> new GeoPoint(atm.getId(), atm.getLatitude(),
+                atm.getLongitude(), atm.getStartOfWork(), atm.getEndOfWork(), Boolean.TRUE.equals(atm.getAllHours())));
+    }
+
+    @Bean
+    public GeoIndex<BranchDto> branchGeoIndex() {
+        return new GeoIndex<>(cellDegrees, maxRings, maxLimit, branch -> new GeoPoint(branch.getId(),
+                branch.getLatitude(), branch.getLongitude(), branch.getStartOfWork(), branch.getEndOfWork(), false));
+    }
+}
@@ -1,9 +1,11 @@
 package com.bank.publicinfo.controller;
 
 import com.bank.publicinfo.dto.AtmDto;
+import com.bank.publicinfo.dto.NearestDto;
 import com.bank.publicinfo.entity.AtmEntity;
 import com.bank.publicinfo.service.AtmService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalTime;
 import java.util.List;
 
 /**
@@ -45,6 +48,20 @@ public class AtmController {
         return new ResponseEntity<>(service.readAll(ids), HttpStatus.OK);
     }
 
+    /**
+     * @param lat    широта
+     * @param lon    долгота
+     * @param limit  количество объектов
+     * @param openAt время, в которое банкомат должен работать
+     * @return {@link ResponseEntity} c ближайшими {@link AtmDto} и HttpStatus OK
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<List<NearestDto<AtmDto>>> nearest(
+            @RequestParam Double lat, @RequestParam Double lon, @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime openAt) {
+        return new ResponseEntity<>(service.nearest(lat, lon, limit, openAt), HttpStatus.OK);
+    }
+
     /**
      * @param atm {@link AtmDto}
      * @return {@link ResponseEntity} c {@link AtmDto} и HttpStatus OK
@@ -1,9 +1,11 @@
 package com.bank.publicinfo.controller;
 
 import com.bank.publicinfo.dto.BranchDto;
+import com.bank.publicinfo.dto.NearestDto;
 import com.bank.publicinfo.entity.BranchEntity;
 import com.bank.publicinfo.service.BranchService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalTime;
 import java.util.List;
 
 /**
@@ -44,6 +47,20 @@ public class BranchController {
         return ResponseEntity.ok(service.readAll(ids));
     }
 
+    /**
+     * @param lat    широта
+     * @param lon    долгота
+     * @param limit  количество объектов
+     * @param openAt время, в которое отделение должно работать
+     * @return {@link ResponseEntity} c ближайшими {@link BranchDto} и HttpStatus OK
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<List<NearestDto<BranchDto>>> nearest(
+            @RequestParam Double lat, @RequestParam Double lon, @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime openAt) {
+        return ResponseEntity.ok(service.nearest(lat, lon, limit, openAt));
+    }
+
     /**
      * @param branch {@link BranchDto}
      * @return {@link ResponseEntity} c {@link BranchDto} и HttpStatus OK
@@ -20,5 +20,7 @@ public class AtmDto {
     LocalTime startOfWork;
     LocalTime endOfWork;
     Boolean allHours;
+    Double latitude;
+    Double longitude;
     BranchDto branch;
 }
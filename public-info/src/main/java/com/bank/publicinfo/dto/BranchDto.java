@@ -21,4 +21,6 @@ public class BranchDto {
     String city;
     LocalTime startOfWork;
     LocalTime endOfWork;
+    Double latitude;
+    Double longitude;
 }
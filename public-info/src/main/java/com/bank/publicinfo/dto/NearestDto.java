@@ -0,0 +1,21 @@
+package com.bank.publicinfo.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * ДТО найденного рядом объекта и расстояния до него в километрах
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class NearestDto<T> {
+    T item;
+    Double distanceKm;
+}
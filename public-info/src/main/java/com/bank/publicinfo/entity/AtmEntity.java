@@ -46,6 +46,12 @@ public class AtmEntity {
     @Column(name = "all_hours")
     Boolean allHours;
 
+    @Column(name = "latitude")
+    Double latitude;
+
+    @Column(name = "longitude")
+    Double longitude;
+
     @NotNull
     @ManyToOne
     @JoinColumn(name = "branch_id")
@@ -64,11 +70,14 @@ public class AtmEntity {
                 Objects.equals(getStartOfWork(), atm.getStartOfWork()) &&
                 Objects.equals(getEndOfWork(), atm.getEndOfWork()) &&
                 Objects.equals(getAllHours(), atm.getAllHours()) &&
+                Objects.equals(getLatitude(), atm.getLatitude()) &&
+                Objects.equals(getLongitude(), atm.getLongitude()) &&
                 Objects.equals(getBranch(), atm.getBranch());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getId(), getAddress(), getStartOfWork(), getEndOfWork(), getAllHours(), getBranch());
+        return Objects.hash(getId(), getAddress(), getStartOfWork(), getEndOfWork(), getAllHours(), getLatitude(),
+                getLongitude(), getBranch());
     }
 }
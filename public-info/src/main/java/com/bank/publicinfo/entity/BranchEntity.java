@@ -45,6 +45,12 @@ public class BranchEntity {
     @Column(name = "end_of_work")
     LocalTime endOfWork;
 
+    @Column(name = "latitude")
+    Double latitude;
+
+    @Column(name = "longitude")
+    Double longitude;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -58,11 +64,14 @@ public class BranchEntity {
                 Objects.equals(getPhoneNumber(), branch.getPhoneNumber()) &&
                 Objects.equals(getCity(), branch.getCity()) &&
                 Objects.equals(getStartOfWork(), branch.getStartOfWork()) &&
-                Objects.equals(getEndOfWork(), branch.getEndOfWork());
+                Objects.equals(getEndOfWork(), branch.getEndOfWork()) &&
+                Objects.equals(getLatitude(), branch.getLatitude()) &&
+                Objects.equals(getLongitude(), branch.getLongitude());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getId(), getAddress(), getPhoneNumber(), getCity(), getStartOfWork(), getEndOfWork());
+        return Objects.hash(getId(), getAddress(), getPhoneNumber(), getCity(), getStartOfWork(), getEndOfWork(),
+                getLatitude(), getLongitude());
     }
 }
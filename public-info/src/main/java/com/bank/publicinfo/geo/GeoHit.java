@@ -0,0 +1,10 @@
+package com.bank.publicinfo.geo;
+
+/**
+ * Найденный объект и расстояние до него
+ *
+ * @param id технический идентификатор
+ * @param distanceKm расстояние по поверхности Земли в километрах
+ */
+public record GeoHit(Long id, double distanceKm) {
+}
@@ -0,0 +1,285 @@
+package com.bank.publicinfo.geo;
+
+import com.bank.common.exception.ValidationException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Поиск ближайших объектов по сетке из ячеек cellDegrees x cellDegrees градусов.
+ * Поиск обходит кольца ячеек вокруг точки запроса, пока k-й найденный объект не окажется ближе
+ * гарантированно просмотренного радиуса. Если за maxRings колец найти не удалось, например
+ * из-за фильтра по часам работы, просматриваются все точки.
+ * Изменения применяются к одной точке после коммита транзакции, перестраивать индекс целиком не нужно.
+ */
+public class GeoIndex<T> {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.toRadians(EARTH_RADIUS_KM);
+    private static final double RADIUS_SAFETY = 0.99;
+    private static final double MAX_LATITUDE = 90;
+    private static final double MAX_LONGITUDE = 180;
+
+    private final double cellDegrees;
+    private final int latitudeCells;
+    private final int longitudeCells;
+    private final int maxRings;
+    private final int maxLimit;
+    private final Function<T, GeoPoint> toPoint;
+    private final Map<Long, List<GeoPoint>> cells = new HashMap<>();
+    private final Map<Long, GeoPoint> points = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param cellDegrees размер ячейки в градусах
+     * @param maxRings сколько колец ячеек обходить до полного просмотра
+     * @param maxLimit максимальное количество объектов в ответе
+     * @param toPoint координаты и часы работы объекта
+     */
+    public GeoIndex(double cellDegrees, int maxRings, int maxLimit, Function<T, GeoPoint> toPoint) {
+        this.cellDegrees = cellDegrees;
+        this.latitudeCells = (int) Math.ceil(2 * MAX_LATITUDE / cellDegrees);
+        this.longitudeCells = (int) Math.ceil(2 * MAX_LONGITUDE / cellDegrees);
+        this.maxRings = Math.min(maxRings, (longitudeCells - 1) / 2);
+        this.maxLimit = maxLimit;
+        this.toPoint = toPoint;
+    }
+
+    /**
+     * Добавляет, перемещает или удаляет из индекса объект без координат.
+     * В транзакции изменение применяется после коммита.
+     *
+     * @param item сохранённый объект
+     */
+    public void put(T item) {
+        final GeoPoint point = toPoint.apply(item);
+        if (point.latitude() != null || point.longitude() != null) {
+            validate(point.latitude(), point.longitude());
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(point);
+                }
+            });
+        } else {
+            apply(point);
+        }
+    }
+
+    /**
+     * @param items объекты, прочитанные при старте
+     */
+    public void putAll(List<T> items) {
+        items.stream().map(toPoint).filter(GeoPoint::hasCoordinates).forEach(this::apply);
+    }
+
+    /**
+     * @return количество объектов с координатами
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param latitude широта точки запроса
+     * @param longitude долгота точки запроса
+     * @param limit сколько объектов вернуть
+     * @param openAt время, в которое объект должен работать, null - без фильтра
+     * @return ближайшие объекты по возрастанию расстояния
+     */
+    public List<GeoHit> nearest(Double latitude, Double longitude, int limit, LocalTime openAt) {
+        validate(latitude, longitude);
+        if (limit < 1 || limit > maxLimit) {
+            throw new ValidationException("limit должен быть от 1 до " + maxLimit);
+        }
+        final Predicate<GeoPoint> filter = openAt == null ? point -> true : point -> point.isOpenAt(openAt);
+        final Search search = new Search(latitude, longitude, limit, filter);
+        lock.readLock().lock();
+        try {
+            if (!searchRings(search)) {
+                search.clear();
+                points.values().forEach(search::offer);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return search.result();
+    }
+
+    /**
+     * @return расстояние по поверхности Земли в километрах
+     */
+    static double distanceKm(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        final double latitudeDelta = Math.toRadians(toLatitude - fromLatitude);
+        final double longitudeDelta = Math.toRadians(toLongitude - fromLongitude);
+        final double sinLatitude = Math.sin(latitudeDelta / 2);
+        final double sinLongitude = Math.sin(longitudeDelta / 2);
+        final double haversine = sinLatitude * sinLatitude + Math.cos(Math.toRadians(fromLatitude)) *
+                Math.cos(Math.toRadians(toLatitude)) * sinLongitude * sinLongitude;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(haversine)));
+    }
+
+    private void apply(GeoPoint point) {
+        lock.writeLock().lock();
+        try {
+            final GeoPoint previous = point.hasCoordinates() ? points.put(point.id(), point) :
+                    points.remove(point.id());
+            if (previous != null) {
+                final long previousCell = cell(previous.latitude(), previous.longitude());
+                final List<GeoPoint> bucket = cells.get(previousCell);
+                bucket.removeIf(candidate -> candidate.id().equals(point.id()));
+                if (bucket.isEmpty()) {
+                    cells.remove(previousCell);
+                }
+            }
+            if (point.hasCoordinates()) {
+                cells.computeIfAbsent(cell(point.latitude(), point.longitude()), key -> new ArrayList<>()).add(point);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return true, если результат окончательный
+     */
+    private boolean searchRings(Search search) {
+        final int row = row(search.latitude);
+        final int column = column(search.longitude);
+        for (int ring = 0; ring <= maxRings; ring++) {
+            for (int rowDelta = -ring; rowDelta <= ring; rowDelta++) {
+                final int currentRow = row + rowDelta;
+                if (currentRow < 0 || currentRow >= latitudeCells) {
+                    continue;
+                }
+                visitRow(search, currentRow, column, ring, Math.abs(rowDelta) == ring ? 1 : 2 * ring);
+            }
+            if (search.visited == points.size() ||
+                    (search.isFull() && search.worstDistanceKm() <= coveredRadiusKm(search.latitude, ring))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Просматривает ячейки кольца ring в строке row: крайние строки кольца целиком, остальные - только края
+     */
+    private void visitRow(Search search, int row, int column, int ring, int step) {
+        for (int columnDelta = -ring; columnDelta <= ring; columnDelta += step) {
+            final List<GeoPoint> bucket = cells.get(key(row, column + columnDelta));
+            if (bucket != null) {
+                bucket.forEach(search::offer);
+            }
+        }
+    }
+
+    /**
+     * @return радиус вокруг точки запроса, целиком покрытый просмотренными кольцами
+     */
+    private double coveredRadiusKm(double latitude, int ring) {
+        final double latitudeKm = ring * cellDegrees * KM_PER_DEGREE;
+        final double edgeLatitude = Math.min(MAX_LATITUDE, Math.abs(latitude) + (ring + 1) * cellDegrees);
+        final double longitudeKm = latitudeKm * Math.cos(Math.toRadians(edgeLatitude));
+        return Math.min(latitudeKm, longitudeKm) * RADIUS_SAFETY;
+    }
+
+    private long cell(double latitude, double longitude) {
+        return key(row(latitude), column(longitude));
+    }
+
+    private long key(int row, int column) {
+        return (long) row * longitudeCells + Math.floorMod(column, longitudeCells);
+    }
+
+    private int row(double latitude) {
+        final int row = (int) Math.floor((latitude + MAX_LATITUDE) / cellDegrees);
+        return Math.max(0, Math.min(latitudeCells - 1, row));
+    }
+
+    private int column(double longitude) {
+        return (int) Math.floor((longitude + MAX_LONGITUDE) / cellDegrees);
+    }
+
+    private static void validate(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            throw new ValidationException("Широта и долгота задаются вместе");
+        }
+        if (Math.abs(latitude) > MAX_LATITUDE || Math.abs(longitude) > MAX_LONGITUDE) {
+            throw new ValidationException("Широта должна быть от -90 до 90, долгота от -180 до 180");
+        }
+    }
+
+    /**
+     * Состояние одного поиска: k ближайших подходящих точек в куче по убыванию расстояния
+     */
+    private static final class Search {
+
+        private final double latitude;
+        private final double longitude;
+        private final int limit;
+        private final Predicate<GeoPoint> filter;
+        private final PriorityQueue<GeoHit> best;
+
+        private int visited;
+
+        private Search(double latitude, double longitude, int limit, Predicate<GeoPoint> filter) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.limit = limit;
+            this.filter = filter;
+            this.best = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(GeoHit::distanceKm).reversed());
+        }
+
+        private void offer(GeoPoint point) {
+            visited++;
+            if (!filter.test(point)) {
+                return;
+            }
+            final double distance = distanceKm(latitude, longitude, point.latitude(), point.longitude());
+            if (best.size() < limit) {
+                best.add(new GeoHit(point.id(), distance));
+            } else if (distance < best.peek().distanceKm()) {
+                best.poll();
+                best.add(new GeoHit(point.id(), distance));
+            }
+        }
+
+        private boolean isFull() {
+            return best.size() == limit;
+        }
+
+        private double worstDistanceKm() {
+            return best.peek().distanceKm();
+        }
+
+        private void clear() {
+            best.clear();
+            visited = 0;
+        }
+
+        private List<GeoHit> result() {
+            final List<GeoHit> result = new ArrayList<>(best);
+            result.sort(Comparator.comparingDouble(GeoHit::distanceKm));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.bank.publicinfo.geo;
+
+import com.bank.publicinfo.dto.AtmDto;
+import com.bank.publicinfo.dto.BranchDto;
+import com.bank.publicinfo.mapper.AtmMapper;
+import com.bank.publicinfo.mapper.BranchMapper;
+import com.bank.publicinfo.repository.AtmRepository;
+import com.bank.publicinfo.repository.BranchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Заполняет {@link GeoIndex} при старте, дальше индексы обновляются при сохранении и обновлении
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeoIndexLoader {
+
+    private final AtmRepository atmRepository;
+    private final BranchRepository branchRepository;
+    private final AtmMapper atmMapper;
+    private final BranchMapper branchMapper;
+    private final GeoIndex<AtmDto> atmGeoIndex;
+    private final GeoIndex<BranchDto> branchGeoIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        atmGeoIndex.putAll(atmMapper.toDtoList(atmRepository.findAll()));
+        branchGeoIndex.putAll(branchMapper.toDtoList(branchRepository.findAll()));
+        log.info("Гео-индексы заполнены: банкоматов {}, отделений {}", atmGeoIndex.size(), branchGeoIndex.size());
+    }
+}
@@ -0,0 +1,41 @@
+package com.bank.publicinfo.geo;
+
+import java.time.LocalTime;
+
+/**
+ * Точка индекса: координаты и часы работы объекта
+ *
+ * @param id технический идентификатор
+ * @param latitude широта в градусах, null - координаты не заданы
+ * @param longitude долгота в градусах, null - координаты не заданы
+ * @param startOfWork начало работы
+ * @param endOfWork окончание работы, может быть раньше начала для ночных часов
+ * @param allHours работает круглосуточно
+ */
+public record GeoPoint(Long id, Double latitude, Double longitude, LocalTime startOfWork, LocalTime endOfWork,
+                       boolean allHours) {
+
+    /**
+     * @return true, если заданы обе координаты
+     */
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null;
+    }
+
+    /**
+     * @param time время суток
+     * @return true, если объект работает в это время; без часов работы объект считается закрытым
+     */
+    public boolean isOpenAt(LocalTime time) {
+        if (allHours || (startOfWork != null && startOfWork.equals(endOfWork))) {
+            return true;
+        }
+        if (startOfWork == null || endOfWork == null) {
+            return false;
+        }
+        if (startOfWork.isBefore(endOfWork)) {
+            return !time.isBefore(startOfWork) && time.isBefore(endOfWork);
+        }
+        return !time.isBefore(startOfWork) || time.isBefore(endOfWork);
+    }
+}
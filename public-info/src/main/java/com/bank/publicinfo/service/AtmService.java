@@ -1,8 +1,10 @@
 package com.bank.publicinfo.service;
 
 import com.bank.publicinfo.dto.AtmDto;
+import com.bank.publicinfo.dto.NearestDto;
 import com.bank.publicinfo.entity.AtmEntity;
 
+import java.time.LocalTime;
 import java.util.List;
 
 /**
@@ -22,6 +24,15 @@ public interface AtmService {
      */
     List<AtmDto> readAll(List<Long> ids);
 
+    /**
+     * @param latitude  широта точки запроса
+     * @param longitude долгота точки запроса
+     * @param limit     количество объектов
+     * @param openAt    время, в которое банкомат должен работать, null - без фильтра
+     * @return ближайшие {@link AtmDto} по возрастанию расстояния
+     */
+    List<NearestDto<AtmDto>> nearest(Double latitude, Double longitude, int limit, LocalTime openAt);
+
     /**
      * @param atm {@link AtmDto}
      * @return {@link AtmDto}
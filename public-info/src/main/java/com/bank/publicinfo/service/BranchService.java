@@ -1,8 +1,10 @@
 package com.bank.publicinfo.service;
 
 import com.bank.publicinfo.dto.BranchDto;
+import com.bank.publicinfo.dto.NearestDto;
 import com.bank.publicinfo.entity.BranchEntity;
 
+import java.time.LocalTime;
 import java.util.List;
 
 /**
@@ -22,6 +24,15 @@ public interface BranchService {
      */
     List<BranchDto> readAll(List<Long> ids);
 
+    /**
+     * @param latitude  широта точки запроса
+     * @param longitude долгота точки запроса
+     * @param limit     количество объектов
+     * @param openAt    время, в которое отделение должно работать, null - без фильтра
+     * @return ближайшие {@link BranchDto} по возрастанию расстояния
+     */
+    List<NearestDto<BranchDto>> nearest(Double latitude, Double longitude, int limit, LocalTime openAt);
+
     /**
      * @param branch {@link BranchDto}
      * @return {@link BranchDto}
@@ -1,18 +1,25 @@
 package com.bank.publicinfo.service.impl;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
+import com.bank.publicinfo.cache.ReferenceCache;
 import com.bank.publicinfo.dto.AtmDto;
+import com.bank.publicinfo.dto.NearestDto;
 import com.bank.publicinfo.entity.AtmEntity;
+import com.bank.publicinfo.geo.GeoHit;
+import com.bank.publicinfo.geo.GeoIndex;
 import com.bank.publicinfo.mapper.AtmMapper;
 import com.bank.publicinfo.repository.AtmRepository;
 import com.bank.publicinfo.service.AtmService;
-import com.bank.publicinfo.validator.Validator;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import javax.transaction.Transactional;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -25,19 +32,25 @@ public class AtmServiceImpl implements AtmService {
 
     AtmRepository repository;
     AtmMapper mapper;
-    Validator validator;
+    AuditWriter auditWriter;
+    BulkReader bulkReader;
+    ReferenceCache<AtmDto> cache;
+    GeoIndex<AtmDto> geoIndex;
 
     /**
      * @param id технический идентификатор для {@link AtmEntity}
      * @return {@link AtmDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public AtmDto read(Long id) {
-        final AtmEntity atm = repository.findById(id)
-                .orElseThrow(
-                        () -> new EntityNotFoundException("atm с данным идентификатором не найден!")
-                );
-        return mapper.toDto(atm);
+        return cache.get(id, key -> {
+            final AtmEntity atm = repository.findById(key)
+                    .orElseThrow(
+                            () -> new EntityNotFoundException("atm с данным идентификатором не найден!")
+                    );
+            return mapper.toDto(atm);
+        });
     }
 
     /**
@@ -51,7 +64,11 @@ public class AtmServiceImpl implements AtmService {
                 mapper.toEntity(atmDto)
         );
 
-        return mapper.toDto(atm);
+        final AtmDto result = mapper.toDto(atm);
+        auditWriter.created(AtmEntity.class, result);
+        cache.evict(result.getId());
+        geoIndex.put(result);
+        return result;
     }
 
     /**
@@ -67,12 +84,17 @@ public class AtmServiceImpl implements AtmService {
                 .orElseThrow(
                         () -> new EntityNotFoundException("Обновление невозможно, atm не найден!")
                 );
+        final AtmDto before = mapper.toDto(atmById);
 
         final AtmEntity atm = repository.save(
                 mapper.mergeToEntity(atmDto, atmById)
         );
 
-        return mapper.toDto(atm);
+        final AtmDto result = mapper.toDto(atm);
+        auditWriter.updated(AtmEntity.class, before, result);
+        cache.evict(id);
+        geoIndex.put(result);
+        return result;
     }
 
     /**
@@ -80,15 +102,29 @@ public class AtmServiceImpl implements AtmService {
      * @return {@link List<AtmDto>}.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<AtmDto> readAll(List<Long> ids) {
+        return cache.getAll(ids, missing -> bulkReader.readAll(missing,
+                chunk -> mapper.toDtoList(repository.findAllById(chunk)), AtmDto::getId,
+                "Ошибка в переданных параметрах, atm не существуют(ет)"));
+    }
 
-        final List<AtmEntity> atms = repository.findAllById(ids);
-
-        validator.checkSize(
-                atms, ids, () -> new EntityNotFoundException("Ошибка в переданных параметрах, atm не существуют(ет)")
-        );
-
-        return mapper.toDtoList(atms);
+    /**
+     * @param latitude  широта точки запроса
+     * @param longitude долгота точки запроса
+     * @param limit     количество объектов
+     * @param openAt    время работы, null - без фильтра
+     * @return ближайшие {@link AtmDto} по возрастанию расстояния
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<NearestDto<AtmDto>> nearest(Double latitude, Double longitude, int limit, LocalTime openAt) {
+        final List<GeoHit> hits = geoIndex.nearest(latitude, longitude, limit, openAt);
+        final List<AtmDto> found = readAll(hits.stream().map(GeoHit::id).toList());
+        final List<NearestDto<AtmDto>> result = new ArrayList<>(hits.size());
+        for (int index = 0; index < hits.size(); index++) {
+            result.add(new NearestDto<>(found.get(index), hits.get(index).distanceKm()));
+        }
+        return result;
     }
 }
-
@@ -1,18 +1,20 @@
 package com.bank.publicinfo.service.impl;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
+import com.bank.publicinfo.cache.ReferenceCache;
 import com.bank.publicinfo.dto.BankDetailsDto;
 import com.bank.publicinfo.entity.BankDetailsEntity;
 import com.bank.publicinfo.mapper.BankDetailsMapper;
 import com.bank.publicinfo.repository.BankDetailsRepository;
 import com.bank.publicinfo.service.BankDetailsService;
-import com.bank.publicinfo.validator.Validator;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import javax.transaction.Transactional;
 import java.util.List;
 
 /**
@@ -25,19 +27,24 @@ public class BankDetailsServiceImpl implements BankDetailsService {
 
     BankDetailsRepository repository;
     BankDetailsMapper mapper;
-    Validator validator;
+    AuditWriter auditWriter;
+    BulkReader bulkReader;
+    ReferenceCache<BankDetailsDto> cache;
 
     /**
      * @param id технический идентификатор для {@link BankDetailsEntity}.
      * @return {@link BankDetailsDto}.
      */
     @Override
+    @Transactional(readOnly = true)
     public BankDetailsDto read(Long id) {
-        final BankDetailsEntity bankDetails = repository.findById(id)
-                .orElseThrow(
-                        () -> new EntityNotFoundException("bankDetails с данным идентификатором не найден!")
-                );
-        return mapper.toDto(bankDetails);
+        return cache.get(id, key -> {
+            final BankDetailsEntity bankDetails = repository.findById(key)
+                    .orElseThrow(
+                            () -> new EntityNotFoundException("bankDetails с данным идентификатором не найден!")
+                    );
+            return mapper.toDto(bankDetails);
+        });
     }
 
     /**
@@ -52,7 +59,10 @@ public class BankDetailsServiceImpl implements BankDetailsService {
                 mapper.toEntity(bankDetailsDto)
         );
 
-        return mapper.toDto(bankDetails);
+        final BankDetailsDto result = mapper.toDto(bankDetails);
+        auditWriter.created(BankDetailsEntity.class, result);
+        cache.evict(result.getId());
+        return result;
     }
 
     /**
@@ -68,12 +78,16 @@ public class BankDetailsServiceImpl implements BankDetailsService {
                 .orElseThrow(
                         () -> new EntityNotFoundException("Обновление невозможно, bankDetails не найден!")
                 );
+        final BankDetailsDto before = mapper.toDto(bankDetailsById);
 
         final BankDetailsEntity bankDetails = repository.save(
                 mapper.mergeToEntity(bankDetailsDto, bankDetailsById)
         );
 
-        return mapper.toDto(bankDetails);
+        final BankDetailsDto result = mapper.toDto(bankDetails);
+        auditWriter.updated(BankDetailsEntity.class, before, result);
+        cache.evict(id);
+        return result;
     }
 
     /**
@@ -81,15 +95,10 @@ public class BankDetailsServiceImpl implements BankDetailsService {
      * @return {@link List<BankDetailsDto>}.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<BankDetailsDto> readAll(List<Long> ids) {
-
-        final List<BankDetailsEntity> bankDetailsList = repository.findAllById(ids);
-
-        validator.checkSize(
-                bankDetailsList, ids,
-                () -> new EntityNotFoundException("Ошибка в переданных параметрах, bankDetails не существуют(ет)")
-        );
-
-        return mapper.toDtoList(bankDetailsList);
+        return cache.getAll(ids, missing -> bulkReader.readAll(missing,
+                chunk -> mapper.toDtoList(repository.findAllById(chunk)), BankDetailsDto::getId,
+                "Ошибка в переданных параметрах, bankDetails не существуют(ет)"));
     }
 }
@@ -1,18 +1,25 @@
 package com.bank.publicinfo.service.impl;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
+import com.bank.publicinfo.cache.ReferenceCache;
 import com.bank.publicinfo.dto.BranchDto;
+import com.bank.publicinfo.dto.NearestDto;
 import com.bank.publicinfo.entity.BranchEntity;
+import com.bank.publicinfo.geo.GeoHit;
+import com.bank.publicinfo.geo.GeoIndex;
 import com.bank.publicinfo.mapper.BranchMapper;
 import com.bank.publicinfo.repository.BranchRepository;
 import com.bank.publicinfo.service.BranchService;
-import com.bank.publicinfo.validator.Validator;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import javax.transaction.Transactional;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -25,21 +32,25 @@ public class BranchServiceImpl implements BranchService {
 
     BranchRepository repository;
     BranchMapper mapper;
-    Validator validator;
+    AuditWriter auditWriter;
+    BulkReader bulkReader;
+    ReferenceCache<BranchDto> cache;
+    GeoIndex<BranchDto> geoIndex;
 
     /**
      * @param id технический идентификатор для {@link BranchEntity}
      * @return {@link BranchDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public BranchDto read(Long id) {
-
-        final BranchEntity branch = repository.findById(id)
-                .orElseThrow(
-                        () -> new EntityNotFoundException("branch с данным идентификатором не найден!")
-                );
-
-        return mapper.toDto(branch);
+        return cache.get(id, key -> {
+            final BranchEntity branch = repository.findById(key)
+                    .orElseThrow(
+                            () -> new EntityNotFoundException("branch с данным идентификатором не найден!")
+                    );
+            return mapper.toDto(branch);
+        });
     }
 
     /**
@@ -54,7 +65,11 @@ public class BranchServiceImpl implements BranchService {
                 mapper.toEntity(branchDto)
         );
 
-        return mapper.toDto(branch);
+        final BranchDto result = mapper.toDto(branch);
+        auditWriter.created(BranchEntity.class, result);
+        cache.evict(result.getId());
+        geoIndex.put(result);
+        return result;
     }
 
     /**
@@ -69,12 +84,17 @@ public class BranchServiceImpl implements BranchService {
                 .orElseThrow(
                         () -> new EntityNotFoundException("Обновление невозможно, branch не найден!")
                 );
+        final BranchDto before = mapper.toDto(branchById);
 
         final BranchEntity atm = repository.save(
                 mapper.mergeToEntity(branchDto, branchById)
         );
 
-        return mapper.toDto(atm);
+        final BranchDto result = mapper.toDto(atm);
+        auditWriter.updated(BranchEntity.class, before, result);
+        cache.evict(id);
+        geoIndex.put(result);
+        return result;
     }
 
     /**
@@ -82,15 +102,29 @@ public class BranchServiceImpl implements BranchService {
      * @return {@link List<BranchDto>}.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<BranchDto> readAll(List<Long> ids) {
+        return cache.getAll(ids, missing -> bulkReader.readAll(missing,
+                chunk -> mapper.toDtoList(repository.findAllById(chunk)), BranchDto::getId,
+                "Ошибка в переданных параметрах, branch не существуют(ет)"));
+    }
 
-        final List<BranchEntity> branches = repository.findAllById(ids);
-
-        validator.checkSize(
-                branches, ids,
-                () -> new EntityNotFoundException("Ошибка в переданных параметрах, branch не существуют(ет)")
-        );
-
-        return mapper.toDtoList(branches);
+    /**
+     * @param latitude  широта точки запроса
+     * @param longitude долгота точки запроса
+     * @param limit     количество объектов
+     * @param openAt    время работы, null - без фильтра
+     * @return ближайшие {@link BranchDto} по возрастанию расстояния
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<NearestDto<BranchDto>> nearest(Double latitude, Double longitude, int limit, LocalTime openAt) {
+        final List<GeoHit> hits = geoIndex.nearest(latitude, longitude, limit, openAt);
+        final List<BranchDto> found = readAll(hits.stream().map(GeoHit::id).toList());
+        final List<NearestDto<BranchDto>> result = new ArrayList<>(hits.size());
+        for (int index = 0; index < hits.size(); index++) {
+            result.add(new NearestDto<>(found.get(index), hits.get(index).distanceKm()));
+        }
+        return result;
     }
 }
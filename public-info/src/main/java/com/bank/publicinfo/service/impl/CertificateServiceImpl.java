@@ -1,18 +1,20 @@
 package com.bank.publicinfo.service.impl;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
+import com.bank.publicinfo.cache.ReferenceCache;
 import com.bank.publicinfo.dto.CertificateDto;
 import com.bank.publicinfo.entity.CertificateEntity;
 import com.bank.publicinfo.mapper.CertificateMapper;
 import com.bank.publicinfo.repository.CertificateRepository;
 import com.bank.publicinfo.service.CertificateService;
-import com.bank.publicinfo.validator.Validator;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import javax.transaction.Transactional;
 import java.util.List;
 
 /**
@@ -25,21 +27,24 @@ public class CertificateServiceImpl implements CertificateService {
 
     CertificateRepository repository;
     CertificateMapper mapper;
-    Validator validator;
+    AuditWriter auditWriter;
+    BulkReader bulkReader;
+    ReferenceCache<CertificateDto> cache;
 
     /**
      * @param id технический идентификатор для {@link CertificateEntity}
      * @return {@link CertificateDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public CertificateDto read(Long id) {
-
-        final CertificateEntity certificate = repository.findById(id)
-                .orElseThrow(
-                        () -> new EntityNotFoundException("certificate с данным идентификатором не найден!")
-                );
-
-        return mapper.toDto(certificate);
+        return cache.get(id, key -> {
+            final CertificateEntity certificate = repository.findById(key)
+                    .orElseThrow(
+                            () -> new EntityNotFoundException("certificate с данным идентификатором не найден!")
+                    );
+            return mapper.toDto(certificate);
+        });
     }
 
     /**
@@ -54,7 +59,10 @@ public class CertificateServiceImpl implements CertificateService {
                 mapper.toEntity(certificateDto)
         );
 
-        return mapper.toDto(certificate);
+        final CertificateDto result = mapper.toDto(certificate);
+        auditWriter.created(CertificateEntity.class, result);
+        cache.evict(result.getId());
+        return result;
     }
 
     /**
@@ -69,12 +77,16 @@ public class CertificateServiceImpl implements CertificateService {
                 .orElseThrow(
                         () -> new EntityNotFoundException("Обновление невозможно, certificate не найден!")
                 );
+        final CertificateDto before = mapper.toDto(certificateById);
 
         final CertificateEntity certificate = repository.save(
                 mapper.mergeToEntity(certificateDto, certificateById)
         );
 
-        return mapper.toDto(certificate);
+        final CertificateDto result = mapper.toDto(certificate);
+        auditWriter.updated(CertificateEntity.class, before, result);
+        cache.evict(id);
+        return result;
     }
 
     /**
@@ -82,15 +94,10 @@ public class CertificateServiceImpl implements CertificateService {
      * @return {@link List<CertificateDto>}.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<CertificateDto> readAll(List<Long> ids) {
-
-        final List<CertificateEntity> certificates = repository.findAllById(ids);
-
-        validator.checkSize(
-                certificates, ids,
-                () -> new EntityNotFoundException("Ошибка в переданных параметрах, certificate не существуют(ет)")
-        );
-
-        return mapper.toDtoList(certificates);
+        return cache.getAll(ids, missing -> bulkReader.readAll(missing,
+                chunk -> mapper.toDtoList(repository.findAllById(chunk)), CertificateDto::getId,
+                "Ошибка в переданных параметрах, certificate не существуют(ет)"));
     }
 }
@@ -1,18 +1,20 @@
 package com.bank.publicinfo.service.impl;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
+import com.bank.publicinfo.cache.ReferenceCache;
 import com.bank.publicinfo.dto.LicenseDto;
 import com.bank.publicinfo.entity.LicenseEntity;
 import com.bank.publicinfo.mapper.LicenseMapper;
 import com.bank.publicinfo.repository.LicenseRepository;
 import com.bank.publicinfo.service.LicenseService;
-import com.bank.publicinfo.validator.Validator;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import javax.transaction.Transactional;
 import java.util.List;
 
 /**
@@ -25,21 +27,24 @@ public class LicenseServiceImpl implements LicenseService {
 
     LicenseRepository repository;
     LicenseMapper mapper;
-    Validator validator;
+    AuditWriter auditWriter;
+    BulkReader bulkReader;
+    ReferenceCache<LicenseDto> cache;
 
     /**
      * @param id технический идентификатор для {@link LicenseEntity}
      * @return {@link LicenseDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public LicenseDto read(Long id) {
-
-        final LicenseEntity license = repository.findById(id)
-                .orElseThrow(
-                        () -> new EntityNotFoundException("license с данным идентификатором не найден!")
-                );
-
-        return mapper.toDto(license);
+        return cache.get(id, key -> {
+            final LicenseEntity license = repository.findById(key)
+                    .orElseThrow(
+                            () -> new EntityNotFoundException("license с данным идентификатором не найден!")
+                    );
+            return mapper.toDto(license);
+        });
     }
 
     /**
@@ -54,7 +59,10 @@ public class LicenseServiceImpl implements LicenseService {
                 mapper.toEntity(licenseDto)
         );
 
-        return mapper.toDto(license);
+        final LicenseDto result = mapper.toDto(license);
+        auditWriter.created(LicenseEntity.class, result);
+        cache.evict(result.getId());
+        return result;
     }
 
     /**
@@ -69,12 +77,16 @@ public class LicenseServiceImpl implements LicenseService {
                 .orElseThrow(
                         () -> new EntityNotFoundException("Обновление невозможно, license не найден!")
                 );
+        final LicenseDto before = mapper.toDto(licenseEntityById);
 
         final LicenseEntity license = repository.save(
                 mapper.mergeToEntity(licenseDto, licenseEntityById)
         );
 
-        return mapper.toDto(license);
+        final LicenseDto result = mapper.toDto(license);
+        auditWriter.updated(LicenseEntity.class, before, result);
+        cache.evict(id);
+        return result;
     }
 
     /**
@@ -82,15 +94,10 @@ public class LicenseServiceImpl implements LicenseService {
      * @return {@link List<LicenseDto>}.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<LicenseDto> readAll(List<Long> ids) {
-
-        final List<LicenseEntity> licenses = repository.findAllById(ids);
-
-        validator.checkSize(
-                licenses, ids,
-                () -> new EntityNotFoundException("Ошибка в переданных параметрах, license не существуют(ет)")
-        );
-
-        return mapper.toDtoList(licenses);
+        return cache.getAll(ids, missing -> bulkReader.readAll(missing,
+                chunk -> mapper.toDtoList(repository.findAllById(chunk)), LicenseDto::getId,
+                "Ошибка в переданных параметрах, license не существуют(ет)"));
     }
 }
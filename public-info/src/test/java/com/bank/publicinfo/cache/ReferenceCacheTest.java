@@ -0,0 +1,125 @@
+package com.bank.publicinfo.cache;
+
+import com.bank.publicinfo.ParentTest;
+import com.bank.publicinfo.dto.AtmDto;
+import com.bank.publicinfo.dto.BranchDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.doReturn;
+
+class ReferenceCacheTest extends ParentTest {
+
+    private static final String ATM = "atm";
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry registry;
+
+    private ReferenceCache<AtmDto> cache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void init() {
+        registry = new SimpleMeterRegistry();
+        cache = new ReferenceCache<>(ATM, 2, TTL, AtmDto::getId, registry, clock);
+        loads = new AtomicInteger();
+        doReturn(0L).when(clock).millis();
+    }
+
+    @Test
+    @DisplayName("повторное чтение из кэша без обращения к базе")
+    void getHitTest() {
+        final AtmDto first = cache.get(ONE, this::load);
+        final AtmDto second = cache.get(ONE, this::load);
+
+        assertAll(() -> {
+            assertSame(first, second);
+            assertEquals(1, loads.get());
+            assertEquals(1.0, registry.counter("reference.cache.hits", "cache", ATM).count());
+            assertEquals(1.0, registry.counter("reference.cache.misses", "cache", ATM).count());
+        });
+    }
+
+    @Test
+    @DisplayName("после истечения времени жизни запись читается заново")
+    void getExpiredTest() {
+        cache.get(ONE, this::load);
+        doReturn(TTL.toMillis()).when(clock).millis();
+
+        cache.get(ONE, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("при переполнении вытесняется давно не читавшаяся запись")
+    void sizeEvictionTest() {
+        cache.get(ONE, this::load);
+        cache.get(TWO, this::load);
+        cache.get(ONE, this::load);
+        cache.get(THREE, this::load);
+
+        cache.get(ONE, this::load);
+        cache.get(TWO, this::load);
+
+        assertAll(() -> {
+            assertEquals(2, cache.size());
+            assertEquals(4, loads.get());
+            assertEquals(2.0, registry.counter("reference.cache.evictions", "cache", ATM, "cause", "size").count());
+        });
+    }
+
+    @Test
+    @DisplayName("изменение записи удаляет её и очищает зависимый кэш")
+    void evictTest() {
+        final ReferenceCache<BranchDto> branchCache = new ReferenceCache<>("branch", 2, TTL, BranchDto::getId,
+                registry, clock);
+        branchCache.addDependent(cache);
+        branchCache.get(ONE, id -> new BranchDto(id, null, null, null, null, null, null, null));
+        cache.get(TWO, this::load);
+
+        branchCache.evict(ONE);
+        cache.get(TWO, this::load);
+
+        assertAll(() -> {
+            assertEquals(0, branchCache.size());
+            assertEquals(2, loads.get());
+        });
+    }
+
+    @Test
+    @DisplayName("чтение списка загружает только отсутствующие id и сохраняет порядок")
+    void getAllTest() {
+        cache.get(TWO, this::load);
+        final Function<List<Long>, List<AtmDto>> loader = ids -> ids.stream().map(this::load).toList();
+
+        final List<AtmDto> result = cache.getAll(List.of(ONE, TWO, ONE), loader);
+
+        assertAll(() -> {
+            assertEquals(List.of(ONE, TWO, ONE), result.stream().map(AtmDto::getId).toList());
+            assertEquals(3, loads.get());
+            assertEquals(2, cache.size());
+        });
+    }
+
+    private AtmDto load(Long id) {
+        loads.incrementAndGet();
+        return new AtmDto(id, SPACE, TIME, TIME, Boolean.TRUE, null, null, null);
+    }
+}
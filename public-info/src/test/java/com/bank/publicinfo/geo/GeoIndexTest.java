@@ -0,0 +1,108 @@
+package com.bank.publicinfo.geo;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.publicinfo.ParentTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GeoIndexTest extends ParentTest {
+
+    private static final double LATITUDE = 55.75;
+    private static final double LONGITUDE = 37.61;
+    private static final LocalTime NINE = LocalTime.of(9, 0);
+    private static final LocalTime EIGHTEEN = LocalTime.of(18, 0);
+
+    private GeoIndex<GeoPoint> index;
+
+    @BeforeEach
+    void init() {
+        index = new GeoIndex<>(0.05, 16, 100, Function.identity());
+    }
+
+    @Test
+    @DisplayName("ближайшие объекты возвращаются по возрастанию расстояния")
+    void nearestOrderTest() {
+        index.putAll(List.of(point(ONE, LATITUDE + 0.2, LONGITUDE), point(TWO, LATITUDE, LONGITUDE + 0.01),
+                point(THREE, LATITUDE - 0.05, LONGITUDE)));
+
+        final List<GeoHit> result = index.nearest(LATITUDE, LONGITUDE, 2, null);
+
+        assertAll(() -> {
+            assertEquals(List.of(TWO, THREE), result.stream().map(GeoHit::id).toList());
+            assertEquals(GeoIndex.distanceKm(LATITUDE, LONGITUDE, LATITUDE, LONGITUDE + 0.01),
+                    result.get(0).distanceKm());
+        });
+    }
+
+    @Test
+    @DisplayName("фильтр по часам работы, в том числе ночным")
+    void nearestOpenAtTest() {
+        index.put(new GeoPoint(ONE, LATITUDE, LONGITUDE, NINE, EIGHTEEN, false));
+        index.put(new GeoPoint(TWO, LATITUDE, LONGITUDE + 1, EIGHTEEN, NINE, false));
+        index.put(new GeoPoint(THREE, LATITUDE, LONGITUDE + 2, null, null, true));
+
+        final List<GeoHit> night = index.nearest(LATITUDE, LONGITUDE, 3, LocalTime.of(23, 0));
+        final List<GeoHit> day = index.nearest(LATITUDE, LONGITUDE, 3, LocalTime.NOON);
+
+        assertAll(() -> {
+            assertEquals(List.of(TWO, THREE), night.stream().map(GeoHit::id).toList());
+            assertEquals(List.of(ONE, THREE), day.stream().map(GeoHit::id).toList());
+        });
+    }
+
+    @Test
+    @DisplayName("сохранение перемещает объект, а без координат удаляет его из индекса")
+    void putMoveAndRemoveTest() {
+        index.put(point(ONE, LATITUDE, LONGITUDE));
+        index.put(point(TWO, LATITUDE + 1, LONGITUDE));
+
+        index.put(point(ONE, -LATITUDE, -LONGITUDE));
+        final List<GeoHit> moved = index.nearest(-LATITUDE, -LONGITUDE, 1, null);
+        index.put(new GeoPoint(ONE, null, null, null, null, true));
+
+        assertAll(() -> {
+            assertEquals(ONE, moved.get(0).id());
+            assertEquals(1, index.size());
+            assertEquals(List.of(TWO), index.nearest(LATITUDE, LONGITUDE, 2, null).stream().map(GeoHit::id).toList());
+        });
+    }
+
+    @Test
+    @DisplayName("поиск через линию перемены дат")
+    void nearestAntimeridianTest() {
+        index.putAll(List.of(point(ONE, 0.0, 179.99), point(TWO, 0.0, 170.0)));
+
+        final List<GeoHit> result = index.nearest(0.0, -179.99, 1, null);
+
+        assertEquals(ONE, result.get(0).id());
+    }
+
+    @Test
+    @DisplayName("недопустимые координаты и limit")
+    void nearestNegativeTest() {
+        final ValidationException limit = assertThrows(
+                ValidationException.class, () -> index.nearest(LATITUDE, LONGITUDE, 101, null)
+        );
+        final ValidationException latitude = assertThrows(
+                ValidationException.class, () -> index.put(point(ONE, 91.0, LONGITUDE))
+        );
+
+        assertAll(() -> {
+            assertEquals("limit должен быть от 1 до 100", limit.getMessage());
+            assertEquals("Широта должна быть от -90 до 90, долгота от -180 до 180", latitude.getMessage());
+        });
+    }
+
+    private GeoPoint point(Long id, Double latitude, Double longitude) {
+        return new GeoPoint(id, latitude, longitude, null, null, true);
+    }
+}
@@ -1,13 +1,19 @@
 package com.bank.publicinfo.service;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import com.bank.publicinfo.ParentTest;
+import com.bank.publicinfo.cache.ReferenceCache;
 import com.bank.publicinfo.dto.AtmDto;
+import com.bank.publicinfo.dto.NearestDto;
 import com.bank.publicinfo.entity.AtmEntity;
+import com.bank.publicinfo.geo.GeoIndex;
+import com.bank.publicinfo.geo.GeoPoint;
 import com.bank.publicinfo.mapper.AtmMapperImpl;
 import com.bank.publicinfo.repository.AtmRepository;
 import com.bank.publicinfo.service.impl.AtmServiceImpl;
 import com.bank.publicinfo.supplier.AtmSupplier;
-import com.bank.publicinfo.validator.Validator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +40,7 @@ public class AtmServiceTest extends ParentTest {
     private static AtmEntity atm;
 
     private static AtmEntity updateAtm;
+    private static AtmEntity secondAtm;
 
     private static AtmDto updateAtmDto;
 
@@ -42,10 +50,21 @@ public class AtmServiceTest extends ParentTest {
     @InjectMocks
     private AtmServiceImpl service;
 
+    @Mock
+    private AuditWriter auditWriter;
+
     @Spy
     private AtmMapperImpl mapper;
     @Spy
-    private Validator validator;
+    private BulkReader bulkReader = new BulkReader(100, 100);
+
+    @Spy
+    private ReferenceCache<AtmDto> cache =
+            new ReferenceCache<>("atm", 100, Duration.ofMinutes(1), AtmDto::getId, new SimpleMeterRegistry());
+
+    @Spy
+    private GeoIndex<AtmDto> geoIndex = new GeoIndex<>(0.05, 16, 100, atm -> new GeoPoint(atm.getId(),
+            atm.getLatitude(), atm.getLongitude(), atm.getStartOfWork(), atm.getEndOfWork(), false));
 
     @BeforeAll
     static void init() {
@@ -55,6 +74,8 @@ public class AtmServiceTest extends ParentTest {
 
         updateAtm = atmSupplier.getEntity(ONE, SPACE, TIME, TIME, TRUE, null);
 
+        secondAtm = atmSupplier.getEntity(TWO, SPACE, TIME, TIME, TRUE, null);
+
         updateAtmDto = atmSupplier.getDto(ONE, SPACE, TIME, TIME, TRUE, null);
     }
 
@@ -185,22 +206,22 @@ public class AtmServiceTest extends ParentTest {
                     assertNull(zeroAtm.getBranch());
                     assertNull(firstAtm.getBranch());
                     assertEquals(TWO, atms.size());
-                    assertEquals(atm.getId(), firstAtm.getId());
-                    assertEquals(atm.getId(), zeroAtm.getId());
-                    assertEquals(updateAtm.getAddress(), zeroAtm.getAddress());
-                    assertEquals(updateAtm.getStartOfWork(), zeroAtm.getStartOfWork());
-                    assertEquals(updateAtm.getEndOfWork(), zeroAtm.getEndOfWork());
-                    assertEquals(updateAtm.getAllHours(), zeroAtm.getAllHours());
-                    assertEquals(updateAtm.getAddress(), firstAtm.getAddress());
-                    assertEquals(updateAtm.getStartOfWork(), firstAtm.getStartOfWork());
-                    assertEquals(updateAtm.getEndOfWork(), firstAtm.getEndOfWork());
-                    assertEquals(updateAtm.getAllHours(), firstAtm.getAllHours());
+                    assertEquals(TWO, firstAtm.getId());
+                    assertEquals(ONE, zeroAtm.getId());
+                    assertEquals(atm.getAddress(), zeroAtm.getAddress());
+                    assertEquals(atm.getStartOfWork(), zeroAtm.getStartOfWork());
+                    assertEquals(atm.getEndOfWork(), zeroAtm.getEndOfWork());
+                    assertEquals(atm.getAllHours(), zeroAtm.getAllHours());
+                    assertEquals(secondAtm.getAddress(), firstAtm.getAddress());
+                    assertEquals(secondAtm.getStartOfWork(), firstAtm.getStartOfWork());
+                    assertEquals(secondAtm.getEndOfWork(), firstAtm.getEndOfWork());
+                    assertEquals(secondAtm.getAllHours(), firstAtm.getAllHours());
                 }
         );
     }
 
     private List<AtmDto> readAllTestPrepare() {
-        doReturn(List.of(atm, updateAtm))
+        doReturn(List.of(atm, secondAtm))
                 .when(repository)
                 .findAllById(any());
 
@@ -216,7 +237,22 @@ public class AtmServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(List.of(ONE, TWO))
         );
 
-        assertEquals("Ошибка в переданных параметрах, atm не существуют(ет)", exception.getMessage());
+        assertEquals("Ошибка в переданных параметрах, atm не существуют(ет), id = [1, 2]", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("поиск ближайших, позитивный сценарий")
+    void nearestPositiveTest() {
+        geoIndex.put(new AtmDto(ONE, SPACE, TIME, TIME, TRUE, 55.76, 37.62, null));
+        geoIndex.put(new AtmDto(TWO, SPACE, TIME, TIME, TRUE, 55.75, 37.61, null));
+        doReturn(List.of(atm, secondAtm)).when(repository).findAllById(any());
+
+        final List<NearestDto<AtmDto>> result = service.nearest(55.75, 37.61, 2, null);
+
+        assertAll(() -> {
+            assertEquals(List.of(TWO, ONE), result.stream().map(nearest -> nearest.getItem().getId()).toList());
+            assertEquals(0.0, result.get(0).getDistanceKm());
+        });
     }
 
     private void saveMock() {
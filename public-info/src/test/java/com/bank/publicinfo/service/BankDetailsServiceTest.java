@@ -1,13 +1,16 @@
 package com.bank.publicinfo.service;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import com.bank.publicinfo.ParentTest;
+import com.bank.publicinfo.cache.ReferenceCache;
 import com.bank.publicinfo.dto.BankDetailsDto;
 import com.bank.publicinfo.entity.BankDetailsEntity;
 import com.bank.publicinfo.mapper.BankDetailsMapperImpl;
 import com.bank.publicinfo.repository.BankDetailsRepository;
 import com.bank.publicinfo.service.impl.BankDetailsServiceImpl;
 import com.bank.publicinfo.supplier.BankDetailsSupplier;
-import com.bank.publicinfo.validator.Validator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +35,7 @@ public class BankDetailsServiceTest extends ParentTest {
     private static BankDetailsEntity bankDetails;
 
     private static BankDetailsEntity updateBankDetails;
+    private static BankDetailsEntity secondBankDetails;
 
     private static BankDetailsDto updateBankDetailsDto;
 
@@ -40,11 +45,19 @@ public class BankDetailsServiceTest extends ParentTest {
     @InjectMocks
     private BankDetailsServiceImpl service;
 
+    @Mock
+    private AuditWriter auditWriter;
+
     @Spy
     private BankDetailsMapperImpl mapper;
 
     @Spy
-    private Validator validator;
+    private BulkReader bulkReader = new BulkReader(100, 100);
+
+    @Spy
+    private ReferenceCache<BankDetailsDto> cache =
+            new ReferenceCache<>("bank-details", 100, Duration.ofMinutes(1), BankDetailsDto::getId,
+                    new SimpleMeterRegistry());
 
     @BeforeAll
     static void init() {
@@ -54,6 +67,8 @@ public class BankDetailsServiceTest extends ParentTest {
 
         updateBankDetails = bankDetailsSupplier.getEntity(ONE, TWO, TWO, TWO, INT_ONE, SPACE, SPACE, SPACE);
 
+        secondBankDetails = bankDetailsSupplier.getEntity(TWO, TWO, TWO, TWO, INT_ONE, SPACE, SPACE, SPACE);
+
         updateBankDetailsDto = bankDetailsSupplier.getDto(ONE, TWO, TWO, TWO, INT_ONE, SPACE, SPACE, SPACE);
     }
 
@@ -190,28 +205,28 @@ public class BankDetailsServiceTest extends ParentTest {
         assertAll(
                 () -> {
                     assertEquals(TWO, bankDetailsList.size());
-                    assertEquals(bankDetails.getId(), zeroBankDetails.getId());
-                    assertEquals(bankDetails.getId(), firstBankDetails.getId());
-                    assertEquals(updateBankDetails.getBik(), zeroBankDetails.getBik());
-                    assertEquals(updateBankDetails.getBik(), firstBankDetails.getBik());
-                    assertEquals(updateBankDetails.getInn(), zeroBankDetails.getInn());
-                    assertEquals(updateBankDetails.getInn(), firstBankDetails.getInn());
-                    assertEquals(updateBankDetails.getKpp(), firstBankDetails.getKpp());
-                    assertEquals(updateBankDetails.getKpp(), zeroBankDetails.getKpp());
-                    assertEquals(updateBankDetails.getName(), firstBankDetails.getName());
-                    assertEquals(updateBankDetails.getName(), zeroBankDetails.getName());
-                    assertEquals(updateBankDetails.getCity(), zeroBankDetails.getCity());
-                    assertEquals(updateBankDetails.getCity(), firstBankDetails.getCity());
-                    assertEquals(updateBankDetails.getCorAccount(), zeroBankDetails.getCorAccount());
-                    assertEquals(updateBankDetails.getCorAccount(), firstBankDetails.getCorAccount());
-                    assertEquals(updateBankDetails.getJointStockCompany(), firstBankDetails.getJointStockCompany());
-                    assertEquals(updateBankDetails.getJointStockCompany(), zeroBankDetails.getJointStockCompany());
+                    assertEquals(ONE, zeroBankDetails.getId());
+                    assertEquals(TWO, firstBankDetails.getId());
+                    assertEquals(bankDetails.getBik(), zeroBankDetails.getBik());
+                    assertEquals(secondBankDetails.getBik(), firstBankDetails.getBik());
+                    assertEquals(bankDetails.getInn(), zeroBankDetails.getInn());
+                    assertEquals(secondBankDetails.getInn(), firstBankDetails.getInn());
+                    assertEquals(secondBankDetails.getKpp(), firstBankDetails.getKpp());
+                    assertEquals(bankDetails.getKpp(), zeroBankDetails.getKpp());
+                    assertEquals(secondBankDetails.getName(), firstBankDetails.getName());
+                    assertEquals(bankDetails.getName(), zeroBankDetails.getName());
+                    assertEquals(bankDetails.getCity(), zeroBankDetails.getCity());
+                    assertEquals(secondBankDetails.getCity(), firstBankDetails.getCity());
+                    assertEquals(bankDetails.getCorAccount(), zeroBankDetails.getCorAccount());
+                    assertEquals(secondBankDetails.getCorAccount(), firstBankDetails.getCorAccount());
+                    assertEquals(secondBankDetails.getJointStockCompany(), firstBankDetails.getJointStockCompany());
+                    assertEquals(bankDetails.getJointStockCompany(), zeroBankDetails.getJointStockCompany());
                 }
         );
     }
 
     private List<BankDetailsDto> readAllTestPrepare() {
-        doReturn(List.of(bankDetails, updateBankDetails)).when(repository).findAllById(any());
+        doReturn(List.of(bankDetails, secondBankDetails)).when(repository).findAllById(any());
 
         return service.readAll(List.of(ONE, TWO));
     }
@@ -225,7 +240,8 @@ public class BankDetailsServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(List.of(ONE, TWO))
         );
 
-        assertEquals("Ошибка в переданных параметрах, bankDetails не существуют(ет)", exception.getMessage());
+        assertEquals("Ошибка в переданных параметрах, bankDetails не существуют(ет), id = [1, 2]",
+                exception.getMessage());
     }
 
     private void saveMock() {
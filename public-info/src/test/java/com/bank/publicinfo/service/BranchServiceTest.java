@@ -1,13 +1,18 @@
 package com.bank.publicinfo.service;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import com.bank.publicinfo.ParentTest;
+import com.bank.publicinfo.cache.ReferenceCache;
 import com.bank.publicinfo.dto.BranchDto;
 import com.bank.publicinfo.entity.BranchEntity;
+import com.bank.publicinfo.geo.GeoIndex;
+import com.bank.publicinfo.geo.GeoPoint;
 import com.bank.publicinfo.mapper.BranchMapperImpl;
 import com.bank.publicinfo.repository.BranchRepository;
 import com.bank.publicinfo.service.impl.BranchServiceImpl;
 import com.bank.publicinfo.supplier.BranchSupplier;
-import com.bank.publicinfo.validator.Validator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,18 +37,30 @@ public class BranchServiceTest extends ParentTest {
     private static BranchEntity branch;
 
     private static BranchEntity updateBranch;
+    private static BranchEntity secondBranch;
 
     private static BranchDto updateBranchDto;
 
     @InjectMocks
     private BranchServiceImpl service;
 
+    @Mock
+    private AuditWriter auditWriter;
+
     @Mock
     private BranchRepository repository;
     @Spy
     private BranchMapperImpl mapper;
     @Spy
-    private Validator validator;
+    private BulkReader bulkReader = new BulkReader(100, 100);
+
+    @Spy
+    private ReferenceCache<BranchDto> cache =
+            new ReferenceCache<>("branch", 100, Duration.ofMinutes(1), BranchDto::getId, new SimpleMeterRegistry());
+
+    @Spy
+    private GeoIndex<BranchDto> geoIndex = new GeoIndex<>(0.05, 16, 100, branch -> new GeoPoint(branch.getId(),
+            branch.getLatitude(), branch.getLongitude(), branch.getStartOfWork(), branch.getEndOfWork(), false));
 
     @BeforeAll
     static void init() {
@@ -52,6 +70,8 @@ public class BranchServiceTest extends ParentTest {
 
         updateBranch = branchSupplier.genEntity(ONE, SPACE, TWO, SPACE, TIME, TIME);
 
+        secondBranch = branchSupplier.genEntity(TWO, SPACE, TWO, SPACE, TIME, TIME);
+
         updateBranchDto = branchSupplier.getDto(ONE, SPACE, TWO, SPACE, TIME, TIME);
     }
 
@@ -180,24 +200,24 @@ public class BranchServiceTest extends ParentTest {
         assertAll(
                 () -> {
                     assertEquals(TWO, branches.size());
-                    assertEquals(branch.getId(), zeroBranch.getId());
-                    assertEquals(branch.getId(), firstBranch.getId());
-                    assertEquals(updateBranch.getCity(), zeroBranch.getCity());
-                    assertEquals(updateBranch.getCity(), firstBranch.getCity());
-                    assertEquals(updateBranch.getAddress(), zeroBranch.getAddress());
-                    assertEquals(updateBranch.getAddress(), firstBranch.getAddress());
-                    assertEquals(updateBranch.getEndOfWork(), zeroBranch.getEndOfWork());
-                    assertEquals(updateBranch.getEndOfWork(), firstBranch.getEndOfWork());
-                    assertEquals(updateBranch.getPhoneNumber(), zeroBranch.getPhoneNumber());
-                    assertEquals(updateBranch.getPhoneNumber(), firstBranch.getPhoneNumber());
-                    assertEquals(updateBranch.getStartOfWork(), zeroBranch.getStartOfWork());
-                    assertEquals(updateBranch.getStartOfWork(), firstBranch.getStartOfWork());
+                    assertEquals(ONE, zeroBranch.getId());
+                    assertEquals(TWO, firstBranch.getId());
+                    assertEquals(branch.getCity(), zeroBranch.getCity());
+                    assertEquals(secondBranch.getCity(), firstBranch.getCity());
+                    assertEquals(branch.getAddress(), zeroBranch.getAddress());
+                    assertEquals(secondBranch.getAddress(), firstBranch.getAddress());
+                    assertEquals(branch.getEndOfWork(), zeroBranch.getEndOfWork());
+                    assertEquals(secondBranch.getEndOfWork(), firstBranch.getEndOfWork());
+                    assertEquals(branch.getPhoneNumber(), zeroBranch.getPhoneNumber());
+                    assertEquals(secondBranch.getPhoneNumber(), firstBranch.getPhoneNumber());
+                    assertEquals(branch.getStartOfWork(), zeroBranch.getStartOfWork());
+                    assertEquals(secondBranch.getStartOfWork(), firstBranch.getStartOfWork());
                 }
         );
     }
 
     private List<BranchDto> readAllTestPrepare() {
-        doReturn(List.of(branch, updateBranch)).when(repository).findAllById(any());
+        doReturn(List.of(branch, secondBranch)).when(repository).findAllById(any());
 
         return service.readAll(List.of(ONE, TWO));
     }
@@ -211,7 +231,7 @@ public class BranchServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(List.of(ONE, TWO))
         );
 
-        assertEquals("Ошибка в переданных параметрах, branch не существуют(ет)", exception.getMessage());
+        assertEquals("Ошибка в переданных параметрах, branch не существуют(ет), id = [1, 2]", exception.getMessage());
     }
 
     private void saveMock() {
@@ -1,13 +1,16 @@
 package com.bank.publicinfo.service;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import com.bank.publicinfo.ParentTest;
+import com.bank.publicinfo.cache.ReferenceCache;
 import com.bank.publicinfo.dto.CertificateDto;
 import com.bank.publicinfo.entity.CertificateEntity;
 import com.bank.publicinfo.mapper.CertificateMapperImpl;
 import com.bank.publicinfo.repository.CertificateRepository;
 import com.bank.publicinfo.service.impl.CertificateServiceImpl;
 import com.bank.publicinfo.supplier.CertificateSupplier;
-import com.bank.publicinfo.validator.Validator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,18 +36,27 @@ public class CertificateServiceTest extends ParentTest {
     private static CertificateEntity certificate;
 
     private static CertificateEntity updateCertificate;
+    private static CertificateEntity secondCertificate;
 
     private static CertificateDto updateCertificateDto;
 
     @InjectMocks
     private CertificateServiceImpl service;
 
+    @Mock
+    private AuditWriter auditWriter;
+
     @Mock
     CertificateRepository repository;
     @Spy
     private CertificateMapperImpl mapper;
     @Spy
-    private Validator validator;
+    private BulkReader bulkReader = new BulkReader(100, 100);
+
+    @Spy
+    private ReferenceCache<CertificateDto> cache =
+            new ReferenceCache<>("certificate", 100, Duration.ofMinutes(1), CertificateDto::getId,
+                    new SimpleMeterRegistry());
 
     @BeforeAll
     static void init() {
@@ -53,6 +66,8 @@ public class CertificateServiceTest extends ParentTest {
 
         updateCertificate = certificateSupplier.getEntity(ONE, BYTE, null);
 
+        secondCertificate = certificateSupplier.getEntity(TWO, BYTE, null);
+
         updateCertificateDto = certificateSupplier.getDto(ONE, BYTE, null);
     }
 
@@ -169,16 +184,16 @@ public class CertificateServiceTest extends ParentTest {
                     assertNull(zeroCertificate.getBankDetails());
                     assertNull(firstCertificate.getBankDetails());
                     assertEquals(TWO, certificates.size());
-                    assertEquals(certificate.getId(), zeroCertificate.getId());
-                    assertEquals(certificate.getId(), firstCertificate.getId());
-                    assertEquals(updateCertificate.getPhoto(), firstCertificate.getPhoto());
-                    assertEquals(updateCertificate.getPhoto(), zeroCertificate.getPhoto());
+                    assertEquals(ONE, zeroCertificate.getId());
+                    assertEquals(TWO, firstCertificate.getId());
+                    assertEquals(secondCertificate.getPhoto(), firstCertificate.getPhoto());
+                    assertEquals(certificate.getPhoto(), zeroCertificate.getPhoto());
                 }
         );
     }
 
     private List<CertificateDto> readAllTestPrepare() {
-        doReturn(List.of(certificate, updateCertificate)).when(repository).findAllById(any());
+        doReturn(List.of(certificate, secondCertificate)).when(repository).findAllById(any());
 
         return service.readAll(List.of(ONE, TWO));
     }
@@ -192,7 +207,8 @@ public class CertificateServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(List.of(ONE, TWO))
         );
 
-        assertEquals("Ошибка в переданных параметрах, certificate не существуют(ет)", exception.getMessage());
+        assertEquals("Ошибка в переданных параметрах, certificate не существуют(ет), id = [1, 2]",
+                exception.getMessage());
     }
 
     private void saveMock() {
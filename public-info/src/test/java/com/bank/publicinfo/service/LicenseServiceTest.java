@@ -1,13 +1,16 @@
 package com.bank.publicinfo.service;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
 import com.bank.publicinfo.ParentTest;
+import com.bank.publicinfo.cache.ReferenceCache;
 import com.bank.publicinfo.dto.LicenseDto;
 import com.bank.publicinfo.entity.LicenseEntity;
 import com.bank.publicinfo.mapper.LicenseMapperImpl;
 import com.bank.publicinfo.repository.LicenseRepository;
 import com.bank.publicinfo.service.impl.LicenseServiceImpl;
 import com.bank.publicinfo.supplier.LicenseSupplier;
-import com.bank.publicinfo.validator.Validator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,18 +36,26 @@ public class LicenseServiceTest extends ParentTest {
     private static LicenseEntity license;
 
     private static LicenseEntity updateLicense;
+    private static LicenseEntity secondLicense;
 
     private static LicenseDto updateLicenseDto;
 
     @InjectMocks
     private LicenseServiceImpl service;
 
+    @Mock
+    private AuditWriter auditWriter;
+
     @Mock
     private LicenseRepository repository;
     @Spy
     private LicenseMapperImpl mapper;
     @Spy
-    private Validator validator;
+    private BulkReader bulkReader = new BulkReader(100, 100);
+
+    @Spy
+    private ReferenceCache<LicenseDto> cache =
+            new ReferenceCache<>("license", 100, Duration.ofMinutes(1), LicenseDto::getId, new SimpleMeterRegistry());
 
     @BeforeAll
     static void init() {
@@ -53,6 +65,8 @@ public class LicenseServiceTest extends ParentTest {
 
         updateLicense = licenseSupplier.getEntity(ONE, BYTE, null);
 
+        secondLicense = licenseSupplier.getEntity(TWO, BYTE, null);
+
         updateLicenseDto = licenseSupplier.getDto(ONE, BYTE, null);
     }
 
@@ -169,16 +183,16 @@ public class LicenseServiceTest extends ParentTest {
                     assertEquals(TWO, licenses.size());
                     assertNull(zeroLicense.getBankDetails());
                     assertNull(firstLicense.getBankDetails());
-                    assertEquals(license.getId(), zeroLicense.getId());
-                    assertEquals(license.getId(), firstLicense.getId());
-                    assertEquals(updateLicense.getPhoto(), zeroLicense.getPhoto());
-                    assertEquals(updateLicense.getPhoto(), firstLicense.getPhoto());
+                    assertEquals(ONE, zeroLicense.getId());
+                    assertEquals(TWO, firstLicense.getId());
+                    assertEquals(license.getPhoto(), zeroLicense.getPhoto());
+                    assertEquals(secondLicense.getPhoto(), firstLicense.getPhoto());
                 }
         );
     }
 
     private List<LicenseDto> readAllTestPrepare() {
-        doReturn(List.of(license, updateLicense)).when(repository).findAllById(any());
+        doReturn(List.of(license, secondLicense)).when(repository).findAllById(any());
 
         return service.readAll(List.of(ONE, TWO));
     }
@@ -192,7 +206,7 @@ public class LicenseServiceTest extends ParentTest {
                 EntityNotFoundException.class, () -> service.readAll(List.of(ONE, TWO))
         );
 
-        assertEquals("Ошибка в переданных параметрах, license не существуют(ет)", exception.getMessage());
+        assertEquals("Ошибка в переданных параметрах, license не существуют(ет), id = [1, 2]", exception.getMessage());
     }
 
     private void saveMock() {
@@ -11,11 +11,11 @@ public class AtmSupplier {
 
     public AtmDto getDto(Long id, String address, LocalTime startOfWork,
                          LocalTime endOfWork, Boolean allHours, BranchDto branch) {
-        return new AtmDto(id, address, startOfWork, endOfWork, allHours, branch);
+        return new AtmDto(id, address, startOfWork, endOfWork, allHours, null, null, branch);
     }
 
     public AtmEntity getEntity(Long id, String address, LocalTime startOfWork,
                                LocalTime endOfWork, Boolean allHours, BranchEntity branch) {
-        return new AtmEntity(id, address, startOfWork, endOfWork, allHours, branch);
+        return new AtmEntity(id, address, startOfWork, endOfWork, allHours, null, null, branch);
     }
 }
@@ -9,11 +9,11 @@ public class BranchSupplier {
 
     public BranchDto getDto(Long id, String address, Long phoneNumber,
                             String city, LocalTime startOfWork, LocalTime endOfWork) {
-        return new BranchDto(id, address, phoneNumber, city, startOfWork, endOfWork);
+        return new BranchDto(id, address, phoneNumber, city, startOfWork, endOfWork, null, null);
     }
 
     public BranchEntity genEntity(Long id, String address, Long phoneNumber,
                                   String city, LocalTime startOfWork, LocalTime endOfWork) {
-        return new BranchEntity(id, address, phoneNumber, city, startOfWork, endOfWork);
+        return new BranchEntity(id, address, phoneNumber, city, startOfWork, endOfWork, null, null);
     }
 }
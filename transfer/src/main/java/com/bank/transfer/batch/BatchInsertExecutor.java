@@ -0,0 +1,200 @@
+package com.bank.transfer.batch;
+
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.dto.BulkResultDto;
+import com.bank.transfer.dto.TransferEventDto;
+import com.bank.transfer.outbox.OutboxWriter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.PersistenceException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Пакетное сохранение сущностей с отчётом по каждой записи.
+ * Записи сохраняются пачками по batch_size в отдельных транзакциях,
+ * если пачка не сохранилась, её записи повторяются по одной, чтобы найти ошибочные.
+ * События о сохранённых записях пишутся в outbox в той же транзакции,
+ * в аудит после коммита попадает dto сохранённой записи, как и при создании по одной.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchInsertExecutor {
+
+    private static final String NDJSON_ERROR = "Некорректная строка NDJSON: ";
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditWriter auditWriter;
+    private final OutboxWriter outboxWriter;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    /**
+     * @param dtos лист дто
+     * @param toEntity маппинг дто в сущность, бросает {@link ValidationException} для невалидной записи
+     * @param idGetter технический идентификатор сохранённой сущности
+     * @param toEvent событие outbox о сохранённой сущности
+     * @param toDto маппинг сохранённой сущности в дто для аудита
+     * @return результат по каждой записи в порядке запроса
+     */
+    public <D, E> List<BulkResultDto> insert(List<D> dtos, Function<D, E> toEntity, Function<E, Long> idGetter,
+                                             Function<E, TransferEventDto> toEvent, Function<E, D> toDto) {
+        final Batch<D, E> batch = new Batch<>(toEntity, idGetter, toEvent, toDto);
+        for (int index = 0; index < dtos.size(); index++) {
+            batch.add(index, dtos.get(index));
+        }
+        return batch.finish();
+    }
+
+    /**
+     * @param ndjson поток, по одному json-объекту на строку, читается построчно
+     * @param type класс дто
+     * @param toEntity маппинг дто в сущность, бросает {@link ValidationException} для невалидной записи
+     * @param idGetter технический идентификатор сохранённой сущности
+     * @param toEvent событие outbox о сохранённой сущности
+     * @param toDto маппинг сохранённой сущности в дто для аудита
+     * @return результат по каждой непустой строке в порядке запроса
+     */
+    public <D, E> List<BulkResultDto> insert(InputStream ndjson, Class<D> type, Function<D, E> toEntity,
+                                             Function<E, Long> idGetter, Function<E, TransferEventDto> toEvent,
+                                             Function<E, D> toDto) {
+        final Batch<D, E> batch = new Batch<>(toEntity, idGetter, toEvent, toDto);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            int index = 0;
+            String line = reader.readLine();
+            while (line != null) {
+                if (!line.isBlank()) {
+                    batch.addLine(index++, line, type);
+                }
+                line = reader.readLine();
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return batch.finish();
+    }
+
+    private <E> void persist(List<E> entities, Function<E, TransferEventDto> toEvent) {
+        entities.forEach(entityManager::persist);
+        outboxWriter.write(entities.stream().map(toEvent).toList());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static String causeMessage(RuntimeException exception) {
+        return NestedExceptionUtils.getMostSpecificCause(exception).getMessage();
+    }
+
+    /**
+     * Накопитель одного пакетного запроса
+     */
+    private final class Batch<D, E> {
+
+        private final Function<D, E> toEntity;
+        private final Function<E, Long> idGetter;
+        private final Function<E, TransferEventDto> toEvent;
+        private final Function<E, D> toDto;
+        private final List<Pending<D, E>> pending = new ArrayList<>();
+        private final List<BulkResultDto> results = new ArrayList<>();
+
+        private Batch(Function<D, E> toEntity, Function<E, Long> idGetter, Function<E, TransferEventDto> toEvent,
+                      Function<E, D> toDto) {
+            this.toEntity = toEntity;
+            this.idGetter = idGetter;
+            this.toEvent = toEvent;
+            this.toDto = toDto;
+        }
+
+        private void addLine(int index, String line, Class<D> type) {
+            final D dto;
+            try {
+                dto = objectMapper.readValue(line, type);
+            } catch (JsonProcessingException exception) {
+                results.add(BulkResultDto.failure(index, NDJSON_ERROR + exception.getOriginalMessage()));
+                return;
+            }
+            add(index, dto);
+        }
+
+        private void add(int index, D dto) {
+            try {
+                pending.add(new Pending<>(index, dto, toEntity.apply(dto)));
+            } catch (ValidationException | IllegalArgumentException exception) {
+                results.add(BulkResultDto.failure(index, exception.getMessage()));
+                return;
+            }
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private List<BulkResultDto> finish() {
+            flush();
+            results.sort(Comparator.comparing(BulkResultDto::getIndex));
+            return results;
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            final List<E> entities = pending.stream().map(Pending::entity).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(entities, toEvent));
+                pending.forEach(item -> succeeded(item.index(), item.entity()));
+            } catch (PersistenceException | DataAccessException | TransactionException exception) {
+                log.warn("Пачка из {} записей не сохранена, повтор по одной: {}",
+                        pending.size(), causeMessage(exception));
+                pending.forEach(this::insertSingle);
+            }
+            pending.clear();
+        }
+
+        private void succeeded(int index, E entity) {
+            results.add(BulkResultDto.success(index, idGetter.apply(entity)));
+            auditWriter.created(entity.getClass(), toDto.apply(entity));
+        }
+
+        private void insertSingle(Pending<D, E> item) {
+            final E entity = toEntity.apply(item.dto());
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(List.of(entity), toEvent));
+                succeeded(item.index(), entity);
+            } catch (PersistenceException | DataAccessException | TransactionException exception) {
+                results.add(BulkResultDto.failure(item.index(), causeMessage(exception)));
+            }
+        }
+    }
+
+    /**
+     * Запись, ожидающая сохранения в пачке
+     */
+    private record Pending<D, E>(int index, D dto, E entity) {
+    }
+}
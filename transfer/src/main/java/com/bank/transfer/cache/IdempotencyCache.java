@@ -0,0 +1,64 @@
+package com.bank.transfer.cache;
+
+import com.bank.common.cache.LruTtlCache;
+import com.bank.transfer.entity.IdempotencyKeyEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/**
+ * Кэш завершённых {@link IdempotencyKeyEntity} по ключу поверх {@link LruTtlCache}.
+ * Ключ истекает через ttl-hours после создания, а не после помещения в кэш.
+ */
+@Component
+public class IdempotencyCache {
+
+    private final LruTtlCache<String, IdempotencyKeyEntity> entries;
+    private final Duration ttl;
+
+    public IdempotencyCache(@Value("${transfer.idempotency.cache-size:10000}") int maxSize,
+                            @Value("${transfer.idempotency.ttl-hours:24}") long ttlHours,
+                            MeterRegistry registry) {
+        this.ttl = Duration.ofHours(ttlHours);
+        this.entries = new LruTtlCache<>("idempotency.cache", "transfer", maxSize, ttl, registry, Clock.systemUTC());
+    }
+
+    /**
+     * @param key значение заголовка Idempotency-Key
+     * @return {@link IdempotencyKeyEntity} или null, если ключа нет или он истёк
+     */
+    public IdempotencyKeyEntity get(String key) {
+        final IdempotencyKeyEntity entity = entries.get(key);
+        if (entity != null && isExpired(entity)) {
+            entries.remove(key);
+            return null;
+        }
+        return entity;
+    }
+
+    /**
+     * @param entity {@link IdempotencyKeyEntity} с сохранённым ответом
+     */
+    public void put(IdempotencyKeyEntity entity) {
+        entries.put(entity.getKey(), entity);
+    }
+
+    /**
+     * @param entity {@link IdempotencyKeyEntity}
+     * @return true, если время жизни ключа прошло
+     */
+    public boolean isExpired(IdempotencyKeyEntity entity) {
+        return entity.getCreatedAt().isBefore(expiryBorder());
+    }
+
+    /**
+     * @return ключи, созданные раньше этого момента, считаются истёкшими
+     */
+    public OffsetDateTime expiryBorder() {
+        return OffsetDateTime.now().minus(ttl);
+    }
+}
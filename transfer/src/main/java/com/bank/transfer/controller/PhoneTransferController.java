@@ -1,10 +1,15 @@
 package com.bank.transfer.controller;
 
+import com.bank.transfer.dto.BulkResultDto;
 import com.bank.transfer.dto.PhoneTransferDto;
+import com.bank.transfer.dto.TransferFilterDto;
+import com.bank.transfer.dto.TransferPageDto;
 import com.bank.transfer.entity.PhoneTransferEntity;
 import com.bank.transfer.service.PhoneTransferService;
+import com.bank.transfer.service.IdempotencyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -12,8 +17,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -24,15 +33,22 @@ import java.util.List;
 @RequestMapping("/phone")
 public class PhoneTransferController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final PhoneTransferService service;
+    private final IdempotencyService idempotencyService;
 
     /**
      * @param transfer {@link PhoneTransferDto}
+     * @param idempotencyKey ключ идемпотентности, повтор с тем же ключом возвращает первый ответ
      * @return {@link ResponseEntity<PhoneTransferDto>} HTTPStatus.OK.
      */
     @PostMapping("/create")
-    public ResponseEntity<PhoneTransferDto> create(@RequestBody PhoneTransferDto transfer) {
-        return new ResponseEntity<>(service.create(transfer), HttpStatus.OK);
+    public ResponseEntity<PhoneTransferDto> create(@RequestBody PhoneTransferDto transfer,
+                                                   @RequestHeader(value = IDEMPOTENCY_KEY, required = false)
+                                                   String idempotencyKey) {
+        return new ResponseEntity<>(idempotencyService.execute(idempotencyKey, "phone.create", transfer,
+                PhoneTransferDto.class, () -> service.create(transfer)), HttpStatus.OK);
     }
 
     /**
@@ -63,4 +79,40 @@ public class PhoneTransferController {
     public ResponseEntity<PhoneTransferDto> update(@RequestBody PhoneTransferDto transfer, Long id) {
         return new ResponseEntity<>(service.update(transfer, id), HttpStatus.OK);
     }
+
+    /**
+     * @param transfers лист {@link PhoneTransferDto}
+     * @return {@link ResponseEntity<List>} c {@link BulkResultDto} по каждому переводу, HTTPStatus.OK.
+     */
+    @PostMapping(value = "/create/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BulkResultDto>> createAll(@RequestBody List<PhoneTransferDto> transfers) {
+        return new ResponseEntity<>(service.createAll(transfers), HttpStatus.OK);
+    }
+
+    /**
+     * @param request тело в формате NDJSON, по одному {@link PhoneTransferDto} на строку
+     * @return {@link ResponseEntity<List>} c {@link BulkResultDto} по каждому переводу, HTTPStatus.OK.
+     */
+    @PostMapping(value = "/create/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<BulkResultDto>> createAll(HttpServletRequest request) throws IOException {
+        return new ResponseEntity<>(service.createAll(request.getInputStream()), HttpStatus.OK);
+    }
+
+    /**
+     * @param filter {@link TransferFilterDto} из параметров запроса
+     * @return {@link ResponseEntity} cо страницей {@link PhoneTransferDto}, HTTPStatus.OK.
+     */
+    @GetMapping("/query")
+    public ResponseEntity<TransferPageDto<PhoneTransferDto>> query(TransferFilterDto filter) {
+        return new ResponseEntity<>(service.query(filter), HttpStatus.OK);
+    }
+
+    /**
+     * @param filter {@link TransferFilterDto} из параметров запроса, limit не учитывается
+     * @return {@link ResponseEntity} c выгрузкой {@link PhoneTransferDto} в NDJSON, HTTPStatus.OK.
+     */
+    @GetMapping(value = "/query/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream(TransferFilterDto filter) {
+        return new ResponseEntity<>(service.stream(filter), HttpStatus.OK);
+    }
 }
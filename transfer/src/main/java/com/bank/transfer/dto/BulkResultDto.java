@@ -0,0 +1,41 @@
+package com.bank.transfer.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * ДТО результата пакетного сохранения одной записи
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BulkResultDto {
+    Integer index;
+    Long id;
+    Boolean success;
+    String error;
+
+    /**
+     * @param index порядковый номер записи в запросе
+     * @param id технический идентификатор сохранённой записи
+     * @return {@link BulkResultDto}
+     */
+    public static BulkResultDto success(int index, Long id) {
+        return new BulkResultDto(index, id, Boolean.TRUE, null);
+    }
+
+    /**
+     * @param index порядковый номер записи в запросе
+     * @param error причина, по которой запись не сохранена
+     * @return {@link BulkResultDto}
+     */
+    public static BulkResultDto failure(int index, String error) {
+        return new BulkResultDto(index, null, Boolean.FALSE, error);
+    }
+}
@@ -0,0 +1,31 @@
+package com.bank.transfer.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+
+/**
+ * Событие о созданном переводе для outbox.
+ * number - номер счёта, карты или телефона получателя в зависимости от transferType.
+ * senderNumber - номер счёта отправителя перевода между счетами, его заполняет OutboxWriter.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransferEventDto {
+    String eventId;
+    String transferType;
+    Long transferId;
+    Long accountDetailsId;
+    Long number;
+    BigDecimal amount;
+    String purpose;
+    Long senderNumber;
+}
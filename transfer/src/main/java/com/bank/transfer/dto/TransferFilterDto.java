@@ -0,0 +1,27 @@
+package com.bank.transfer.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+
+/**
+ * ДТО фильтра переводов по счёту.
+ * afterId - курсор, возвращаются переводы с id больше него.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransferFilterDto {
+    Long accountDetailsId;
+    BigDecimal minAmount;
+    BigDecimal maxAmount;
+    Long afterId;
+    Integer limit;
+}
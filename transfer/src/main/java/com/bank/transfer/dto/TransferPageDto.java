@@ -0,0 +1,24 @@
+package com.bank.transfer.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+/**
+ * ДТО страницы переводов.
+ * nextAfterId передаётся в afterId следующего запроса, пустой на последней странице.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransferPageDto<T> {
+    List<T> items;
+    Long nextAfterId;
+}
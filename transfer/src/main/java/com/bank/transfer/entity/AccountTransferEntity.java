@@ -13,6 +13,7 @@ import javax.persistence.Id;
 import javax.persistence.Table;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
+import javax.persistence.SequenceGenerator;
 import javax.validation.constraints.NotNull;
 import java.math.BigDecimal;
 
@@ -30,7 +31,9 @@ public class AccountTransferEntity {
 
     @Id
     @Column(name = "id", nullable = false)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_transfer_seq")
+    @SequenceGenerator(name = "account_transfer_seq", sequenceName = "account_transfer_seq", schema = "transfer",
+            allocationSize = 50)
     Long id;
 
     @Column(name = "account_details_id")
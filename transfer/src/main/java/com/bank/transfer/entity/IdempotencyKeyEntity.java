@@ -0,0 +1,40 @@
+package com.bank.transfer.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.OffsetDateTime;
+
+/**
+ * Entity для таблицы "idempotency_key".
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "idempotency_key", schema = "transfer")
+public class IdempotencyKeyEntity {
+
+    @Id
+    @Column(name = "idempotency_key", nullable = false)
+    String key;
+
+    @Column(name = "request_hash", nullable = false)
+    String requestHash;
+
+    @Column(name = "response")
+    String response;
+
+    @Column(name = "created_at", nullable = false)
+    OffsetDateTime createdAt;
+}
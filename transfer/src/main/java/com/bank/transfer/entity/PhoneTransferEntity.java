@@ -13,6 +13,7 @@ import javax.persistence.Id;
 import javax.persistence.Column;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
+import javax.persistence.SequenceGenerator;
 import javax.validation.constraints.NotNull;
 import java.math.BigDecimal;
 
@@ -30,7 +31,9 @@ public class PhoneTransferEntity {
 
     @Id
     @Column(name = "id", nullable = false)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "phone_transfer_seq")
+    @SequenceGenerator(name = "phone_transfer_seq", sequenceName = "phone_transfer_seq", schema = "transfer",
+            allocationSize = 50)
     Long id;
 
     @Column(name = "account_details_id")
@@ -1,6 +1,7 @@
 package com.bank.transfer.mapper;
 
 import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.dto.TransferEventDto;
 import com.bank.transfer.entity.AccountTransferEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -41,4 +42,15 @@ public interface AccountTransferMapper {
      * @return {@link List<AccountTransferDto>}
      */
     List<AccountTransferDto> toDtoList(List<AccountTransferEntity> transfers);
+
+    /**
+     * @param transfer {@link AccountTransferEntity}
+     * @return {@link TransferEventDto} для outbox
+     */
+    @Mapping(target = "eventId", ignore = true)
+    @Mapping(target = "senderNumber", ignore = true)
+    @Mapping(target = "transferId", source = "id")
+    @Mapping(target = "number", source = "accountNumber")
+    @Mapping(target = "transferType", constant = "ACCOUNT")
+    TransferEventDto toEvent(AccountTransferEntity transfer);
 }
@@ -2,6 +2,7 @@ package com.bank.transfer.mapper;
 
 import com.bank.transfer.dto.AccountTransferDto;
 import com.bank.transfer.dto.CardTransferDto;
+import com.bank.transfer.dto.TransferEventDto;
 import com.bank.transfer.entity.AccountTransferEntity;
 import com.bank.transfer.entity.CardTransferEntity;
 import org.mapstruct.Mapper;
@@ -43,4 +44,15 @@ public interface CardTransferMapper {
      * @return {@link List<CardTransferDto>}
      */
     List<CardTransferDto> toDtoList(List<CardTransferEntity> transfers);
+
+    /**
+     * @param transfer {@link CardTransferEntity}
+     * @return {@link TransferEventDto} для outbox
+     */
+    @Mapping(target = "eventId", ignore = true)
+    @Mapping(target = "senderNumber", ignore = true)
+    @Mapping(target = "transferId", source = "id")
+    @Mapping(target = "number", source = "cardNumber")
+    @Mapping(target = "transferType", constant = "CARD")
+    TransferEventDto toEvent(CardTransferEntity transfer);
 }
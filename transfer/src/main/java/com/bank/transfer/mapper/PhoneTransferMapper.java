@@ -1,6 +1,7 @@
 package com.bank.transfer.mapper;
 
 import com.bank.transfer.dto.PhoneTransferDto;
+import com.bank.transfer.dto.TransferEventDto;
 import com.bank.transfer.entity.PhoneTransferEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -41,4 +42,15 @@ public interface PhoneTransferMapper {
      * @return {@link List<PhoneTransferDto>}
      */
     List<PhoneTransferDto> toDtoList(List<PhoneTransferEntity> transfers);
+
+    /**
+     * @param transfer {@link PhoneTransferEntity}
+     * @return {@link TransferEventDto} для outbox
+     */
+    @Mapping(target = "eventId", ignore = true)
+    @Mapping(target = "senderNumber", ignore = true)
+    @Mapping(target = "transferId", source = "id")
+    @Mapping(target = "number", source = "phoneNumber")
+    @Mapping(target = "transferType", constant = "PHONE")
+    TransferEventDto toEvent(PhoneTransferEntity transfer);
 }
@@ -0,0 +1,91 @@
+package com.bank.transfer.outbox;
+
+import com.bank.common.cache.LruTtlCache;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Номера счетов по accountDetailsId из сервиса счетов, GET transfer.account.details-url?id=...
+ * Номер счёта не меняется, поэтому найденные номера кэшируются, ненайденные запрашиваются одним запросом на пачку.
+ * Ошибка сервиса счетов не мешает сохранить перевод: событие уходит без номера отправителя.
+ * Пустой details-url отключает поиск.
+ */
+@Slf4j
+@Component
+public class AccountNumberResolver {
+
+    private static final Duration TTL = Duration.ofHours(24);
+
+    private final RestTemplate restTemplate;
+    private final String detailsUrl;
+    private final LruTtlCache<Long, Long> numbers;
+
+    public AccountNumberResolver(RestTemplateBuilder builder, MeterRegistry registry,
+                                 @Value("${transfer.account.details-url:}") String detailsUrl,
+                                 @Value("${transfer.account.timeout-ms:500}") long timeoutMs,
+                                 @Value("${transfer.account.cache-size:100000}") int cacheSize) {
+        this.restTemplate = builder
+                .setConnectTimeout(Duration.ofMillis(timeoutMs))
+                .setReadTimeout(Duration.ofMillis(timeoutMs))
+                .build();
+        this.detailsUrl = detailsUrl;
+        this.numbers = new LruTtlCache<>("transfer.account.cache", "account-number", cacheSize, TTL, registry,
+                Clock.systemUTC());
+    }
+
+    /**
+     * @param accountDetailsIds технические идентификаторы счетов, null пропускаются
+     * @return номера найденных счетов по accountDetailsId
+     */
+    public Map<Long, Long> resolve(Collection<Long> accountDetailsIds) {
+        final Map<Long, Long> found = new HashMap<>();
+        final Set<Long> missing = new LinkedHashSet<>();
+        accountDetailsIds.stream().filter(Objects::nonNull).forEach(id -> {
+            final Long number = numbers.get(id);
+            if (number == null) {
+                missing.add(id);
+            } else {
+                found.put(id, number);
+            }
+        });
+        if (missing.isEmpty() || detailsUrl.isBlank()) {
+            return found;
+        }
+        try {
+            final AccountDetails[] details = restTemplate.getForObject(UriComponentsBuilder.fromHttpUrl(detailsUrl)
+                    .queryParam("id", missing).toUriString(), AccountDetails[].class);
+            for (AccountDetails account : Objects.requireNonNullElse(details, new AccountDetails[0])) {
+                if (account.id() != null && account.accountNumber() != null) {
+                    numbers.put(account.id(), account.accountNumber());
+                    found.put(account.id(), account.accountNumber());
+                }
+            }
+        } catch (RestClientException exception) {
+            log.warn("Номера счетов {} не получены: {}", missing, exception.getMessage());
+        }
+        return found;
+    }
+
+    /**
+     * Поля счёта из ответа сервиса счетов, нужные событию
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record AccountDetails(Long id, Long accountNumber) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.bank.transfer.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * {@link OutboxTransport}, отправляющий событие POST-запросом на адрес получателя
+ * из transfer.outbox.destinations. Идентификатор события передаётся в заголовке X-Event-Id.
+ */
+@Component
+@ConditionalOnProperty(prefix = "transfer.outbox", name = "transport", havingValue = "http", matchIfMissing = true)
+public class HttpOutboxTransport implements OutboxTransport {
+
+    private static final String EVENT_ID = "X-Event-Id";
+    private static final String EVENT_TYPE = "X-Event-Type";
+
+    private final RestTemplate restTemplate;
+    private final OutboxProperties properties;
+
+    public HttpOutboxTransport(RestTemplateBuilder builder, OutboxProperties properties) {
+        this.restTemplate = builder
+                .setConnectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()))
+                .setReadTimeout(Duration.ofMillis(properties.getReadTimeoutMs()))
+                .build();
+        this.properties = properties;
+    }
+
+    /**
+     * @param message {@link OutboxMessage}
+     */
+    @Override
+    public void send(OutboxMessage message) {
+        final String url = properties.getDestinations().get(message.destination());
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("Не задан адрес получателя " + message.destination());
+        }
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(EVENT_ID, message.eventId());
+        headers.set(EVENT_TYPE, message.eventType());
+        restTemplate.postForEntity(url, new HttpEntity<>(message.payload(), headers), Void.class);
+    }
+}
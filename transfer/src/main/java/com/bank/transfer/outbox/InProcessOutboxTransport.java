@@ -0,0 +1,26 @@
+package com.bank.transfer.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link OutboxTransport} для тестов и локального запуска без других сервисов.
+ * Публикует {@link OutboxMessage} как событие приложения, исключение слушателя означает неудачную доставку.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "transfer.outbox", name = "transport", havingValue = "in-process")
+public class InProcessOutboxTransport implements OutboxTransport {
+
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * @param message {@link OutboxMessage}
+     */
+    @Override
+    public void send(OutboxMessage message) {
+        publisher.publishEvent(message);
+    }
+}
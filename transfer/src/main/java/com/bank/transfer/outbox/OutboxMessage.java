@@ -0,0 +1,16 @@
+package com.bank.transfer.outbox;
+
+/**
+ * Строка outbox_event, передаваемая в {@link OutboxTransport}
+ *
+ * @param id технический идентификатор строки
+ * @param eventId идентификатор события для дедупликации у получателя
+ * @param destination получатель
+ * @param partitionKey ключ порядка доставки
+ * @param eventType тип события
+ * @param payload тело события в json
+ * @param attempts неудачных попыток доставки до этой
+ */
+public record OutboxMessage(Long id, String eventId, String destination, Long partitionKey, String eventType,
+                            String payload, int attempts) {
+}
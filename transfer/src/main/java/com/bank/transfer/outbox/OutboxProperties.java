@@ -0,0 +1,45 @@
+package com.bank.transfer.outbox;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Настройки outbox из transfer.outbox
+ */
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "transfer.outbox")
+public class OutboxProperties {
+
+    /**
+     * Получатели событий: имя и адрес для http-транспорта
+     */
+    Map<String, String> destinations = new LinkedHashMap<>();
+
+    int batchSize = 100;
+
+    long retryDelayMs = 1_000;
+
+    long maxRetryDelayMs = 300_000;
+
+    /**
+     * После стольких неудачных попыток событие получает статус PARKED
+     */
+    int maxAttempts = 20;
+
+    /**
+     * На сколько строка занимается на время отправки, должно быть больше batch-size * read-timeout-ms
+     */
+    long leaseMs = 600_000;
+
+    long connectTimeoutMs = 1_000;
+
+    long readTimeoutMs = 5_000;
+}
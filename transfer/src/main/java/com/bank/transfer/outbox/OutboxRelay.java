@@ -0,0 +1,235 @@
+package com.bank.transfer.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Доставка событий из outbox_event через {@link OutboxTransport}.
+ * Пачка строк выбирается FOR UPDATE SKIP LOCKED, строки, которые можно отправить, занимаются на lease-ms
+ * сдвигом available_at, и транзакция сразу завершается: отправка идёт без открытой транзакции и блокировок.
+ * Доставленные строки удаляются, при сбое строка остаётся и отправляется повторно (at-least-once),
+ * получатель отбрасывает повтор по X-Event-Id. После max-attempts неудачных попыток строка получает статус
+ * PARKED и больше не задерживает следующие события своего ключа. События одного получателя и одного счёта
+ * доставляются строго по id: если перед событием есть более раннее недоставленное, ключ пропускается
+ * до следующего опроса.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String ID = "id";
+    private static final String DESTINATION = "destination";
+    private static final String PARTITION_KEY = "partition_key";
+    private static final String IDS = "ids";
+    private static final String SELECT_BATCH = "SELECT id, event_id, destination, partition_key, event_type, " +
+            "payload, attempts FROM transfer.outbox_event WHERE status = 'PENDING' AND available_at <= now() " +
+            "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String SELECT_PENDING = "SELECT id, destination, partition_key " +
+            "FROM transfer.outbox_event WHERE status = 'PENDING' AND partition_key IN (:keys) AND id <= :maxId " +
+            "ORDER BY id";
+    private static final String CLAIM = "UPDATE transfer.outbox_event " +
+            "SET available_at = now() + :leaseMs * interval '1 millisecond' WHERE id IN (:ids)";
+    private static final String RELEASE = "UPDATE transfer.outbox_event SET available_at = now() WHERE id IN (:ids)";
+    private static final String DELETE = "DELETE FROM transfer.outbox_event WHERE id IN (:ids)";
+    private static final String FAIL = "UPDATE transfer.outbox_event SET attempts = attempts + 1, last_error = ?, ";
+    private static final String RETRY = FAIL + "available_at = now() + ? * interval '1 millisecond' WHERE id = ?";
+    private static final String PARK = FAIL + "status = 'PARKED' WHERE id = ?";
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxTransport transport;
+    private final OutboxProperties properties;
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter parked;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate,
+                       TransactionTemplate transactionTemplate, OutboxTransport transport,
+                       OutboxProperties properties, MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.transport = transport;
+        this.properties = properties;
+        this.delivered = registry.counter("outbox.delivered");
+        this.failed = registry.counter("outbox.failed");
+        this.parked = registry.counter("outbox.parked");
+    }
+
+    /**
+     * Опрашивает outbox, пока пачки приходят полными и в них есть что доставить
+     */
+    @Scheduled(fixedDelayString = "${transfer.outbox.poll-delay-ms:500}")
+    public void relay() {
+        Claim claim;
+        do {
+            claim = transactionTemplate.execute(status -> claim());
+            if (claim == null || claim.messages().isEmpty()) {
+                return;
+            }
+            deliver(claim.messages());
+        } while (claim.locked() == properties.getBatchSize());
+    }
+
+    /**
+     * Выбирает пачку и занимает строки, которые можно отправить, не нарушая порядок ключа
+     */
+    private Claim claim() {
+        final List<OutboxMessage> batch = jdbcTemplate.query(SELECT_BATCH, OutboxRelay::toMessage,
+                properties.getBatchSize());
+        if (batch.isEmpty()) {
+            return new Claim(0, List.of());
+        }
+        final Map<OrderKey, Iterator<Long>> pending = pending(batch);
+        final Set<OrderKey> halted = new HashSet<>();
+        final List<OutboxMessage> claimed = new ArrayList<>(batch.size());
+        for (OutboxMessage message : batch) {
+            final OrderKey key = OrderKey.of(message);
+            if (halted.contains(key) || !Objects.equals(pending.get(key).next(), message.id())) {
+                halted.add(key);
+            } else {
+                claimed.add(message);
+            }
+        }
+        if (!claimed.isEmpty()) {
+            namedJdbcTemplate.update(CLAIM, new MapSqlParameterSource(IDS, ids(claimed))
+                    .addValue("leaseMs", properties.getLeaseMs()));
+        }
+        return new Claim(batch.size(), claimed);
+    }
+
+    /**
+     * Отправляет занятые строки по порядку, после первого сбоя ключа его остальные строки освобождаются
+     */
+    private void deliver(List<OutboxMessage> messages) {
+        final Set<OrderKey> halted = new HashSet<>();
+        final List<Long> sent = new ArrayList<>(messages.size());
+        final List<Long> released = new ArrayList<>();
+        final List<Failure> failures = new ArrayList<>();
+        for (OutboxMessage message : messages) {
+            final OrderKey key = OrderKey.of(message);
+            if (halted.contains(key)) {
+                released.add(message.id());
+                continue;
+            }
+            final String error = send(message);
+            if (error == null) {
+                sent.add(message.id());
+            } else {
+                halted.add(key);
+                failures.add(new Failure(message, error));
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> complete(sent, released, failures));
+    }
+
+    /**
+     * @return null, если событие доставлено, иначе текст ошибки
+     */
+    private String send(OutboxMessage message) {
+        try {
+            transport.send(message);
+            delivered.increment();
+            return null;
+        } catch (RuntimeException exception) {
+            failed.increment();
+            log.warn("Событие {} не доставлено получателю {}: {}", message.eventId(), message.destination(),
+                    exception.getMessage());
+            return String.valueOf(exception.getMessage());
+        }
+    }
+
+    private void complete(List<Long> sent, List<Long> released, List<Failure> failures) {
+        if (!sent.isEmpty()) {
+            namedJdbcTemplate.update(DELETE, new MapSqlParameterSource(IDS, sent));
+        }
+        if (!released.isEmpty()) {
+            namedJdbcTemplate.update(RELEASE, new MapSqlParameterSource(IDS, released));
+        }
+        for (Failure failure : failures) {
+            final OutboxMessage message = failure.message();
+            if (message.attempts() + 1 >= properties.getMaxAttempts()) {
+                jdbcTemplate.update(PARK, failure.error(), message.id());
+                parked.increment();
+                log.error("Событие {} получателя {} отложено после {} попыток: {}", message.eventId(),
+                        message.destination(), message.attempts() + 1, failure.error());
+            } else {
+                jdbcTemplate.update(RETRY, failure.error(), retryDelayMs(message.attempts()), message.id());
+            }
+        }
+    }
+
+    /**
+     * @return недоставленные id по каждому ключу пачки, включая занятые другими экземплярами
+     */
+    private Map<OrderKey, Iterator<Long>> pending(List<OutboxMessage> batch) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("keys", batch.stream().map(OutboxMessage::partitionKey).distinct().toList())
+                .addValue("maxId", batch.get(batch.size() - 1).id());
+        final Map<OrderKey, List<Long>> ids = new HashMap<>();
+        namedJdbcTemplate.query(SELECT_PENDING, params, (ResultSet rs) -> {
+            ids.computeIfAbsent(new OrderKey(rs.getString(DESTINATION), rs.getLong(PARTITION_KEY)),
+                    ignored -> new ArrayList<>()).add(rs.getLong(ID));
+        });
+        final Map<OrderKey, Iterator<Long>> iterators = new HashMap<>();
+        ids.forEach((key, list) -> iterators.put(key, list.iterator()));
+        return iterators;
+    }
+
+    private long retryDelayMs(int attempts) {
+        final int shift = Math.min(attempts, MAX_BACKOFF_SHIFT);
+        return Math.min(properties.getRetryDelayMs() << shift, properties.getMaxRetryDelayMs());
+    }
+
+    private static List<Long> ids(List<OutboxMessage> messages) {
+        return messages.stream().map(OutboxMessage::id).toList();
+    }
+
+    private static OutboxMessage toMessage(ResultSet rs, int rowNum) throws SQLException {
+        return new OutboxMessage(rs.getLong(ID), rs.getString("event_id"), rs.getString(DESTINATION),
+                rs.getLong(PARTITION_KEY), rs.getString("event_type"), rs.getString("payload"),
+                rs.getInt("attempts"));
+    }
+
+    /**
+     * Получатель и ключ порядка
+     */
+    private record OrderKey(String destination, Long partitionKey) {
+
+        private static OrderKey of(OutboxMessage message) {
+            return new OrderKey(message.destination(), message.partitionKey());
+        }
+    }
+
+    /**
+     * Занятые строки пачки и сколько строк было выбрано
+     */
+    private record Claim(int locked, List<OutboxMessage> messages) {
+    }
+
+    /**
+     * Неудачная попытка доставки
+     */
+    private record Failure(OutboxMessage message, String error) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.bank.transfer.outbox;
+
+/**
+ * Доставка событий outbox получателю.
+ * Доставка не считается выполненной, если метод бросил исключение, тогда событие будет отправлено повторно.
+ */
+public interface OutboxTransport {
+
+    /**
+     * @param message {@link OutboxMessage}
+     */
+    void send(OutboxMessage message);
+}
@@ -0,0 +1,81 @@
+package com.bank.transfer.outbox;
+
+import com.bank.transfer.dto.TransferEventDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Запись событий в таблицу outbox_event в транзакции, сохраняющей перевод.
+ * На каждого получателя из transfer.outbox.destinations пишется своя строка,
+ * чтобы медленный получатель не задерживал остальных.
+ * Событию перевода между счетами добавляется номер счёта отправителя из {@link AccountNumberResolver},
+ * по нему антифрод строит граф переводов между счетами.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    public static final String TRANSFER_CREATED = "TRANSFER_CREATED";
+
+    private static final String ACCOUNT = "ACCOUNT";
+
+    private static final String INSERT = "INSERT INTO transfer.outbox_event " +
+            "(event_id, destination, partition_key, event_type, payload) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+    private final AccountNumberResolver accountNumbers;
+
+    /**
+     * @param event {@link TransferEventDto}
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void write(TransferEventDto event) {
+        write(List.of(event));
+    }
+
+    /**
+     * @param events список {@link TransferEventDto}, пишется одним пакетом JDBC
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void write(List<TransferEventDto> events) {
+        final List<Object[]> rows = new ArrayList<>(events.size() * properties.getDestinations().size());
+        final Map<Long, Long> senders = accountNumbers.resolve(events.stream()
+                .filter(event -> ACCOUNT.equals(event.getTransferType()))
+                .map(TransferEventDto::getAccountDetailsId)
+                .toList());
+        for (TransferEventDto event : events) {
+            event.setEventId(UUID.randomUUID().toString());
+            if (ACCOUNT.equals(event.getTransferType())) {
+                event.setSenderNumber(senders.get(event.getAccountDetailsId()));
+            }
+            final String payload = toJson(event);
+            final long partitionKey = Objects.requireNonNullElse(event.getAccountDetailsId(), 0L);
+            properties.getDestinations().keySet().forEach(destination ->
+                    rows.add(new Object[]{event.getEventId(), destination, partitionKey, TRANSFER_CREATED, payload}));
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, rows);
+        }
+    }
+
+    private String toJson(TransferEventDto event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Событие перевода не сериализуется", exception);
+        }
+    }
+}
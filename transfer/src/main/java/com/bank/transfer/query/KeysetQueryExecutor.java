@@ -0,0 +1,134 @@
+package com.bank.transfer.query;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.dto.TransferFilterDto;
+import com.bank.transfer.dto.TransferPageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Выборка переводов счёта с keyset-пагинацией по id.
+ * Страница читается по индексу (account_details_id, id) без OFFSET, поэтому стоимость не растёт с номером страницы.
+ * Выгрузка в NDJSON идёт курсором с fetch-size в read-only транзакции и не держит строки в памяти.
+ */
+@Component
+public class KeysetQueryExecutor {
+
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate cursorTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final int maxLimit;
+
+    public KeysetQueryExecutor(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                               PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                               @Value("${transfer.query.max-limit:1000}") int maxLimit,
+                               @Value("${transfer.query.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cursorTemplate = new JdbcTemplate(dataSource);
+        this.cursorTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * @param table таблица переводов в схеме transfer
+     * @param filter {@link TransferFilterDto}
+     * @param type класс дто, колонки сопоставляются с полями по имени
+     * @param idGetter технический идентификатор дто
+     * @return {@link TransferPageDto}
+     */
+    public <T> TransferPageDto<T> page(String table, TransferFilterDto filter, Class<T> type,
+                                       Function<T, Long> idGetter) {
+        final int limit = limit(filter.getLimit());
+        final List<Object> args = new ArrayList<>();
+        final String sql = select(table, filter, args) + " LIMIT ?";
+        args.add(limit);
+        final List<T> items = jdbcTemplate.query(sql, rowMapper(type), args.toArray());
+        final Long next = items.size() < limit ? null : idGetter.apply(items.get(items.size() - 1));
+        return new TransferPageDto<>(items, next);
+    }
+
+    /**
+     * Фильтр проверяется сразу, запрос выполняется при записи ответа
+     *
+     * @param table таблица переводов в схеме transfer
+     * @param filter {@link TransferFilterDto}, limit не учитывается
+     * @param type класс дто, колонки сопоставляются с полями по имени
+     * @return {@link StreamingResponseBody}, пишущий по одному дто на строку
+     */
+    public <T> StreamingResponseBody stream(String table, TransferFilterDto filter, Class<T> type) {
+        final List<Object> args = new ArrayList<>();
+        final String sql = select(table, filter, args);
+        final RowMapper<T> rowMapper = rowMapper(type);
+        return out -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+                cursorTemplate.query(sql, rs -> {
+                    try {
+                        writer.write(rowMapper.mapRow(rs, rs.getRow()));
+                    } catch (IOException exception) {
+                        throw new UncheckedIOException(exception);
+                    }
+                }, args.toArray());
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+    }
+
+    private String select(String table, TransferFilterDto filter, List<Object> args) {
+        if (filter.getAccountDetailsId() == null) {
+            throw new ValidationException("Для выборки переводов нужен accountDetailsId");
+        }
+        if (filter.getMinAmount() != null && filter.getMaxAmount() != null &&
+                filter.getMinAmount().compareTo(filter.getMaxAmount()) > 0) {
+            throw new ValidationException("minAmount не может быть больше maxAmount");
+        }
+        final StringBuilder sql = new StringBuilder("SELECT * FROM transfer.").append(table)
+                .append(" WHERE account_details_id = ? AND id > ?");
+        args.add(filter.getAccountDetailsId());
+        args.add(filter.getAfterId() == null ? 0L : filter.getAfterId());
+        if (filter.getMinAmount() != null) {
+            sql.append(" AND amount >= ?");
+            args.add(filter.getMinAmount());
+        }
+        if (filter.getMaxAmount() != null) {
+            sql.append(" AND amount <= ?");
+            args.add(filter.getMaxAmount());
+        }
+        return sql.append(" ORDER BY id").toString();
+    }
+
+    private int limit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > maxLimit) {
+            throw new ValidationException("limit должен быть от 1 до " + maxLimit);
+        }
+        return limit;
+    }
+
+    private static <T> RowMapper<T> rowMapper(Class<T> type) {
+        return BeanPropertyRowMapper.newInstance(type);
+    }
+}
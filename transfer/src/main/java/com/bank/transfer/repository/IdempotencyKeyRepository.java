@@ -0,0 +1,49 @@
+package com.bank.transfer.repository;
+
+import com.bank.transfer.entity.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Репозиторий для {@link IdempotencyKeyEntity}
+ */
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+    /**
+     * Занимает ключ одной вставкой: существующий ключ перезаписывается, только если он истёк,
+     * поэтому из двух экземпляров, одновременно занимающих ключ, его получает один
+     *
+     * @param key значение заголовка Idempotency-Key
+     * @param requestHash хеш операции и тела запроса
+     * @param createdAt время создания ключа
+     * @param border ключи, созданные раньше этого момента, считаются истёкшими
+     * @return 1, если ключ занят этим запросом, 0, если ключ уже занят другим
+     */
+    @Modifying
+    @Query(value = "INSERT INTO transfer.idempotency_key (idempotency_key, request_hash, created_at) " +
+            "VALUES (:key, :requestHash, :createdAt) ON CONFLICT (idempotency_key) DO UPDATE " +
+            "SET request_hash = excluded.request_hash, response = NULL, created_at = excluded.created_at " +
+            "WHERE idempotency_key.created_at < :border", nativeQuery = true)
+    int reserve(@Param("key") String key, @Param("requestHash") String requestHash,
+                @Param("createdAt") OffsetDateTime createdAt, @Param("border") OffsetDateTime border);
+
+    /**
+     * @param key значение заголовка Idempotency-Key
+     * @return количество удалённых ключей, 0, если ключ уже удалён или ответ сохранён
+     */
+    @Modifying
+    @Query("delete from IdempotencyKeyEntity k where k.key = :key and k.response is null")
+    int deleteReservation(@Param("key") String key);
+
+    /**
+     * @param border ключи, созданные раньше этого момента, удаляются
+     * @return количество удалённых ключей
+     */
+    @Modifying
+    @Query("delete from IdempotencyKeyEntity k where k.createdAt < :border")
+    int deleteAllCreatedBefore(@Param("border") OffsetDateTime border);
+}
@@ -1,8 +1,13 @@
 package com.bank.transfer.service;
 
+import com.bank.transfer.dto.BulkResultDto;
 import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.dto.TransferFilterDto;
+import com.bank.transfer.dto.TransferPageDto;
 import com.bank.transfer.entity.AccountTransferEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -34,4 +39,28 @@ public interface AccountTransferService {
      * @return {@link AccountTransferDto}
      */
     List<AccountTransferDto> readAll(List<Long> ids);
+
+    /**
+     * @param transfers лист {@link AccountTransferDto}
+     * @return результат сохранения каждого перевода {@link BulkResultDto}
+     */
+    List<BulkResultDto> createAll(List<AccountTransferDto> transfers);
+
+    /**
+     * @param transfers поток NDJSON, по одному {@link AccountTransferDto} на строку
+     * @return результат сохранения каждого перевода {@link BulkResultDto}
+     */
+    List<BulkResultDto> createAll(InputStream transfers);
+
+    /**
+     * @param filter {@link TransferFilterDto}
+     * @return страница {@link AccountTransferDto} по возрастанию id
+     */
+    TransferPageDto<AccountTransferDto> query(TransferFilterDto filter);
+
+    /**
+     * @param filter {@link TransferFilterDto}
+     * @return выгрузка {@link AccountTransferDto} в NDJSON по возрастанию id
+     */
+    StreamingResponseBody stream(TransferFilterDto filter);
 }
@@ -1,8 +1,13 @@
 package com.bank.transfer.service;
 
+import com.bank.transfer.dto.BulkResultDto;
 import com.bank.transfer.dto.CardTransferDto;
+import com.bank.transfer.dto.TransferFilterDto;
+import com.bank.transfer.dto.TransferPageDto;
 import com.bank.transfer.entity.CardTransferEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -34,4 +39,28 @@ public interface CardTransferService {
      * @return {@link List<CardTransferDto>}
      */
     List<CardTransferDto> readAll(List<Long> ids);
+
+    /**
+     * @param transfers лист {@link CardTransferDto}
+     * @return результат сохранения каждого перевода {@link BulkResultDto}
+     */
+    List<BulkResultDto> createAll(List<CardTransferDto> transfers);
+
+    /**
+     * @param transfers поток NDJSON, по одному {@link CardTransferDto} на строку
+     * @return результат сохранения каждого перевода {@link BulkResultDto}
+     */
+    List<BulkResultDto> createAll(InputStream transfers);
+
+    /**
+     * @param filter {@link TransferFilterDto}
+     * @return страница {@link CardTransferDto} по возрастанию id
+     */
+    TransferPageDto<CardTransferDto> query(TransferFilterDto filter);
+
+    /**
+     * @param filter {@link TransferFilterDto}
+     * @return выгрузка {@link CardTransferDto} в NDJSON по возрастанию id
+     */
+    StreamingResponseBody stream(TransferFilterDto filter);
 }
@@ -0,0 +1,21 @@
+package com.bank.transfer.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Сервис для выполнения запросов с заголовком Idempotency-Key
+ */
+public interface IdempotencyService {
+
+    /**
+     * Выполняет операцию не больше одного раза на ключ, повтор получает сохранённый ответ.
+     *
+     * @param key значение заголовка Idempotency-Key, без ключа операция просто выполняется
+     * @param operation имя операции, ключ нельзя переиспользовать для другой операции
+     * @param request тело запроса, повтор с тем же ключом и другим телом отклоняется
+     * @param type класс ответа
+     * @param action операция
+     * @return ответ операции
+     */
+    <T> T execute(String key, String operation, Object request, Class<T> type, Supplier<T> action);
+}
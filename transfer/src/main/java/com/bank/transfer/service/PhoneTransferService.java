@@ -1,8 +1,13 @@
 package com.bank.transfer.service;
 
+import com.bank.transfer.dto.BulkResultDto;
 import com.bank.transfer.dto.PhoneTransferDto;
+import com.bank.transfer.dto.TransferFilterDto;
+import com.bank.transfer.dto.TransferPageDto;
 import com.bank.transfer.entity.PhoneTransferEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -34,4 +39,28 @@ public interface PhoneTransferService {
      * @return {@link List<PhoneTransferDto>}
      */
     List<PhoneTransferDto> readAll(List<Long> ids);
+
+    /**
+     * @param transfers лист {@link PhoneTransferDto}
+     * @return результат сохранения каждого перевода {@link BulkResultDto}
+     */
+    List<BulkResultDto> createAll(List<PhoneTransferDto> transfers);
+
+    /**
+     * @param transfers поток NDJSON, по одному {@link PhoneTransferDto} на строку
+     * @return результат сохранения каждого перевода {@link BulkResultDto}
+     */
+    List<BulkResultDto> createAll(InputStream transfers);
+
+    /**
+     * @param filter {@link TransferFilterDto}
+     * @return страница {@link PhoneTransferDto} по возрастанию id
+     */
+    TransferPageDto<PhoneTransferDto> query(TransferFilterDto filter);
+
+    /**
+     * @param filter {@link TransferFilterDto}
+     * @return выгрузка {@link PhoneTransferDto} в NDJSON по возрастанию id
+     */
+    StreamingResponseBody stream(TransferFilterDto filter);
 }
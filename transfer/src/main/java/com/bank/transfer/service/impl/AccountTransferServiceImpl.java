@@ -1,17 +1,27 @@
 package com.bank.transfer.service.impl;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.batch.BatchInsertExecutor;
+import com.bank.transfer.dto.BulkResultDto;
 import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.dto.TransferFilterDto;
+import com.bank.transfer.dto.TransferPageDto;
 import com.bank.transfer.entity.AccountTransferEntity;
 import com.bank.transfer.returner.EntityNotFoundReturner;
 import com.bank.transfer.mapper.AccountTransferMapper;
+import com.bank.transfer.outbox.OutboxWriter;
+import com.bank.transfer.query.KeysetQueryExecutor;
 import com.bank.transfer.repository.AccountTransferRepository;
 import com.bank.transfer.service.AccountTransferService;
-import com.bank.transfer.validator.ReadAllValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -22,10 +32,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AccountTransferServiceImpl implements AccountTransferService {
 
+    private static final String TABLE = "account_transfer";
+
     private final AccountTransferRepository repository;
     private final AccountTransferMapper mapper;
+    private final AuditWriter auditWriter;
     private final EntityNotFoundReturner notFoundReturner;
-    private final ReadAllValidator validator;
+    private final BulkReader bulkReader;
+    private final BatchInsertExecutor batchExecutor;
+    private final OutboxWriter outboxWriter;
+    private final KeysetQueryExecutor queryExecutor;
 
     /**
      * @param transfer {@link AccountTransferDto}
@@ -35,7 +51,10 @@ public class AccountTransferServiceImpl implements AccountTransferService {
     @Transactional
     public AccountTransferDto create(AccountTransferDto transfer) {
         final AccountTransferEntity accountTransfer = repository.save(mapper.toEntity(transfer));
-        return mapper.toDto(accountTransfer);
+        outboxWriter.write(mapper.toEvent(accountTransfer));
+        final AccountTransferDto result = mapper.toDto(accountTransfer);
+        auditWriter.created(AccountTransferEntity.class, result);
+        return result;
     }
 
     /**
@@ -50,8 +69,11 @@ public class AccountTransferServiceImpl implements AccountTransferService {
                 orElseThrow(() -> {
                     throw notFoundReturner.getException("AccountTransfer для обновления с указанным id не найден");
                 });
+        final AccountTransferDto before = mapper.toDto(accountTransfer);
         final AccountTransferEntity transfer = repository.save(mapper.mergeToEntity(transferDto, accountTransfer));
-        return mapper.toDto(transfer);
+        final AccountTransferDto result = mapper.toDto(transfer);
+        auditWriter.updated(AccountTransferEntity.class, before, result);
+        return result;
     }
 
     /**
@@ -59,6 +81,7 @@ public class AccountTransferServiceImpl implements AccountTransferService {
      * @return  {@link AccountTransferDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public AccountTransferDto read(Long id) {
         final AccountTransferEntity transfer = repository.findById(id).
                 orElseThrow(() -> {
@@ -72,10 +95,60 @@ public class AccountTransferServiceImpl implements AccountTransferService {
      * @return  {@link List<AccountTransferDto>}
      */
     @Override
+    @Transactional(readOnly = true)
     public List<AccountTransferDto> readAll(List<Long> ids) {
-        final String exceptionMessage = "Лист содержит один и более id, по которым нет AccountTransfer";
-        final List<AccountTransferDto> transfers = mapper.toDtoList(repository.findAllById(ids));
-        validator.validation(transfers, ids, exceptionMessage);
-        return transfers;
+        return bulkReader.readAll(ids, chunk -> mapper.toDtoList(repository.findAllById(chunk)),
+                AccountTransferDto::getId, "Лист содержит один и более id, по которым нет AccountTransfer");
+    }
+
+    /**
+     * Сохраняет переводы пачками, каждая пачка в своей транзакции
+     *
+     * @param transfers лист {@link AccountTransferDto}
+     * @return  {@link List<BulkResultDto>}
+     */
+    @Override
+    public List<BulkResultDto> createAll(List<AccountTransferDto> transfers) {
+        return batchExecutor.insert(transfers, this::toValidEntity, AccountTransferEntity::getId, mapper::toEvent,
+                mapper::toDto);
+    }
+
+    /**
+     * Сохраняет переводы пачками, каждая пачка в своей транзакции
+     *
+     * @param transfers поток NDJSON, по одному {@link AccountTransferDto} на строку
+     * @return  {@link List<BulkResultDto>}
+     */
+    @Override
+    public List<BulkResultDto> createAll(InputStream transfers) {
+        return batchExecutor.insert(transfers, AccountTransferDto.class,
+                this::toValidEntity, AccountTransferEntity::getId, mapper::toEvent, mapper::toDto);
+    }
+
+    /**
+     * @param filter {@link TransferFilterDto}
+     * @return  {@link TransferPageDto} c {@link AccountTransferDto}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TransferPageDto<AccountTransferDto> query(TransferFilterDto filter) {
+        return queryExecutor.page(TABLE, filter, AccountTransferDto.class, AccountTransferDto::getId);
+    }
+
+    /**
+     * @param filter {@link TransferFilterDto}
+     * @return  {@link StreamingResponseBody} c {@link AccountTransferDto} в NDJSON
+     */
+    @Override
+    public StreamingResponseBody stream(TransferFilterDto filter) {
+        return queryExecutor.stream(TABLE, filter, AccountTransferDto.class);
+    }
+
+    private AccountTransferEntity toValidEntity(AccountTransferDto transfer) {
+        if (transfer == null || transfer.getAccountNumber() == null || transfer.getAmount() == null ||
+                transfer.getAccountDetailsId() == null) {
+            throw new ValidationException("AccountTransfer должен содержать accountNumber, amount и accountDetailsId");
+        }
+        return mapper.toEntity(transfer);
     }
 }
@@ -1,17 +1,27 @@
 package com.bank.transfer.service.impl;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.batch.BatchInsertExecutor;
+import com.bank.transfer.dto.BulkResultDto;
 import com.bank.transfer.dto.CardTransferDto;
+import com.bank.transfer.dto.TransferFilterDto;
+import com.bank.transfer.dto.TransferPageDto;
 import com.bank.transfer.entity.CardTransferEntity;
 import com.bank.transfer.mapper.CardTransferMapper;
+import com.bank.transfer.outbox.OutboxWriter;
+import com.bank.transfer.query.KeysetQueryExecutor;
 import com.bank.transfer.returner.EntityNotFoundReturner;
 import com.bank.transfer.repository.CardTransferRepository;
 import com.bank.transfer.service.CardTransferService;
-import com.bank.transfer.validator.ReadAllValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -22,10 +32,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CardTransferServiceImpl implements CardTransferService {
 
+    private static final String TABLE = "card_transfer";
+
     private final CardTransferRepository repository;
     private final CardTransferMapper mapper;
+    private final AuditWriter auditWriter;
     private final EntityNotFoundReturner notFoundReturner;
-    private final ReadAllValidator validator;
+    private final BulkReader bulkReader;
+    private final BatchInsertExecutor batchExecutor;
+    private final OutboxWriter outboxWriter;
+    private final KeysetQueryExecutor queryExecutor;
 
     /**
      * @param transfer {@link CardTransferDto}
@@ -35,7 +51,10 @@ public class CardTransferServiceImpl implements CardTransferService {
     @Transactional
     public CardTransferDto create(CardTransferDto transfer) {
         final CardTransferEntity cardTransfer = repository.save(mapper.toEntity(transfer));
-        return mapper.toDto(cardTransfer);
+        outboxWriter.write(mapper.toEvent(cardTransfer));
+        final CardTransferDto result = mapper.toDto(cardTransfer);
+        auditWriter.created(CardTransferEntity.class, result);
+        return result;
     }
 
     /**
@@ -50,8 +69,11 @@ public class CardTransferServiceImpl implements CardTransferService {
                 orElseThrow(() -> {
                     throw notFoundReturner.getException("CardTransfer для обновления с указанным id не найден");
                 });
+        final CardTransferDto before = mapper.toDto(cardTransfer);
         final CardTransferEntity transfer = repository.save(mapper.mergeToEntity(transferDto, cardTransfer));
-        return mapper.toDto(repository.save(transfer));
+        final CardTransferDto result = mapper.toDto(repository.save(transfer));
+        auditWriter.updated(CardTransferEntity.class, before, result);
+        return result;
     }
 
     /**
@@ -59,6 +81,7 @@ public class CardTransferServiceImpl implements CardTransferService {
      * @return  {@link CardTransferDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public CardTransferDto read(Long id) {
         final CardTransferEntity cardTransfer = repository.findById(id).
                 orElseThrow(() -> {
@@ -72,10 +95,60 @@ public class CardTransferServiceImpl implements CardTransferService {
      * @return  {@link List<CardTransferDto>}
      */
     @Override
+    @Transactional(readOnly = true)
     public List<CardTransferDto> readAll(List<Long> ids) {
-        final List<CardTransferDto> transfers = mapper.toDtoList(repository.findAllById(ids));
-        final String exceptionMessage = "Лист содержит один и более id, по которым нет CardTransfer";
-        validator.validation(transfers, ids, exceptionMessage);
-        return transfers;
+        return bulkReader.readAll(ids, chunk -> mapper.toDtoList(repository.findAllById(chunk)),
+                CardTransferDto::getId, "Лист содержит один и более id, по которым нет CardTransfer");
+    }
+
+    /**
+     * Сохраняет переводы пачками, каждая пачка в своей транзакции
+     *
+     * @param transfers лист {@link CardTransferDto}
+     * @return  {@link List<BulkResultDto>}
+     */
+    @Override
+    public List<BulkResultDto> createAll(List<CardTransferDto> transfers) {
+        return batchExecutor.insert(transfers, this::toValidEntity, CardTransferEntity::getId, mapper::toEvent,
+                mapper::toDto);
+    }
+
+    /**
+     * Сохраняет переводы пачками, каждая пачка в своей транзакции
+     *
+     * @param transfers поток NDJSON, по одному {@link CardTransferDto} на строку
+     * @return  {@link List<BulkResultDto>}
+     */
+    @Override
+    public List<BulkResultDto> createAll(InputStream transfers) {
+        return batchExecutor.insert(transfers, CardTransferDto.class,
+                this::toValidEntity, CardTransferEntity::getId, mapper::toEvent, mapper::toDto);
+    }
+
+    /**
+     * @param filter {@link TransferFilterDto}
+     * @return  {@link TransferPageDto} c {@link CardTransferDto}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TransferPageDto<CardTransferDto> query(TransferFilterDto filter) {
+        return queryExecutor.page(TABLE, filter, CardTransferDto.class, CardTransferDto::getId);
+    }
+
+    /**
+     * @param filter {@link TransferFilterDto}
+     * @return  {@link StreamingResponseBody} c {@link CardTransferDto} в NDJSON
+     */
+    @Override
+    public StreamingResponseBody stream(TransferFilterDto filter) {
+        return queryExecutor.stream(TABLE, filter, CardTransferDto.class);
+    }
+
+    private CardTransferEntity toValidEntity(CardTransferDto transfer) {
+        if (transfer == null || transfer.getCardNumber() == null || transfer.getAmount() == null ||
+                transfer.getAccountDetailsId() == null) {
+            throw new ValidationException("CardTransfer должен содержать cardNumber, amount и accountDetailsId");
+        }
+        return mapper.toEntity(transfer);
     }
 }
@@ -0,0 +1,167 @@
+package com.bank.transfer.service.impl;
+
+import com.bank.common.exception.ConflictException;
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.cache.IdempotencyCache;
+import com.bank.transfer.entity.IdempotencyKeyEntity;
+import com.bank.transfer.repository.IdempotencyKeyRepository;
+import com.bank.transfer.service.IdempotencyService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Реализация {@link IdempotencyService}.
+ * Завершённые ответы отдаются из {@link IdempotencyCache}, затем из таблицы idempotency_key.
+ * Одновременные запросы с одним ключом в этом экземпляре ждут первый, а не выполняются параллельно,
+ * между экземплярами ключ занимается одной вставкой в таблицу, проигравший запрос получает сохранённый ответ.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final String IN_PROGRESS = "Запрос с этим Idempotency-Key ещё выполняется";
+
+    private final IdempotencyKeyRepository repository;
+    private final IdempotencyCache cache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, CompletableFuture<IdempotencyKeyEntity>> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> T execute(String key, String operation, Object request, Class<T> type, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        final String requestHash = hash(operation, request);
+        final IdempotencyKeyEntity cached = cache.get(key);
+        if (cached != null) {
+            return replay(cached, requestHash, type);
+        }
+        final CompletableFuture<IdempotencyKeyEntity> own = new CompletableFuture<>();
+        final CompletableFuture<IdempotencyKeyEntity> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            return replay(await(running), requestHash, type);
+        }
+        try {
+            final IdempotencyKeyEntity completed = executeOnce(key, requestHash, action);
+            cache.put(completed);
+            own.complete(completed);
+            return replay(completed, requestHash, type);
+        } catch (RuntimeException exception) {
+            own.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Удаляет истёкшие ключи
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${transfer.idempotency.cleanup-delay-ms:3600000}")
+    public void deleteExpired() {
+        final int deleted = repository.deleteAllCreatedBefore(cache.expiryBorder());
+        log.info("Удалено истёкших ключей идемпотентности: {}", deleted);
+    }
+
+    private <T> IdempotencyKeyEntity executeOnce(String key, String requestHash, Supplier<T> action) {
+        final OffsetDateTime createdAt = OffsetDateTime.now();
+        final Integer reserved = transactionTemplate.execute(status ->
+                repository.reserve(key, requestHash, createdAt, cache.expiryBorder()));
+        if (reserved == null || reserved == 0) {
+            return stored(key);
+        }
+        final IdempotencyKeyEntity reservation = new IdempotencyKeyEntity(key, requestHash, null, createdAt);
+        try {
+            return transactionTemplate.execute(status -> {
+                reservation.setResponse(write(action.get()));
+                return repository.save(reservation);
+            });
+        } catch (RuntimeException exception) {
+            release(key, exception);
+            throw exception;
+        }
+    }
+
+    /**
+     * Ключ занят другим запросом: повтор получает его сохранённый ответ
+     */
+    private IdempotencyKeyEntity stored(String key) {
+        final IdempotencyKeyEntity stored = repository.findById(key).orElse(null);
+        if (stored == null || stored.getResponse() == null) {
+            throw new ConflictException(IN_PROGRESS);
+        }
+        return stored;
+    }
+
+    /**
+     * Освобождает ключ после ошибки операции, ошибка освобождения не скрывает ошибку операции
+     */
+    private void release(String key, RuntimeException cause) {
+        try {
+            transactionTemplate.execute(status -> repository.deleteReservation(key));
+        } catch (RuntimeException exception) {
+            log.warn("Не удалось освободить Idempotency-Key {}: {}", key, exception.getMessage());
+            cause.addSuppressed(exception);
+        }
+    }
+
+    private <T> T replay(IdempotencyKeyEntity entity, String requestHash, Class<T> type) {
+        if (!entity.getRequestHash().equals(requestHash)) {
+            throw new ValidationException("Idempotency-Key уже использован для другого запроса");
+        }
+        try {
+            return objectMapper.readValue(entity.getResponse(), type);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Сохранённый ответ не читается", exception);
+        }
+    }
+
+    private IdempotencyKeyEntity await(CompletableFuture<IdempotencyKeyEntity> running) {
+        try {
+            return running.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Ответ не сериализуется", exception);
+        }
+    }
+
+    private String hash(String operation, Object request) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException exception) {
+            throw new IllegalStateException("Не удалось вычислить хеш запроса", exception);
+        }
+    }
+}
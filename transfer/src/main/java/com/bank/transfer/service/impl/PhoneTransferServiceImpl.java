@@ -1,17 +1,27 @@
 package com.bank.transfer.service.impl;
 
+import com.bank.common.audit.AuditWriter;
+import com.bank.common.bulk.BulkReader;
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.batch.BatchInsertExecutor;
+import com.bank.transfer.dto.BulkResultDto;
 import com.bank.transfer.dto.PhoneTransferDto;
+import com.bank.transfer.dto.TransferFilterDto;
+import com.bank.transfer.dto.TransferPageDto;
 import com.bank.transfer.entity.PhoneTransferEntity;
 import com.bank.transfer.returner.EntityNotFoundReturner;
 import com.bank.transfer.mapper.PhoneTransferMapper;
+import com.bank.transfer.outbox.OutboxWriter;
+import com.bank.transfer.query.KeysetQueryExecutor;
 import com.bank.transfer.repository.PhoneTransferRepository;
 import com.bank.transfer.service.PhoneTransferService;
-import com.bank.transfer.validator.ReadAllValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -22,10 +32,16 @@ import java.util.List;
 @Service
 public class PhoneTransferServiceImpl implements PhoneTransferService {
 
+    private static final String TABLE = "phone_transfer";
+
     private final PhoneTransferRepository repository;
     private final PhoneTransferMapper mapper;
+    private final AuditWriter auditWriter;
     private final EntityNotFoundReturner notFoundReturner;
-    private final ReadAllValidator validator;
+    private final BulkReader bulkReader;
+    private final BatchInsertExecutor batchExecutor;
+    private final OutboxWriter outboxWriter;
+    private final KeysetQueryExecutor queryExecutor;
 
     /**
      * @param transfer {@link PhoneTransferDto}
@@ -35,7 +51,10 @@ public class PhoneTransferServiceImpl implements PhoneTransferService {
     @Transactional
     public PhoneTransferDto create(PhoneTransferDto transfer) {
         final PhoneTransferEntity phoneTransfer = repository.save(mapper.toEntity(transfer));
-        return mapper.toDto(phoneTransfer);
+        outboxWriter.write(mapper.toEvent(phoneTransfer));
+        final PhoneTransferDto result = mapper.toDto(phoneTransfer);
+        auditWriter.created(PhoneTransferEntity.class, result);
+        return result;
     }
 
     /**
@@ -50,8 +69,11 @@ public class PhoneTransferServiceImpl implements PhoneTransferService {
                 orElseThrow(() -> {
                     throw notFoundReturner.getException("PhoneTransfer для обновления с указанным id не найден");
                 });
+        final PhoneTransferDto before = mapper.toDto(phoneTransfer);
         final PhoneTransferEntity transfer = repository.save(mapper.mergeToEntity(transferDto, phoneTransfer));
-        return mapper.toDto(transfer);
+        final PhoneTransferDto result = mapper.toDto(transfer);
+        auditWriter.updated(PhoneTransferEntity.class, before, result);
+        return result;
     }
 
     /**
@@ -59,6 +81,7 @@ public class PhoneTransferServiceImpl implements PhoneTransferService {
      * @return  {@link PhoneTransferDto}
      */
     @Override
+    @Transactional(readOnly = true)
     public PhoneTransferDto read(Long id) {
         final PhoneTransferEntity phoneTransfer = repository.findById(id).
                 orElseThrow(() -> {
@@ -72,10 +95,60 @@ public class PhoneTransferServiceImpl implements PhoneTransferService {
      * @return  {@link List<PhoneTransferDto>}
      */
     @Override
+    @Transactional(readOnly = true)
     public List<PhoneTransferDto> readAll(List<Long> ids) {
-        final List<PhoneTransferDto> transfers = mapper.toDtoList(repository.findAllById(ids));
-        final String exceptionMessage = "Лист содержит один и более id, по которым нет PhoneTransfer";
-        validator.validation(transfers, ids, exceptionMessage);
-        return transfers;
+        return bulkReader.readAll(ids, chunk -> mapper.toDtoList(repository.findAllById(chunk)),
+                PhoneTransferDto::getId, "Лист содержит один и более id, по которым нет PhoneTransfer");
+    }
+
+    /**
+     * Сохраняет переводы пачками, каждая пачка в своей транзакции
+     *
+     * @param transfers лист {@link PhoneTransferDto}
+     * @return  {@link List<BulkResultDto>}
+     */
+    @Override
+    public List<BulkResultDto> createAll(List<PhoneTransferDto> transfers) {
+        return batchExecutor.insert(transfers, this::toValidEntity, PhoneTransferEntity::getId, mapper::toEvent,
+                mapper::toDto);
+    }
+
+    /**
+     * Сохраняет переводы пачками, каждая пачка в своей транзакции
+     *
+     * @param transfers поток NDJSON, по одному {@link PhoneTransferDto} на строку
+     * @return  {@link List<BulkResultDto>}
+     */
+    @Override
+    public List<BulkResultDto> createAll(InputStream transfers) {
+        return batchExecutor.insert(transfers, PhoneTransferDto.class,
+                this::toValidEntity, PhoneTransferEntity::getId, mapper::toEvent, mapper::toDto);
+    }
+
+    /**
+     * @param filter {@link TransferFilterDto}
+     * @return  {@link TransferPageDto} c {@link PhoneTransferDto}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TransferPageDto<PhoneTransferDto> query(TransferFilterDto filter) {
+        return queryExecutor.page(TABLE, filter, PhoneTransferDto.class, PhoneTransferDto::getId);
+    }
+
+    /**
+     * @param filter {@link TransferFilterDto}
+     * @return  {@link StreamingResponseBody} c {@link PhoneTransferDto} в NDJSON
+     */
+    @Override
+    public StreamingResponseBody stream(TransferFilterDto filter) {
+        return queryExecutor.stream(TABLE, filter, PhoneTransferDto.class);
+    }
+
+    private PhoneTransferEntity toValidEntity(PhoneTransferDto transfer) {
+        if (transfer == null || transfer.getPhoneNumber() == null || transfer.getAmount() == null ||
+                transfer.getAccountDetailsId() == null) {
+            throw new ValidationException("PhoneTransfer должен содержать phoneNumber, amount и accountDetailsId");
+        }
+        return mapper.toEntity(transfer);
     }
 }
@@ -0,0 +1,132 @@
+package com.bank.transfer.outbox;
+
+import com.bank.transfer.ParentTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class OutboxRelayTest extends ParentTest {
+
+    private static final String ANTIFRAUD = "antifraud";
+    private static final String POISON = "poison";
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final List<String> steps = new CopyOnWriteArrayList<>();
+    private final OutboxProperties properties = new OutboxProperties();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void init() {
+        properties.setMaxAttempts(MAX_ATTEMPTS);
+        final OutboxTransport transport = new InProcessOutboxTransport(event -> {
+            final OutboxMessage message = (OutboxMessage) event;
+            if (POISON.equals(message.payload())) {
+                throw new IllegalStateException("получатель отклонил событие");
+            }
+            steps.add("send " + message.id());
+        });
+        doAnswer(invocation -> steps.add("commit")).when(transactionManager).commit(any());
+        relay = new OutboxRelay(jdbcTemplate, namedJdbcTemplate, new TransactionTemplate(transactionManager),
+                transport, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("события отправляются по порядку после коммита выборки и удаляются после доставки")
+    void relayDeliversOutsideTransactionTest() {
+        final List<OutboxMessage> batch = List.of(message(1L, ONE, "{}", 0), message(2L, ONE, "{}", 0),
+                message(3L, TWO, "{}", 0));
+        select(batch);
+
+        relay.relay();
+
+        assertAll(() -> {
+            assertEquals(List.of("commit", "send 1", "send 2", "send 3", "commit"), steps);
+            verify(namedJdbcTemplate).update(sql("DELETE"), ids(List.of(1L, 2L, 3L)));
+        });
+    }
+
+    @Test
+    @DisplayName("событие после max-attempts откладывается, остальные события ключа ждут следующего опроса")
+    void relayParksPoisonTest() {
+        final List<OutboxMessage> batch = List.of(message(1L, ONE, POISON, MAX_ATTEMPTS - 1),
+                message(2L, ONE, "{}", 0), message(3L, TWO, POISON, 0), message(4L, TWO, "{}", 0));
+        select(batch);
+
+        relay.relay();
+
+        assertAll(() -> {
+            assertEquals(List.of("commit", "commit"), steps);
+            verify(jdbcTemplate).update(sql("PARKED"), anyString(), eq(1L));
+            verify(jdbcTemplate).update(sql("available_at = now() +"), anyString(), any(), eq(3L));
+            verify(namedJdbcTemplate).update(sql("available_at = now() WHERE"), ids(List.of(2L, 4L)));
+            verify(namedJdbcTemplate, never()).update(sql("DELETE"), any(SqlParameterSource.class));
+        });
+    }
+
+    /**
+     * Outbox отдаёт пачку batch один раз, все её строки - единственные недоставленные своих ключей
+     */
+    private void select(List<OutboxMessage> batch) {
+        doReturn(batch).when(jdbcTemplate).query(anyString(), any(RowMapper.class), any());
+        doAnswer(invocation -> {
+            final RowCallbackHandler handler = invocation.getArgument(2);
+            for (OutboxMessage message : batch) {
+                final ResultSet row = mock(ResultSet.class);
+                doReturn(message.id()).when(row).getLong("id");
+                doReturn(message.partitionKey()).when(row).getLong("partition_key");
+                doReturn(message.destination()).when(row).getString("destination");
+                handler.processRow(row);
+            }
+            return null;
+        }).when(namedJdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    private static OutboxMessage message(Long id, Long partitionKey, String payload, int attempts) {
+        return new OutboxMessage(id, "event-" + id, ANTIFRAUD, partitionKey, OutboxWriter.TRANSFER_CREATED, payload,
+                attempts);
+    }
+
+    private static String sql(String fragment) {
+        return argThat(sql -> sql.contains(fragment));
+    }
+
+    private static SqlParameterSource ids(List<Long> ids) {
+        return argThat(params -> params instanceof MapSqlParameterSource source && ids.equals(source.getValue("ids")));
+    }
+}
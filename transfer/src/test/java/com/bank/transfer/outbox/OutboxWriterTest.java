@@ -0,0 +1,105 @@
+package com.bank.transfer.outbox;
+
+import com.bank.transfer.ParentTest;
+import com.bank.transfer.dto.TransferEventDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class OutboxWriterTest extends ParentTest {
+
+    private static final String DETAILS_URL = "http://account/api/account/details";
+    private static final String SENDER_NUMBER = "senderNumber";
+    private static final long ACCOUNT_NUMBER = 40817810000000001L;
+    private static final int PAYLOAD = 4;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> payloads = new ArrayList<>();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private MockRestServiceServer accountService;
+    private OutboxWriter writer;
+
+    @BeforeEach
+    void init() {
+        final MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+        final AccountNumberResolver resolver = new AccountNumberResolver(new RestTemplateBuilder(customizer),
+                new SimpleMeterRegistry(), DETAILS_URL, 500, 100);
+        accountService = customizer.getServer();
+        final OutboxProperties properties = new OutboxProperties();
+        properties.setDestinations(Map.of("antifraud", "http://antifraud/scoring"));
+        writer = new OutboxWriter(jdbcTemplate, objectMapper, properties, resolver);
+        doAnswer(invocation -> {
+            final List<Object[]> rows = invocation.getArgument(1);
+            rows.forEach(row -> payloads.add((String) row[PAYLOAD]));
+            return new int[rows.size()];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("событие перевода между счетами получает номер счёта отправителя, повтор берётся из кэша")
+    void writeSenderNumberTest() throws Exception {
+        accountService.expect(once(), requestTo(DETAILS_URL + "?id=1"))
+                .andRespond(withSuccess("[{\"id\":1,\"accountNumber\":" + ACCOUNT_NUMBER + ",\"money\":10}]",
+                        MediaType.APPLICATION_JSON));
+
+        writer.write(List.of(event("ACCOUNT", ONE), event("CARD", TWO)));
+        writer.write(event("ACCOUNT", ONE));
+
+        accountService.verify();
+        assertAll(() -> {
+            assertEquals(ACCOUNT_NUMBER, payload(0).get(SENDER_NUMBER).asLong());
+            assertTrue(payload(1).get(SENDER_NUMBER).isNull());
+            assertEquals(ACCOUNT_NUMBER, payload(2).get(SENDER_NUMBER).asLong());
+        });
+    }
+
+    @Test
+    @DisplayName("ошибка сервиса счетов не мешает записать событие, номер отправителя пустой")
+    void writeWithoutAccountServiceTest() throws Exception {
+        accountService.expect(once(), requestTo(DETAILS_URL + "?id=1")).andRespond(withServerError());
+
+        writer.write(event("ACCOUNT", ONE));
+
+        assertAll(() -> {
+            assertEquals(1, payloads.size());
+            assertTrue(payload(0).get(SENDER_NUMBER).isNull());
+        });
+    }
+
+    private JsonNode payload(int index) throws Exception {
+        return objectMapper.readTree(payloads.get(index));
+    }
+
+    private static TransferEventDto event(String transferType, Long accountDetailsId) {
+        return new TransferEventDto(null, transferType, ONE, accountDetailsId, 40817810000000002L, BigDecimal.TEN,
+                null, null);
+    }
+}
@@ -0,0 +1,149 @@
+package com.bank.transfer.service;
+
+import com.bank.common.exception.ConflictException;
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.ParentTest;
+import com.bank.transfer.cache.IdempotencyCache;
+import com.bank.transfer.entity.IdempotencyKeyEntity;
+import com.bank.transfer.repository.IdempotencyKeyRepository;
+import com.bank.transfer.service.impl.IdempotencyServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class IdempotencyServiceTest extends ParentTest {
+
+    private static final String KEY = "7c1f4f1e-key";
+    private static final String OPERATION = "account/create";
+    private static final String REQUEST = "{\"amount\":100}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger executions = new AtomicInteger();
+    private final AtomicReference<String> requestHash = new AtomicReference<>();
+
+    @Mock
+    private IdempotencyKeyRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IdempotencyService service;
+
+    @BeforeEach
+    void init() {
+        service = new IdempotencyServiceImpl(repository, new IdempotencyCache(100, 24, new SimpleMeterRegistry()),
+                objectMapper, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("первый запрос выполняется и сохраняет ответ, повтор получает его без выполнения")
+    void executeOncePositiveTest() {
+        doReturn(1).when(repository).reserve(anyString(), anyString(), any(), any());
+        doAnswer(invocation -> invocation.getArgument(0)).when(repository).save(any());
+
+        final Long first = service.execute(KEY, OPERATION, REQUEST, Long.class, this::action);
+        final Long second = service.execute(KEY, OPERATION, REQUEST, Long.class, this::action);
+
+        assertAll(() -> {
+            assertEquals(ONE, first);
+            assertEquals(ONE, second);
+            assertEquals(1, executions.get());
+        });
+    }
+
+    @Test
+    @DisplayName("ключ занят другим экземпляром: ответ берётся из таблицы, операция не выполняется")
+    void executeLostRaceReplaysTest() {
+        reservedByOther("7");
+
+        final Long result = service.execute(KEY, OPERATION, REQUEST, Long.class, this::action);
+
+        assertAll(() -> {
+            assertEquals(7L, result);
+            assertEquals(0, executions.get());
+            verify(repository, never()).save(any());
+        });
+    }
+
+    @Test
+    @DisplayName("ключ занят другим экземпляром и ещё выполняется")
+    void executeInProgressNegativeTest() {
+        reservedByOther(null);
+
+        assertAll(() -> {
+            assertThrows(ConflictException.class,
+                    () -> service.execute(KEY, OPERATION, REQUEST, Long.class, this::action));
+            assertEquals(0, executions.get());
+        });
+    }
+
+    @Test
+    @DisplayName("тот же ключ с другим телом запроса отклоняется")
+    void executeOtherRequestNegativeTest() {
+        doReturn(0).when(repository).reserve(anyString(), anyString(), any(), any());
+        doReturn(Optional.of(new IdempotencyKeyEntity(KEY, "другой хеш", "7", OffsetDateTime.now())))
+                .when(repository).findById(KEY);
+
+        assertThrows(ValidationException.class,
+                () -> service.execute(KEY, OPERATION, REQUEST, Long.class, this::action));
+    }
+
+    @Test
+    @DisplayName("ошибка освобождения ключа не скрывает ошибку операции")
+    void executeReleaseFailureNegativeTest() {
+        final IllegalArgumentException failure = new IllegalArgumentException("перевод не создан");
+        final QueryTimeoutException releaseFailure = new QueryTimeoutException("нет соединения");
+        doReturn(1).when(repository).reserve(anyString(), anyString(), any(), any());
+        doThrow(releaseFailure).when(repository).deleteReservation(KEY);
+
+        final IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> service.execute(KEY, OPERATION, REQUEST, Long.class, () -> {
+                    throw failure;
+                }));
+
+        assertAll(() -> {
+            assertSame(failure, thrown);
+            assertSame(releaseFailure, thrown.getSuppressed()[0]);
+        });
+    }
+
+    private Long action() {
+        executions.incrementAndGet();
+        return ONE;
+    }
+
+    /**
+     * Ключ уже занят другим экземпляром тем же запросом с ответом response
+     */
+    private void reservedByOther(String response) {
+        doAnswer(invocation -> {
+            requestHash.set(invocation.getArgument(1));
+            return 0;
+        }).when(repository).reserve(anyString(), anyString(), any(), any());
+        doAnswer(invocation -> Optional.of(new IdempotencyKeyEntity(KEY, requestHash.get(), response,
+                OffsetDateTime.now()))).when(repository).findById(KEY);
+    }
+}